@@ -76,7 +76,8 @@ public interface ExpireSnapshots extends PendingUpdate<List<Snapshot>> {
    * Manifest files that are no longer used by valid snapshots will be deleted. Data files that were
    * deleted by snapshots that are expired will be deleted.
    * <p>
-   * If this method is not called, unnecessary manifests and data files will still be deleted.
+   * If this method is not called, unnecessary manifests and data files will still be deleted using
+   * the table's {@link org.apache.iceberg.io.FileIO#deleteFiles(Iterable) bulk delete}.
    *
    * @param deleteFunc a function that will be called to delete manifests and data files
    * @return this for method chaining
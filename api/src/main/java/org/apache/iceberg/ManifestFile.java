@@ -49,14 +49,24 @@ public interface ManifestFile {
   Types.NestedField DELETED_ROWS_COUNT = optional(514, "deleted_rows_count", Types.LongType.get());
   Types.NestedField SEQUENCE_NUMBER = optional(515, "sequence_number", Types.LongType.get());
   Types.NestedField MIN_SEQUENCE_NUMBER = optional(516, "min_sequence_number", Types.LongType.get());
-  // next ID to assign: 517
+  Types.StructType COLUMN_SUMMARY_TYPE = Types.StructType.of(
+      required(519, "column_id", Types.IntegerType.get()),
+      optional(520, "value_count", Types.LongType.get()), // null if not known for every data file
+      optional(521, "null_value_count", Types.LongType.get()),
+      optional(522, "lower_bound", Types.BinaryType.get()), // null if not known or no non-null values
+      optional(523, "upper_bound", Types.BinaryType.get())
+  );
+  Types.NestedField COLUMN_SUMMARIES = optional(517, "column_summaries",
+      Types.ListType.ofRequired(518, COLUMN_SUMMARY_TYPE));
+  Types.NestedField FILE_PATH_FILTER = optional(524, "file_path_filter", Types.BinaryType.get());
+  // next ID to assign: 525
 
   Schema SCHEMA = new Schema(
       PATH, LENGTH, SPEC_ID,
       SEQUENCE_NUMBER, MIN_SEQUENCE_NUMBER, SNAPSHOT_ID,
       ADDED_FILES_COUNT, EXISTING_FILES_COUNT, DELETED_FILES_COUNT,
       ADDED_ROWS_COUNT, EXISTING_ROWS_COUNT, DELETED_ROWS_COUNT,
-      PARTITION_SUMMARIES);
+      PARTITION_SUMMARIES, COLUMN_SUMMARIES, FILE_PATH_FILTER);
 
   static Schema schema() {
     return SCHEMA;
@@ -161,6 +171,30 @@ public interface ManifestFile {
    */
   List<PartitionFieldSummary> partitions();
 
+  /**
+   * Returns a list of {@link ColumnSummary column summaries}, or null if none were written.
+   * <p>
+   * Column summaries aggregate the data file column metrics of every entry in the manifest and are
+   * only written when enabled for a table. Each summary is identified by its column's field ID.
+   *
+   * @return a list of column summaries, or null
+   */
+  default List<ColumnSummary> columnSummaries() {
+    return null;
+  }
+
+  /**
+   * Returns a serialized Bloom filter of the paths of live data files in the manifest, or null if none was written.
+   * <p>
+   * The filter contains the path of every entry with status ADDED or EXISTING and is only written when enabled for a
+   * table. It is used to skip manifests that cannot contain a data file when looking up files by path.
+   *
+   * @return a serialized file path filter, or null
+   */
+  default ByteBuffer filePathFilter() {
+    return null;
+  }
+
   /**
    * Copies this {@link ManifestFile manifest file}. Readers can reuse manifest file instances; use
    * this method to make defensive copies.
@@ -200,4 +234,46 @@ public interface ManifestFile {
      */
     PartitionFieldSummary copy();
   }
+
+  /**
+   * Summarizes the column metrics of all data files stored in a manifest file.
+   */
+  interface ColumnSummary {
+    static Types.StructType getType() {
+      return COLUMN_SUMMARY_TYPE;
+    }
+
+    /**
+     * @return field ID of the summarized column
+     */
+    int columnId();
+
+    /**
+     * @return the total number of values of the column, or null if not known for every data file
+     */
+    Long valueCount();
+
+    /**
+     * @return the total number of null values of the column, or null if not known for every data file
+     */
+    Long nullValueCount();
+
+    /**
+     * @return a ByteBuffer that contains a serialized bound lower than all values of the column
+     */
+    ByteBuffer lowerBound();
+
+    /**
+     * @return a ByteBuffer that contains a serialized bound higher than all values of the column
+     */
+    ByteBuffer upperBound();
+
+    /**
+     * Copies this {@link ColumnSummary summary}. Readers can reuse instances; use this method to
+     * make defensive copies.
+     *
+     * @return a copy of this column summary
+     */
+    ColumnSummary copy();
+  }
 }
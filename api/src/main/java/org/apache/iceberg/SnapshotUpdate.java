@@ -19,6 +19,7 @@
 
 package org.apache.iceberg;
 
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
 /**
@@ -52,4 +53,18 @@ public interface SnapshotUpdate<ThisT> extends PendingUpdate<Snapshot> {
    */
   ThisT stageOnly();
 
+  /**
+   * Use a particular executor service to read, filter, and merge manifests for this update.
+   * <p>
+   * By default, updates use a shared pool that is separate from the pool used for scan planning. Implementations
+   * that do not override this method ignore the executor service.
+   *
+   * @param executorService the executor service
+   * @return this for method chaining
+   */
+  @SuppressWarnings("unchecked")
+  default ThisT scanManifestsWith(ExecutorService executorService) {
+    return (ThisT) this;
+  }
+
 }
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.exceptions;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+
+/**
+ * Exception raised when some of the files in a bulk delete could not be deleted.
+ * <p>
+ * Files that are not included in {@link #failures()} were deleted.
+ */
+public class BulkDeletionFailureException extends RuntimeException {
+  private final Map<String, Exception> failures;
+
+  public BulkDeletionFailureException(Map<String, Exception> failures) {
+    super(String.format("Failed to delete %d file(s)", failures.size()));
+    this.failures = ImmutableMap.copyOf(failures);
+    failures.values().stream().findFirst().ifPresent(this::initCause);
+  }
+
+  /**
+   * @return a map from the location of each file that could not be deleted to the exception that caused the failure
+   */
+  public Map<String, Exception> failures() {
+    return failures;
+  }
+}
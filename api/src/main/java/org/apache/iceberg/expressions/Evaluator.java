@@ -19,134 +19,40 @@
 
 package org.apache.iceberg.expressions;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.Comparator;
-import java.util.Set;
 import org.apache.iceberg.StructLike;
-import org.apache.iceberg.expressions.ExpressionVisitors.BoundVisitor;
 import org.apache.iceberg.types.Types.StructType;
 
 /**
  * Evaluates an {@link Expression} for data described by a {@link StructType}.
  * <p>
- * Data rows must implement {@link StructLike} and are passed to {@link #eval(StructLike)}.
+ * Data rows must implement {@link StructLike} and are passed to {@link #eval(StructLike)}. The expression is compiled
+ * once into a filter that is applied to each row, rather than visiting the expression tree for every row.
  * <p>
  * This class is thread-safe.
  */
 public class Evaluator implements Serializable {
   private final Expression expr;
-  private transient ThreadLocal<EvalVisitor> visitors = null;
-
-  private EvalVisitor visitor() {
-    if (visitors == null) {
-      this.visitors = ThreadLocal.withInitial(EvalVisitor::new);
-    }
-    return visitors.get();
-  }
+  private transient ExpressionCompiler.RowFilter filter;
 
   public Evaluator(StructType struct, Expression unbound) {
-    this.expr = Binder.bind(struct, unbound, true);
+    this(struct, unbound, true);
   }
 
   public Evaluator(StructType struct, Expression unbound, boolean caseSensitive) {
     this.expr = Binder.bind(struct, unbound, caseSensitive);
+    this.filter = ExpressionCompiler.compile(expr);
   }
 
   public boolean eval(StructLike data) {
-    return visitor().eval(data);
+    return filter.test(data);
   }
 
-  private class EvalVisitor extends BoundVisitor<Boolean> {
-    private StructLike struct;
-
-    private boolean eval(StructLike row) {
-      this.struct = row;
-      return ExpressionVisitors.visitEvaluator(expr, this);
-    }
-
-    @Override
-    public Boolean alwaysTrue() {
-      return true;
-    }
-
-    @Override
-    public Boolean alwaysFalse() {
-      return false;
-    }
-
-    @Override
-    public Boolean not(Boolean result) {
-      return !result;
-    }
-
-    @Override
-    public Boolean and(Boolean leftResult, Boolean rightResult) {
-      return leftResult && rightResult;
-    }
-
-    @Override
-    public Boolean or(Boolean leftResult, Boolean rightResult) {
-      return leftResult || rightResult;
-    }
-
-    @Override
-    public <T> Boolean isNull(Bound<T> valueExpr) {
-      return valueExpr.eval(struct) == null;
-    }
-
-    @Override
-    public <T> Boolean notNull(Bound<T> valueExpr) {
-      return valueExpr.eval(struct) != null;
-    }
-
-    @Override
-    public <T> Boolean lt(Bound<T> valueExpr, Literal<T> lit) {
-      Comparator<T> cmp = lit.comparator();
-      return cmp.compare(valueExpr.eval(struct), lit.value()) < 0;
-    }
-
-    @Override
-    public <T> Boolean ltEq(Bound<T> valueExpr, Literal<T> lit) {
-      Comparator<T> cmp = lit.comparator();
-      return cmp.compare(valueExpr.eval(struct), lit.value()) <= 0;
-    }
-
-    @Override
-    public <T> Boolean gt(Bound<T> valueExpr, Literal<T> lit) {
-      Comparator<T> cmp = lit.comparator();
-      return cmp.compare(valueExpr.eval(struct), lit.value()) > 0;
-    }
-
-    @Override
-    public <T> Boolean gtEq(Bound<T> valueExpr, Literal<T> lit) {
-      Comparator<T> cmp = lit.comparator();
-      return cmp.compare(valueExpr.eval(struct), lit.value()) >= 0;
-    }
-
-    @Override
-    public <T> Boolean eq(Bound<T> valueExpr, Literal<T> lit) {
-      Comparator<T> cmp = lit.comparator();
-      return cmp.compare(valueExpr.eval(struct), lit.value()) == 0;
-    }
-
-    @Override
-    public <T> Boolean notEq(Bound<T> valueExpr, Literal<T> lit) {
-      return !eq(valueExpr, lit);
-    }
-
-    @Override
-    public <T> Boolean in(Bound<T> valueExpr, Set<T> literalSet) {
-      return literalSet.contains(valueExpr.eval(struct));
-    }
-
-    @Override
-    public <T> Boolean notIn(Bound<T> valueExpr, Set<T> literalSet) {
-      return !in(valueExpr, literalSet);
-    }
-
-    @Override
-    public <T> Boolean startsWith(Bound<T> valueExpr, Literal<T> lit) {
-      return ((String) valueExpr.eval(struct)).startsWith((String) lit.value());
-    }
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    // compiled filters are not serializable, compile the expression again
+    this.filter = ExpressionCompiler.compile(expr);
   }
 }
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.expressions;
+
+import com.google.common.collect.Lists;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import org.apache.iceberg.StructLike;
+
+/**
+ * Compiles a bound {@link Expression} into a {@link RowFilter} that evaluates it without visiting the expression tree.
+ * <p>
+ * Chains of {@link And} and {@link Or} are flattened into a loop over their children that stops at the first result
+ * that decides the outcome. Comparisons are compiled into a filter for the predicate's operation, and comparisons of
+ * integral and floating point values compare primitives directly instead of calling a {@link Comparator}. Compiled
+ * filters hold no state and do not allocate while evaluating, so one filter can be used by many threads.
+ * <p>
+ * Comparisons follow the literal's comparator, which orders null values before all other values.
+ */
+class ExpressionCompiler {
+  private ExpressionCompiler() {
+  }
+
+  /**
+   * A compiled expression that tests rows.
+   */
+  interface RowFilter {
+    boolean test(StructLike row);
+  }
+
+  private static final RowFilter ALWAYS_TRUE = row -> true;
+  private static final RowFilter ALWAYS_FALSE = row -> false;
+
+  static RowFilter compile(Expression expr) {
+    if (expr instanceof BoundPredicate) {
+      return predicate((BoundPredicate<?>) expr);
+    }
+
+    switch (expr.op()) {
+      case TRUE:
+        return ALWAYS_TRUE;
+      case FALSE:
+        return ALWAYS_FALSE;
+      case NOT:
+        RowFilter child = compile(((Not) expr).child());
+        return row -> !child.test(row);
+      case AND:
+        RowFilter[] conjuncts = flatten(expr, Expression.Operation.AND);
+        return row -> {
+          for (RowFilter conjunct : conjuncts) {
+            if (!conjunct.test(row)) {
+              return false;
+            }
+          }
+          return true;
+        };
+      case OR:
+        RowFilter[] disjuncts = flatten(expr, Expression.Operation.OR);
+        return row -> {
+          for (RowFilter disjunct : disjuncts) {
+            if (disjunct.test(row)) {
+              return true;
+            }
+          }
+          return false;
+        };
+      default:
+        throw new UnsupportedOperationException("Cannot compile unbound or unknown expression: " + expr);
+    }
+  }
+
+  private static RowFilter[] flatten(Expression expr, Expression.Operation op) {
+    List<Expression> children = Lists.newArrayList();
+    collect(expr, op, children);
+    return children.stream().map(ExpressionCompiler::compile).toArray(RowFilter[]::new);
+  }
+
+  private static void collect(Expression expr, Expression.Operation op, List<Expression> children) {
+    if (expr.op() != op) {
+      children.add(expr);
+    } else if (expr instanceof And) {
+      collect(((And) expr).left(), op, children);
+      collect(((And) expr).right(), op, children);
+    } else {
+      collect(((Or) expr).left(), op, children);
+      collect(((Or) expr).right(), op, children);
+    }
+  }
+
+  private static <T> RowFilter predicate(BoundPredicate<T> pred) {
+    BoundTerm<T> term = pred.term();
+    if (pred.isUnaryPredicate()) {
+      switch (pred.op()) {
+        case IS_NULL:
+          return row -> term.eval(row) == null;
+        case NOT_NULL:
+          return row -> term.eval(row) != null;
+        default:
+          throw new UnsupportedOperationException("Cannot compile unknown unary predicate: " + pred);
+      }
+
+    } else if (pred.isSetPredicate()) {
+      Set<T> literalSet = pred.asSetPredicate().literalSet();
+      switch (pred.op()) {
+        case IN:
+          return row -> literalSet.contains(term.eval(row));
+        case NOT_IN:
+          return row -> !literalSet.contains(term.eval(row));
+        default:
+          throw new UnsupportedOperationException("Cannot compile unknown set predicate: " + pred);
+      }
+
+    } else if (pred.isLiteralPredicate()) {
+      Literal<T> lit = pred.asLiteralPredicate().literal();
+      if (pred.op() == Expression.Operation.STARTS_WITH) {
+        String prefix = lit.value().toString();
+        return row -> {
+          Object value = term.eval(row);
+          return value != null && value.toString().startsWith(prefix);
+        };
+      }
+
+      switch (term.type().typeId()) {
+        case INTEGER:
+        case LONG:
+        case DATE:
+        case TIME:
+        case TIMESTAMP:
+          return compareLongs(term, pred.op(), ((Number) lit.value()).longValue());
+        case FLOAT:
+        case DOUBLE:
+          return compareDoubles(term, pred.op(), ((Number) lit.value()).doubleValue());
+        default:
+          return compareObjects(term, pred.op(), lit.value(), lit.comparator());
+      }
+    }
+
+    throw new UnsupportedOperationException("Cannot compile unknown predicate: " + pred);
+  }
+
+  private static RowFilter compareLongs(Bound<?> term, Expression.Operation op, long lit) {
+    switch (op) {
+      case LT:
+        return row -> {
+          Number value = (Number) term.eval(row);
+          return value == null || value.longValue() < lit;
+        };
+      case LT_EQ:
+        return row -> {
+          Number value = (Number) term.eval(row);
+          return value == null || value.longValue() <= lit;
+        };
+      case GT:
+        return row -> {
+          Number value = (Number) term.eval(row);
+          return value != null && value.longValue() > lit;
+        };
+      case GT_EQ:
+        return row -> {
+          Number value = (Number) term.eval(row);
+          return value != null && value.longValue() >= lit;
+        };
+      case EQ:
+        return row -> {
+          Number value = (Number) term.eval(row);
+          return value != null && value.longValue() == lit;
+        };
+      case NOT_EQ:
+        return row -> {
+          Number value = (Number) term.eval(row);
+          return value == null || value.longValue() != lit;
+        };
+      default:
+        throw new UnsupportedOperationException("Cannot compile comparison: " + op);
+    }
+  }
+
+  // Double.compare matches the ordering of Float and Double comparators, including NaN and -0.0
+  private static RowFilter compareDoubles(Bound<?> term, Expression.Operation op, double lit) {
+    switch (op) {
+      case LT:
+        return row -> {
+          Number value = (Number) term.eval(row);
+          return value == null || Double.compare(value.doubleValue(), lit) < 0;
+        };
+      case LT_EQ:
+        return row -> {
+          Number value = (Number) term.eval(row);
+          return value == null || Double.compare(value.doubleValue(), lit) <= 0;
+        };
+      case GT:
+        return row -> {
+          Number value = (Number) term.eval(row);
+          return value != null && Double.compare(value.doubleValue(), lit) > 0;
+        };
+      case GT_EQ:
+        return row -> {
+          Number value = (Number) term.eval(row);
+          return value != null && Double.compare(value.doubleValue(), lit) >= 0;
+        };
+      case EQ:
+        return row -> {
+          Number value = (Number) term.eval(row);
+          return value != null && Double.compare(value.doubleValue(), lit) == 0;
+        };
+      case NOT_EQ:
+        return row -> {
+          Number value = (Number) term.eval(row);
+          return value == null || Double.compare(value.doubleValue(), lit) != 0;
+        };
+      default:
+        throw new UnsupportedOperationException("Cannot compile comparison: " + op);
+    }
+  }
+
+  private static <T> RowFilter compareObjects(Bound<T> term, Expression.Operation op, T lit, Comparator<T> cmp) {
+    switch (op) {
+      case LT:
+        return row -> cmp.compare(term.eval(row), lit) < 0;
+      case LT_EQ:
+        return row -> cmp.compare(term.eval(row), lit) <= 0;
+      case GT:
+        return row -> cmp.compare(term.eval(row), lit) > 0;
+      case GT_EQ:
+        return row -> cmp.compare(term.eval(row), lit) >= 0;
+      case EQ:
+        return row -> cmp.compare(term.eval(row), lit) == 0;
+      case NOT_EQ:
+        return row -> cmp.compare(term.eval(row), lit) != 0;
+      default:
+        throw new UnsupportedOperationException("Cannot compile comparison: " + op);
+    }
+  }
+}
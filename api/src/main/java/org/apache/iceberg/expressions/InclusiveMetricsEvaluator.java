@@ -164,7 +164,7 @@ public class InclusiveMetricsEvaluator {
       }
 
       if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(ref.type(), lowerBounds.get(id));
+        T lower = Conversions.fromBounds(ref.type(), lowerBounds, id);
 
         int cmp = lit.comparator().compare(lower, lit.value());
         if (cmp >= 0) {
@@ -184,7 +184,7 @@ public class InclusiveMetricsEvaluator {
       }
 
       if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(ref.type(), lowerBounds.get(id));
+        T lower = Conversions.fromBounds(ref.type(), lowerBounds, id);
 
         int cmp = lit.comparator().compare(lower, lit.value());
         if (cmp > 0) {
@@ -204,7 +204,7 @@ public class InclusiveMetricsEvaluator {
       }
 
       if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(ref.type(), upperBounds.get(id));
+        T upper = Conversions.fromBounds(ref.type(), upperBounds, id);
 
         int cmp = lit.comparator().compare(upper, lit.value());
         if (cmp <= 0) {
@@ -224,7 +224,7 @@ public class InclusiveMetricsEvaluator {
       }
 
       if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(ref.type(), upperBounds.get(id));
+        T upper = Conversions.fromBounds(ref.type(), upperBounds, id);
 
         int cmp = lit.comparator().compare(upper, lit.value());
         if (cmp < 0) {
@@ -244,7 +244,7 @@ public class InclusiveMetricsEvaluator {
       }
 
       if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(ref.type(), lowerBounds.get(id));
+        T lower = Conversions.fromBounds(ref.type(), lowerBounds, id);
 
         int cmp = lit.comparator().compare(lower, lit.value());
         if (cmp > 0) {
@@ -253,7 +253,7 @@ public class InclusiveMetricsEvaluator {
       }
 
       if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(ref.type(), upperBounds.get(id));
+        T upper = Conversions.fromBounds(ref.type(), upperBounds, id);
 
         int cmp = lit.comparator().compare(upper, lit.value());
         if (cmp < 0) {
@@ -282,7 +282,7 @@ public class InclusiveMetricsEvaluator {
       Collection<T> literals = literalSet;
 
       if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(ref.type(), lowerBounds.get(id));
+        T lower = Conversions.fromBounds(ref.type(), lowerBounds, id);
         literals = literals.stream().filter(v -> ref.comparator().compare(lower, v) <= 0).collect(Collectors.toList());
         if (literals.isEmpty()) { // if all values are less than lower bound, rows cannot match.
           return ROWS_CANNOT_MATCH;
@@ -290,7 +290,7 @@ public class InclusiveMetricsEvaluator {
       }
 
       if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(ref.type(), upperBounds.get(id));
+        T upper = Conversions.fromBounds(ref.type(), upperBounds, id);
         literals = literals.stream().filter(v -> ref.comparator().compare(upper, v) >= 0).collect(Collectors.toList());
         if (literals.isEmpty()) { // if all remaining values are greater than upper bound, rows cannot match.
           return ROWS_CANNOT_MATCH;
@@ -163,7 +163,7 @@ public class StrictMetricsEvaluator {
       }
 
       if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(field.type(), upperBounds.get(id));
+        T upper = Conversions.fromBounds(field.type(), upperBounds, id);
 
         int cmp = lit.comparator().compare(upper, lit.value());
         if (cmp < 0) {
@@ -186,7 +186,7 @@ public class StrictMetricsEvaluator {
       }
 
       if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(field.type(), upperBounds.get(id));
+        T upper = Conversions.fromBounds(field.type(), upperBounds, id);
 
         int cmp = lit.comparator().compare(upper, lit.value());
         if (cmp <= 0) {
@@ -209,7 +209,7 @@ public class StrictMetricsEvaluator {
       }
 
       if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(field.type(), lowerBounds.get(id));
+        T lower = Conversions.fromBounds(field.type(), lowerBounds, id);
 
         int cmp = lit.comparator().compare(lower, lit.value());
         if (cmp > 0) {
@@ -232,7 +232,7 @@ public class StrictMetricsEvaluator {
       }
 
       if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(field.type(), lowerBounds.get(id));
+        T lower = Conversions.fromBounds(field.type(), lowerBounds, id);
 
         int cmp = lit.comparator().compare(lower, lit.value());
         if (cmp >= 0) {
@@ -256,14 +256,14 @@ public class StrictMetricsEvaluator {
 
       if (lowerBounds != null && lowerBounds.containsKey(id) &&
           upperBounds != null && upperBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(struct.field(id).type(), lowerBounds.get(id));
+        T lower = Conversions.fromBounds(struct.field(id).type(), lowerBounds, id);
 
         int cmp = lit.comparator().compare(lower, lit.value());
         if (cmp != 0) {
           return ROWS_MIGHT_NOT_MATCH;
         }
 
-        T upper = Conversions.fromByteBuffer(field.type(), upperBounds.get(id));
+        T upper = Conversions.fromBounds(field.type(), upperBounds, id);
 
         cmp = lit.comparator().compare(upper, lit.value());
         if (cmp != 0) {
@@ -288,7 +288,7 @@ public class StrictMetricsEvaluator {
       }
 
       if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(struct.field(id).type(), lowerBounds.get(id));
+        T lower = Conversions.fromBounds(struct.field(id).type(), lowerBounds, id);
 
         int cmp = lit.comparator().compare(lower, lit.value());
         if (cmp > 0) {
@@ -297,7 +297,7 @@ public class StrictMetricsEvaluator {
       }
 
       if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(field.type(), upperBounds.get(id));
+        T upper = Conversions.fromBounds(field.type(), upperBounds, id);
 
         int cmp = lit.comparator().compare(upper, lit.value());
         if (cmp < 0) {
@@ -321,13 +321,13 @@ public class StrictMetricsEvaluator {
       if (lowerBounds != null && lowerBounds.containsKey(id) &&
           upperBounds != null && upperBounds.containsKey(id)) {
         // similar to the implementation in eq, first check if the lower bound is in the set
-        T lower = Conversions.fromByteBuffer(struct.field(id).type(), lowerBounds.get(id));
+        T lower = Conversions.fromBounds(struct.field(id).type(), lowerBounds, id);
         if (!literalSet.contains(lower)) {
           return ROWS_MIGHT_NOT_MATCH;
         }
 
         // check if the upper bound is in the set
-        T upper = Conversions.fromByteBuffer(field.type(), upperBounds.get(id));
+        T upper = Conversions.fromBounds(field.type(), upperBounds, id);
         if (!literalSet.contains(upper)) {
           return ROWS_MIGHT_NOT_MATCH;
         }
@@ -357,7 +357,7 @@ public class StrictMetricsEvaluator {
       Collection<T> literals = literalSet;
 
       if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(struct.field(id).type(), lowerBounds.get(id));
+        T lower = Conversions.fromBounds(struct.field(id).type(), lowerBounds, id);
 
         literals = literals.stream().filter(v -> ref.comparator().compare(lower, v) <= 0).collect(Collectors.toList());
         if (literals.isEmpty()) {  // if all values are less than lower bound, rows must match (notIn).
@@ -366,7 +366,7 @@ public class StrictMetricsEvaluator {
       }
 
       if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(field.type(), upperBounds.get(id));
+        T upper = Conversions.fromBounds(field.type(), upperBounds, id);
         literals = literals.stream().filter(v -> ref.comparator().compare(upper, v) >= 0).collect(Collectors.toList());
         if (literals.isEmpty()) { // if all remaining values are greater than upper bound, rows must match (notIn).
           return ROWS_MUST_MATCH;
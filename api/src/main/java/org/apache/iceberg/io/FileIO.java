@@ -19,7 +19,10 @@
 
 package org.apache.iceberg.io;
 
+import com.google.common.collect.Maps;
 import java.io.Serializable;
+import java.util.Map;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
 
 /**
  * Pluggable module for reading, writing, and deleting files.
@@ -58,4 +61,29 @@ public interface FileIO extends Serializable {
   default void deleteFile(OutputFile file) {
     deleteFile(file.location());
   }
+
+  /**
+   * Delete the files at the given paths.
+   * <p>
+   * All paths are attempted, even if some deletes fail. Implementations should override this to
+   * delete files in parallel or use a batch API when single deletes are expensive, like in object
+   * stores. The default implementation calls {@link #deleteFile(String)} for each path.
+   *
+   * @param paths locations of files to delete
+   * @throws BulkDeletionFailureException if any of the files could not be deleted
+   */
+  default void deleteFiles(Iterable<String> paths) throws BulkDeletionFailureException {
+    Map<String, Exception> failures = Maps.newHashMap();
+    for (String path : paths) {
+      try {
+        deleteFile(path);
+      } catch (RuntimeException e) {
+        failures.put(path, e);
+      }
+    }
+
+    if (!failures.isEmpty()) {
+      throw new BulkDeletionFailureException(failures);
+    }
+  }
 }
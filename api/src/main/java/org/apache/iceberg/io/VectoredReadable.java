@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A mix-in for {@link SeekableInputStream streams} that can fetch a set of byte ranges ahead of the reads that
+ * consume them.
+ * <p>
+ * Columnar readers know every range they will need from a file's footer, for example the column chunks of a
+ * row group. Passing those ranges to {@link #readVectored(List)} lets the stream combine nearby ranges into fewer
+ * requests and issue them in parallel, instead of waiting on each small positional read in turn.
+ */
+public interface VectoredReadable {
+  /**
+   * Start fetching the given byte ranges.
+   * <p>
+   * This call does not block. Later reads from the stream that fall inside a requested range are served from the
+   * fetched data, and reads anywhere else go to the file as usual. Ranges from an earlier call that have not been
+   * read yet are discarded.
+   *
+   * @param ranges a list of byte ranges that will be read next, in any order
+   * @throws IOException if the ranges cannot be requested
+   */
+  void readVectored(List<FileRange> ranges) throws IOException;
+}
@@ -29,6 +29,7 @@ import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.UUID;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.expressions.Literal;
@@ -130,6 +131,25 @@ public class Conversions {
     return (T) internalFromByteBuffer(type, buffer);
   }
 
+  /**
+   * Returns a field's lower or upper bound from a map of bounds, converted to the Java class for its type.
+   * <p>
+   * If the map is {@link ConvertedBounds}, the map's converted value is returned.
+   *
+   * @param type the field's type
+   * @param bounds a map of bounds by field id
+   * @param fieldId a field id
+   * @param <T> the Java class of the type
+   * @return the converted bound, or null if there is no bound for the field
+   */
+  public static <T> T fromBounds(Type type, Map<Integer, ByteBuffer> bounds, int fieldId) {
+    if (bounds instanceof ConvertedBounds) {
+      return ((ConvertedBounds) bounds).converted(fieldId, type);
+    }
+
+    return fromByteBuffer(type, bounds.get(fieldId));
+  }
+
   private static Object internalFromByteBuffer(Type type, ByteBuffer buffer) {
     if (buffer == null) {
       return null;
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.types;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * A map of column lower or upper bounds, by field id, that keeps the values it has converted from their single-value
+ * serialization.
+ * <p>
+ * Metrics evaluators use {@link Conversions#fromBounds(Type, Map, int)} to read bounds, which converts a bound once
+ * per file when the map implements this interface instead of every time a file is evaluated.
+ */
+public interface ConvertedBounds extends Map<Integer, ByteBuffer> {
+  /**
+   * Returns the bound for a field converted to the Java class for a type.
+   *
+   * @param fieldId a field id
+   * @param type the field's type
+   * @param <T> the Java class of the type
+   * @return the converted bound, or null if the map has no bound for the field
+   */
+  <T> T converted(int fieldId, Type type);
+}
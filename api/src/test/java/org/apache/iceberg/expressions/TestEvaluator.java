@@ -47,6 +47,7 @@ import static org.apache.iceberg.expressions.Expressions.notIn;
 import static org.apache.iceberg.expressions.Expressions.notNull;
 import static org.apache.iceberg.expressions.Expressions.or;
 import static org.apache.iceberg.expressions.Expressions.predicate;
+import static org.apache.iceberg.expressions.Expressions.startsWith;
 import static org.apache.iceberg.types.Types.NestedField.optional;
 import static org.apache.iceberg.types.Types.NestedField.required;
 
@@ -567,4 +568,56 @@ public class TestEvaluator {
         "Invalid value for conversion to type int",
         () -> new Evaluator(STRUCT, predicate(Expression.Operation.NOT_IN, "x", 5.1)));
   }
+
+  @Test
+  public void testNullsCompareFirst() {
+    StructType struct = StructType.of(
+        optional(30, "l", Types.LongType.get()),
+        optional(31, "d", Types.DoubleType.get()),
+        optional(32, "s", Types.StringType.get()));
+    TestHelpers.Row nulls = TestHelpers.Row.of(null, null, null);
+
+    Assert.assertTrue("null < 5 => true", new Evaluator(struct, lessThan("l", 5L)).eval(nulls));
+    Assert.assertTrue("null <= 5.0 => true", new Evaluator(struct, lessThanOrEqual("d", 5.0)).eval(nulls));
+    Assert.assertFalse("null > 5 => false", new Evaluator(struct, greaterThan("l", 5L)).eval(nulls));
+    Assert.assertFalse("null >= 5.0 => false", new Evaluator(struct, greaterThanOrEqual("d", 5.0)).eval(nulls));
+    Assert.assertFalse("null == a => false", new Evaluator(struct, equal("s", "a")).eval(nulls));
+    Assert.assertTrue("null != a => true", new Evaluator(struct, notEqual("s", "a")).eval(nulls));
+    Assert.assertFalse("null startsWith a => false",
+        new Evaluator(struct, startsWith("s", "a")).eval(nulls));
+  }
+
+  @Test
+  public void testFloatingPointOrdering() {
+    StructType struct = StructType.of(required(33, "d", Types.DoubleType.get()));
+
+    Assert.assertTrue("NaN > 1.0 => true",
+        new Evaluator(struct, greaterThan("d", 1.0)).eval(TestHelpers.Row.of(Double.NaN)));
+    Assert.assertTrue("NaN == NaN => true",
+        new Evaluator(struct, equal("d", Double.NaN)).eval(TestHelpers.Row.of(Double.NaN)));
+    Assert.assertTrue("-0.0 < 0.0 => true",
+        new Evaluator(struct, lessThan("d", 0.0)).eval(TestHelpers.Row.of(-0.0)));
+  }
+
+  @Test
+  public void testLongAndOrChains() {
+    Expression allOf = and(and(greaterThan("x", 1), lessThan("x", 10)), and(notNull("z"), notEqual("x", 5)));
+    Evaluator allOfEvaluator = new Evaluator(STRUCT, allOf);
+    Assert.assertTrue("all conjuncts true => true", allOfEvaluator.eval(TestHelpers.Row.of(4, 0, 1, null)));
+    Assert.assertFalse("one conjunct false => false", allOfEvaluator.eval(TestHelpers.Row.of(5, 0, 1, null)));
+    Assert.assertFalse("last conjunct false => false", allOfEvaluator.eval(TestHelpers.Row.of(4, 0, null, null)));
+
+    Expression anyOf = or(or(equal("x", 1), equal("x", 2)), or(isNull("z"), not(lessThan("x", 100))));
+    Evaluator anyOfEvaluator = new Evaluator(STRUCT, anyOf);
+    Assert.assertTrue("first disjunct true => true", anyOfEvaluator.eval(TestHelpers.Row.of(1, 0, 1, null)));
+    Assert.assertTrue("last disjunct true => true", anyOfEvaluator.eval(TestHelpers.Row.of(100, 0, 1, null)));
+    Assert.assertFalse("no disjunct true => false", anyOfEvaluator.eval(TestHelpers.Row.of(50, 0, 1, null)));
+  }
+
+  @Test
+  public void testSerializedEvaluator() throws Exception {
+    Evaluator evaluator = TestHelpers.roundTripSerialize(new Evaluator(STRUCT, and(lessThan("x", 7), notNull("z"))));
+    Assert.assertTrue("6 < 7 and 1 not null => true", evaluator.eval(TestHelpers.Row.of(6, 8, 1, null)));
+    Assert.assertFalse("7 < 7 => false", evaluator.eval(TestHelpers.Row.of(7, 8, 1, null)));
+  }
 }
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.arrow.vectorized;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.parquet.VectorizedReader;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ByteBuffers;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+
+/**
+ * {@link VectorizedReader} that returns Arrow {@link VectorSchemaRoot batches} of decoded values, for consumers that
+ * read Arrow data directly.
+ * <p>
+ * Columns that are read from the file are filled by delegating to {@link VectorizedArrowReader column readers} that
+ * decode dictionary-encoded pages. Columns that are not in the file, like identity partition columns of imported
+ * files, are filled with a constant value or with nulls.
+ * <p>
+ * Batches share vectors with this reader and are only valid until the next call to {@link #read(int)} or
+ * {@link #close()}.
+ */
+public class ArrowBatchReader implements VectorizedReader<VectorSchemaRoot> {
+  private final List<Field> fields;
+  private final VectorizedArrowReader[] readers;
+  private final Object[] constants;
+  private final FieldVector[] constantVectors;
+  private final BufferAllocator allocator;
+
+  ArrowBatchReader(List<Types.NestedField> columns, List<VectorizedArrowReader> readers, List<Object> constants,
+                   BufferAllocator allocator) {
+    Preconditions.checkArgument(columns.size() == readers.size() && columns.size() == constants.size(),
+        "Invalid column readers: expected %s columns", columns.size());
+    this.fields = Lists.transform(columns, ArrowSchemaUtil::convert);
+    this.readers = readers.toArray(new VectorizedArrowReader[0]);
+    this.constants = constants.toArray();
+    this.constantVectors = new FieldVector[columns.size()];
+    this.allocator = allocator;
+  }
+
+  @Override
+  public void setRowGroupInfo(PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData) {
+    for (VectorizedArrowReader reader : readers) {
+      if (reader != null) {
+        reader.setRowGroupInfo(pageStore, metaData);
+      }
+    }
+  }
+
+  @Override
+  public VectorSchemaRoot read(int numRowsToRead) {
+    List<Field> batchFields = Lists.newArrayListWithExpectedSize(readers.length);
+    List<FieldVector> vectors = Lists.newArrayListWithExpectedSize(readers.length);
+    for (int i = 0; i < readers.length; i += 1) {
+      FieldVector vector;
+      if (readers[i] != null) {
+        vector = readers[i].read(numRowsToRead).vector();
+      } else {
+        vector = constantVector(i, numRowsToRead);
+      }
+
+      batchFields.add(vector.getField());
+      vectors.add(vector);
+    }
+
+    return new VectorSchemaRoot(batchFields, vectors, numRowsToRead);
+  }
+
+  private FieldVector constantVector(int pos, int numRows) {
+    FieldVector vector = constantVectors[pos];
+    if (vector == null || vector.getValueCapacity() < numRows) {
+      if (vector != null) {
+        vector.close();
+      }
+
+      vector = fields.get(pos).createVector(allocator);
+      vector.setInitialCapacity(numRows);
+      vector.allocateNew();
+      if (constants[pos] != null) {
+        for (int row = 0; row < numRows; row += 1) {
+          setConstant(vector, row, constants[pos]);
+        }
+      }
+
+      constantVectors[pos] = vector;
+    }
+
+    vector.setValueCount(numRows);
+    return vector;
+  }
+
+  @SuppressWarnings("checkstyle:CyclomaticComplexity")
+  private static void setConstant(FieldVector vector, int row, Object value) {
+    if (vector instanceof BitVector) {
+      ((BitVector) vector).setSafe(row, (Boolean) value ? 1 : 0);
+    } else if (vector instanceof IntVector) {
+      ((IntVector) vector).setSafe(row, (Integer) value);
+    } else if (vector instanceof DateDayVector) {
+      ((DateDayVector) vector).setSafe(row, (Integer) value);
+    } else if (vector instanceof BigIntVector) {
+      ((BigIntVector) vector).setSafe(row, (Long) value);
+    } else if (vector instanceof TimeStampMicroTZVector) {
+      ((TimeStampMicroTZVector) vector).setSafe(row, (Long) value);
+    } else if (vector instanceof Float4Vector) {
+      ((Float4Vector) vector).setSafe(row, (Float) value);
+    } else if (vector instanceof Float8Vector) {
+      ((Float8Vector) vector).setSafe(row, (Double) value);
+    } else if (vector instanceof DecimalVector) {
+      ((DecimalVector) vector).setSafe(row, (BigDecimal) value);
+    } else if (vector instanceof VarCharVector) {
+      ((VarCharVector) vector).setSafe(row, value.toString().getBytes(StandardCharsets.UTF_8));
+    } else if (vector instanceof VarBinaryVector) {
+      byte[] bytes = value instanceof ByteBuffer ? ByteBuffers.toByteArray((ByteBuffer) value) : (byte[]) value;
+      ((VarBinaryVector) vector).setSafe(row, bytes);
+    } else {
+      throw new UnsupportedOperationException("Cannot fill constant values in vector: " + vector.getField());
+    }
+  }
+
+  @Override
+  public void reuseContainers(boolean reuse) {
+    for (VectorizedArrowReader reader : readers) {
+      if (reader != null) {
+        reader.reuseContainers(reuse);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    for (VectorizedArrowReader reader : readers) {
+      if (reader != null) {
+        reader.close();
+      }
+    }
+
+    for (FieldVector vector : constantVectors) {
+      if (vector != null) {
+        vector.close();
+      }
+    }
+
+    Arrays.fill(constantVectors, null);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.arrow.vectorized;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.parquet.ParquetSchemaUtil;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.schema.MessageType;
+
+public class ArrowBatchReaders {
+  private static final Set<Type.TypeID> SUPPORTED_TYPES = ImmutableSet.of(
+      Type.TypeID.BOOLEAN, Type.TypeID.INTEGER, Type.TypeID.LONG, Type.TypeID.FLOAT, Type.TypeID.DOUBLE,
+      Type.TypeID.DATE, Type.TypeID.TIMESTAMP, Type.TypeID.STRING, Type.TypeID.FIXED, Type.TypeID.BINARY,
+      Type.TypeID.DECIMAL);
+
+  private ArrowBatchReaders() {
+  }
+
+  /**
+   * Returns whether a schema can be read into Arrow batches.
+   * <p>
+   * Only flat schemas of primitive types are supported. Timestamps must be stored with a zone.
+   *
+   * @param schema a projected schema
+   * @return true if batches can be read for the schema, false otherwise
+   */
+  public static boolean isSupported(Schema schema) {
+    return !schema.columns().isEmpty() && schema.columns().stream()
+        .allMatch(field -> SUPPORTED_TYPES.contains(field.type().typeId()) &&
+            (field.type().typeId() != Type.TypeID.TIMESTAMP ||
+                ((Types.TimestampType) field.type()).shouldAdjustToUTC()));
+  }
+
+  public static ArrowBatchReader buildReader(Schema expectedSchema, MessageType fileSchema, int batchSize) {
+    return buildReader(expectedSchema, fileSchema, ImmutableMap.of(), batchSize);
+  }
+
+  /**
+   * Builds a reader for Arrow batches of a flat schema.
+   *
+   * @param expectedSchema the projected schema
+   * @param fileSchema the Parquet file schema, with field ids
+   * @param idToConstant a map of field id to constant values for columns that are not read from the file
+   * @param batchSize the maximum number of rows in a batch
+   * @return an {@link ArrowBatchReader}
+   */
+  public static ArrowBatchReader buildReader(Schema expectedSchema, MessageType fileSchema,
+                                             Map<Integer, ?> idToConstant, int batchSize) {
+    Preconditions.checkArgument(isSupported(expectedSchema),
+        "Cannot read Arrow batches for unsupported schema: %s", expectedSchema);
+
+    Schema fileIcebergSchema = ParquetSchemaUtil.convert(fileSchema);
+
+    List<VectorizedArrowReader> readers = Lists.newArrayList();
+    List<Object> constants = Lists.newArrayList();
+
+    for (Types.NestedField field : expectedSchema.columns()) {
+      int id = field.fieldId();
+      Types.NestedField fileField = fileIcebergSchema.findField(id);
+      if (fileField != null) {
+        // vectors are allocated using the file's type, so promoted columns would not match the projection
+        if (!fileField.type().equals(field.type())) {
+          throw new UnsupportedOperationException(String.format(
+              "Cannot read Arrow batches for promoted column %s: file type %s, expected %s",
+              field.name(), fileField.type(), field.type()));
+        }
+
+        // vectors must hold values, not dictionary ids, and must carry validity for Arrow consumers
+        readers.add(new VectorizedArrowReader(
+            fileSchema.getColumnDescription(new String[] { fileField.name() }),
+            Types.NestedField.of(id, fileField.isOptional(), field.name(), fileField.type()),
+            ArrowAllocation.rootAllocator(), batchSize, true, true));
+        constants.add(null);
+
+      } else {
+        // the column is not in the file, so use the partition value if there is one or fill it with nulls
+        readers.add(null);
+        constants.add(idToConstant.get(id));
+      }
+    }
+
+    return new ArrowBatchReader(expectedSchema.columns(), readers, constants, ArrowAllocation.rootAllocator());
+  }
+}
@@ -0,0 +1,586 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Bound;
+import org.apache.iceberg.expressions.BoundReference;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.expressions.ExpressionVisitors.BoundVisitor;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * Evaluates an {@link Expression} for every row of a batch of Arrow vectors, without materializing rows.
+ * <p>
+ * Each predicate is evaluated over a whole column into a bitmap of matching rows, and bitmaps are combined for and,
+ * or, and not. Integral, date and timestamp columns are compared as longs and floating point columns as doubles,
+ * read directly from the vectors' data buffers. Other columns are compared using the literal's comparator. Results
+ * match {@link org.apache.iceberg.expressions.Evaluator}: nulls sort before all other values.
+ * <p>
+ * Batch columns must be in the order of the struct's fields. Columns are read from a {@link VectorSchemaRoot}, where
+ * nulls are tracked by the Arrow validity buffers, or from the {@link VectorHolder holders} returned by
+ * {@link VectorizedArrowReader}, where nulls are tracked by a {@link NullabilityHolder} and values may be
+ * dictionary-encoded.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class BatchEvaluator {
+  private final Expression expr;
+  private final Map<Integer, Integer> idToPos;
+
+  public BatchEvaluator(Types.StructType struct, Expression unbound) {
+    this(struct, unbound, true);
+  }
+
+  public BatchEvaluator(Types.StructType struct, Expression unbound, boolean caseSensitive) {
+    this.expr = Binder.bind(struct, unbound, caseSensitive);
+    List<Types.NestedField> fields = struct.fields();
+    this.idToPos = Maps.newHashMapWithExpectedSize(fields.size());
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      idToPos.put(fields.get(pos).fieldId(), pos);
+    }
+  }
+
+  /**
+   * Returns a bitmap of the rows in a batch that match the expression.
+   * <p>
+   * Row {@code i} matches if bit {@code i % 64} of {@code bitmap[i / 64]} is set.
+   *
+   * @param batch a batch with a vector for each field of the struct
+   * @return a bitmap with a bit for each row
+   */
+  public long[] eval(VectorSchemaRoot batch) {
+    List<FieldVector> vectors = batch.getFieldVectors();
+    ColumnReader[] columns = new ColumnReader[vectors.size()];
+    for (int pos = 0; pos < columns.length; pos += 1) {
+      columns[pos] = new VectorColumn(vectors.get(pos));
+    }
+
+    return eval(columns, batch.getRowCount());
+  }
+
+  /**
+   * Returns a bitmap of the rows in a batch of column holders that match the expression.
+   *
+   * @param holders a holder for each field of the struct, as returned by {@link VectorizedArrowReader}
+   * @param numRows the number of rows in the batch
+   * @return a bitmap with a bit for each row
+   * @see #eval(VectorSchemaRoot)
+   */
+  public long[] eval(List<VectorHolder> holders, int numRows) {
+    ColumnReader[] columns = new ColumnReader[holders.size()];
+    for (int pos = 0; pos < columns.length; pos += 1) {
+      VectorHolder holder = holders.get(pos);
+      if (holder.isDictionaryEncoded()) {
+        columns[pos] = new DictionaryColumn(
+            (IntVector) holder.vector(), holder.nullabilityHolder(), holder.descriptor(), holder.dictionary());
+      } else {
+        columns[pos] = new VectorColumn(holder.vector(), holder.nullabilityHolder());
+      }
+    }
+
+    return eval(columns, numRows);
+  }
+
+  /**
+   * Fills a selection vector with the positions of rows in a batch that match the expression.
+   *
+   * @param batch a batch with a vector for each field of the struct
+   * @param selection an array with room for every row in the batch
+   * @return the number of matching rows, which are stored in order at the start of {@code selection}
+   */
+  public int select(VectorSchemaRoot batch, int[] selection) {
+    return toSelection(eval(batch), batch.getRowCount(), selection);
+  }
+
+  /**
+   * Fills a selection vector with the positions of rows in a batch of column holders that match the expression.
+   *
+   * @param holders a holder for each field of the struct, as returned by {@link VectorizedArrowReader}
+   * @param numRows the number of rows in the batch
+   * @param selection an array with room for every row in the batch
+   * @return the number of matching rows, which are stored in order at the start of {@code selection}
+   */
+  public int select(List<VectorHolder> holders, int numRows, int[] selection) {
+    return toSelection(eval(holders, numRows), numRows, selection);
+  }
+
+  private long[] eval(ColumnReader[] columns, int numRows) {
+    return ExpressionVisitors.visit(expr, new BitmapVisitor(columns, numRows));
+  }
+
+  private static int toSelection(long[] bitmap, int numRows, int[] selection) {
+    Preconditions.checkArgument(selection.length >= numRows,
+        "Invalid selection vector: length %s is less than the number of rows %s", selection.length, numRows);
+
+    int numSelected = 0;
+    for (int word = 0; word < bitmap.length; word += 1) {
+      long bits = bitmap[word];
+      while (bits != 0) {
+        selection[numSelected] = (word << 6) + Long.numberOfTrailingZeros(bits);
+        numSelected += 1;
+        bits &= bits - 1;
+      }
+    }
+
+    return numSelected;
+  }
+
+  private class BitmapVisitor extends BoundVisitor<long[]> {
+    private final ColumnReader[] columns;
+    private final int numRows;
+    private final int numWords;
+
+    private BitmapVisitor(ColumnReader[] columns, int numRows) {
+      this.columns = columns;
+      this.numRows = numRows;
+      this.numWords = (numRows + 63) >>> 6;
+    }
+
+    @Override
+    public long[] alwaysTrue() {
+      long[] bitmap = new long[numWords];
+      Arrays.fill(bitmap, -1L);
+      return clearTail(bitmap);
+    }
+
+    @Override
+    public long[] alwaysFalse() {
+      return new long[numWords];
+    }
+
+    @Override
+    public long[] not(long[] result) {
+      for (int word = 0; word < numWords; word += 1) {
+        result[word] = ~result[word];
+      }
+      return clearTail(result);
+    }
+
+    @Override
+    public long[] and(long[] leftResult, long[] rightResult) {
+      for (int word = 0; word < numWords; word += 1) {
+        leftResult[word] &= rightResult[word];
+      }
+      return leftResult;
+    }
+
+    @Override
+    public long[] or(long[] leftResult, long[] rightResult) {
+      for (int word = 0; word < numWords; word += 1) {
+        leftResult[word] |= rightResult[word];
+      }
+      return leftResult;
+    }
+
+    @Override
+    public <T> long[] isNull(Bound<T> valueExpr) {
+      ColumnReader column = column(valueExpr);
+      long[] bitmap = new long[numWords];
+      for (int row = 0; row < numRows; row += 1) {
+        if (column.isNull(row)) {
+          bitmap[row >>> 6] |= 1L << row;
+        }
+      }
+      return bitmap;
+    }
+
+    @Override
+    public <T> long[] notNull(Bound<T> valueExpr) {
+      return not(isNull(valueExpr));
+    }
+
+    @Override
+    public <T> long[] lt(Bound<T> valueExpr, Literal<T> lit) {
+      return compare(valueExpr, lit, Op.LT);
+    }
+
+    @Override
+    public <T> long[] ltEq(Bound<T> valueExpr, Literal<T> lit) {
+      return compare(valueExpr, lit, Op.LT_EQ);
+    }
+
+    @Override
+    public <T> long[] gt(Bound<T> valueExpr, Literal<T> lit) {
+      return compare(valueExpr, lit, Op.GT);
+    }
+
+    @Override
+    public <T> long[] gtEq(Bound<T> valueExpr, Literal<T> lit) {
+      return compare(valueExpr, lit, Op.GT_EQ);
+    }
+
+    @Override
+    public <T> long[] eq(Bound<T> valueExpr, Literal<T> lit) {
+      return compare(valueExpr, lit, Op.EQ);
+    }
+
+    @Override
+    public <T> long[] notEq(Bound<T> valueExpr, Literal<T> lit) {
+      return compare(valueExpr, lit, Op.NOT_EQ);
+    }
+
+    @Override
+    public <T> long[] in(Bound<T> valueExpr, Set<T> literalSet) {
+      ColumnReader column = column(valueExpr);
+      long[] bitmap = new long[numWords];
+      switch (kind(valueExpr)) {
+        case LONG:
+          long[] longs = literalSet.stream()
+              .mapToLong(value -> ((Number) value).longValue())
+              .sorted()
+              .toArray();
+          for (int row = 0; row < numRows; row += 1) {
+            if (!column.isNull(row) && Arrays.binarySearch(longs, column.getLong(row)) >= 0) {
+              bitmap[row >>> 6] |= 1L << row;
+            }
+          }
+          break;
+        case DOUBLE:
+          double[] doubles = literalSet.stream()
+              .mapToDouble(value -> ((Number) value).doubleValue())
+              .sorted()
+              .toArray();
+          for (int row = 0; row < numRows; row += 1) {
+            if (!column.isNull(row) && Arrays.binarySearch(doubles, column.getDouble(row)) >= 0) {
+              bitmap[row >>> 6] |= 1L << row;
+            }
+          }
+          break;
+        default:
+          for (int row = 0; row < numRows; row += 1) {
+            if (!column.isNull(row) && literalSet.contains(column.get(row))) {
+              bitmap[row >>> 6] |= 1L << row;
+            }
+          }
+      }
+      return bitmap;
+    }
+
+    @Override
+    public <T> long[] notIn(Bound<T> valueExpr, Set<T> literalSet) {
+      return not(in(valueExpr, literalSet));
+    }
+
+    @Override
+    public <T> long[] startsWith(Bound<T> valueExpr, Literal<T> lit) {
+      ColumnReader column = column(valueExpr);
+      String prefix = lit.value().toString();
+      long[] bitmap = new long[numWords];
+      for (int row = 0; row < numRows; row += 1) {
+        if (!column.isNull(row) && column.get(row).toString().startsWith(prefix)) {
+          bitmap[row >>> 6] |= 1L << row;
+        }
+      }
+      return bitmap;
+    }
+
+    private <T> long[] compare(Bound<T> valueExpr, Literal<T> lit, Op op) {
+      ColumnReader column = column(valueExpr);
+      long[] bitmap = new long[numWords];
+      // nulls sort first, so they match only less-than and not-equal comparisons
+      boolean nullMatches = op == Op.LT || op == Op.LT_EQ || op == Op.NOT_EQ;
+      switch (kind(valueExpr)) {
+        case LONG:
+          long longValue = ((Number) lit.value()).longValue();
+          for (int row = 0; row < numRows; row += 1) {
+            if (column.isNull(row) ? nullMatches : op.matches(Long.compare(column.getLong(row), longValue))) {
+              bitmap[row >>> 6] |= 1L << row;
+            }
+          }
+          break;
+        case DOUBLE:
+          double doubleValue = ((Number) lit.value()).doubleValue();
+          for (int row = 0; row < numRows; row += 1) {
+            if (column.isNull(row) ? nullMatches : op.matches(Double.compare(column.getDouble(row), doubleValue))) {
+              bitmap[row >>> 6] |= 1L << row;
+            }
+          }
+          break;
+        default:
+          Comparator<T> cmp = lit.comparator();
+          T value = lit.value();
+          for (int row = 0; row < numRows; row += 1) {
+            @SuppressWarnings("unchecked")
+            T rowValue = column.isNull(row) ? null : (T) column.get(row);
+            if (rowValue == null ? nullMatches : op.matches(cmp.compare(rowValue, value))) {
+              bitmap[row >>> 6] |= 1L << row;
+            }
+          }
+      }
+      return bitmap;
+    }
+
+    private ColumnReader column(Bound<?> valueExpr) {
+      Preconditions.checkArgument(valueExpr instanceof BoundReference,
+          "Cannot evaluate expression on batches: %s", valueExpr);
+      Integer pos = idToPos.get(((BoundReference<?>) valueExpr).fieldId());
+      Preconditions.checkArgument(pos != null && pos < columns.length,
+          "Cannot find batch column for reference: %s", valueExpr);
+      return columns[pos];
+    }
+
+    private long[] clearTail(long[] bitmap) {
+      if ((numRows & 63) != 0) {
+        bitmap[numWords - 1] &= (1L << numRows) - 1;
+      }
+      return bitmap;
+    }
+  }
+
+  private enum Kind {
+    LONG,
+    DOUBLE,
+    OBJECT
+  }
+
+  private static Kind kind(Bound<?> valueExpr) {
+    Type type = ((BoundReference<?>) valueExpr).type();
+    switch (type.typeId()) {
+      case INTEGER:
+      case LONG:
+      case DATE:
+      case TIMESTAMP:
+        return Kind.LONG;
+      case FLOAT:
+      case DOUBLE:
+        return Kind.DOUBLE;
+      default:
+        return Kind.OBJECT;
+    }
+  }
+
+  private enum Op {
+    LT,
+    LT_EQ,
+    GT,
+    GT_EQ,
+    EQ,
+    NOT_EQ;
+
+    private boolean matches(int cmp) {
+      switch (this) {
+        case LT:
+          return cmp < 0;
+        case LT_EQ:
+          return cmp <= 0;
+        case GT:
+          return cmp > 0;
+        case GT_EQ:
+          return cmp >= 0;
+        case EQ:
+          return cmp == 0;
+        default:
+          return cmp != 0;
+      }
+    }
+  }
+
+  /**
+   * Reads values from a batch column using Iceberg's internal representation.
+   */
+  private abstract static class ColumnReader {
+    private final FieldVector vector;
+    private final NullabilityHolder nulls;
+
+    private ColumnReader(FieldVector vector, NullabilityHolder nulls) {
+      this.vector = vector;
+      this.nulls = nulls;
+    }
+
+    FieldVector vector() {
+      return vector;
+    }
+
+    boolean isNull(int row) {
+      return nulls != null ? nulls.isNullAt(row) == 1 : vector.isNull(row);
+    }
+
+    abstract long getLong(int row);
+
+    abstract double getDouble(int row);
+
+    abstract Object get(int row);
+  }
+
+  private static class VectorColumn extends ColumnReader {
+    private VectorColumn(FieldVector vector) {
+      this(vector, null);
+    }
+
+    private VectorColumn(FieldVector vector, NullabilityHolder nulls) {
+      super(vector, nulls);
+    }
+
+    @Override
+    long getLong(int row) {
+      FieldVector vector = vector();
+      if (vector instanceof IntVector || vector instanceof DateDayVector) {
+        return vector.getDataBuffer().getInt(row * IntVector.TYPE_WIDTH);
+      } else if (vector instanceof BigIntVector || vector instanceof TimeStampMicroTZVector) {
+        return vector.getDataBuffer().getLong(row * BigIntVector.TYPE_WIDTH);
+      }
+
+      throw new UnsupportedOperationException("Cannot read long values from vector: " + vector.getField());
+    }
+
+    @Override
+    double getDouble(int row) {
+      FieldVector vector = vector();
+      if (vector instanceof Float4Vector) {
+        return vector.getDataBuffer().getFloat(row * Float4Vector.TYPE_WIDTH);
+      } else if (vector instanceof Float8Vector) {
+        return vector.getDataBuffer().getDouble(row * Float8Vector.TYPE_WIDTH);
+      }
+
+      throw new UnsupportedOperationException("Cannot read double values from vector: " + vector.getField());
+    }
+
+    @Override
+    Object get(int row) {
+      FieldVector vector = vector();
+      if (vector instanceof VarCharVector) {
+        return new String(bytes((BaseVariableWidthVector) vector, row), StandardCharsets.UTF_8);
+      } else if (vector instanceof VarBinaryVector) {
+        return ByteBuffer.wrap(bytes((BaseVariableWidthVector) vector, row));
+      }
+
+      return vector.getObject(row);
+    }
+
+    private static byte[] bytes(BaseVariableWidthVector vector, int row) {
+      int start = vector.getOffsetBuffer().getInt(row * BaseVariableWidthVector.OFFSET_WIDTH);
+      int end = vector.getOffsetBuffer().getInt((row + 1) * BaseVariableWidthVector.OFFSET_WIDTH);
+      byte[] bytes = new byte[end - start];
+      vector.getDataBuffer().getBytes(start, bytes, 0, bytes.length);
+      return bytes;
+    }
+  }
+
+  /**
+   * Reads dictionary-encoded values, where the vector holds dictionary ids.
+   * <p>
+   * Values are decoded to the same representation that {@link VectorizedArrowReader} produces when it decodes the
+   * dictionary: timestamps in microseconds, times in microseconds, and decimals with the column's scale.
+   */
+  private static class DictionaryColumn extends ColumnReader {
+    private final PrimitiveType primitive;
+    private final Dictionary dictionary;
+    private final boolean isDecimal;
+    private final int scale;
+
+    private DictionaryColumn(IntVector ids, NullabilityHolder nulls, ColumnDescriptor desc, Dictionary dictionary) {
+      super(ids, nulls);
+      this.primitive = desc.getPrimitiveType();
+      this.dictionary = dictionary;
+      this.isDecimal = primitive.getOriginalType() == OriginalType.DECIMAL;
+      this.scale = isDecimal ? primitive.getDecimalMetadata().getScale() : 0;
+    }
+
+    private int id(int row) {
+      return vector().getDataBuffer().getInt(row * IntVector.TYPE_WIDTH);
+    }
+
+    @Override
+    long getLong(int row) {
+      switch (primitive.getPrimitiveTypeName()) {
+        case INT32:
+          int intValue = dictionary.decodeToInt(id(row));
+          return primitive.getOriginalType() == OriginalType.TIME_MILLIS ? intValue * 1000L : intValue;
+        case INT64:
+          long value = dictionary.decodeToLong(id(row));
+          return primitive.getOriginalType() == OriginalType.TIMESTAMP_MILLIS ? value * 1000 : value;
+        default:
+          throw new UnsupportedOperationException("Cannot read long values from dictionary: " + primitive);
+      }
+    }
+
+    @Override
+    double getDouble(int row) {
+      switch (primitive.getPrimitiveTypeName()) {
+        case FLOAT:
+          return dictionary.decodeToFloat(id(row));
+        case DOUBLE:
+          return dictionary.decodeToDouble(id(row));
+        default:
+          throw new UnsupportedOperationException("Cannot read double values from dictionary: " + primitive);
+      }
+    }
+
+    @Override
+    Object get(int row) {
+      switch (primitive.getPrimitiveTypeName()) {
+        case INT32:
+          if (isDecimal) {
+            return BigDecimal.valueOf(dictionary.decodeToInt(id(row)), scale);
+          }
+          return getLong(row);
+        case INT64:
+          if (isDecimal) {
+            return BigDecimal.valueOf(dictionary.decodeToLong(id(row)), scale);
+          }
+          return getLong(row);
+        case FLOAT:
+        case DOUBLE:
+          return getDouble(row);
+        case BINARY:
+        case FIXED_LEN_BYTE_ARRAY:
+          Binary binary = dictionary.decodeToBinary(id(row));
+          if (isDecimal) {
+            return new BigDecimal(new BigInteger(binary.getBytes()), scale);
+          } else if (primitive.getOriginalType() == OriginalType.UTF8) {
+            return binary.toStringUsingUTF8();
+          }
+          return ByteBuffer.wrap(binary.getBytes());
+        default:
+          throw new UnsupportedOperationException("Cannot read values from dictionary: " + primitive);
+      }
+    }
+  }
+}
@@ -50,12 +50,17 @@ public class IcebergArrowVectors {
 
     /**
      * Same as {@link #isNull(int)}.
+     * <p>
+     * When no {@link NullabilityHolder} is set, nulls are tracked in the Arrow validity buffer.
      *
      * @param index position of element
      * @return 1 if element at given index is not null, 0 otherwise
      */
     @Override
     public int isSet(int index) {
+      if (nullabilityHolder == null) {
+        return super.isSet(index);
+      }
       return nullabilityHolder.isNullAt(index) ^ 1;
     }
 
@@ -79,12 +84,17 @@ public class IcebergArrowVectors {
 
     /**
      * Same as {@link #isNull(int)}.
+     * <p>
+     * When no {@link NullabilityHolder} is set, nulls are tracked in the Arrow validity buffer.
      *
      * @param index position of element
      * @return 1 if element at given index is not null, 0 otherwise
      */
     @Override
     public int isSet(int index) {
+      if (nullabilityHolder == null) {
+        return super.isSet(index);
+      }
       return nullabilityHolder.isNullAt(index) ^ 1;
     }
 
@@ -109,12 +119,17 @@ public class IcebergArrowVectors {
 
     /**
      * Same as {@link #isNull(int)}.
+     * <p>
+     * When no {@link NullabilityHolder} is set, nulls are tracked in the Arrow validity buffer.
      *
      * @param index position of element
      * @return 1 if element at given index is not null, 0 otherwise
      */
     @Override
     public int isSet(int index) {
+      if (nullabilityHolder == null) {
+        return super.isSet(index);
+      }
       return nullabilityHolder.isNullAt(index) ^ 1;
     }
 
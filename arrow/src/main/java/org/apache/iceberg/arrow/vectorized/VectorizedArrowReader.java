@@ -62,6 +62,8 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
   private final VectorizedColumnIterator vectorizedColumnIterator;
   private final Types.NestedField icebergField;
   private final BufferAllocator rootAlloc;
+  private final boolean setArrowValidityVector;
+  private final boolean decodeDictionaries;
   private FieldVector vec;
   private Integer typeWidth;
   private ReadType readType;
@@ -80,10 +82,28 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       BufferAllocator ra,
       int batchSize,
       boolean setArrowValidityVector) {
+    this(desc, icebergField, ra, batchSize, setArrowValidityVector, false);
+  }
+
+  /**
+   * Creates a reader for a column.
+   * <p>
+   * When decodeDictionaries is true, dictionary-encoded column chunks are always decoded into the vector, so that the
+   * vector holds actual values rather than dictionary ids and can be consumed without the Parquet dictionary.
+   */
+  public VectorizedArrowReader(
+      ColumnDescriptor desc,
+      Types.NestedField icebergField,
+      BufferAllocator ra,
+      int batchSize,
+      boolean setArrowValidityVector,
+      boolean decodeDictionaries) {
     this.icebergField = icebergField;
     this.batchSize = (batchSize == 0) ? DEFAULT_BATCH_SIZE : batchSize;
     this.columnDescriptor = desc;
     this.rootAlloc = ra;
+    this.setArrowValidityVector = setArrowValidityVector;
+    this.decodeDictionaries = decodeDictionaries;
     this.vectorizedColumnIterator = new VectorizedColumnIterator(desc, "", batchSize, setArrowValidityVector);
   }
 
@@ -92,6 +112,8 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     this.batchSize = DEFAULT_BATCH_SIZE;
     this.columnDescriptor = null;
     this.rootAlloc = null;
+    this.setArrowValidityVector = false;
+    this.decodeDictionaries = false;
     this.vectorizedColumnIterator = null;
   }
 
@@ -109,29 +131,31 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       vec.setValueCount(0);
       nullabilityHolder.reset();
     }
+    // when nulls are tracked in the validity buffer, the holder is not updated and must not be used by vectors
+    NullabilityHolder vectorNulls = setArrowValidityVector ? null : nullabilityHolder;
     if (vectorizedColumnIterator.hasNext()) {
       if (allPagesDictEncoded) {
         vectorizedColumnIterator.nextBatchDictionaryIds((IntVector) vec, nullabilityHolder);
       } else {
         switch (readType) {
           case FIXED_LENGTH_DECIMAL:
-            ((IcebergArrowVectors.DecimalArrowVector) vec).setNullabilityHolder(nullabilityHolder);
+            ((IcebergArrowVectors.DecimalArrowVector) vec).setNullabilityHolder(vectorNulls);
             vectorizedColumnIterator.nextBatchFixedLengthDecimal(vec, typeWidth, nullabilityHolder);
             break;
           case INT_LONG_BACKED_DECIMAL:
-            ((IcebergArrowVectors.DecimalArrowVector) vec).setNullabilityHolder(nullabilityHolder);
+            ((IcebergArrowVectors.DecimalArrowVector) vec).setNullabilityHolder(vectorNulls);
             vectorizedColumnIterator.nextBatchIntLongBackedDecimal(vec, typeWidth, nullabilityHolder);
             break;
           case VARBINARY:
-            ((IcebergArrowVectors.VarBinaryArrowVector) vec).setNullabilityHolder(nullabilityHolder);
+            ((IcebergArrowVectors.VarBinaryArrowVector) vec).setNullabilityHolder(vectorNulls);
             vectorizedColumnIterator.nextBatchVarWidthType(vec, nullabilityHolder);
             break;
           case VARCHAR:
-            ((IcebergArrowVectors.VarcharArrowVector) vec).setNullabilityHolder(nullabilityHolder);
+            ((IcebergArrowVectors.VarcharArrowVector) vec).setNullabilityHolder(vectorNulls);
             vectorizedColumnIterator.nextBatchVarWidthType(vec, nullabilityHolder);
             break;
           case FIXED_WIDTH_BINARY:
-            ((IcebergArrowVectors.VarBinaryArrowVector) vec).setNullabilityHolder(nullabilityHolder);
+            ((IcebergArrowVectors.VarBinaryArrowVector) vec).setNullabilityHolder(vectorNulls);
             vectorizedColumnIterator.nextBatchFixedWidthBinary(vec, typeWidth, nullabilityHolder);
             break;
           case BOOLEAN:
@@ -303,7 +327,7 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
   @Override
   public void setRowGroupInfo(PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {
     ColumnChunkMetaData chunkMetaData = metadata.get(ColumnPath.get(columnDescriptor.getPath()));
-    allPagesDictEncoded = !ParquetUtil.hasNonDictionaryPages(chunkMetaData);
+    allPagesDictEncoded = !decodeDictionaries && !ParquetUtil.hasNonDictionaryPages(chunkMetaData);
     dictionary = vectorizedColumnIterator.setRowGroupInfo(source.getPageReader(columnDescriptor), allPagesDictEncoded);
   }
 
@@ -192,7 +192,7 @@ public final class VectorizedParquetDefinitionLevelReader extends BaseVectorized
       switch (mode) {
         case RLE:
           if (currentValue == maxDefLevel) {
-            dictionaryEncodedValuesReader.readBatchOfDictionaryEncodedLongs(vector,
+            dictionaryEncodedValuesReader.readBatchOfDictionaryEncodedLongs(vector, typeWidth,
                 idx, numValues, dict, nullabilityHolder);
           } else {
             setNulls(nullabilityHolder, idx, numValues, validityBuffer);
@@ -202,7 +202,8 @@ public final class VectorizedParquetDefinitionLevelReader extends BaseVectorized
         case PACKED:
           for (int i = 0; i < numValues; i++) {
             if (packedValuesBuffer[packedValuesBufferIdx++] == maxDefLevel) {
-              vector.getDataBuffer().setLong(idx, dict.decodeToLong(dictionaryEncodedValuesReader.readInteger()));
+              vector.getDataBuffer().setLong(idx * typeWidth,
+                  dict.decodeToLong(dictionaryEncodedValuesReader.readInteger()));
               if (setArrowValidityVector) {
                 BitVectorHelper.setValidityBitToOne(vector.getValidityBuffer(), idx);
               } else {
@@ -239,7 +240,7 @@ public final class VectorizedParquetDefinitionLevelReader extends BaseVectorized
       switch (mode) {
         case RLE:
           if (currentValue == maxDefLevel) {
-            dictionaryEncodedValuesReader.readBatchOfDictionaryEncodedTimestampMillis(vector,
+            dictionaryEncodedValuesReader.readBatchOfDictionaryEncodedTimestampMillis(vector, typeWidth,
                 idx, numValues, dict, nullabilityHolder);
           } else {
             setNulls(nullabilityHolder, idx, numValues, validityBuffer);
@@ -249,7 +250,7 @@ public final class VectorizedParquetDefinitionLevelReader extends BaseVectorized
         case PACKED:
           for (int i = 0; i < numValues; i++) {
             if (packedValuesBuffer[packedValuesBufferIdx++] == maxDefLevel) {
-              vector.getDataBuffer().setLong(idx,
+              vector.getDataBuffer().setLong(idx * typeWidth,
                   dict.decodeToLong(dictionaryEncodedValuesReader.readInteger()) * 1000);
               if (setArrowValidityVector) {
                 BitVectorHelper.setValidityBitToOne(vector.getValidityBuffer(), idx);
@@ -328,7 +329,7 @@ public final class VectorizedParquetDefinitionLevelReader extends BaseVectorized
       switch (mode) {
         case RLE:
           if (currentValue == maxDefLevel) {
-            dictionaryEncodedValuesReader.readBatchOfDictionaryEncodedIntegers(vector, idx,
+            dictionaryEncodedValuesReader.readBatchOfDictionaryEncodedIntegers(vector, typeWidth, idx,
                 num, dict, nullabilityHolder);
           } else {
             setNulls(nullabilityHolder, idx, num, vector.getValidityBuffer());
@@ -338,7 +339,8 @@ public final class VectorizedParquetDefinitionLevelReader extends BaseVectorized
         case PACKED:
           for (int i = 0; i < num; i++) {
             if (packedValuesBuffer[packedValuesBufferIdx++] == maxDefLevel) {
-              vector.getDataBuffer().setInt(idx, dict.decodeToInt(dictionaryEncodedValuesReader.readInteger()));
+              vector.getDataBuffer().setInt(idx * typeWidth,
+                  dict.decodeToInt(dictionaryEncodedValuesReader.readInteger()));
               if (setArrowValidityVector) {
                 BitVectorHelper.setValidityBitToOne(vector.getValidityBuffer(), idx);
               } else {
@@ -417,7 +419,7 @@ public final class VectorizedParquetDefinitionLevelReader extends BaseVectorized
       switch (mode) {
         case RLE:
           if (currentValue == maxDefLevel) {
-            dictionaryEncodedValuesReader.readBatchOfDictionaryEncodedFloats(vector, idx,
+            dictionaryEncodedValuesReader.readBatchOfDictionaryEncodedFloats(vector, typeWidth, idx,
                 num, dict, nullabilityHolder);
           } else {
             setNulls(nullabilityHolder, idx, num, validityBuffer);
@@ -427,7 +429,8 @@ public final class VectorizedParquetDefinitionLevelReader extends BaseVectorized
         case PACKED:
           for (int i = 0; i < num; i++) {
             if (packedValuesBuffer[packedValuesBufferIdx++] == maxDefLevel) {
-              vector.getDataBuffer().setFloat(idx, dict.decodeToFloat(dictionaryEncodedValuesReader.readInteger()));
+              vector.getDataBuffer().setFloat(idx * typeWidth,
+                  dict.decodeToFloat(dictionaryEncodedValuesReader.readInteger()));
               if (setArrowValidityVector) {
                 BitVectorHelper.setValidityBitToOne(vector.getValidityBuffer(), idx);
               } else {
@@ -506,7 +509,7 @@ public final class VectorizedParquetDefinitionLevelReader extends BaseVectorized
       switch (mode) {
         case RLE:
           if (currentValue == maxDefLevel) {
-            dictionaryEncodedValuesReader.readBatchOfDictionaryEncodedDoubles(vector, idx,
+            dictionaryEncodedValuesReader.readBatchOfDictionaryEncodedDoubles(vector, typeWidth, idx,
                 num, dict, nullabilityHolder);
           } else {
             setNulls(nullabilityHolder, idx, num, vector.getValidityBuffer());
@@ -516,7 +519,8 @@ public final class VectorizedParquetDefinitionLevelReader extends BaseVectorized
         case PACKED:
           for (int i = 0; i < num; i++) {
             if (packedValuesBuffer[packedValuesBufferIdx++] == maxDefLevel) {
-              vector.getDataBuffer().setDouble(idx, dict.decodeToDouble(dictionaryEncodedValuesReader.readInteger()));
+              vector.getDataBuffer().setDouble(idx * typeWidth,
+                  dict.decodeToDouble(dictionaryEncodedValuesReader.readInteger()));
               if (setArrowValidityVector) {
                 BitVectorHelper.setValidityBitToOne(vector.getValidityBuffer(), idx);
               } else {
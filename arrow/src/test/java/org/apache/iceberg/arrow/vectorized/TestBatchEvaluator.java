@@ -0,0 +1,400 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.apache.iceberg.expressions.Expressions.alwaysFalse;
+import static org.apache.iceberg.expressions.Expressions.alwaysTrue;
+import static org.apache.iceberg.expressions.Expressions.and;
+import static org.apache.iceberg.expressions.Expressions.equal;
+import static org.apache.iceberg.expressions.Expressions.greaterThan;
+import static org.apache.iceberg.expressions.Expressions.greaterThanOrEqual;
+import static org.apache.iceberg.expressions.Expressions.in;
+import static org.apache.iceberg.expressions.Expressions.isNull;
+import static org.apache.iceberg.expressions.Expressions.lessThan;
+import static org.apache.iceberg.expressions.Expressions.lessThanOrEqual;
+import static org.apache.iceberg.expressions.Expressions.not;
+import static org.apache.iceberg.expressions.Expressions.notEqual;
+import static org.apache.iceberg.expressions.Expressions.notIn;
+import static org.apache.iceberg.expressions.Expressions.notNull;
+import static org.apache.iceberg.expressions.Expressions.or;
+import static org.apache.iceberg.expressions.Expressions.startsWith;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+public class TestBatchEvaluator {
+  private static final Schema SCHEMA = new Schema(
+      required(1, "id", Types.LongType.get()),
+      optional(2, "count", Types.IntegerType.get()),
+      optional(3, "price", Types.DoubleType.get()),
+      optional(4, "name", Types.StringType.get()));
+
+  // not a multiple of 64 to test the last bitmap word
+  private static final int NUM_ROWS = 203;
+
+  private final BufferAllocator allocator =
+      ArrowAllocation.rootAllocator().newChildAllocator("test", 0, Long.MAX_VALUE);
+  private final List<Object[]> rows = Lists.newArrayList();
+  private VectorSchemaRoot batch = null;
+
+  @Before
+  public void createBatch() {
+    List<Field> fields = Lists.newArrayList();
+    List<FieldVector> vectors = Lists.newArrayList();
+    for (Types.NestedField column : SCHEMA.columns()) {
+      Field field = ArrowSchemaUtil.convert(column);
+      FieldVector vector = field.createVector(allocator);
+      vector.setInitialCapacity(NUM_ROWS);
+      vector.allocateNew();
+      fields.add(field);
+      vectors.add(vector);
+    }
+
+    BigIntVector ids = (BigIntVector) vectors.get(0);
+    IntVector counts = (IntVector) vectors.get(1);
+    Float8Vector prices = (Float8Vector) vectors.get(2);
+    VarCharVector names = (VarCharVector) vectors.get(3);
+
+    Random random = new Random(8531);
+    for (int row = 0; row < NUM_ROWS; row += 1) {
+      Integer count = random.nextInt(8) == 0 ? null : random.nextInt(100);
+      Double price = random.nextInt(8) == 0 ? null : random.nextInt(40) / 2.0;
+      String name = random.nextInt(8) == 0 ? null : "n" + random.nextInt(30);
+      rows.add(new Object[] { (long) row, count, price, name });
+
+      ids.setSafe(row, row);
+      if (count != null) {
+        counts.setSafe(row, count);
+      } else {
+        counts.setNull(row);
+      }
+      if (price != null) {
+        prices.setSafe(row, price);
+      } else {
+        prices.setNull(row);
+      }
+      if (name != null) {
+        names.setSafe(row, name.getBytes(StandardCharsets.UTF_8));
+      } else {
+        names.setNull(row);
+      }
+    }
+
+    for (FieldVector vector : vectors) {
+      vector.setValueCount(NUM_ROWS);
+    }
+
+    this.batch = new VectorSchemaRoot(fields, vectors, NUM_ROWS);
+  }
+
+  @After
+  public void closeBatch() {
+    batch.close();
+    allocator.close();
+  }
+
+  @Test
+  public void testMatchesRowEvaluator() {
+    List<Expression> filters = ImmutableList.of(
+        alwaysTrue(),
+        alwaysFalse(),
+        lessThanOrEqual("id", 150L),
+        lessThan("count", 50),
+        greaterThan("count", 50),
+        notEqual("count", 3),
+        greaterThanOrEqual("price", 10.5),
+        lessThan("price", 4.0),
+        equal("name", "n3"),
+        lessThan("name", "n2"),
+        isNull("name"),
+        notNull("price"),
+        in("count", 1, 2, 3, 40, 77),
+        notIn("price", 1.0, 2.5, 19.5),
+        in("name", "n1", "n12", "n29"),
+        startsWith("name", "n1"),
+        and(lessThan("count", 60), or(isNull("price"), greaterThan("price", 12.0))),
+        or(equal("name", "n7"), not(greaterThanOrEqual("id", 20L))),
+        not(and(notNull("count"), notIn("name", "n4", "n5"))));
+
+    int[] selection = new int[NUM_ROWS];
+    for (Expression filter : filters) {
+      BatchEvaluator batchEvaluator = new BatchEvaluator(SCHEMA.asStruct(), filter);
+      Evaluator rowEvaluator = new Evaluator(SCHEMA.asStruct(), filter);
+
+      List<Integer> expected = Lists.newArrayList();
+      ArrayRow row = new ArrayRow();
+      for (int pos = 0; pos < NUM_ROWS; pos += 1) {
+        if (rowEvaluator.eval(row.wrap(rows.get(pos)))) {
+          expected.add(pos);
+        }
+      }
+
+      int numSelected = batchEvaluator.select(batch, selection);
+      List<Integer> actual = Lists.newArrayList();
+      for (int i = 0; i < numSelected; i += 1) {
+        actual.add(selection[i]);
+      }
+
+      Assert.assertEquals("Should select the rows that match " + filter, expected, actual);
+    }
+  }
+
+  @Test
+  public void testBitmap() {
+    long[] bitmap = new BatchEvaluator(SCHEMA.asStruct(), Expressions.alwaysTrue()).eval(batch);
+    Assert.assertEquals("Should have a bit for each row", (NUM_ROWS + 63) / 64, bitmap.length);
+    Assert.assertEquals("Should set a bit for each row", NUM_ROWS,
+        Long.bitCount(bitmap[0]) + Long.bitCount(bitmap[1]) + Long.bitCount(bitmap[2]) + Long.bitCount(bitmap[3]));
+  }
+
+  @Test
+  public void testNullabilityHolder() {
+    // the holder tracks nulls for vectors filled by VectorizedArrowReader, which may not set validity bits
+    NullabilityHolder nulls = new NullabilityHolder(NUM_ROWS);
+    nulls.setNulls(0, 10);
+    nulls.setNotNulls(10, NUM_ROWS - 10);
+
+    List<VectorHolder> holders = Lists.newArrayList();
+    for (FieldVector vector : batch.getFieldVectors()) {
+      holders.add(new VectorHolder(null, vector, false, null, nulls));
+    }
+
+    BatchEvaluator evaluator = new BatchEvaluator(SCHEMA.asStruct(), and(isNull("count"), isNull("price")));
+    int[] selection = new int[NUM_ROWS];
+    int numSelected = evaluator.select(holders, NUM_ROWS, selection);
+
+    Assert.assertEquals("Should use the nullability holder", 10, numSelected);
+    for (int i = 0; i < numSelected; i += 1) {
+      Assert.assertEquals("Should select null rows", i, selection[i]);
+    }
+  }
+
+  @Test
+  public void testDictionaryEncodedColumns() {
+    Schema schema = new Schema(
+        optional(1, "ts", Types.TimestampType.withZone()),
+        optional(2, "time", Types.TimeType.get()),
+        optional(3, "dec32", Types.DecimalType.of(9, 2)),
+        optional(4, "dec64", Types.DecimalType.of(18, 2)),
+        optional(5, "dec_fixed", Types.DecimalType.of(38, 2)),
+        optional(6, "name", Types.StringType.get()));
+
+    PrimitiveType[] types = new PrimitiveType[] {
+        org.apache.parquet.schema.Types.optional(PrimitiveTypeName.INT64)
+            .as(OriginalType.TIMESTAMP_MILLIS).named("ts"),
+        org.apache.parquet.schema.Types.optional(PrimitiveTypeName.INT64)
+            .as(OriginalType.TIME_MICROS).named("time"),
+        org.apache.parquet.schema.Types.optional(PrimitiveTypeName.INT32)
+            .as(OriginalType.DECIMAL).precision(9).scale(2).named("dec32"),
+        org.apache.parquet.schema.Types.optional(PrimitiveTypeName.INT64)
+            .as(OriginalType.DECIMAL).precision(18).scale(2).named("dec64"),
+        org.apache.parquet.schema.Types.optional(PrimitiveTypeName.FIXED_LEN_BYTE_ARRAY).length(16)
+            .as(OriginalType.DECIMAL).precision(38).scale(2).named("dec_fixed"),
+        org.apache.parquet.schema.Types.optional(PrimitiveTypeName.BINARY)
+            .as(OriginalType.UTF8).named("name")
+    };
+
+    int dictionarySize = 5;
+    Object[][] encoded = new Object[types.length][dictionarySize];
+    Object[][] decoded = new Object[types.length][dictionarySize];
+    for (int id = 0; id < dictionarySize; id += 1) {
+      encoded[0][id] = (id + 1) * 1000L;
+      decoded[0][id] = (id + 1) * 1_000_000L;
+      encoded[1][id] = (id + 1) * 250L;
+      decoded[1][id] = (id + 1) * 250L;
+      encoded[2][id] = (id + 1) * 125;
+      decoded[2][id] = BigDecimal.valueOf((id + 1) * 125, 2);
+      encoded[3][id] = -(id + 1) * 1_000_000_007L;
+      decoded[3][id] = BigDecimal.valueOf(-(id + 1) * 1_000_000_007L, 2);
+      BigInteger unscaled = BigInteger.valueOf(id - 2).multiply(BigInteger.TEN.pow(20));
+      encoded[4][id] = Binary.fromConstantByteArray(fixedLength(unscaled, 16));
+      decoded[4][id] = new BigDecimal(unscaled, 2);
+      encoded[5][id] = Binary.fromString("n" + id);
+      decoded[5][id] = "n" + id;
+    }
+
+    Random random = new Random(2913);
+    List<Object[]> dictRows = Lists.newArrayList();
+    for (int row = 0; row < NUM_ROWS; row += 1) {
+      dictRows.add(new Object[types.length]);
+    }
+
+    List<VectorHolder> holders = Lists.newArrayList();
+    try {
+      for (int col = 0; col < types.length; col += 1) {
+        IntVector ids = new IntVector(types[col].getName(), allocator);
+        ids.allocateNew(NUM_ROWS);
+        NullabilityHolder nulls = new NullabilityHolder(NUM_ROWS);
+        for (int row = 0; row < NUM_ROWS; row += 1) {
+          if (random.nextInt(8) == 0) {
+            nulls.setNull(row);
+          } else {
+            int id = random.nextInt(dictionarySize);
+            ids.set(row, id);
+            nulls.setNotNull(row);
+            dictRows.get(row)[col] = decoded[col][id];
+          }
+        }
+        ids.setValueCount(NUM_ROWS);
+
+        ColumnDescriptor desc = new ColumnDescriptor(new String[] { types[col].getName() }, types[col], 0, 1);
+        holders.add(new VectorHolder(desc, ids, true, new ArrayDictionary(encoded[col]), nulls));
+      }
+
+      List<Expression> filters = ImmutableList.of(
+          greaterThan("ts", 3_000_000L),
+          equal("ts", 2_000_000L),
+          lessThanOrEqual("time", 500L),
+          in("time", 250L, 1000L),
+          greaterThanOrEqual("dec32", new BigDecimal("3.75")),
+          notEqual("dec32", new BigDecimal("1.25")),
+          lessThan("dec64", BigDecimal.valueOf(-3_000_000_021L, 2)),
+          in("dec64", BigDecimal.valueOf(-1_000_000_007L, 2), BigDecimal.valueOf(-5_000_000_035L, 2)),
+          lessThan("dec_fixed", new BigDecimal(BigInteger.TEN.pow(20), 2)),
+          equal("dec_fixed", new BigDecimal(BigInteger.TEN.pow(20).negate(), 2)),
+          isNull("dec_fixed"),
+          startsWith("name", "n3"),
+          and(notIn("name", "n1", "n2"), greaterThan("ts", 1_000_000L)));
+
+      int[] selection = new int[NUM_ROWS];
+      for (Expression filter : filters) {
+        BatchEvaluator batchEvaluator = new BatchEvaluator(schema.asStruct(), filter);
+        Evaluator rowEvaluator = new Evaluator(schema.asStruct(), filter);
+
+        List<Integer> expected = Lists.newArrayList();
+        ArrayRow row = new ArrayRow();
+        for (int pos = 0; pos < NUM_ROWS; pos += 1) {
+          if (rowEvaluator.eval(row.wrap(dictRows.get(pos)))) {
+            expected.add(pos);
+          }
+        }
+
+        int numSelected = batchEvaluator.select(holders, NUM_ROWS, selection);
+        List<Integer> actual = Lists.newArrayList();
+        for (int i = 0; i < numSelected; i += 1) {
+          actual.add(selection[i]);
+        }
+
+        Assert.assertEquals("Should select the dictionary-encoded rows that match " + filter, expected, actual);
+      }
+
+    } finally {
+      for (VectorHolder holder : holders) {
+        holder.vector().close();
+      }
+    }
+  }
+
+  private static byte[] fixedLength(BigInteger unscaled, int length) {
+    byte[] bytes = unscaled.toByteArray();
+    byte[] fixed = new byte[length];
+    byte fill = (byte) (unscaled.signum() < 0 ? 0xFF : 0x00);
+    Arrays.fill(fixed, 0, length - bytes.length, fill);
+    System.arraycopy(bytes, 0, fixed, length - bytes.length, bytes.length);
+    return fixed;
+  }
+
+  private static class ArrayDictionary extends Dictionary {
+    private final Object[] values;
+
+    private ArrayDictionary(Object[] values) {
+      super(Encoding.PLAIN_DICTIONARY);
+      this.values = values;
+    }
+
+    @Override
+    public int getMaxId() {
+      return values.length - 1;
+    }
+
+    @Override
+    public int decodeToInt(int id) {
+      return (Integer) values[id];
+    }
+
+    @Override
+    public long decodeToLong(int id) {
+      return (Long) values[id];
+    }
+
+    @Override
+    public Binary decodeToBinary(int id) {
+      return (Binary) values[id];
+    }
+  }
+
+  private static class ArrayRow implements StructLike {
+    private Object[] values = null;
+
+    private ArrayRow wrap(Object[] newValues) {
+      this.values = newValues;
+      return this;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      return javaClass.cast(values[pos]);
+    }
+
+    @Override
+    public <T> void set(int pos, T value) {
+      values[pos] = value;
+    }
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.google.common.collect.Maps;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ByteBuffers;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark that measures the heap retained by the column stats of data files held in memory, as they are during
+ * scan planning and commits.
+ * <p>
+ * Each iteration copies a data file with stats for {@code numColumns} columns {@code numFiles} times and reports the
+ * retained heap per file in the {@code bytesPerFile} counter. {@code mapStats} keeps copies of the stats in hash maps,
+ * which is how {@link GenericDataFile} stored stats before they were stored compactly.
+ *
+ * To run this benchmark:
+ * <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=DataFileStatsFootprintBenchmark
+ *       -PjmhOutputPath=benchmark/data-file-stats-footprint-benchmark-result.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DataFileStatsFootprintBenchmark {
+
+  @Param({"100000"})
+  private int numFiles;
+
+  @Param({"10", "50"})
+  private int numColumns;
+
+  private DataFile template = null;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint {
+    public long bytesPerFile = 0L;
+
+    private long usedBefore = 0L;
+
+    private void start() {
+      this.usedBefore = usedHeap();
+    }
+
+    private void finish(int count) {
+      this.bytesPerFile = (usedHeap() - usedBefore) / count;
+    }
+  }
+
+  @Setup
+  public void setupTemplate() {
+    Random random = new Random(1066);
+    Map<Integer, Long> columnSizes = Maps.newHashMap();
+    Map<Integer, Long> valueCounts = Maps.newHashMap();
+    Map<Integer, Long> nullValueCounts = Maps.newHashMap();
+    Map<Integer, ByteBuffer> lowerBounds = Maps.newHashMap();
+    Map<Integer, ByteBuffer> upperBounds = Maps.newHashMap();
+    for (int id = 1; id <= numColumns; id += 1) {
+      columnSizes.put(id, 1000L + random.nextInt(1_000_000));
+      valueCounts.put(id, 1000L + random.nextInt(1_000_000));
+      nullValueCounts.put(id, (long) random.nextInt(1000));
+      lowerBounds.put(id, Conversions.toByteBuffer(Types.LongType.get(), random.nextLong()));
+      upperBounds.put(id, Conversions.toByteBuffer(Types.LongType.get(), random.nextLong()));
+    }
+
+    this.template = DataFiles.builder(PartitionSpec.unpartitioned())
+        .withPath("/path/to/data-file.parquet")
+        .withFileSizeInBytes(64 * 1024 * 1024)
+        .withMetrics(new Metrics(1_000_000L, columnSizes, valueCounts, nullValueCounts, lowerBounds, upperBounds))
+        .build();
+  }
+
+  @Benchmark
+  public Object[] compactStats(Footprint footprint) {
+    footprint.start();
+    Object[] files = new Object[numFiles];
+    for (int i = 0; i < numFiles; i += 1) {
+      files[i] = template.copy();
+    }
+    footprint.finish(numFiles);
+    return files;
+  }
+
+  @Benchmark
+  public Object[] mapStats(Footprint footprint) {
+    footprint.start();
+    Object[] files = new Object[numFiles];
+    for (int i = 0; i < numFiles; i += 1) {
+      files[i] = new Object[] {
+          template.copyWithoutStats(),
+          copyLongs(template.columnSizes()),
+          copyLongs(template.valueCounts()),
+          copyLongs(template.nullValueCounts()),
+          copyBuffers(template.lowerBounds()),
+          copyBuffers(template.upperBounds())
+      };
+    }
+    footprint.finish(numFiles);
+    return files;
+  }
+
+  private static Map<Integer, Long> copyLongs(Map<Integer, Long> map) {
+    // box each value separately, as a manifest reader does
+    Map<Integer, Long> copy = Maps.newHashMapWithExpectedSize(map.size());
+    for (Map.Entry<Integer, Long> entry : map.entrySet()) {
+      copy.put(entry.getKey(), Long.valueOf(entry.getValue().longValue()));
+    }
+    return copy;
+  }
+
+  private static Map<Integer, ByteBuffer> copyBuffers(Map<Integer, ByteBuffer> map) {
+    Map<Integer, ByteBuffer> copy = Maps.newHashMapWithExpectedSize(map.size());
+    for (Map.Entry<Integer, ByteBuffer> entry : map.entrySet()) {
+      copy.put(entry.getKey(), ByteBuffers.copy(entry.getValue()));
+    }
+    return copy;
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i += 1) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
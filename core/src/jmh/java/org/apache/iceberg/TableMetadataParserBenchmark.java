@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.hadoop.HadoopFileIO;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+/**
+ * A benchmark that measures how long it takes to read table metadata, as a table refresh does, for
+ * tables with different numbers of snapshots.
+ * <p>
+ * {@code treeParse} reads the whole file into a JSON tree and builds every snapshot, which is how
+ * metadata was read before snapshots were loaded lazily.
+ *
+ * To run this benchmark:
+ * <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=TableMetadataParserBenchmark
+ *       -PjmhOutputPath=benchmark/table-metadata-parser-benchmark-result.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TableMetadataParserBenchmark {
+
+  private static final Schema SCHEMA = new Schema(
+      required(1, "id", Types.LongType.get()),
+      required(2, "data", Types.StringType.get()));
+
+  @Param({"100", "1000", "10000"})
+  private int numSnapshots;
+
+  private final FileIO io = new HadoopFileIO(new Configuration());
+  private File metadataFile = null;
+  private InputFile metadataInput = null;
+
+  @Setup
+  public void setupMetadata() throws IOException {
+    List<Snapshot> snapshots = Lists.newArrayListWithExpectedSize(numSnapshots);
+    Long parentId = null;
+    long timestamp = System.currentTimeMillis() - numSnapshots;
+    for (int i = 0; i < numSnapshots; i += 1) {
+      long snapshotId = i + 1;
+      snapshots.add(new BaseSnapshot(io, snapshotId, snapshotId, parentId, timestamp + i, DataOperations.APPEND,
+          ImmutableMap.of(
+              "added-data-files", "10",
+              "added-records", "100000",
+              "total-data-files", String.valueOf(10 * (i + 1)),
+              "total-records", String.valueOf(100000L * (i + 1))),
+          io.newInputFile("file:/tmp/metadata/snap-" + snapshotId + "-" + UUID.randomUUID() + ".avro")));
+      parentId = snapshotId;
+    }
+
+    PartitionSpec spec = PartitionSpec.unpartitioned();
+    TableMetadata metadata = new TableMetadata(null, 2, UUID.randomUUID().toString(), "file:/tmp/table",
+        numSnapshots, System.currentTimeMillis(), SCHEMA.columns().size(), SCHEMA, spec.specId(),
+        ImmutableList.of(spec), ImmutableMap.of(), numSnapshots, snapshots, ImmutableList.of(), ImmutableList.of());
+
+    this.metadataFile = File.createTempFile("v1-", ".metadata.json");
+    TableMetadataParser.overwrite(metadata, Files.localOutput(metadataFile));
+    this.metadataInput = Files.localInput(metadataFile);
+  }
+
+  @TearDown
+  public void removeMetadata() {
+    if (metadataFile != null) {
+      metadataFile.delete();
+    }
+  }
+
+  @Benchmark
+  public void streamingParse(Blackhole blackhole) {
+    TableMetadata metadata = TableMetadataParser.read(io, metadataInput);
+    blackhole.consume(metadata.currentSnapshot());
+  }
+
+  @Benchmark
+  public void streamingParseAllSnapshots(Blackhole blackhole) {
+    TableMetadata metadata = TableMetadataParser.read(io, metadataInput);
+    for (Snapshot snapshot : metadata.snapshots()) {
+      blackhole.consume(snapshot);
+    }
+  }
+
+  @Benchmark
+  public void treeParse(Blackhole blackhole) throws IOException {
+    try (InputStream in = metadataInput.newStream()) {
+      TableMetadata metadata = TableMetadataParser.fromJson(io, metadataInput,
+          JsonUtil.mapper().readValue(in, JsonNode.class));
+      blackhole.consume(metadata.currentSnapshot());
+    }
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.expressions;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.expressions.ExpressionVisitors.BoundVisitor;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static org.apache.iceberg.expressions.Expressions.and;
+import static org.apache.iceberg.expressions.Expressions.equal;
+import static org.apache.iceberg.expressions.Expressions.greaterThanOrEqual;
+import static org.apache.iceberg.expressions.Expressions.in;
+import static org.apache.iceberg.expressions.Expressions.isNull;
+import static org.apache.iceberg.expressions.Expressions.lessThan;
+import static org.apache.iceberg.expressions.Expressions.or;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+/**
+ * A benchmark that evaluates a residual-style filter over rows, comparing the compiled filter used by
+ * {@link Evaluator} with visiting the bound expression tree for each row.
+ * <p>
+ * {@code treeWalk} evaluates rows the way {@link Evaluator} did before expressions were compiled.
+ *
+ * To run this benchmark:
+ * <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=EvaluatorBenchmark
+ *       -PjmhOutputPath=benchmark/evaluator-benchmark-result.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EvaluatorBenchmark {
+
+  private static final Schema SCHEMA = new Schema(
+      required(1, "id", Types.LongType.get()),
+      required(2, "category", Types.IntegerType.get()),
+      optional(3, "price", Types.DoubleType.get()),
+      optional(4, "data", Types.StringType.get()));
+
+  private static final Expression FILTER = and(
+      and(greaterThanOrEqual("id", 1000L), lessThan("price", 500.0)),
+      or(in("category", 1, 3, 5, 7), or(equal("data", "data-42"), isNull("data"))));
+
+  @Param({"1000000"})
+  private int numRows;
+
+  private StructLike[] rows = null;
+  private Evaluator evaluator = null;
+  private Expression bound = null;
+
+  @Setup
+  public void setupRows() {
+    Random random = new Random(4815);
+    this.rows = new StructLike[numRows];
+    for (int i = 0; i < numRows; i += 1) {
+      rows[i] = new ArrayRow(
+          (long) i,
+          random.nextInt(10),
+          random.nextInt(10) == 0 ? null : random.nextDouble() * 1000,
+          random.nextInt(20) == 0 ? null : "data-" + random.nextInt(100));
+    }
+
+    this.evaluator = new Evaluator(SCHEMA.asStruct(), FILTER);
+    this.bound = Binder.bind(SCHEMA.asStruct(), FILTER, true);
+  }
+
+  @Benchmark
+  public void compiled(Blackhole blackhole) {
+    int matches = 0;
+    for (StructLike row : rows) {
+      if (evaluator.eval(row)) {
+        matches += 1;
+      }
+    }
+    blackhole.consume(matches);
+  }
+
+  @Benchmark
+  public void treeWalk(Blackhole blackhole) {
+    TreeWalkVisitor visitor = new TreeWalkVisitor();
+    int matches = 0;
+    for (StructLike row : rows) {
+      if (visitor.eval(row)) {
+        matches += 1;
+      }
+    }
+    blackhole.consume(matches);
+  }
+
+  private class TreeWalkVisitor extends BoundVisitor<Boolean> {
+    private StructLike struct;
+
+    private boolean eval(StructLike row) {
+      this.struct = row;
+      return ExpressionVisitors.visitEvaluator(bound, this);
+    }
+
+    @Override
+    public Boolean alwaysTrue() {
+      return true;
+    }
+
+    @Override
+    public Boolean alwaysFalse() {
+      return false;
+    }
+
+    @Override
+    public Boolean not(Boolean result) {
+      return !result;
+    }
+
+    @Override
+    public Boolean and(Boolean leftResult, Boolean rightResult) {
+      return leftResult && rightResult;
+    }
+
+    @Override
+    public Boolean or(Boolean leftResult, Boolean rightResult) {
+      return leftResult || rightResult;
+    }
+
+    @Override
+    public <T> Boolean isNull(Bound<T> valueExpr) {
+      return valueExpr.eval(struct) == null;
+    }
+
+    @Override
+    public <T> Boolean notNull(Bound<T> valueExpr) {
+      return valueExpr.eval(struct) != null;
+    }
+
+    @Override
+    public <T> Boolean lt(Bound<T> valueExpr, Literal<T> lit) {
+      Comparator<T> cmp = lit.comparator();
+      return cmp.compare(valueExpr.eval(struct), lit.value()) < 0;
+    }
+
+    @Override
+    public <T> Boolean ltEq(Bound<T> valueExpr, Literal<T> lit) {
+      Comparator<T> cmp = lit.comparator();
+      return cmp.compare(valueExpr.eval(struct), lit.value()) <= 0;
+    }
+
+    @Override
+    public <T> Boolean gt(Bound<T> valueExpr, Literal<T> lit) {
+      Comparator<T> cmp = lit.comparator();
+      return cmp.compare(valueExpr.eval(struct), lit.value()) > 0;
+    }
+
+    @Override
+    public <T> Boolean gtEq(Bound<T> valueExpr, Literal<T> lit) {
+      Comparator<T> cmp = lit.comparator();
+      return cmp.compare(valueExpr.eval(struct), lit.value()) >= 0;
+    }
+
+    @Override
+    public <T> Boolean eq(Bound<T> valueExpr, Literal<T> lit) {
+      Comparator<T> cmp = lit.comparator();
+      return cmp.compare(valueExpr.eval(struct), lit.value()) == 0;
+    }
+
+    @Override
+    public <T> Boolean notEq(Bound<T> valueExpr, Literal<T> lit) {
+      return !eq(valueExpr, lit);
+    }
+
+    @Override
+    public <T> Boolean in(Bound<T> valueExpr, Set<T> literalSet) {
+      return literalSet.contains(valueExpr.eval(struct));
+    }
+
+    @Override
+    public <T> Boolean notIn(Bound<T> valueExpr, Set<T> literalSet) {
+      return !in(valueExpr, literalSet);
+    }
+
+    @Override
+    public <T> Boolean startsWith(Bound<T> valueExpr, Literal<T> lit) {
+      return ((String) valueExpr.eval(struct)).startsWith((String) lit.value());
+    }
+  }
+
+  private static class ArrayRow implements StructLike {
+    private final Object[] values;
+
+    private ArrayRow(Object... values) {
+      this.values = values;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      return javaClass.cast(values[pos]);
+    }
+
+    @Override
+    public <T> void set(int pos, T value) {
+      values[pos] = value;
+    }
+  }
+}
@@ -161,6 +161,8 @@ public class AllManifestsTable extends BaseMetadataTable {
           .rename("manifest_file", GenericManifestFile.class.getName())
           .rename("partitions", GenericPartitionFieldSummary.class.getName())
           .rename("r508", GenericPartitionFieldSummary.class.getName())
+          .rename("column_summaries", GenericColumnSummary.class.getName())
+          .rename("r518", GenericColumnSummary.class.getName())
           .project(ManifestFile.schema())
           .classLoader(GenericManifestFile.class.getClassLoader())
           .reuseContainers(false)
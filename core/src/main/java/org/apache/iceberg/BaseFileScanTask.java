@@ -22,6 +22,7 @@ package org.apache.iceberg;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -31,16 +32,16 @@ import org.apache.iceberg.expressions.ResidualEvaluator;
 
 class BaseFileScanTask implements FileScanTask {
   private final DataFile file;
-  private final String schemaString;
-  private final String specString;
+  private final SharedSpec sharedSpec;
   private final ResidualEvaluator residuals;
 
-  private transient PartitionSpec spec = null;
-
   BaseFileScanTask(DataFile file, String schemaString, String specString, ResidualEvaluator residuals) {
+    this(file, new SharedSpec(schemaString, specString), residuals);
+  }
+
+  BaseFileScanTask(DataFile file, SharedSpec sharedSpec, ResidualEvaluator residuals) {
     this.file = file;
-    this.schemaString = schemaString;
-    this.specString = specString;
+    this.sharedSpec = sharedSpec;
     this.residuals = residuals;
   }
 
@@ -51,10 +52,7 @@ class BaseFileScanTask implements FileScanTask {
 
   @Override
   public PartitionSpec spec() {
-    if (spec == null) {
-      this.spec = PartitionSpecParser.fromJson(SchemaParser.fromJson(schemaString), specString);
-    }
-    return spec;
+    return sharedSpec.spec();
   }
 
   @Override
@@ -93,6 +91,37 @@ class BaseFileScanTask implements FileScanTask {
         .toString();
   }
 
+  /**
+   * A serializable partition spec that is shared by all tasks planned for the same spec.
+   * <p>
+   * Tasks hold a reference to this instead of their own copies of the spec and schema JSON, so planning many files
+   * keeps one copy of each string and parses the spec at most once per JVM, or once per deserialized group of tasks.
+   */
+  static class SharedSpec implements Serializable {
+    private final String schemaString;
+    private final String specString;
+
+    private transient volatile PartitionSpec spec = null;
+
+    SharedSpec(PartitionSpec spec) {
+      this.schemaString = SchemaParser.toJson(spec.schema());
+      this.specString = PartitionSpecParser.toJson(spec);
+      this.spec = spec;
+    }
+
+    SharedSpec(String schemaString, String specString) {
+      this.schemaString = schemaString;
+      this.specString = specString;
+    }
+
+    PartitionSpec spec() {
+      if (spec == null) {
+        this.spec = PartitionSpecParser.fromJson(SchemaParser.fromJson(schemaString), specString);
+      }
+      return spec;
+    }
+  }
+
   /**
    * This iterator returns {@link FileScanTask} using guidance provided by split offsets.
    */
@@ -218,6 +218,7 @@ public abstract class BaseMetastoreCatalog implements Catalog {
     // as much of the delete work as possible and avoid orphaned data or manifest files.
 
     Set<String> manifestListsToDelete = Sets.newHashSet();
+    Set<String> partitionStatsToDelete = Sets.newHashSet();
     Set<ManifestFile> manifestsToDelete = Sets.newHashSet();
     for (Snapshot snapshot : metadata.snapshots()) {
       manifestsToDelete.addAll(snapshot.manifests());
@@ -225,6 +226,11 @@ public abstract class BaseMetastoreCatalog implements Catalog {
       if (snapshot.manifestListLocation() != null) {
         manifestListsToDelete.add(snapshot.manifestListLocation());
       }
+      // add the partition stats file to the delete set, if present
+      String partitionStats = PartitionStatsFile.location(snapshot);
+      if (partitionStats != null) {
+        partitionStatsToDelete.add(partitionStats);
+      }
     }
 
     LOG.info("Manifests to delete: {}", Joiner.on(", ").join(manifestsToDelete));
@@ -243,6 +249,11 @@ public abstract class BaseMetastoreCatalog implements Catalog {
         .onFailure((list, exc) -> LOG.warn("Delete failed for manifest list: {}", list, exc))
         .run(io::deleteFile);
 
+    Tasks.foreach(partitionStatsToDelete)
+        .noRetry().suppressFailureWhenFinished()
+        .onFailure((stats, exc) -> LOG.warn("Delete failed for partition stats file: {}", stats, exc))
+        .run(io::deleteFile);
+
     Tasks.foreach(metadata.file().location())
         .noRetry().suppressFailureWhenFinished()
         .onFailure((list, exc) -> LOG.warn("Delete failed for metadata file: {}", list, exc))
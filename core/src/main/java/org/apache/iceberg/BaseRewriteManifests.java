@@ -43,7 +43,6 @@ import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.Tasks;
-import org.apache.iceberg.util.ThreadPools;
 
 import static org.apache.iceberg.TableProperties.MANIFEST_TARGET_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.MANIFEST_TARGET_SIZE_BYTES_DEFAULT;
@@ -228,7 +227,7 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests> imp
 
     try {
       Tasks.foreach(remainingManifests)
-          .executeWith(ThreadPools.getWorkerPool())
+          .executeWith(workerPool())
           .run(manifest -> {
             if (predicate != null && !predicate.test(manifest)) {
               keptManifests.add(manifest);
@@ -246,7 +245,7 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests> imp
             }
           });
     } finally {
-      Tasks.foreach(writers.values()).executeWith(ThreadPools.getWorkerPool()).run(writer -> writer.close());
+      Tasks.foreach(writers.values()).executeWith(workerPool()).run(writer -> writer.close());
     }
   }
 
@@ -395,6 +395,10 @@ class BaseTransaction implements Transaction {
       Snapshot snap = ops.current().snapshot(snapshotId);
       if (snap != null) {
         committedFiles.add(snap.manifestListLocation());
+        String partitionStats = PartitionStatsFile.location(snap);
+        if (partitionStats != null) {
+          committedFiles.add(partitionStats);
+        }
         snap.manifests()
             .forEach(manifest -> committedFiles.add(manifest.path()));
       } else {
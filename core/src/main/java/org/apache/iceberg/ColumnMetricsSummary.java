@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.iceberg.ManifestFile.ColumnSummary;
+import org.apache.iceberg.expressions.InclusiveMetricsEvaluator;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.ByteBuffers;
+
+/**
+ * Aggregates the column metrics of data files written to a manifest into {@link ColumnSummary column summaries}.
+ * <p>
+ * A summarized metric is only kept when every data file in the manifest has it; otherwise it is unknown.
+ */
+class ColumnMetricsSummary {
+  private final Schema schema;
+  private final Map<Integer, ColumnStats<?>> columns = Maps.newTreeMap();
+  private final Set<Integer> ignored = Sets.newHashSet();
+  private long fileCount = 0L;
+  private boolean hasUnknownRowCount = false;
+
+  ColumnMetricsSummary(Schema schema) {
+    this.schema = schema;
+  }
+
+  List<ColumnSummary> summaries() {
+    if (hasUnknownRowCount) {
+      // manifest row counts are used to evaluate summaries and would not be accurate
+      return null;
+    }
+
+    return columns.values().stream()
+        .map(stats -> stats.toSummary(fileCount))
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  public void update(DataFile file) {
+    this.fileCount += 1;
+    if (file.recordCount() < 0) {
+      this.hasUnknownRowCount = true;
+    }
+
+    Set<Integer> ids = Sets.newHashSet();
+    addKeys(ids, file.valueCounts());
+    addKeys(ids, file.nullValueCounts());
+    addKeys(ids, file.lowerBounds());
+    addKeys(ids, file.upperBounds());
+
+    for (Integer id : ids) {
+      ColumnStats<?> stats = statsFor(id);
+      if (stats != null) {
+        stats.update(get(file.valueCounts(), id), get(file.nullValueCounts(), id),
+            get(file.lowerBounds(), id), get(file.upperBounds(), id));
+      }
+    }
+  }
+
+  /**
+   * Returns a {@link DataFile} that carries a manifest's column summaries as its metrics.
+   * <p>
+   * The result can be evaluated with an {@link InclusiveMetricsEvaluator} to determine whether any
+   * data file in the manifest may contain matching rows.
+   *
+   * @param manifest a manifest file
+   * @return a data file for metrics evaluation, or null if the manifest has no column summaries
+   */
+  static DataFile asDataFile(ManifestFile manifest) {
+    List<ColumnSummary> summaries = manifest.columnSummaries();
+    if (summaries == null || manifest.addedRowsCount() == null ||
+        manifest.existingRowsCount() == null || manifest.deletedRowsCount() == null) {
+      return null;
+    }
+
+    Map<Integer, Long> valueCounts = Maps.newHashMap();
+    Map<Integer, Long> nullValueCounts = Maps.newHashMap();
+    Map<Integer, ByteBuffer> lowerBounds = Maps.newHashMap();
+    Map<Integer, ByteBuffer> upperBounds = Maps.newHashMap();
+    for (ColumnSummary summary : summaries) {
+      putIfNotNull(valueCounts, summary.columnId(), summary.valueCount());
+      putIfNotNull(nullValueCounts, summary.columnId(), summary.nullValueCount());
+      putIfNotNull(lowerBounds, summary.columnId(), summary.lowerBound());
+      putIfNotNull(upperBounds, summary.columnId(), summary.upperBound());
+    }
+
+    long rowCount = manifest.addedRowsCount() + manifest.existingRowsCount() + manifest.deletedRowsCount();
+    Metrics metrics = new Metrics(rowCount, null, valueCounts, nullValueCounts, lowerBounds, upperBounds);
+
+    return new GenericDataFile(manifest.path(), FileFormat.AVRO, null, manifest.length(), metrics, null);
+  }
+
+  private static <V> void putIfNotNull(Map<Integer, V> map, int id, V value) {
+    if (value != null) {
+      map.put(id, value);
+    }
+  }
+
+  private ColumnStats<?> statsFor(int id) {
+    ColumnStats<?> stats = columns.get(id);
+    if (stats == null && !ignored.contains(id)) {
+      Type type = schema.findType(id);
+      if (type != null && type.isPrimitiveType()) {
+        stats = new ColumnStats<>(id, type);
+        columns.put(id, stats);
+      } else {
+        // metrics for nested types and dropped columns are not summarized
+        ignored.add(id);
+      }
+    }
+
+    return stats;
+  }
+
+  private static void addKeys(Set<Integer> ids, Map<Integer, ?> map) {
+    if (map != null) {
+      ids.addAll(map.keySet());
+    }
+  }
+
+  private static <V> V get(Map<Integer, V> map, int id) {
+    return map != null ? map.get(id) : null;
+  }
+
+  private static class ColumnStats<T> {
+    private final int id;
+    private final Type type;
+    private final Comparator<T> comparator;
+
+    private long valueCount = 0L;
+    private long valueCountFiles = 0L;
+    private long nullValueCount = 0L;
+    private long nullValueCountFiles = 0L;
+    private T min = null;
+    private long lowerBoundFiles = 0L;
+    private T max = null;
+    private long upperBoundFiles = 0L;
+
+    private ColumnStats(int id, Type type) {
+      this.id = id;
+      this.type = type;
+      this.comparator = Comparators.forType(type.asPrimitiveType());
+    }
+
+    ColumnSummary toSummary(long fileCount) {
+      Long values = valueCountFiles == fileCount ? valueCount : null;
+      Long nulls = nullValueCountFiles == fileCount ? nullValueCount : null;
+      ByteBuffer lower = lowerBoundFiles == fileCount ? Conversions.toByteBuffer(type, min) : null;
+      ByteBuffer upper = upperBoundFiles == fileCount ? Conversions.toByteBuffer(type, max) : null;
+
+      if (values == null && nulls == null && lower == null && upper == null) {
+        return null;
+      }
+
+      return new GenericColumnSummary(id, values, nulls, lower, upper);
+    }
+
+    void update(Long fileValueCount, Long fileNullValueCount, ByteBuffer lowerBound, ByteBuffer upperBound) {
+      if (fileValueCount != null) {
+        this.valueCount += fileValueCount;
+        this.valueCountFiles += 1;
+      }
+
+      if (fileNullValueCount != null) {
+        this.nullValueCount += fileNullValueCount;
+        this.nullValueCountFiles += 1;
+      }
+
+      // a file without bounds does not widen the range if it is known to contain only nulls
+      boolean onlyNulls = fileValueCount != null && fileValueCount.equals(fileNullValueCount);
+
+      if (lowerBound != null) {
+        T value = Conversions.fromByteBuffer(type, lowerBound);
+        if (min == null || comparator.compare(value, min) < 0) {
+          this.min = copy(value);
+        }
+        this.lowerBoundFiles += 1;
+      } else if (onlyNulls) {
+        this.lowerBoundFiles += 1;
+      }
+
+      if (upperBound != null) {
+        T value = Conversions.fromByteBuffer(type, upperBound);
+        if (max == null || comparator.compare(max, value) < 0) {
+          this.max = copy(value);
+        }
+        this.upperBoundFiles += 1;
+      } else if (onlyNulls) {
+        this.upperBoundFiles += 1;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T copy(T value) {
+      // binary values are views of the file's bound buffer, which may be reused by readers
+      if (value instanceof ByteBuffer) {
+        return (T) ByteBuffers.copy((ByteBuffer) value);
+      }
+
+      return value;
+    }
+  }
+}
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.google.common.collect.Maps;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.ConvertedBounds;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.ByteBuffers;
+
+/**
+ * A map from field id to a serialized lower or upper bound, stored as sorted field ids and byte arrays.
+ * <p>
+ * Bounds are converted to Java values when they are first requested through {@link #converted(int, Type)} and the
+ * converted values are kept, so that metrics evaluators do not convert the same bound each time a file is evaluated.
+ * Like {@link CompactLongMap}, updates are supported for serialization frameworks and new keys are appended to arrays
+ * that grow by doubling.
+ */
+class CompactBoundsMap extends AbstractMap<Integer, ByteBuffer> implements ConvertedBounds, Serializable {
+  private static final int[] NO_KEYS = new int[0];
+  private static final byte[][] NO_VALUES = new byte[0][];
+
+  /**
+   * Returns a compact copy of a map, or a serializable copy if the map has null keys or values.
+   *
+   * @param map a map of bounds by field id
+   * @return a copy of the map, or null if the map was null
+   */
+  static Map<Integer, ByteBuffer> copyOf(Map<Integer, ByteBuffer> map) {
+    if (map == null) {
+      return null;
+    }
+
+    if (map instanceof CompactBoundsMap) {
+      CompactBoundsMap compact = (CompactBoundsMap) map;
+      // the map never modifies its byte arrays, so they can be shared
+      return new CompactBoundsMap(
+          Arrays.copyOf(compact.keys, compact.size), Arrays.copyOf(compact.values, compact.size));
+    }
+
+    int[] keys = new int[map.size()];
+    int pos = 0;
+    for (Map.Entry<Integer, ByteBuffer> entry : map.entrySet()) {
+      if (entry.getKey() == null || entry.getValue() == null) {
+        return SerializableByteBufferMap.wrap(Maps.newLinkedHashMap(map));
+      }
+      keys[pos] = entry.getKey();
+      pos += 1;
+    }
+
+    Arrays.sort(keys);
+    byte[][] values = new byte[keys.length][];
+    for (int i = 0; i < keys.length; i += 1) {
+      values[i] = ByteBuffers.copy(map.get(keys[i])).array();
+    }
+
+    return new CompactBoundsMap(keys, values);
+  }
+
+  private int[] keys;
+  private byte[][] values;
+  private int size;
+  private transient Converted[] converted = null;
+
+  /**
+   * Constructor for serialization frameworks.
+   */
+  CompactBoundsMap() {
+    this(NO_KEYS, NO_VALUES);
+  }
+
+  private CompactBoundsMap(int[] keys, byte[][] values) {
+    this.keys = keys;
+    this.values = values;
+    this.size = keys.length;
+  }
+
+  private int indexOf(Object key) {
+    if (key instanceof Integer) {
+      return Arrays.binarySearch(keys, 0, size, (Integer) key);
+    }
+    return -1;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T converted(int fieldId, Type type) {
+    int index = Arrays.binarySearch(keys, 0, size, fieldId);
+    if (index < 0) {
+      return null;
+    }
+
+    // the cache is replaced when the map changes, so indexes into a cache always match the current keys
+    Converted[] cache = converted;
+    if (cache == null) {
+      cache = new Converted[size];
+      this.converted = cache;
+    }
+
+    Converted value = cache[index];
+    if (value == null || !value.type.equals(type)) {
+      // a bound may be read as a promoted type, in which case the previous conversion is replaced
+      value = new Converted(type, Conversions.fromByteBuffer(type, ByteBuffer.wrap(values[index])));
+      cache[index] = value;
+    }
+
+    if (value.value instanceof ByteBuffer) {
+      return (T) ((ByteBuffer) value.value).duplicate();
+    }
+
+    return (T) value.value;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public ByteBuffer get(Object key) {
+    int index = indexOf(key);
+    return index >= 0 ? ByteBuffer.wrap(values[index]) : null;
+  }
+
+  @Override
+  public ByteBuffer put(Integer key, ByteBuffer value) {
+    if (key == null || value == null) {
+      throw new NullPointerException("Cannot store a null key or value in a compact map");
+    }
+
+    byte[] bytes = ByteBuffers.copy(value).array();
+    int index = Arrays.binarySearch(keys, 0, size, key);
+    if (index >= 0) {
+      byte[] previous = values[index];
+      values[index] = bytes;
+      this.converted = null;
+      return ByteBuffer.wrap(previous);
+    }
+
+    if (size == keys.length) {
+      int capacity = Math.max(4, size * 2);
+      this.keys = Arrays.copyOf(keys, capacity);
+      this.values = Arrays.copyOf(values, capacity);
+    }
+
+    int insertAt = -(index + 1);
+    System.arraycopy(keys, insertAt, keys, insertAt + 1, size - insertAt);
+    System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+    keys[insertAt] = key;
+    values[insertAt] = bytes;
+    size += 1;
+    this.converted = null;
+
+    return null;
+  }
+
+  @Override
+  public ByteBuffer remove(Object key) {
+    int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+
+    byte[] previous = values[index];
+    removeAt(index);
+    return ByteBuffer.wrap(previous);
+  }
+
+  private void removeAt(int index) {
+    System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+    System.arraycopy(values, index + 1, values, index, size - index - 1);
+    size -= 1;
+    values[size] = null;
+    this.converted = null;
+  }
+
+  @Override
+  public void clear() {
+    this.keys = NO_KEYS;
+    this.values = NO_VALUES;
+    this.size = 0;
+    this.converted = null;
+  }
+
+  @Override
+  public Set<Entry<Integer, ByteBuffer>> entrySet() {
+    return new AbstractSet<Entry<Integer, ByteBuffer>>() {
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public Iterator<Entry<Integer, ByteBuffer>> iterator() {
+        return new EntryIterator();
+      }
+    };
+  }
+
+  private class EntryIterator implements Iterator<Entry<Integer, ByteBuffer>> {
+    private int next = 0;
+    private boolean canRemove = false;
+
+    @Override
+    public boolean hasNext() {
+      return next < size;
+    }
+
+    @Override
+    public Entry<Integer, ByteBuffer> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      Entry<Integer, ByteBuffer> entry = new SimpleImmutableEntry<>(keys[next], ByteBuffer.wrap(values[next]));
+      next += 1;
+      this.canRemove = true;
+      return entry;
+    }
+
+    @Override
+    public void remove() {
+      if (!canRemove) {
+        throw new IllegalStateException("Cannot remove: next has not been called since the last remove");
+      }
+
+      next -= 1;
+      removeAt(next);
+      this.canRemove = false;
+    }
+  }
+
+  /**
+   * A converted bound and the type it was converted to. Fields are final so that a cached conversion is safely visible
+   * to other threads that evaluate the same file.
+   */
+  private static class Converted {
+    private final Type type;
+    private final Object value;
+
+    private Converted(Type type, Object value) {
+      this.type = type;
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.google.common.collect.Maps;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map from field id to a long column stat, like a value count or column size, stored as sorted parallel arrays.
+ * <p>
+ * This avoids a hash table node, a boxed key, and a boxed value per entry for the stats of data files that are held in
+ * memory during planning and commits. Lookups use binary search on the field ids. Updates are supported so that the map
+ * can be deserialized by frameworks that create an empty map and add entries. Those frameworks add entries in the
+ * order the map iterates them, so new keys are appended to arrays that grow by doubling.
+ */
+class CompactLongMap extends AbstractMap<Integer, Long> implements Serializable {
+  private static final int[] NO_KEYS = new int[0];
+  private static final long[] NO_VALUES = new long[0];
+
+  /**
+   * Returns a compact copy of a map, or a hash map copy if the map has null keys or values.
+   *
+   * @param map a map of long stats by field id
+   * @return a copy of the map, or null if the map was null
+   */
+  static Map<Integer, Long> copyOf(Map<Integer, Long> map) {
+    if (map == null) {
+      return null;
+    }
+
+    if (map instanceof CompactLongMap) {
+      CompactLongMap compact = (CompactLongMap) map;
+      return new CompactLongMap(Arrays.copyOf(compact.keys, compact.size), Arrays.copyOf(compact.values, compact.size));
+    }
+
+    int[] keys = new int[map.size()];
+    int pos = 0;
+    for (Map.Entry<Integer, Long> entry : map.entrySet()) {
+      if (entry.getKey() == null || entry.getValue() == null) {
+        return Maps.newHashMap(map);
+      }
+      keys[pos] = entry.getKey();
+      pos += 1;
+    }
+
+    Arrays.sort(keys);
+    long[] values = new long[keys.length];
+    for (int i = 0; i < keys.length; i += 1) {
+      values[i] = map.get(keys[i]);
+    }
+
+    return new CompactLongMap(keys, values);
+  }
+
+  private int[] keys;
+  private long[] values;
+  private int size;
+
+  /**
+   * Constructor for serialization frameworks.
+   */
+  CompactLongMap() {
+    this(NO_KEYS, NO_VALUES);
+  }
+
+  private CompactLongMap(int[] keys, long[] values) {
+    this.keys = keys;
+    this.values = values;
+    this.size = keys.length;
+  }
+
+  private int indexOf(Object key) {
+    if (key instanceof Integer) {
+      return Arrays.binarySearch(keys, 0, size, (Integer) key);
+    }
+    return -1;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public Long get(Object key) {
+    int index = indexOf(key);
+    return index >= 0 ? values[index] : null;
+  }
+
+  @Override
+  public Long put(Integer key, Long value) {
+    if (key == null || value == null) {
+      throw new NullPointerException("Cannot store a null key or value in a compact map");
+    }
+
+    int index = Arrays.binarySearch(keys, 0, size, key);
+    if (index >= 0) {
+      long previous = values[index];
+      values[index] = value;
+      return previous;
+    }
+
+    if (size == keys.length) {
+      int capacity = Math.max(4, size * 2);
+      this.keys = Arrays.copyOf(keys, capacity);
+      this.values = Arrays.copyOf(values, capacity);
+    }
+
+    int insertAt = -(index + 1);
+    System.arraycopy(keys, insertAt, keys, insertAt + 1, size - insertAt);
+    System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+    keys[insertAt] = key;
+    values[insertAt] = value;
+    size += 1;
+
+    return null;
+  }
+
+  @Override
+  public Long remove(Object key) {
+    int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+
+    long previous = values[index];
+    removeAt(index);
+    return previous;
+  }
+
+  private void removeAt(int index) {
+    System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+    System.arraycopy(values, index + 1, values, index, size - index - 1);
+    size -= 1;
+  }
+
+  @Override
+  public void clear() {
+    this.keys = NO_KEYS;
+    this.values = NO_VALUES;
+    this.size = 0;
+  }
+
+  @Override
+  public Set<Entry<Integer, Long>> entrySet() {
+    return new AbstractSet<Entry<Integer, Long>>() {
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public Iterator<Entry<Integer, Long>> iterator() {
+        return new EntryIterator();
+      }
+    };
+  }
+
+  private class EntryIterator implements Iterator<Entry<Integer, Long>> {
+    private int next = 0;
+    private boolean canRemove = false;
+
+    @Override
+    public boolean hasNext() {
+      return next < size;
+    }
+
+    @Override
+    public Entry<Integer, Long> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      Entry<Integer, Long> entry = new SimpleImmutableEntry<>(keys[next], values[next]);
+      next += 1;
+      this.canRemove = true;
+      return entry;
+    }
+
+    @Override
+    public void remove() {
+      if (!canRemove) {
+        throw new IllegalStateException("Cannot remove: next has not been called since the last remove");
+      }
+
+      next -= 1;
+      removeAt(next);
+      this.canRemove = false;
+    }
+  }
+}
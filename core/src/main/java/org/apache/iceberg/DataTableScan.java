@@ -38,6 +38,8 @@ public class DataTableScan extends BaseTableScan {
       .build();
   static final boolean PLAN_SCANS_WITH_WORKER_POOL =
       SystemProperties.getBoolean(SystemProperties.SCAN_THREAD_POOL_ENABLED, true);
+  static final int PLAN_SCANS_QUEUE_SIZE =
+      SystemProperties.getInt(SystemProperties.SCAN_THREAD_POOL_QUEUE_SIZE, 0);
 
   public DataTableScan(TableOperations ops, Table table) {
     super(ops, table, table.schema());
@@ -87,7 +89,7 @@ public class DataTableScan extends BaseTableScan {
         .ignoreDeleted();
 
     if (PLAN_SCANS_WITH_WORKER_POOL && snapshot.manifests().size() > 1) {
-      manifestGroup = manifestGroup.planWith(ThreadPools.getWorkerPool());
+      manifestGroup = manifestGroup.planWith(ThreadPools.getWorkerPool(), PLAN_SCANS_QUEUE_SIZE);
     }
 
     return manifestGroup.planFiles();
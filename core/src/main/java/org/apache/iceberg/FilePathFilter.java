@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A Bloom filter of data file paths, stored for each manifest in a manifest list.
+ * <p>
+ * A serialized filter is a single byte with the number of hash functions, k, followed by the filter's bit set as a
+ * sequence of bytes. Bit i of the set is stored in byte i / 8 at position i % 8, from least significant. A path is
+ * hashed using the x64 128-bit variant of Murmur3 on its UTF-8 bytes. The hash's first and second 64-bit little-endian
+ * words, h1 and h2, produce the k bit positions ((h1 + i * h2) with its sign bit cleared) mod m, for i from 0 to k - 1,
+ * where m is the number of bits.
+ */
+class FilePathFilter {
+  private static final HashFunction MURMUR3 = Hashing.murmur3_128();
+  private static final int BITS_PER_PATH = 10;
+  private static final int NUM_HASHES = 7; // about 1% false positives with 10 bits per path
+
+  private FilePathFilter() {
+  }
+
+  /**
+   * Hashes paths once so that they can be tested against many filters.
+   *
+   * @param paths data file paths
+   * @return a Probe for the paths
+   */
+  static Probe probe(Iterable<? extends CharSequence> paths) {
+    return new Probe(paths);
+  }
+
+  static Builder builder() {
+    return new Builder();
+  }
+
+  private static long[] hash(CharSequence path) {
+    ByteBuffer hash = ByteBuffer.wrap(MURMUR3.hashString(path, StandardCharsets.UTF_8).asBytes())
+        .order(ByteOrder.LITTLE_ENDIAN);
+    return new long[] { hash.getLong(0), hash.getLong(8) };
+  }
+
+  private static int position(long h1, long h2, int index, long numBits) {
+    return (int) (((h1 + index * h2) & Long.MAX_VALUE) % numBits);
+  }
+
+  /**
+   * Builds a filter for the paths that are added to it.
+   */
+  static class Builder {
+    private long[] hashes = new long[32];
+    private int size = 0;
+
+    private Builder() {
+    }
+
+    Builder add(CharSequence path) {
+      if (size + 2 > hashes.length) {
+        this.hashes = Arrays.copyOf(hashes, hashes.length * 2);
+      }
+
+      long[] hash = hash(path);
+      hashes[size] = hash[0];
+      hashes[size + 1] = hash[1];
+      size += 2;
+
+      return this;
+    }
+
+    /**
+     * @return a serialized filter sized for the paths that were added
+     */
+    ByteBuffer build() {
+      int numPaths = size / 2;
+      long numBits = ((long) numPaths * BITS_PER_PATH + 7) / 8 * 8;
+      Preconditions.checkState(numBits / 8 < Integer.MAX_VALUE, "Too many paths for a filter: %s", numPaths);
+
+      byte[] filter = new byte[1 + (int) (numBits / 8)];
+      filter[0] = (byte) NUM_HASHES;
+      for (int pathIndex = 0; pathIndex < size; pathIndex += 2) {
+        for (int i = 0; i < NUM_HASHES; i += 1) {
+          int bit = position(hashes[pathIndex], hashes[pathIndex + 1], i, numBits);
+          filter[1 + (bit >>> 3)] |= (byte) (1 << (bit & 7));
+        }
+      }
+
+      return ByteBuffer.wrap(filter);
+    }
+  }
+
+  /**
+   * A set of hashed paths that can be tested against serialized filters.
+   */
+  static class Probe {
+    private final long[] hashes;
+
+    private Probe(Iterable<? extends CharSequence> paths) {
+      Builder builder = new Builder();
+      for (CharSequence path : paths) {
+        builder.add(path);
+      }
+      this.hashes = Arrays.copyOf(builder.hashes, builder.size);
+    }
+
+    /**
+     * Returns whether a manifest may contain a live data file with any of the paths.
+     * <p>
+     * Manifests without a file path filter may contain any path.
+     *
+     * @param manifest a manifest file
+     * @return false if the manifest's filter shows that it has no live file with any of the paths, true otherwise
+     */
+    boolean mightContainAny(ManifestFile manifest) {
+      ByteBuffer filter = manifest.filePathFilter();
+      return filter == null || filterContainsAny(filter);
+    }
+
+    private boolean filterContainsAny(ByteBuffer filter) {
+      int start = filter.position();
+      int numHashes = filter.get(start) & 0xFF;
+      long numBits = (long) (filter.remaining() - 1) * 8;
+      if (numBits == 0) {
+        // the manifest has no live files
+        return false;
+      }
+
+      for (int pathIndex = 0; pathIndex < hashes.length; pathIndex += 2) {
+        if (mightContain(filter, start + 1, numBits, numHashes, hashes[pathIndex], hashes[pathIndex + 1])) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    private static boolean mightContain(ByteBuffer filter, int offset, long numBits, int numHashes,
+                                        long h1, long h2) {
+      for (int i = 0; i < numHashes; i += 1) {
+        int bit = position(h1, h2, i, numBits);
+        if ((filter.get(offset + (bit >>> 3)) & (1 << (bit & 7))) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
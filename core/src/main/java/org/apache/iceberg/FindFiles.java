@@ -20,6 +20,7 @@
 package org.apache.iceberg;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -48,6 +49,7 @@ public class FindFiles {
     private Expression rowFilter = Expressions.alwaysTrue();
     private Expression fileFilter = Expressions.alwaysTrue();
     private Expression partitionFilter = Expressions.alwaysTrue();
+    private List<CharSequence> paths = null;
 
     public Builder(Table table) {
       this.table = table;
@@ -184,6 +186,34 @@ public class FindFiles {
       return this;
     }
 
+    /**
+     * Filter results to files with any one of the given paths.
+     *
+     * @param filePaths one or more data file paths
+     * @return this for method chaining
+     */
+    public Builder withPaths(CharSequence... filePaths) {
+      return withPaths(Arrays.asList(filePaths));
+    }
+
+    /**
+     * Filter results to files with any one of the given paths.
+     * <p>
+     * Manifests that have a file path filter are only read if they may contain one of the paths. Path filters are
+     * written when {@link TableProperties#MANIFEST_PATH_FILTERS_ENABLED} is set.
+     *
+     * @param filePaths a list of data file paths
+     * @return this for method chaining
+     */
+    public Builder withPaths(List<? extends CharSequence> filePaths) {
+      if (paths == null) {
+        this.paths = Lists.newArrayList(filePaths);
+      } else {
+        paths.addAll(filePaths);
+      }
+      return this;
+    }
+
     /**
      * @return all files in the table that match all of the filters
      */
@@ -197,14 +227,19 @@ public class FindFiles {
       }
 
       // when snapshot is not null
-      CloseableIterable<ManifestEntry> entries = new ManifestGroup(ops.io(), snapshot.manifests())
+      ManifestGroup manifests = new ManifestGroup(ops.io(), snapshot.manifests())
           .specsById(ops.current().specsById())
           .filterData(rowFilter)
           .filterFiles(fileFilter)
           .filterPartitions(partitionFilter)
           .ignoreDeleted()
-          .caseSensitive(caseSensitive)
-          .entries();
+          .caseSensitive(caseSensitive);
+
+      if (paths != null) {
+        manifests = manifests.filterPaths(paths);
+      }
+
+      CloseableIterable<ManifestEntry> entries = manifests.entries();
 
       return CloseableIterable.transform(entries, entry -> entry.file().copyWithoutStats());
     }
@@ -22,7 +22,6 @@ package org.apache.iceberg;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
@@ -143,11 +142,11 @@ class GenericDataFile
     // this will throw NPE if metrics.recordCount is null
     this.recordCount = metrics.recordCount();
     this.fileSizeInBytes = fileSizeInBytes;
-    this.columnSizes = metrics.columnSizes();
-    this.valueCounts = metrics.valueCounts();
-    this.nullValueCounts = metrics.nullValueCounts();
-    this.lowerBounds = SerializableByteBufferMap.wrap(metrics.lowerBounds());
-    this.upperBounds = SerializableByteBufferMap.wrap(metrics.upperBounds());
+    this.columnSizes = CompactLongMap.copyOf(metrics.columnSizes());
+    this.valueCounts = CompactLongMap.copyOf(metrics.valueCounts());
+    this.nullValueCounts = CompactLongMap.copyOf(metrics.nullValueCounts());
+    this.lowerBounds = CompactBoundsMap.copyOf(metrics.lowerBounds());
+    this.upperBounds = CompactBoundsMap.copyOf(metrics.upperBounds());
     this.splitOffsets = copy(splitOffsets);
   }
 
@@ -172,12 +171,12 @@ class GenericDataFile
     this.recordCount = toCopy.recordCount;
     this.fileSizeInBytes = toCopy.fileSizeInBytes;
     if (fullCopy) {
-      // TODO: support lazy conversion to/from map
-      this.columnSizes = copy(toCopy.columnSizes);
-      this.valueCounts = copy(toCopy.valueCounts);
-      this.nullValueCounts = copy(toCopy.nullValueCounts);
-      this.lowerBounds = SerializableByteBufferMap.wrap(copy(toCopy.lowerBounds));
-      this.upperBounds = SerializableByteBufferMap.wrap(copy(toCopy.upperBounds));
+      // copies are held in memory by scans and commits, so stats are stored compactly
+      this.columnSizes = CompactLongMap.copyOf(toCopy.columnSizes);
+      this.valueCounts = CompactLongMap.copyOf(toCopy.valueCounts);
+      this.nullValueCounts = CompactLongMap.copyOf(toCopy.nullValueCounts);
+      this.lowerBounds = CompactBoundsMap.copyOf(toCopy.lowerBounds);
+      this.upperBounds = CompactBoundsMap.copyOf(toCopy.upperBounds);
     } else {
       this.columnSizes = null;
       this.valueCounts = null;
@@ -292,6 +291,7 @@ class GenericDataFile
       case 5:
         return;
       case 6:
+        // maps set by readers are kept as they are because the reader reuses them for the next file
         this.columnSizes = (Map<Integer, Long>) v;
         return;
       case 7:
@@ -408,15 +408,6 @@ class GenericDataFile
     return new GenericDataFile(this, true /* full copy */);
   }
 
-  private static <K, V> Map<K, V> copy(Map<K, V> map) {
-    if (map != null) {
-      Map<K, V> copy = Maps.newHashMapWithExpectedSize(map.size());
-      copy.putAll(map);
-      return Collections.unmodifiableMap(copy);
-    }
-    return null;
-  }
-
   private static <E> List<E> copy(List<E> list) {
     if (list != null) {
       List<E> copy = Lists.newArrayListWithExpectedSize(list.size());
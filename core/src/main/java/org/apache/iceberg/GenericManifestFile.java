@@ -23,6 +23,8 @@ import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 import com.google.common.collect.Lists;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
@@ -32,6 +34,7 @@ import org.apache.avro.specific.SpecificData.SchemaConstructable;
 import org.apache.iceberg.avro.AvroSchemaUtil;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ByteBuffers;
 
 public class GenericManifestFile
     implements ManifestFile, StructLike, IndexedRecord, SchemaConstructable, Serializable {
@@ -56,6 +59,8 @@ public class GenericManifestFile
   private Long existingRowsCount = null;
   private Long deletedRowsCount = null;
   private List<PartitionFieldSummary> partitions = null;
+  private List<ColumnSummary> columnSummaries = null;
+  private byte[] filePathFilter = null;
 
   /**
    * Used by Avro reflection to instantiate this class when reading manifest files.
@@ -98,6 +103,8 @@ public class GenericManifestFile
     this.deletedFilesCount = null;
     this.deletedRowsCount = null;
     this.partitions = null;
+    this.columnSummaries = null;
+    this.filePathFilter = null;
     this.fromProjectionPos = null;
   }
 
@@ -106,6 +113,27 @@ public class GenericManifestFile
                              int addedFilesCount, long addedRowsCount, int existingFilesCount,
                              long existingRowsCount, int deletedFilesCount, long deletedRowsCount,
                              List<PartitionFieldSummary> partitions) {
+    this(path, length, specId, sequenceNumber, minSequenceNumber, snapshotId,
+        addedFilesCount, addedRowsCount, existingFilesCount, existingRowsCount, deletedFilesCount, deletedRowsCount,
+        partitions, null);
+  }
+
+  public GenericManifestFile(String path, long length, int specId,
+                             long sequenceNumber, long minSequenceNumber, Long snapshotId,
+                             int addedFilesCount, long addedRowsCount, int existingFilesCount,
+                             long existingRowsCount, int deletedFilesCount, long deletedRowsCount,
+                             List<PartitionFieldSummary> partitions, List<ColumnSummary> columnSummaries) {
+    this(path, length, specId, sequenceNumber, minSequenceNumber, snapshotId,
+        addedFilesCount, addedRowsCount, existingFilesCount, existingRowsCount, deletedFilesCount, deletedRowsCount,
+        partitions, columnSummaries, null);
+  }
+
+  public GenericManifestFile(String path, long length, int specId,
+                             long sequenceNumber, long minSequenceNumber, Long snapshotId,
+                             int addedFilesCount, long addedRowsCount, int existingFilesCount,
+                             long existingRowsCount, int deletedFilesCount, long deletedRowsCount,
+                             List<PartitionFieldSummary> partitions, List<ColumnSummary> columnSummaries,
+                             ByteBuffer filePathFilter) {
     this.avroSchema = AVRO_SCHEMA;
     this.manifestPath = path;
     this.length = length;
@@ -120,6 +148,8 @@ public class GenericManifestFile
     this.deletedFilesCount = deletedFilesCount;
     this.deletedRowsCount = deletedRowsCount;
     this.partitions = partitions;
+    this.columnSummaries = columnSummaries;
+    this.filePathFilter = ByteBuffers.toByteArray(filePathFilter);
     this.fromProjectionPos = null;
   }
 
@@ -143,6 +173,9 @@ public class GenericManifestFile
     this.deletedFilesCount = toCopy.deletedFilesCount;
     this.deletedRowsCount = toCopy.deletedRowsCount;
     this.partitions = copyList(toCopy.partitions, PartitionFieldSummary::copy);
+    this.columnSummaries = copyList(toCopy.columnSummaries, ColumnSummary::copy);
+    this.filePathFilter = toCopy.filePathFilter == null ? null :
+        Arrays.copyOf(toCopy.filePathFilter, toCopy.filePathFilter.length);
     this.fromProjectionPos = toCopy.fromProjectionPos;
   }
 
@@ -230,6 +263,16 @@ public class GenericManifestFile
     return partitions;
   }
 
+  @Override
+  public List<ColumnSummary> columnSummaries() {
+    return columnSummaries;
+  }
+
+  @Override
+  public ByteBuffer filePathFilter() {
+    return filePathFilter != null ? ByteBuffer.wrap(filePathFilter) : null;
+  }
+
   @Override
   public int size() {
     return ManifestFile.schema().columns().size();
@@ -274,6 +317,10 @@ public class GenericManifestFile
         return deletedRowsCount;
       case 12:
         return partitions;
+      case 13:
+        return columnSummaries;
+      case 14:
+        return filePathFilter();
       default:
         throw new UnsupportedOperationException("Unknown field ordinal: " + pos);
     }
@@ -328,6 +375,12 @@ public class GenericManifestFile
       case 12:
         this.partitions = (List<PartitionFieldSummary>) value;
         return;
+      case 13:
+        this.columnSummaries = (List<ColumnSummary>) value;
+        return;
+      case 14:
+        this.filePathFilter = ByteBuffers.toByteArray((ByteBuffer) value);
+        return;
       default:
         // ignore the object, it must be from a newer version of the format
     }
@@ -378,6 +431,8 @@ public class GenericManifestFile
         .add("deleted_data_files_count", deletedFilesCount)
         .add("deleted_rows_count", deletedRowsCount)
         .add("partitions", partitions)
+        .add("column_summaries", columnSummaries)
+        .add("file_path_filter", filePathFilter != null ? filePathFilter.length + " bytes" : null)
         .toString();
   }
 
@@ -397,7 +452,9 @@ public class GenericManifestFile
             toCopy.sequenceNumber(), toCopy.minSequenceNumber(), toCopy.snapshotId(),
             toCopy.addedFilesCount(), toCopy.addedRowsCount(), toCopy.existingFilesCount(),
             toCopy.existingRowsCount(), toCopy.deletedFilesCount(), toCopy.deletedRowsCount(),
-            copyList(toCopy.partitions(), PartitionFieldSummary::copy));
+            copyList(toCopy.partitions(), PartitionFieldSummary::copy),
+            copyList(toCopy.columnSummaries(), ColumnSummary::copy),
+            toCopy.filePathFilter());
       }
     }
 
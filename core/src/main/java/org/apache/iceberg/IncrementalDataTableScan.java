@@ -100,7 +100,7 @@ class IncrementalDataTableScan extends DataTableScan {
         .ignoreDeleted();
 
     if (PLAN_SCANS_WITH_WORKER_POOL && manifests.size() > 1) {
-      manifestGroup = manifestGroup.planWith(ThreadPools.getWorkerPool());
+      manifestGroup = manifestGroup.planWith(ThreadPools.getWorkerPool(), PLAN_SCANS_QUEUE_SIZE);
     }
 
     return manifestGroup.planFiles();
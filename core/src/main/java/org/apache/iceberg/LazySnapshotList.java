@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.util.JsonUtil;
+
+/**
+ * A list of snapshots that are parsed from table metadata JSON when they are first accessed.
+ * <p>
+ * When the list is created, the snapshot array is scanned with a streaming parser to find the position, ID, and
+ * sequence number of each snapshot. Only the raw bytes of the array are kept. Snapshot summaries and manifest list
+ * locations are parsed only for the snapshots that are used, which is usually just the current snapshot.
+ */
+class LazySnapshotList extends AbstractList<Snapshot> {
+  private final FileIO io;
+  private final byte[] json;
+  private final int[] offsets;
+  private final int[] lengths;
+  private final long[] sequenceNumbers;
+  private final Map<Long, Integer> positions;
+  private final Snapshot[] parsed;
+
+  private LazySnapshotList(FileIO io, byte[] json, int[] offsets, int[] lengths, long[] sequenceNumbers,
+                           Map<Long, Integer> positions) {
+    this.io = io;
+    this.json = json;
+    this.offsets = offsets;
+    this.lengths = lengths;
+    this.sequenceNumbers = sequenceNumbers;
+    this.positions = positions;
+    this.parsed = new Snapshot[offsets.length];
+  }
+
+  /**
+   * Builds a lazy list from the snapshot array at the parser's current position.
+   * <p>
+   * The parser must be positioned on the array's start token and is left on its end token.
+   *
+   * @param io a FileIO used by parsed snapshots
+   * @param source the JSON bytes that the parser is reading
+   * @param parser a streaming parser for the source bytes
+   * @return a lazy list of the snapshots in the array
+   * @throws IOException if the array cannot be read
+   */
+  static LazySnapshotList index(FileIO io, byte[] source, JsonParser parser) throws IOException {
+    Preconditions.checkArgument(parser.getCurrentToken() == JsonToken.START_ARRAY,
+        "Cannot parse snapshots from non-array: %s", parser.getCurrentToken());
+
+    int arrayStart = (int) parser.getTokenLocation().getByteOffset();
+    int[] offsets = new int[16];
+    int[] lengths = new int[16];
+    long[] sequenceNumbers = new long[16];
+    ImmutableMap.Builder<Long, Integer> positions = ImmutableMap.builder();
+
+    int count = 0;
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      Preconditions.checkArgument(parser.getCurrentToken() == JsonToken.START_OBJECT,
+          "Cannot parse snapshot from a non-object: %s", parser.getCurrentToken());
+
+      if (count == offsets.length) {
+        offsets = Arrays.copyOf(offsets, count * 2);
+        lengths = Arrays.copyOf(lengths, count * 2);
+        sequenceNumbers = Arrays.copyOf(sequenceNumbers, count * 2);
+      }
+
+      int start = (int) parser.getTokenLocation().getByteOffset();
+      Long snapshotId = null;
+      long sequenceNumber = TableMetadata.INITIAL_SEQUENCE_NUMBER;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        JsonToken value = parser.nextToken();
+        if (SnapshotParser.SNAPSHOT_ID.equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+          snapshotId = parser.getLongValue();
+        } else if (SnapshotParser.SEQUENCE_NUMBER.equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+          sequenceNumber = parser.getLongValue();
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      Preconditions.checkArgument(snapshotId != null, "Cannot parse missing long %s", SnapshotParser.SNAPSHOT_ID);
+
+      offsets[count] = start - arrayStart;
+      lengths[count] = (int) parser.getCurrentLocation().getByteOffset() - start;
+      sequenceNumbers[count] = sequenceNumber;
+      positions.put(snapshotId, count);
+      count += 1;
+    }
+
+    int arrayEnd = (int) parser.getCurrentLocation().getByteOffset();
+
+    return new LazySnapshotList(io, Arrays.copyOfRange(source, arrayStart, arrayEnd),
+        Arrays.copyOf(offsets, count), Arrays.copyOf(lengths, count), Arrays.copyOf(sequenceNumbers, count),
+        positions.build());
+  }
+
+  @Override
+  public Snapshot get(int index) {
+    Snapshot snapshot = parsed[index];
+    if (snapshot == null) {
+      // parsing is idempotent and snapshots are immutable, so racing threads can each parse and store a copy
+      snapshot = parse(index);
+      parsed[index] = snapshot;
+    }
+
+    return snapshot;
+  }
+
+  @Override
+  public int size() {
+    return offsets.length;
+  }
+
+  /**
+   * Validates snapshot sequence numbers and returns a map by snapshot ID that does not parse snapshots eagerly.
+   *
+   * @param lastSequenceNumber the table's last sequence number
+   * @return a map from snapshot ID to snapshot
+   */
+  Map<Long, Snapshot> indexAndValidate(long lastSequenceNumber) {
+    for (long sequenceNumber : sequenceNumbers) {
+      ValidationException.check(sequenceNumber <= lastSequenceNumber,
+          "Invalid snapshot with sequence number %s greater than last sequence number %s",
+          sequenceNumber, lastSequenceNumber);
+    }
+
+    return new SnapshotsById();
+  }
+
+  private Snapshot parse(int index) {
+    try (JsonParser parser = JsonUtil.factory().createParser(json, offsets[index], lengths[index])) {
+      JsonNode node = JsonUtil.mapper().readTree(parser);
+      return SnapshotParser.fromJson(io, node);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to read snapshot at position %s", index);
+    }
+  }
+
+  private class SnapshotsById extends AbstractMap<Long, Snapshot> {
+    private Map<Long, Snapshot> all = null;
+
+    @Override
+    public Snapshot get(Object key) {
+      Integer position = positions.get(key);
+      return position != null ? LazySnapshotList.this.get(position) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return positions.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return positions.size();
+    }
+
+    @Override
+    public Set<Entry<Long, Snapshot>> entrySet() {
+      if (all == null) {
+        ImmutableMap.Builder<Long, Snapshot> builder = ImmutableMap.builder();
+        for (Snapshot snapshot : LazySnapshotList.this) {
+          builder.put(snapshot.snapshotId(), snapshot);
+        }
+        this.all = builder.build();
+      }
+
+      return all.entrySet();
+    }
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Objects;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.SeekableInputStream;
+
+/**
+ * A process-wide, size-bounded cache of manifest file contents.
+ * <p>
+ * Manifests are immutable once written, so the raw bytes of a manifest can be shared by all readers in
+ * a JVM. Entries are keyed by manifest path and length and are weighted by their size in bytes.
+ * <p>
+ * The shared cache is disabled by default. It is enabled and sized using Java system properties; see
+ * {@link SystemProperties#MANIFEST_CACHE_ENABLED}, {@link SystemProperties#MANIFEST_CACHE_MAX_TOTAL_BYTES} and
+ * {@link SystemProperties#MANIFEST_CACHE_MAX_CONTENT_LENGTH}.
+ */
+public class ManifestCache {
+  private static volatile ManifestCache shared = SystemProperties.getBoolean(
+      SystemProperties.MANIFEST_CACHE_ENABLED, false) ?
+      new ManifestCache(
+          SystemProperties.getLong(SystemProperties.MANIFEST_CACHE_MAX_TOTAL_BYTES,
+              SystemProperties.MANIFEST_CACHE_MAX_TOTAL_BYTES_DEFAULT),
+          SystemProperties.getLong(SystemProperties.MANIFEST_CACHE_MAX_CONTENT_LENGTH,
+              SystemProperties.MANIFEST_CACHE_MAX_CONTENT_LENGTH_DEFAULT)) :
+      null;
+
+  /**
+   * Returns the shared manifest cache, or null if manifest caching is not enabled.
+   *
+   * @return the shared {@link ManifestCache} or null
+   */
+  public static ManifestCache shared() {
+    return shared;
+  }
+
+  // visible for testing
+  static void setShared(ManifestCache cache) {
+    shared = cache;
+  }
+
+  private final Cache<Key, byte[]> contents;
+  private final long maxContentLength;
+
+  ManifestCache(long maxTotalBytes, long maxContentLength) {
+    Preconditions.checkArgument(maxTotalBytes > 0, "Invalid max total bytes: %s (must be > 0)", maxTotalBytes);
+    Preconditions.checkArgument(maxContentLength > 0 && maxContentLength <= Integer.MAX_VALUE,
+        "Invalid max content length: %s (must be > 0 and < 2GB)", maxContentLength);
+    this.maxContentLength = Math.min(maxContentLength, maxTotalBytes);
+    this.contents = Caffeine.newBuilder()
+        .maximumWeight(maxTotalBytes)
+        .weigher((Key key, byte[] bytes) -> bytes.length)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Returns an {@link InputFile} for a manifest that reads from cached content.
+   * <p>
+   * If the manifest is too large to cache or its length is unknown, the file is returned unchanged.
+   *
+   * @param file an input file for the manifest
+   * @param length the length of the manifest in bytes
+   * @return an input file backed by cached content, or the original file
+   */
+  InputFile wrap(InputFile file, long length) {
+    if (length <= 0 || length > maxContentLength) {
+      return file;
+    }
+
+    byte[] bytes = contents.get(new Key(file.location(), length), key -> load(file, key.length));
+    return new CachedInputFile(file.location(), bytes);
+  }
+
+  public long hitCount() {
+    return contents.stats().hitCount();
+  }
+
+  public long missCount() {
+    return contents.stats().missCount();
+  }
+
+  public long evictionCount() {
+    return contents.stats().evictionCount();
+  }
+
+  public long estimatedSizeInBytes() {
+    // weights are updated by asynchronous maintenance, run any pending work so the size is current
+    contents.cleanUp();
+    return contents.policy().eviction()
+        .map(eviction -> eviction.weightedSize().orElse(0L))
+        .orElse(0L);
+  }
+
+  public void invalidateAll() {
+    contents.invalidateAll();
+  }
+
+  private static byte[] load(InputFile file, long length) {
+    byte[] bytes = new byte[(int) length];
+    try (SeekableInputStream in = file.newStream()) {
+      ByteStreams.readFully(in, bytes);
+    } catch (EOFException e) {
+      throw new RuntimeIOException(e, "Manifest is shorter than expected length %s: %s", length, file.location());
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to read manifest: %s", file.location());
+    }
+    return bytes;
+  }
+
+  private static class Key {
+    private final String location;
+    private final long length;
+
+    private Key(String location, long length) {
+      this.location = location;
+      this.length = length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      Key that = (Key) other;
+      return length == that.length && location.equals(that.location);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(location, length);
+    }
+  }
+
+  private static class CachedInputFile implements InputFile {
+    private final String location;
+    private final byte[] bytes;
+
+    private CachedInputFile(String location, byte[] bytes) {
+      this.location = location;
+      this.bytes = bytes;
+    }
+
+    @Override
+    public long getLength() {
+      return bytes.length;
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      return new ByteArraySeekableInputStream(bytes);
+    }
+
+    @Override
+    public String location() {
+      return location;
+    }
+
+    @Override
+    public boolean exists() {
+      return true;
+    }
+
+    @Override
+    public String toString() {
+      return location;
+    }
+  }
+
+  private static class ByteArraySeekableInputStream extends SeekableInputStream {
+    private final byte[] bytes;
+    private int pos = 0;
+
+    private ByteArraySeekableInputStream(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    public long getPos() {
+      return pos;
+    }
+
+    @Override
+    public void seek(long newPos) throws IOException {
+      if (newPos < 0 || newPos > bytes.length) {
+        throw new EOFException("Cannot seek to position " + newPos + " (length " + bytes.length + ")");
+      }
+      this.pos = (int) newPos;
+    }
+
+    @Override
+    public int read() {
+      if (pos >= bytes.length) {
+        return -1;
+      }
+      int value = bytes[pos] & 0xFF;
+      pos += 1;
+      return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int off, int len) {
+      if (len == 0) {
+        return 0;
+      } else if (pos >= bytes.length) {
+        return -1;
+      }
+
+      int toRead = Math.min(len, bytes.length - pos);
+      System.arraycopy(bytes, pos, buffer, off, toRead);
+      pos += toRead;
+      return toRead;
+    }
+
+    @Override
+    public long skip(long n) {
+      long toSkip = Math.max(0, Math.min(n, bytes.length - pos));
+      pos += (int) toSkip;
+      return toSkip;
+    }
+
+    @Override
+    public int available() {
+      return bytes.length - pos;
+    }
+  }
+}
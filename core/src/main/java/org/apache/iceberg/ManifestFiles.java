@@ -55,11 +55,21 @@ public class ManifestFiles {
    * @return a {@link ManifestReader}
    */
   public static ManifestReader read(ManifestFile manifest, FileIO io, Map<Integer, PartitionSpec> specsById) {
-    InputFile file = io.newInputFile(manifest.path());
+    InputFile file = newInputFile(io, manifest);
     InheritableMetadata inheritableMetadata = InheritableMetadataFactory.fromManifest(manifest);
     return new ManifestReader(file, specsById, inheritableMetadata);
   }
 
+  private static InputFile newInputFile(FileIO io, ManifestFile manifest) {
+    InputFile file = io.newInputFile(manifest.path());
+    ManifestCache cache = ManifestCache.shared();
+    if (cache != null) {
+      return cache.wrap(file, manifest.length());
+    }
+
+    return file;
+  }
+
   /**
    * Create a new {@link ManifestWriter}.
    * <p>
@@ -84,11 +94,16 @@ public class ManifestFiles {
    * @return a manifest writer
    */
   public static ManifestWriter write(int formatVersion, PartitionSpec spec, OutputFile outputFile, Long snapshotId) {
+    return write(formatVersion, spec, outputFile, snapshotId, false, false);
+  }
+
+  static ManifestWriter write(int formatVersion, PartitionSpec spec, OutputFile outputFile, Long snapshotId,
+                              boolean summarizeColumns, boolean filterPaths) {
     switch (formatVersion) {
       case 1:
-        return new ManifestWriter.V1Writer(spec, outputFile, snapshotId);
+        return new ManifestWriter.V1Writer(spec, outputFile, snapshotId, summarizeColumns, filterPaths);
       case 2:
-        return new ManifestWriter.V2Writer(spec, outputFile, snapshotId);
+        return new ManifestWriter.V2Writer(spec, outputFile, snapshotId, summarizeColumns, filterPaths);
     }
     throw new UnsupportedOperationException("Cannot write manifest for table version: " + formatVersion);
   }
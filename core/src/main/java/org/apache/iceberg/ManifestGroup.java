@@ -33,12 +33,14 @@ import java.util.function.Predicate;
 import org.apache.iceberg.expressions.Evaluator;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.InclusiveMetricsEvaluator;
 import org.apache.iceberg.expressions.ManifestEvaluator;
 import org.apache.iceberg.expressions.Projections;
 import org.apache.iceberg.expressions.ResidualEvaluator;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.CharSequenceWrapper;
 import org.apache.iceberg.util.ParallelIterable;
 
 class ManifestGroup {
@@ -52,11 +54,13 @@ class ManifestGroup {
   private Expression dataFilter;
   private Expression fileFilter;
   private Expression partitionFilter;
+  private Set<CharSequenceWrapper> paths;
   private boolean ignoreDeleted;
   private boolean ignoreExisting;
   private List<String> columns;
   private boolean caseSensitive;
   private ExecutorService executorService;
+  private int maxQueueSize;
 
   ManifestGroup(FileIO io, Iterable<ManifestFile> manifests) {
     this.io = io;
@@ -64,12 +68,14 @@ class ManifestGroup {
     this.dataFilter = Expressions.alwaysTrue();
     this.fileFilter = Expressions.alwaysTrue();
     this.partitionFilter = Expressions.alwaysTrue();
+    this.paths = null;
     this.ignoreDeleted = false;
     this.ignoreExisting = false;
     this.columns = ManifestReader.ALL_COLUMNS;
     this.caseSensitive = true;
     this.manifestPredicate = m -> true;
     this.manifestEntryPredicate = e -> true;
+    this.maxQueueSize = Integer.MAX_VALUE;
   }
 
   ManifestGroup specsById(Map<Integer, PartitionSpec> newSpecsById) {
@@ -92,6 +98,25 @@ class ManifestGroup {
     return this;
   }
 
+  /**
+   * Filters entries to data files with one of the given paths.
+   * <p>
+   * When deleted entries are ignored, manifests whose file path filter shows that they have no live file with any of
+   * the paths are skipped without being read.
+   *
+   * @param newPaths data file paths
+   * @return this for method chaining
+   */
+  ManifestGroup filterPaths(Iterable<? extends CharSequence> newPaths) {
+    Set<CharSequenceWrapper> wrapped = Sets.newHashSet(Iterables.transform(newPaths, CharSequenceWrapper::wrap));
+    if (paths == null) {
+      this.paths = wrapped;
+    } else {
+      paths.retainAll(wrapped);
+    }
+    return this;
+  }
+
   ManifestGroup filterManifests(Predicate<ManifestFile> newManifestPredicate) {
     this.manifestPredicate = manifestPredicate.and(newManifestPredicate);
     return this;
@@ -127,6 +152,12 @@ class ManifestGroup {
     return this;
   }
 
+  ManifestGroup planWith(ExecutorService newExecutorService, int newMaxQueueSize) {
+    this.executorService = newExecutorService;
+    this.maxQueueSize = newMaxQueueSize > 0 ? newMaxQueueSize : Integer.MAX_VALUE;
+    return this;
+  }
+
   /**
    * Returns a iterable of scan tasks. It is safe to add entries of this iterable
    * to a collection as {@link DataFile} in each {@link FileScanTask} is defensively
@@ -138,24 +169,25 @@ class ManifestGroup {
       PartitionSpec spec = specsById.get(specId);
       return ResidualEvaluator.of(spec, dataFilter, caseSensitive);
     });
+    // share one serialized spec per spec ID across all tasks instead of one per manifest
+    LoadingCache<Integer, BaseFileScanTask.SharedSpec> sharedSpecCache = Caffeine.newBuilder().build(specId ->
+        new BaseFileScanTask.SharedSpec(specsById.get(specId)));
     boolean dropStats = FilteredManifest.dropStats(dataFilter, columns);
     Iterable<CloseableIterable<FileScanTask>> tasks = entries((manifest, entries) -> {
       int partitionSpecId = manifest.partitionSpecId();
-      PartitionSpec spec = specsById.get(partitionSpecId);
-      String schemaString = SchemaParser.toJson(spec.schema());
-      String specString = PartitionSpecParser.toJson(spec);
+      BaseFileScanTask.SharedSpec sharedSpec = sharedSpecCache.get(partitionSpecId);
       ResidualEvaluator residuals = residualCache.get(partitionSpecId);
       if (dropStats) {
         return CloseableIterable.transform(entries, e -> new BaseFileScanTask(
-            e.file().copyWithoutStats(), schemaString, specString, residuals));
+            e.file().copyWithoutStats(), sharedSpec, residuals));
       } else {
         return CloseableIterable.transform(entries, e -> new BaseFileScanTask(
-            e.file().copy(), schemaString, specString, residuals));
+            e.file().copy(), sharedSpec, residuals));
       }
     });
 
     if (executorService != null) {
-      return new ParallelIterable<>(tasks, executorService);
+      return new ParallelIterable<>(tasks, executorService, maxQueueSize);
     } else {
       return CloseableIterable.concat(tasks);
     }
@@ -188,12 +220,20 @@ class ManifestGroup {
     Iterable<ManifestFile> matchingManifests = evalCache == null ? manifests : Iterables.filter(manifests,
         manifest -> evalCache.get(manifest.partitionSpecId()).eval(manifest));
 
+    matchingManifests = filterColumnSummaries(matchingManifests);
+
     if (ignoreDeleted) {
       // only scan manifests that have entries other than deletes
       // remove any manifests that don't have any existing or added files. if either the added or
       // existing files count is missing, the manifest must be scanned.
       matchingManifests = Iterables.filter(matchingManifests,
           manifest -> manifest.hasAddedFiles() || manifest.hasExistingFiles());
+
+      // path filters only contain live files, so they can be used only when deleted entries are ignored
+      if (paths != null) {
+        FilePathFilter.Probe probe = FilePathFilter.probe(Iterables.transform(paths, CharSequenceWrapper::get));
+        matchingManifests = Iterables.filter(matchingManifests, probe::mightContainAny);
+      }
     }
 
     if (ignoreExisting) {
@@ -232,10 +272,32 @@ class ManifestGroup {
                 entry -> evaluator.eval((GenericDataFile) entry.file()));
           }
 
+          if (paths != null) {
+            // this is reused to compare file paths with the path set
+            CharSequenceWrapper pathWrapper = CharSequenceWrapper.wrap("");
+            entries = CloseableIterable.filter(entries,
+                entry -> paths.contains(pathWrapper.set(entry.file().path())));
+          }
+
           entries = CloseableIterable.filter(entries, manifestEntryPredicate);
           return entryFn.apply(manifest, entries);
         });
 
     return readers;
   }
+
+  private Iterable<ManifestFile> filterColumnSummaries(Iterable<ManifestFile> manifestFiles) {
+    if (specsById == null || dataFilter == null || dataFilter == Expressions.alwaysTrue()) {
+      return manifestFiles;
+    }
+
+    // skip manifests whose column summaries show that no data file can contain matching rows
+    LoadingCache<Integer, InclusiveMetricsEvaluator> metricsEvalCache = Caffeine.newBuilder().build(specId ->
+        new InclusiveMetricsEvaluator(specsById.get(specId).schema(), dataFilter, caseSensitive));
+
+    return Iterables.filter(manifestFiles, manifest -> {
+      DataFile summary = ColumnMetricsSummary.asDataFile(manifest);
+      return summary == null || metricsEvalCache.get(manifest.partitionSpecId()).eval(summary);
+    });
+  }
 }
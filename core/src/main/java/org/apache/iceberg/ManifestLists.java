@@ -38,6 +38,8 @@ class ManifestLists {
         .rename("manifest_file", GenericManifestFile.class.getName())
         .rename("partitions", GenericPartitionFieldSummary.class.getName())
         .rename("r508", GenericPartitionFieldSummary.class.getName())
+        .rename("column_summaries", GenericColumnSummary.class.getName())
+        .rename("r518", GenericColumnSummary.class.getName())
         .classLoader(GenericManifestFile.class.getClassLoader())
         .project(ManifestFile.schema())
         .reuseContainers(false)
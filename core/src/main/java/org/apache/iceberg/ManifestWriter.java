@@ -56,6 +56,8 @@ public abstract class ManifestWriter implements FileAppender<DataFile> {
   private final Long snapshotId;
   private final GenericManifestEntry reused;
   private final PartitionSummary stats;
+  private final ColumnMetricsSummary columnStats;
+  private final FilePathFilter.Builder pathFilter;
 
   private boolean closed = false;
   private int addedFiles = 0;
@@ -66,13 +68,16 @@ public abstract class ManifestWriter implements FileAppender<DataFile> {
   private long deletedRows = 0L;
   private Long minSequenceNumber = null;
 
-  private ManifestWriter(PartitionSpec spec, OutputFile file, Long snapshotId) {
+  private ManifestWriter(PartitionSpec spec, OutputFile file, Long snapshotId, boolean summarizeColumns,
+                         boolean filterPaths) {
     this.file = file;
     this.specId = spec.specId();
     this.writer = newAppender(spec, file);
     this.snapshotId = snapshotId;
     this.reused = new GenericManifestEntry(spec.partitionType());
     this.stats = new PartitionSummary(spec);
+    this.columnStats = summarizeColumns ? new ColumnMetricsSummary(spec.schema()) : null;
+    this.pathFilter = filterPaths ? FilePathFilter.builder() : null;
   }
 
   protected abstract ManifestEntry prepare(ManifestEntry entry);
@@ -95,6 +100,12 @@ public abstract class ManifestWriter implements FileAppender<DataFile> {
         break;
     }
     stats.update(entry.file().partition());
+    if (columnStats != null) {
+      columnStats.update(entry.file());
+    }
+    if (pathFilter != null && entry.status() != ManifestEntry.Status.DELETED) {
+      pathFilter.add(entry.file().path());
+    }
     if (entry.sequenceNumber() != null && (minSequenceNumber == null || entry.sequenceNumber() < minSequenceNumber)) {
       this.minSequenceNumber = entry.sequenceNumber();
     }
@@ -165,7 +176,8 @@ public abstract class ManifestWriter implements FileAppender<DataFile> {
     // sequence number is the one that will be assigned when this is committed. pass UNASSIGNED_SEQ to inherit it.
     long minSeqNumber = minSequenceNumber != null ? minSequenceNumber : UNASSIGNED_SEQ;
     return new GenericManifestFile(file.location(), writer.length(), specId, UNASSIGNED_SEQ, minSeqNumber, snapshotId,
-        addedFiles, addedRows, existingFiles, existingRows, deletedFiles, deletedRows, stats.summaries());
+        addedFiles, addedRows, existingFiles, existingRows, deletedFiles, deletedRows, stats.summaries(),
+        columnStats != null ? columnStats.summaries() : null, pathFilter != null ? pathFilter.build() : null);
   }
 
   @Override
@@ -177,8 +189,8 @@ public abstract class ManifestWriter implements FileAppender<DataFile> {
   static class V2Writer extends ManifestWriter {
     private V2Metadata.IndexedManifestEntry entryWrapper;
 
-    V2Writer(PartitionSpec spec, OutputFile file, Long snapshotId) {
-      super(spec, file, snapshotId);
+    V2Writer(PartitionSpec spec, OutputFile file, Long snapshotId, boolean summarizeColumns, boolean filterPaths) {
+      super(spec, file, snapshotId, summarizeColumns, filterPaths);
       this.entryWrapper = new V2Metadata.IndexedManifestEntry(snapshotId, spec.partitionType());
     }
 
@@ -209,8 +221,8 @@ public abstract class ManifestWriter implements FileAppender<DataFile> {
   static class V1Writer extends ManifestWriter {
     private V1Metadata.IndexedManifestEntry entryWrapper;
 
-    V1Writer(PartitionSpec spec, OutputFile file, Long snapshotId) {
-      super(spec, file, snapshotId);
+    V1Writer(PartitionSpec spec, OutputFile file, Long snapshotId, boolean summarizeColumns, boolean filterPaths) {
+      super(spec, file, snapshotId, summarizeColumns, filterPaths);
       this.entryWrapper = new V1Metadata.IndexedManifestEntry(spec.partitionType());
     }
 
@@ -50,7 +50,6 @@ import org.apache.iceberg.util.CharSequenceWrapper;
 import org.apache.iceberg.util.ManifestFileUtil;
 import org.apache.iceberg.util.StructLikeWrapper;
 import org.apache.iceberg.util.Tasks;
-import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -98,6 +97,7 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
   private final Set<StructLikeWrapper> dropPartitions = Sets.newHashSet();
   private Expression deleteExpression = Expressions.alwaysFalse();
   private boolean hasPathOnlyDeletes = false;
+  private FilePathFilter.Probe deletePathProbe = null;
   private boolean failAnyDelete = false;
   private boolean failMissingDeletePaths = false;
 
@@ -250,6 +250,7 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
 
     if (filterUpdated) {
       cleanUncommittedFilters(SnapshotProducer.EMPTY_SET);
+      this.deletePathProbe = FilePathFilter.probe(Iterables.transform(deletePaths, CharSequenceWrapper::get));
       this.filterUpdated = false;
     }
 
@@ -334,10 +335,25 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
   private ManifestFile[] filterManifests(StrictMetricsEvaluator metricsEvaluator, List<ManifestFile> manifests)
       throws IOException {
     ManifestFile[] filtered = new ManifestFile[manifests.size()];
-    // open all of the manifest files in parallel, use index to avoid reordering
-    Tasks.range(filtered.length)
+
+    // when retrying, only the manifests that were added since the last attempt's base need to be filtered. results for
+    // the others are cached, so fill them in here and only send the remaining manifests to the worker pool.
+    List<Integer> toFilter = Lists.newArrayList();
+    for (int index = 0; index < filtered.length; index += 1) {
+      ManifestFile cached = filteredManifests.get(manifests.get(index));
+      if (cached != null) {
+        filtered[index] = cached;
+      } else {
+        toFilter.add(index);
+      }
+    }
+
+    reusedManifests(filtered.length - toFilter.size());
+
+    // open all of the remaining manifest files in parallel, use index to avoid reordering
+    Tasks.foreach(toFilter)
         .stopOnFailure().throwFailureWhenFinished()
-        .executeWith(ThreadPools.getWorkerPool())
+        .executeWith(workerPool())
         .run(index -> {
           ManifestFile manifest = filterManifest(metricsEvaluator, manifests.get(index));
           filtered[index] = manifest;
@@ -465,16 +481,20 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     }
 
     boolean canContainDroppedFiles;
-    if (hasPathOnlyDeletes) {
+    if (deletePaths.isEmpty()) {
+      canContainDroppedFiles = false;
+    } else if (!deletePathProbe.mightContainAny(manifest)) {
+      // the manifest's path filter shows that it has no live file with a deleted path. this only avoids reading the
+      // manifest to filter it; the manifest is still read if it is merged
+      canContainDroppedFiles = false;
+    } else if (hasPathOnlyDeletes) {
       canContainDroppedFiles = true;
-    } else if (deletePaths.size() > 0) {
+    } else {
       // because there were no path-only deletes, the set of deleted file partitions is valid
       canContainDroppedFiles = ManifestFileUtil.canContainAny(
           manifest,
           Iterables.transform(deleteFilePartitions, StructLikeWrapper::get),
           specId -> ops.current().spec(specId));
-    } else {
-      canContainDroppedFiles = false;
     }
 
     return canContainExpressionDeletes || canContainDroppedPartitions || canContainDroppedFiles;
@@ -631,7 +651,7 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
         Array.newInstance(List.class, bins.size());
     Tasks.range(bins.size())
         .stopOnFailure().throwFailureWhenFinished()
-        .executeWith(ThreadPools.getWorkerPool())
+        .executeWith(workerPool())
         .run(index -> {
           List<ManifestFile> bin = bins.get(index);
           List<ManifestFile> outputManifests = Lists.newArrayList();
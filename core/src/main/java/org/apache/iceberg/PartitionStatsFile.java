@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.generic.GenericData;
+import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.StructLikeWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads and writes partition stats files, which hold the file count, record count, total size, and last time files
+ * were added for every partition in a snapshot.
+ * <p>
+ * A stats file is written for each snapshot when {@link TableProperties#PARTITION_STATS_ENABLED} is set and the table
+ * has only one partition spec. It is produced from the parent snapshot's stats file and the files added and deleted
+ * by the commit, and its location is stored in the snapshot summary using
+ * {@link SnapshotSummary#PARTITION_STATS_FILE_PROP}.
+ */
+class PartitionStatsFile {
+  private static final Logger LOG = LoggerFactory.getLogger(PartitionStatsFile.class);
+
+  private PartitionStatsFile() {
+  }
+
+  static Schema schema(Types.StructType partitionType) {
+    return new Schema(
+        Types.NestedField.required(1, "partition", partitionType),
+        Types.NestedField.required(2, "file_count", Types.IntegerType.get()),
+        Types.NestedField.required(3, "record_count", Types.LongType.get()),
+        Types.NestedField.required(4, "total_size_bytes", Types.LongType.get()),
+        Types.NestedField.optional(5, "last_updated_ms", Types.LongType.get())
+    );
+  }
+
+  /**
+   * Returns the location of a snapshot's partition stats file.
+   *
+   * @param snapshot a snapshot
+   * @return the location of the snapshot's stats file, or null if it was not written
+   */
+  static String location(Snapshot snapshot) {
+    if (snapshot == null || snapshot.summary() == null) {
+      return null;
+    }
+
+    return snapshot.summary().get(SnapshotSummary.PARTITION_STATS_FILE_PROP);
+  }
+
+  /**
+   * Reads the partition stats for a snapshot, if they are available.
+   * <p>
+   * Stats are not available when the snapshot has no stats file, when the table has more than one partition spec, or
+   * when the stats file is missing.
+   *
+   * @param io a FileIO used to read the stats file
+   * @param metadata table metadata that contains the snapshot
+   * @param snapshot a snapshot
+   * @return the snapshot's partition stats, or null if they are not available
+   */
+  static Collection<PartitionStats> read(FileIO io, TableMetadata metadata, Snapshot snapshot) {
+    String location = location(snapshot);
+    if (location == null || metadata.specs().size() != 1) {
+      return null;
+    }
+
+    Schema schema = schema(metadata.spec().partitionType());
+    List<PartitionStats> stats = Lists.newArrayList();
+    try (CloseableIterable<GenericData.Record> records = Avro.read(io.newInputFile(location))
+        .rename("partition", PartitionData.class.getName())
+        .rename("r1", PartitionData.class.getName())
+        .classLoader(PartitionData.class.getClassLoader())
+        .project(schema)
+        .reuseContainers(false)
+        .build()) {
+
+      for (GenericData.Record record : records) {
+        stats.add(new PartitionStats(
+            (PartitionData) record.get(0), (Integer) record.get(1), (Long) record.get(2), (Long) record.get(3),
+            (Long) record.get(4)));
+      }
+
+    } catch (NotFoundException e) {
+      LOG.warn("Cannot find partition stats file for snapshot {}: {}", snapshot.snapshotId(), location);
+      return null;
+
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close partition stats file: %s", location);
+    }
+
+    return stats;
+  }
+
+  static void write(OutputFile file, PartitionSpec spec, Iterable<PartitionStats> stats) {
+    Schema schema = schema(spec.partitionType());
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema, "partition_stats");
+
+    try (FileAppender<GenericData.Record> writer = Avro.write(file)
+        .schema(schema)
+        .named("partition_stats")
+        .meta("partition-spec", PartitionSpecParser.toJsonFields(spec))
+        .meta("partition-spec-id", String.valueOf(spec.specId()))
+        .overwrite()
+        .build()) {
+
+      for (PartitionStats partition : stats) {
+        GenericData.Record record = new GenericData.Record(avroSchema);
+        record.put(0, partition.partition());
+        record.put(1, partition.fileCount());
+        record.put(2, partition.recordCount());
+        record.put(3, partition.totalSize());
+        record.put(4, partition.lastUpdatedMillis());
+        writer.add(record);
+      }
+
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to write partition stats file: %s", file.location());
+    }
+  }
+
+  /**
+   * Stats for a single partition.
+   */
+  static class PartitionStats {
+    private final PartitionData partition;
+    private int fileCount;
+    private long recordCount;
+    private long totalSize;
+    private Long lastUpdatedMillis;
+
+    private PartitionStats(PartitionData partition, int fileCount, long recordCount, long totalSize,
+                           Long lastUpdatedMillis) {
+      this.partition = partition;
+      this.fileCount = fileCount;
+      this.recordCount = recordCount;
+      this.totalSize = totalSize;
+      this.lastUpdatedMillis = lastUpdatedMillis;
+    }
+
+    StructLike partition() {
+      return partition;
+    }
+
+    int fileCount() {
+      return fileCount;
+    }
+
+    long recordCount() {
+      return recordCount;
+    }
+
+    long totalSize() {
+      return totalSize;
+    }
+
+    /**
+     * Returns the timestamp of the last snapshot that added files to this partition.
+     * <p>
+     * Deletes do not change this timestamp, so that removing some of a partition's files does not make it appear
+     * recently updated.
+     *
+     * @return the timestamp of the last snapshot that added files to this partition, or null if it is not known
+     */
+    Long lastUpdatedMillis() {
+      return lastUpdatedMillis;
+    }
+
+    private void update(int files, long records, long size, Long timestampMillis) {
+      this.fileCount += files;
+      this.recordCount += records;
+      this.totalSize += size;
+      if (timestampMillis != null && (lastUpdatedMillis == null || lastUpdatedMillis < timestampMillis)) {
+        this.lastUpdatedMillis = timestampMillis;
+      }
+    }
+  }
+
+  /**
+   * Accumulates partition stats from a previous stats file and the data files that were added or deleted.
+   */
+  static class Builder {
+    private final Types.StructType partitionType;
+    private final Map<StructLikeWrapper, PartitionStats> partitions = Maps.newHashMap();
+    private final StructLikeWrapper reused = StructLikeWrapper.wrap(null);
+
+    Builder(PartitionSpec spec) {
+      this.partitionType = spec.partitionType();
+    }
+
+    Builder addAll(Iterable<PartitionStats> stats) {
+      for (PartitionStats partition : stats) {
+        get(partition.partition()).update(
+            partition.fileCount(), partition.recordCount(), partition.totalSize(), partition.lastUpdatedMillis());
+      }
+      return this;
+    }
+
+    Builder add(DataFile file, Long timestampMillis) {
+      get(file.partition()).update(1, file.recordCount(), file.fileSizeInBytes(), timestampMillis);
+      return this;
+    }
+
+    Builder delete(DataFile file) {
+      get(file.partition()).update(-1, -file.recordCount(), -file.fileSizeInBytes(), null);
+      return this;
+    }
+
+    /**
+     * @return stats for partitions that contain at least one file
+     */
+    List<PartitionStats> build() {
+      List<PartitionStats> stats = Lists.newArrayListWithExpectedSize(partitions.size());
+      for (PartitionStats partition : partitions.values()) {
+        if (partition.fileCount() > 0) {
+          stats.add(partition);
+        }
+      }
+      return stats;
+    }
+
+    private PartitionStats get(StructLike key) {
+      PartitionStats partition = partitions.get(reused.set(key));
+      if (partition == null) {
+        PartitionData copy = copy(key);
+        partition = new PartitionStats(copy, 0, 0L, 0L, null);
+        partitions.put(StructLikeWrapper.wrap(copy), partition);
+      }
+      return partition;
+    }
+
+    private PartitionData copy(StructLike key) {
+      PartitionData copy = new PartitionData(partitionType);
+      for (int i = 0; i < partitionType.fields().size(); i += 1) {
+        copy.set(i, key.get(i, Object.class));
+      }
+      return copy;
+    }
+  }
+}
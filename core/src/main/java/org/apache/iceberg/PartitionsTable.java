@@ -20,6 +20,7 @@
 package org.apache.iceberg;
 
 import com.google.common.collect.Maps;
+import java.util.Collection;
 import java.util.Map;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.StructLikeWrapper;
@@ -64,8 +65,17 @@ public class PartitionsTable extends BaseMetadataTable {
   }
 
   private DataTask task(TableScan scan) {
+    TableMetadata metadata = ops.current();
+
+    // use the snapshot's partition stats file, if it has one, to avoid reading all manifests
+    Collection<PartitionStatsFile.PartitionStats> stats = PartitionStatsFile.read(
+        ops.io(), metadata, scan.snapshot());
+    if (stats != null) {
+      return StaticDataTask.of(metadata.file(), stats, PartitionsTable::convertStats);
+    }
+
     return StaticDataTask.of(
-        ops.current().file(),
+        metadata.file(),
         partitions(table, scan.snapshot().snapshotId()),
         PartitionsTable::convertPartition);
   }
@@ -74,6 +84,10 @@ public class PartitionsTable extends BaseMetadataTable {
     return StaticDataTask.Row.of(partition.key, partition.recordCount, partition.fileCount);
   }
 
+  private static StaticDataTask.Row convertStats(PartitionStatsFile.PartitionStats stats) {
+    return StaticDataTask.Row.of(stats.partition(), stats.recordCount(), stats.fileCount());
+  }
+
   private static Iterable<Partition> partitions(Table table, Long snapshotId) {
     PartitionSet partitions = new PartitionSet();
     TableScan scan = table.newScan();
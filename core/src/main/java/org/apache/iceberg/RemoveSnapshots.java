@@ -28,8 +28,10 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.RuntimeIOException;
@@ -152,6 +154,7 @@ class RemoveSnapshots implements ExpireSnapshots {
     // 2. Delete any data files that were deleted by those snapshots and are not in the table
     // 3. Delete any manifests that are no longer used by current snapshots
     // 4. Delete the manifest lists
+    // 5. Delete the partition stats files
 
     TableMetadata current = ops.refresh();
 
@@ -161,12 +164,19 @@ class RemoveSnapshots implements ExpireSnapshots {
     }
 
     Set<Long> expiredIds = Sets.newHashSet();
+    Set<String> partitionStatsToDelete = Sets.newHashSet();
     for (Snapshot snapshot : base.snapshots()) {
       long snapshotId = snapshot.snapshotId();
       if (!validIds.contains(snapshotId)) {
         // the snapshot was expired
         LOG.info("Expired snapshot: {}", snapshot);
         expiredIds.add(snapshotId);
+
+        // partition stats files are written for a single snapshot and are never shared
+        String partitionStats = PartitionStatsFile.location(snapshot);
+        if (partitionStats != null) {
+          partitionStatsToDelete.add(partitionStats);
+        }
       }
     }
 
@@ -178,6 +188,7 @@ class RemoveSnapshots implements ExpireSnapshots {
     LOG.info("Committed snapshot changes; cleaning up expired manifests and data files.");
 
     cleanExpiredFiles(current.snapshots(), validIds, expiredIds);
+    deleteFiles(partitionStatsToDelete, "partition stats file");
   }
 
   @SuppressWarnings("checkstyle:CyclomaticComplexity")
@@ -320,24 +331,47 @@ class RemoveSnapshots implements ExpireSnapshots {
     LOG.warn("Manifests to delete: {}", Joiner.on(", ").join(manifestsToDelete));
     LOG.warn("Manifests Lists to delete: {}", Joiner.on(", ").join(manifestListsToDelete));
 
-    Tasks.foreach(manifestsToDelete)
-        .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
-        .onFailure((manifest, exc) -> LOG.warn("Delete failed for manifest: {}", manifest, exc))
-        .run(deleteFunc::accept);
-
-    Tasks.foreach(manifestListsToDelete)
-        .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
-        .onFailure((list, exc) -> LOG.warn("Delete failed for manifest list: {}", list, exc))
-        .run(deleteFunc::accept);
+    deleteFiles(manifestsToDelete, "manifest");
+    deleteFiles(manifestListsToDelete, "manifest list");
   }
 
   private void deleteDataFiles(Set<ManifestFile> manifestsToScan, Set<ManifestFile> manifestsToRevert,
                                Set<Long> validIds) {
     Set<String> filesToDelete = findFilesToDelete(manifestsToScan, manifestsToRevert, validIds);
-    Tasks.foreach(filesToDelete)
-        .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
-        .onFailure((file, exc) -> LOG.warn("Delete failed for data file: {}", file, exc))
-        .run(file -> deleteFunc.accept(file));
+    deleteFiles(filesToDelete, "data file");
+  }
+
+  private void deleteFiles(Set<String> paths, String type) {
+    if (paths.isEmpty()) {
+      return;
+    }
+
+    long start = System.currentTimeMillis();
+    AtomicInteger failed = new AtomicInteger(0);
+
+    if (deleteFunc == defaultDelete) {
+      // no custom delete function was set, so the table's FileIO can delete the files in bulk
+      try {
+        ops.io().deleteFiles(paths);
+      } catch (BulkDeletionFailureException e) {
+        failed.set(e.failures().size());
+        e.failures().forEach((file, exc) -> LOG.warn("Delete failed for {}: {}", type, file, exc));
+      }
+
+    } else {
+      Tasks.foreach(paths)
+          .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
+          .onFailure((file, exc) -> {
+            failed.incrementAndGet();
+            LOG.warn("Delete failed for {}: {}", type, file, exc);
+          })
+          .run(deleteFunc::accept);
+    }
+
+    long duration = Math.max(System.currentTimeMillis() - start, 1L);
+    int deleted = paths.size() - failed.get();
+    LOG.info("Deleted {} {}(s) in {} ms ({} files/sec), {} failed",
+        deleted, type, duration, deleted * 1000L / duration, failed.get());
   }
 
   private Set<String> findFilesToDelete(Set<ManifestFile> manifestsToScan, Set<ManifestFile> manifestsToRevert,
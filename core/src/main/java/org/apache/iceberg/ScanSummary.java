@@ -27,6 +27,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
@@ -147,6 +148,10 @@ public class ScanSummary {
 
     /**
      * Summarizes a table scan as a map of partition key to metrics for that partition.
+     * <p>
+     * When the scan has no filters and the current snapshot has a partition stats file, the metrics are read from the
+     * stats file instead of the table's manifests. In that case, the data timestamp of a partition is the time of the
+     * last snapshot that added files to the partition.
      *
      * @return a map from partition key to metrics for that partition.
      */
@@ -159,6 +164,14 @@ public class ScanSummary {
       removeTimeFilters(filters, Expressions.rewriteNot(scan.filter()));
       Expression rowFilter = joinFilters(filters);
 
+      if (timeFilters.isEmpty() && rowFilter.op() == Operation.TRUE) {
+        Collection<PartitionStatsFile.PartitionStats> stats = PartitionStatsFile.read(
+            ops.io(), ops.current(), table.currentSnapshot());
+        if (stats != null) {
+          return computeTopPartitionMetrics(stats);
+        }
+      }
+
       Iterable<ManifestFile> manifests = table.currentSnapshot().manifests();
 
       boolean filterByTimestamp = !timeFilters.isEmpty();
@@ -210,6 +223,21 @@ public class ScanSummary {
       return computeTopPartitionMetrics(rowFilter, manifests, filterByTimestamp, snapshotsInTimeRange);
     }
 
+    private Map<String, PartitionMetrics> computeTopPartitionMetrics(
+        Iterable<PartitionStatsFile.PartitionStats> stats) {
+      TopN<String, PartitionMetrics> topN = new TopN<>(
+          limit, throwIfLimited, Comparators.charSequences());
+
+      PartitionSpec spec = table.spec();
+      for (PartitionStatsFile.PartitionStats partition : stats) {
+        topN.update(spec.partitionToPath(partition.partition()), metrics ->
+            (metrics == null ? new PartitionMetrics() : metrics).updateFromCounts(
+                partition.fileCount(), partition.recordCount(), partition.totalSize(), partition.lastUpdatedMillis()));
+      }
+
+      return topN.get();
+    }
+
     private Map<String, PartitionMetrics> computeTopPartitionMetrics(
         Expression rowFilter,
         Iterable<ManifestFile> manifests,
@@ -37,8 +37,8 @@ public class SnapshotParser {
 
   private SnapshotParser() {}
 
-  private static final String SEQUENCE_NUMBER = "sequence-number";
-  private static final String SNAPSHOT_ID = "snapshot-id";
+  static final String SEQUENCE_NUMBER = "sequence-number";
+  static final String SNAPSHOT_ID = "snapshot-id";
   private static final String PARENT_SNAPSHOT_ID = "parent-snapshot-id";
   private static final String TIMESTAMP_MS = "timestamp-ms";
   private static final String SUMMARY = "summary";
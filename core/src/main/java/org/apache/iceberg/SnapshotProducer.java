@@ -22,21 +22,29 @@ package org.apache.iceberg;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import org.apache.iceberg.events.CommitMetricsEvent;
 import org.apache.iceberg.events.Listeners;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.util.Exceptions;
 import org.apache.iceberg.util.Tasks;
@@ -52,12 +60,20 @@ import static org.apache.iceberg.TableProperties.COMMIT_NUM_RETRIES;
 import static org.apache.iceberg.TableProperties.COMMIT_NUM_RETRIES_DEFAULT;
 import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS;
 import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT;
+import static org.apache.iceberg.TableProperties.MANIFEST_COLUMN_SUMMARIES_ENABLED;
+import static org.apache.iceberg.TableProperties.MANIFEST_COLUMN_SUMMARIES_ENABLED_DEFAULT;
 import static org.apache.iceberg.TableProperties.MANIFEST_LISTS_ENABLED;
 import static org.apache.iceberg.TableProperties.MANIFEST_LISTS_ENABLED_DEFAULT;
+import static org.apache.iceberg.TableProperties.MANIFEST_PATH_FILTERS_ENABLED;
+import static org.apache.iceberg.TableProperties.MANIFEST_PATH_FILTERS_ENABLED_DEFAULT;
+import static org.apache.iceberg.TableProperties.PARTITION_STATS_ENABLED;
+import static org.apache.iceberg.TableProperties.PARTITION_STATS_ENABLED_DEFAULT;
 
 abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
   private static final Logger LOG = LoggerFactory.getLogger(SnapshotProducer.class);
   static final Set<ManifestFile> EMPTY_SET = Sets.newHashSet();
+  private static final List<String> PARTITION_STATS_COLUMNS = ImmutableList.of(
+      "partition", "record_count", "file_size_in_bytes");
 
   /**
    * Default callback used to delete files.
@@ -78,11 +94,21 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
   private final String commitUUID = UUID.randomUUID().toString();
   private final AtomicInteger manifestCount = new AtomicInteger(0);
   private final AtomicInteger attempt = new AtomicInteger(0);
+  private final AtomicInteger partitionStatsCount = new AtomicInteger(0);
   private final List<String> manifestLists = Lists.newArrayList();
+  private final List<String> partitionStatsFiles = Lists.newArrayList();
   private volatile Long snapshotId = null;
   private TableMetadata base;
   private boolean stageOnly = false;
   private Consumer<String> deleteFunc = defaultDelete;
+  private ExecutorService workerPool = ThreadPools.getCommitPool();
+
+  // commit metrics, reported to listeners after a successful commit
+  private int commitAttempts = 0;
+  private long applyNanos = 0L;
+  private long rebaseNanos = 0L;
+  private final AtomicInteger reusedManifestCount = new AtomicInteger(0);
+  private final AtomicInteger cleanedUpFileCount = new AtomicInteger(0);
 
   protected SnapshotProducer(TableOperations ops) {
     this.ops = ops;
@@ -112,6 +138,17 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
     return self();
   }
 
+  @Override
+  public ThisT scanManifestsWith(ExecutorService executorService) {
+    Preconditions.checkArgument(executorService != null, "Invalid executor service: null");
+    this.workerPool = executorService;
+    return self();
+  }
+
+  protected ExecutorService workerPool() {
+    return workerPool;
+  }
+
   /**
    * Clean up any uncommitted manifests that were created.
    * <p>
@@ -148,6 +185,7 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
 
     List<ManifestFile> manifests = apply(base);
 
+    String manifestListLocation = null;
     if (base.formatVersion() > 1 || base.propertyAsBoolean(MANIFEST_LISTS_ENABLED, MANIFEST_LISTS_ENABLED_DEFAULT)) {
       OutputFile manifestList = manifestListPath();
 
@@ -161,7 +199,7 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
 
         Tasks.range(manifestFiles.length)
             .stopOnFailure().throwFailureWhenFinished()
-            .executeWith(ThreadPools.getWorkerPool())
+            .executeWith(workerPool)
             .run(index ->
                 manifestFiles[index] = manifestsWithMetadata.get(manifests.get(index)));
 
@@ -171,17 +209,102 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
         throw new RuntimeIOException(e, "Failed to write manifest list file");
       }
 
-      return new BaseSnapshot(ops.io(),
-          sequenceNumber, snapshotId(), parentSnapshotId, System.currentTimeMillis(), operation(), summary(base),
-          ops.io().newInputFile(manifestList.location()));
+      manifestListLocation = manifestList.location();
+    }
+
+    long timestampMillis = System.currentTimeMillis();
+    Map<String, String> summary = summary(base);
+    Snapshot snapshot = newSnapshot(
+        sequenceNumber, parentSnapshotId, timestampMillis, summary, manifestListLocation, manifests);
+
+    if (base.specs().size() == 1 &&
+        base.propertyAsBoolean(PARTITION_STATS_ENABLED, PARTITION_STATS_ENABLED_DEFAULT)) {
+      String partitionStats = writePartitionStats(snapshot);
+      Map<String, String> summaryWithStats = Maps.newHashMap(summary);
+      summaryWithStats.put(SnapshotSummary.PARTITION_STATS_FILE_PROP, partitionStats);
+      snapshot = newSnapshot(
+          sequenceNumber, parentSnapshotId, timestampMillis, ImmutableMap.copyOf(summaryWithStats),
+          manifestListLocation, manifests);
+    }
+
+    return snapshot;
+  }
 
+  private Snapshot newSnapshot(long sequenceNumber, Long parentSnapshotId, long timestampMillis,
+                               Map<String, String> summary, String manifestListLocation,
+                               List<ManifestFile> manifests) {
+    if (manifestListLocation != null) {
+      return new BaseSnapshot(ops.io(),
+          sequenceNumber, snapshotId(), parentSnapshotId, timestampMillis, operation(), summary,
+          ops.io().newInputFile(manifestListLocation));
     } else {
       return new BaseSnapshot(ops.io(),
-          snapshotId(), parentSnapshotId, System.currentTimeMillis(), operation(), summary(base),
+          snapshotId(), parentSnapshotId, timestampMillis, operation(), summary,
           manifests);
     }
   }
 
+  /**
+   * Writes the partition stats file for a new snapshot.
+   * <p>
+   * Stats are updated from the parent snapshot's stats file using the files added and deleted by the new snapshot. If
+   * the parent's stats are not available, they are computed from all of the new snapshot's data files.
+   *
+   * @param snapshot the new snapshot
+   * @return the location of the stats file
+   */
+  private String writePartitionStats(Snapshot snapshot) {
+    PartitionSpec spec = base.spec();
+    Snapshot parent = base.currentSnapshot();
+    PartitionStatsFile.Builder stats = new PartitionStatsFile.Builder(spec);
+
+    Collection<PartitionStatsFile.PartitionStats> parentStats = parent != null ?
+        PartitionStatsFile.read(ops.io(), base, parent) : Collections.emptyList();
+
+    if (parentStats != null) {
+      stats.addAll(parentStats);
+      for (DataFile file : snapshot.addedFiles()) {
+        stats.add(file, snapshot.timestampMillis());
+      }
+      for (DataFile file : snapshot.deletedFiles()) {
+        stats.delete(file);
+      }
+
+    } else {
+      LOG.info("Partition stats are not available for snapshot {}, reading all manifests", parent.snapshotId());
+      try (CloseableIterable<ManifestEntry> entries = new ManifestGroup(ops.io(), snapshot.manifests())
+          .specsById(base.specsById())
+          .ignoreDeleted()
+          .select(PARTITION_STATS_COLUMNS)
+          .entries()) {
+        for (ManifestEntry entry : entries) {
+          stats.add(entry.file(), snapshotTimestamp(snapshot, entry.snapshotId()));
+        }
+
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to close manifests while computing partition stats");
+      }
+    }
+
+    OutputFile statsFile = partitionStatsPath();
+    partitionStatsFiles.add(statsFile.location());
+    PartitionStatsFile.write(statsFile, spec, stats.build());
+
+    return statsFile.location();
+  }
+
+  private Long snapshotTimestamp(Snapshot newSnapshot, Long id) {
+    if (id == null) {
+      return null;
+    } else if (id == newSnapshot.snapshotId()) {
+      return newSnapshot.timestampMillis();
+    }
+
+    // the snapshot may have expired, in which case its timestamp is not known
+    Snapshot snapshot = base.snapshot(id);
+    return snapshot != null ? snapshot.timestampMillis() : null;
+  }
+
   protected abstract Map<String, String> summary();
 
   /**
@@ -247,7 +370,9 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
               2.0 /* exponential */)
           .onlyRetryOn(CommitFailedException.class)
           .run(taskOps -> {
+            long applyStartNanos = System.nanoTime();
             Snapshot newSnapshot = apply();
+            recordApply(System.nanoTime() - applyStartNanos);
             newSnapshotId.set(newSnapshot.snapshotId());
             TableMetadata updated;
             if (stageOnly) {
@@ -271,7 +396,10 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
       Exceptions.suppressAndThrow(e, this::cleanAll);
     }
 
-    LOG.info("Committed snapshot {} ({})", newSnapshotId.get(), getClass().getSimpleName());
+    LOG.info("Committed snapshot {} ({}) after {} attempt(s): apply={}ms, rebase={}ms, reused manifests={}",
+        newSnapshotId.get(), getClass().getSimpleName(), commitAttempts,
+        TimeUnit.NANOSECONDS.toMillis(applyNanos), TimeUnit.NANOSECONDS.toMillis(rebaseNanos),
+        reusedManifestCount.get());
 
     try {
       // at this point, the commit must have succeeded. after a refresh, the snapshot is loaded by
@@ -285,6 +413,13 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
             deleteFile(manifestList);
           }
         }
+        // and partition stats files
+        String savedStats = PartitionStatsFile.location(saved);
+        for (String partitionStats : partitionStatsFiles) {
+          if (!partitionStats.equals(savedStats)) {
+            deleteFile(partitionStats);
+          }
+        }
       } else {
         // saved may not be present if the latest metadata couldn't be loaded due to eventual
         // consistency problems in refresh. in that case, don't clean up.
@@ -295,15 +430,38 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
       LOG.warn("Failed to load committed table metadata, skipping manifest clean-up", e);
     }
 
-    notifyListeners();
+    notifyListeners(newSnapshotId.get());
   }
 
-  private void notifyListeners() {
+  private void recordApply(long durationNanos) {
+    this.commitAttempts += 1;
+    this.applyNanos += durationNanos;
+    if (commitAttempts > 1) {
+      // every attempt after the first rebases the update on metadata that changed concurrently
+      this.rebaseNanos += durationNanos;
+    }
+  }
+
+  /**
+   * Records that a retry reused the results of a previous attempt for manifests instead of processing them again.
+   *
+   * @param count the number of manifests that were reused
+   */
+  protected void reusedManifests(int count) {
+    reusedManifestCount.addAndGet(count);
+  }
+
+  private void notifyListeners(long committedSnapshotId) {
     try {
       Object event = updateEvent();
       if (event != null) {
         Listeners.notifyAll(event);
       }
+
+      Listeners.notifyAll(new CommitMetricsEvent(
+          operation(), committedSnapshotId, commitAttempts,
+          TimeUnit.NANOSECONDS.toMillis(applyNanos), TimeUnit.NANOSECONDS.toMillis(rebaseNanos),
+          reusedManifestCount.get(), cleanedUpFileCount.get()));
     } catch (RuntimeException e) {
       LOG.warn("Failed to notify listeners", e);
     }
@@ -314,10 +472,15 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
       deleteFile(manifestList);
     }
     manifestLists.clear();
+    for (String partitionStats : partitionStatsFiles) {
+      deleteFile(partitionStats);
+    }
+    partitionStatsFiles.clear();
     cleanUncommitted(EMPTY_SET);
   }
 
   protected void deleteFile(String path) {
+    cleanedUpFileCount.incrementAndGet();
     deleteFunc.accept(path);
   }
 
@@ -326,13 +489,24 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
         String.format("snap-%d-%d-%s", snapshotId(), attempt.incrementAndGet(), commitUUID))));
   }
 
+  private OutputFile partitionStatsPath() {
+    return ops.io().newOutputFile(ops.metadataFileLocation(FileFormat.AVRO.addExtension(
+        String.format("partition-stats-%d-%d-%s", snapshotId(), partitionStatsCount.incrementAndGet(), commitUUID))));
+  }
+
   protected OutputFile newManifestOutput() {
     return ops.io().newOutputFile(
         ops.metadataFileLocation(FileFormat.AVRO.addExtension(commitUUID + "-m" + manifestCount.getAndIncrement())));
   }
 
   protected ManifestWriter newManifestWriter(PartitionSpec spec) {
-    return ManifestFiles.write(ops.current().formatVersion(), spec, newManifestOutput(), snapshotId());
+    TableMetadata current = ops.current();
+    boolean summarizeColumns = current.propertyAsBoolean(
+        MANIFEST_COLUMN_SUMMARIES_ENABLED, MANIFEST_COLUMN_SUMMARIES_ENABLED_DEFAULT);
+    boolean filterPaths = current.propertyAsBoolean(
+        MANIFEST_PATH_FILTERS_ENABLED, MANIFEST_PATH_FILTERS_ENABLED_DEFAULT);
+    return ManifestFiles.write(
+        current.formatVersion(), spec, newManifestOutput(), snapshotId(), summarizeColumns, filterPaths);
   }
 
   protected long snapshotId() {
@@ -37,6 +37,7 @@ public class SnapshotSummary {
   public static final String STAGED_WAP_ID_PROP = "wap.id";
   public static final String PUBLISHED_WAP_ID_PROP = "published-wap-id";
   public static final String SOURCE_SNAPSHOT_ID_PROP = "source-snapshot-id";
+  public static final String PARTITION_STATS_FILE_PROP = "partition-stats-file";
 
   private SnapshotSummary() {
   }
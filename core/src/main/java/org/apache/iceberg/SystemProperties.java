@@ -28,16 +28,76 @@ public class SystemProperties {
 
   /**
    * Sets the size of the worker pool. The worker pool limits the number of tasks concurrently
-   * processing manifests in the base table implementation across all concurrent planning or commit
-   * operations.
+   * processing manifests in the base table implementation across all concurrent planning operations.
    */
   public static final String WORKER_THREAD_POOL_SIZE_PROP = "iceberg.worker.num-threads";
 
+  /**
+   * Sets the size of the commit pool. The commit pool limits the number of tasks concurrently
+   * reading, filtering, and merging manifests across all concurrent commit operations, so that
+   * large commits do not compete with scan planning for worker threads.
+   */
+  public static final String COMMIT_THREAD_POOL_SIZE_PROP = "iceberg.commit.num-threads";
+
+  /**
+   * Sets the size of the delete pool, which limits the number of files that are concurrently deleted by bulk deletes
+   * in {@link org.apache.iceberg.hadoop.HadoopFileIO}.
+   */
+  public static final String DELETE_THREAD_POOL_SIZE_PROP = "iceberg.delete.num-threads";
+
+  /**
+   * Sets the size of the read pool, which limits the number of data files that are concurrently opened ahead of
+   * readers when prefetching is enabled by {@link org.apache.iceberg.TableProperties#SPLIT_PREFETCH_DEPTH}.
+   */
+  public static final String READ_THREAD_POOL_SIZE_PROP = "iceberg.read.num-threads";
+
   /**
    * Whether to use the shared worker pool when planning table scans.
    */
   public static final String SCAN_THREAD_POOL_ENABLED = "iceberg.scan.plan-in-worker-pool";
 
+  /**
+   * Limits the number of planned file scan tasks that are buffered when planning in the worker pool.
+   * <p>
+   * When set, manifest readers block once the buffer is full until the consumer catches up. When
+   * not set or not positive, the buffer is unbounded.
+   */
+  public static final String SCAN_THREAD_POOL_QUEUE_SIZE = "iceberg.scan.plan-queue-size";
+
+  /**
+   * Whether to cache the contents of manifest files in a shared, process-wide cache.
+   */
+  public static final String MANIFEST_CACHE_ENABLED = "iceberg.manifest-cache.enabled";
+
+  /**
+   * Sets the maximum total size in bytes of manifests held in the shared manifest cache.
+   */
+  public static final String MANIFEST_CACHE_MAX_TOTAL_BYTES = "iceberg.manifest-cache.max-total-bytes";
+  public static final long MANIFEST_CACHE_MAX_TOTAL_BYTES_DEFAULT = 100 * 1024 * 1024; // 100 MB
+
+  /**
+   * Sets the maximum size in bytes of a single manifest that will be added to the shared manifest cache.
+   */
+  public static final String MANIFEST_CACHE_MAX_CONTENT_LENGTH = "iceberg.manifest-cache.max-content-length";
+  public static final long MANIFEST_CACHE_MAX_CONTENT_LENGTH_DEFAULT = 8 * 1024 * 1024; // 8 MB
+
+  /**
+   * Whether the shared {@link org.apache.iceberg.io.ByteBufferPool} keeps released buffers for reuse by readers and
+   * writers.
+   */
+  public static final String BUFFER_POOL_ENABLED = "iceberg.buffer-pool.enabled";
+
+  /**
+   * Sets the maximum total size in bytes of released buffers kept by the shared buffer pool.
+   */
+  public static final String BUFFER_POOL_MAX_RETAINED_BYTES = "iceberg.buffer-pool.max-retained-bytes";
+  public static final long BUFFER_POOL_MAX_RETAINED_BYTES_DEFAULT = 64 * 1024 * 1024; // 64 MB
+
+  /**
+   * Whether the shared buffer pool allocates direct (off-heap) buffers.
+   */
+  public static final String BUFFER_POOL_DIRECT = "iceberg.buffer-pool.direct";
+
   static boolean getBoolean(String systemProperty, boolean defaultValue) {
     String value = System.getProperty(systemProperty);
     if (value != null) {
@@ -45,4 +105,28 @@ public class SystemProperties {
     }
     return defaultValue;
   }
+
+  static int getInt(String systemProperty, int defaultValue) {
+    String value = System.getProperty(systemProperty);
+    if (value != null) {
+      try {
+        return Integer.parseInt(value);
+      } catch (NumberFormatException e) {
+        // will return the default
+      }
+    }
+    return defaultValue;
+  }
+
+  static long getLong(String systemProperty, long defaultValue) {
+    String value = System.getProperty(systemProperty);
+    if (value != null) {
+      try {
+        return Long.parseLong(value);
+      } catch (NumberFormatException e) {
+        // will return the default
+      }
+    }
+    return defaultValue;
+  }
 }
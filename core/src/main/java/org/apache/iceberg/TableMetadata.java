@@ -243,7 +243,12 @@ public class TableMetadata {
     this.snapshotLog = snapshotLog;
     this.previousFiles = previousFiles;
 
-    this.snapshotsById = indexAndValidateSnapshots(snapshots, lastSequenceNumber);
+    if (snapshots instanceof LazySnapshotList) {
+      // avoid parsing every snapshot just to build the index
+      this.snapshotsById = ((LazySnapshotList) snapshots).indexAndValidate(lastSequenceNumber);
+    } else {
+      this.snapshotsById = indexAndValidateSnapshots(snapshots, lastSequenceNumber);
+    }
     this.specsById = indexSpecs(specs);
 
     HistoryEntry last = null;
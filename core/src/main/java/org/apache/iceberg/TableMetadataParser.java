@@ -20,11 +20,15 @@
 package org.apache.iceberg;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.io.ByteStreams;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -226,19 +230,67 @@ public class TableMetadataParser {
     return read(io, io.newInputFile(path));
   }
 
+  /**
+   * Reads table metadata from a file.
+   * <p>
+   * The file is read with a streaming parser. Snapshots are not parsed until they are accessed, so
+   * refreshing tables with many snapshots does not build every snapshot.
+   *
+   * @param io a FileIO used by the metadata's snapshots
+   * @param file a metadata JSON file
+   * @return the table metadata
+   */
   public static TableMetadata read(FileIO io, InputFile file) {
     Codec codec = Codec.fromFileName(file.location());
     try (InputStream is = codec == Codec.GZIP ? new GZIPInputStream(file.newStream()) : file.newStream()) {
-      return fromJson(io, file, JsonUtil.mapper().readValue(is, JsonNode.class));
+      return fromJson(io, file, ByteStreams.toByteArray(is));
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to read file: %s", file);
     }
   }
 
+  static TableMetadata fromJson(FileIO io, InputFile file, byte[] json) throws IOException {
+    try (JsonParser parser = JsonUtil.factory().createParser(json)) {
+      Preconditions.checkArgument(parser.nextToken() == JsonToken.START_OBJECT,
+          "Cannot parse metadata from a non-object: %s", parser.getCurrentToken());
+
+      // read everything except the snapshots into a tree, which is small and reuses the tree parser below
+      ObjectNode node = JsonUtil.mapper().createObjectNode();
+      List<Snapshot> snapshots = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        if (SNAPSHOTS.equals(field)) {
+          snapshots = LazySnapshotList.index(io, json, parser);
+        } else {
+          node.set(field, JsonUtil.mapper().readTree(parser));
+        }
+      }
+
+      Preconditions.checkArgument(snapshots != null, "Cannot parse missing list %s", SNAPSHOTS);
+
+      return fromJson(file, node, snapshots);
+    }
+  }
+
   static TableMetadata fromJson(FileIO io, InputFile file, JsonNode node) {
     Preconditions.checkArgument(node.isObject(),
         "Cannot parse metadata from a non-object: %s", node);
 
+    JsonNode snapshotArray = node.get(SNAPSHOTS);
+    Preconditions.checkArgument(snapshotArray.isArray(),
+        "Cannot parse snapshots from non-array: %s", snapshotArray);
+
+    List<Snapshot> snapshots = Lists.newArrayListWithExpectedSize(snapshotArray.size());
+    Iterator<JsonNode> iterator = snapshotArray.elements();
+    while (iterator.hasNext()) {
+      snapshots.add(SnapshotParser.fromJson(io, iterator.next()));
+    }
+
+    return fromJson(file, node, snapshots);
+  }
+
+  private static TableMetadata fromJson(InputFile file, JsonNode node, List<Snapshot> snapshots) {
     int formatVersion = JsonUtil.getInt(FORMAT_VERSION, node);
     Preconditions.checkArgument(formatVersion <= TableMetadata.SUPPORTED_TABLE_FORMAT_VERSION,
         "Cannot read unsupported version %s", formatVersion);
@@ -283,16 +335,6 @@ public class TableMetadataParser {
     long currentVersionId = JsonUtil.getLong(CURRENT_SNAPSHOT_ID, node);
     long lastUpdatedMillis = JsonUtil.getLong(LAST_UPDATED_MILLIS, node);
 
-    JsonNode snapshotArray = node.get(SNAPSHOTS);
-    Preconditions.checkArgument(snapshotArray.isArray(),
-        "Cannot parse snapshots from non-array: %s", snapshotArray);
-
-    List<Snapshot> snapshots = Lists.newArrayListWithExpectedSize(snapshotArray.size());
-    Iterator<JsonNode> iterator = snapshotArray.elements();
-    while (iterator.hasNext()) {
-      snapshots.add(SnapshotParser.fromJson(io, iterator.next()));
-    }
-
     SortedSet<SnapshotLogEntry> entries =
         Sets.newTreeSet(Comparator.comparingLong(SnapshotLogEntry::timestampMillis));
     if (node.has(SNAPSHOT_LOG)) {
@@ -44,6 +44,12 @@ public class TableProperties {
   public static final String MANIFEST_MERGE_ENABLED = "commit.manifest-merge.enabled";
   public static final boolean MANIFEST_MERGE_ENABLED_DEFAULT = true;
 
+  public static final String MANIFEST_COLUMN_SUMMARIES_ENABLED = "commit.manifest.column-summaries.enabled";
+  public static final boolean MANIFEST_COLUMN_SUMMARIES_ENABLED_DEFAULT = false;
+
+  public static final String MANIFEST_PATH_FILTERS_ENABLED = "commit.manifest.path-filters.enabled";
+  public static final boolean MANIFEST_PATH_FILTERS_ENABLED_DEFAULT = false;
+
   public static final String DEFAULT_FILE_FORMAT = "write.format.default";
   public static final String DEFAULT_FILE_FORMAT_DEFAULT = "parquet";
 
@@ -53,6 +59,9 @@ public class TableProperties {
   public static final String PARQUET_PAGE_SIZE_BYTES = "write.parquet.page-size-bytes";
   public static final String PARQUET_PAGE_SIZE_BYTES_DEFAULT = "1048576"; // 1 MB
 
+  public static final String PARQUET_PAGE_ROW_LIMIT = "write.parquet.page-row-limit";
+  public static final String PARQUET_PAGE_ROW_LIMIT_DEFAULT = "20000";
+
   public static final String PARQUET_DICT_SIZE_BYTES = "write.parquet.dict-size-bytes";
   public static final String PARQUET_DICT_SIZE_BYTES_DEFAULT = "2097152"; // 2 MB
 
@@ -65,6 +74,12 @@ public class TableProperties {
   public static final String AVRO_COMPRESSION = "write.avro.compression-codec";
   public static final String AVRO_COMPRESSION_DEFAULT = "gzip";
 
+  public static final String PARQUET_VECTORIZATION_ENABLED = "read.parquet.vectorization.enabled";
+  public static final boolean PARQUET_VECTORIZATION_ENABLED_DEFAULT = false;
+
+  public static final String PARQUET_BATCH_SIZE = "read.parquet.vectorization.batch-size";
+  public static final int PARQUET_BATCH_SIZE_DEFAULT = 5000;
+
   public static final String SPLIT_SIZE = "read.split.target-size";
   public static final long SPLIT_SIZE_DEFAULT = 134217728; // 128 MB
 
@@ -77,6 +92,9 @@ public class TableProperties {
   public static final String SPLIT_OPEN_FILE_COST = "read.split.open-file-cost";
   public static final long SPLIT_OPEN_FILE_COST_DEFAULT = 4 * 1024 * 1024; // 4MB
 
+  public static final String SPLIT_PREFETCH_DEPTH = "read.split.prefetch-depth";
+  public static final int SPLIT_PREFETCH_DEPTH_DEFAULT = 0;
+
   public static final String OBJECT_STORE_ENABLED = "write.object-storage.enabled";
   public static final boolean OBJECT_STORE_ENABLED_DEFAULT = false;
 
@@ -95,6 +113,9 @@ public class TableProperties {
   public static final String MANIFEST_LISTS_ENABLED = "write.manifest-lists.enabled";
   public static final boolean MANIFEST_LISTS_ENABLED_DEFAULT = true;
 
+  public static final String PARTITION_STATS_ENABLED = "write.partition-stats.enabled";
+  public static final boolean PARTITION_STATS_ENABLED_DEFAULT = false;
+
   public static final String METADATA_COMPRESSION = "write.metadata.compression-codec";
   public static final String METADATA_COMPRESSION_DEFAULT = "none";
 
@@ -117,6 +138,16 @@ public class TableProperties {
   public static final String WRITE_TARGET_FILE_SIZE_BYTES = "write.target-file-size-bytes";
   public static final long WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT = Long.MAX_VALUE;
 
+  // when enabled, partitioned Spark writes keep a file open per partition so input does not need to be clustered
+  public static final String SPARK_WRITE_FANOUT_ENABLED = "write.spark.fanout.enabled";
+  public static final boolean SPARK_WRITE_FANOUT_ENABLED_DEFAULT = false;
+
+  public static final String SPARK_WRITE_FANOUT_MAX_OPEN_FILES = "write.spark.fanout.max-open-files";
+  public static final int SPARK_WRITE_FANOUT_MAX_OPEN_FILES_DEFAULT = 100;
+
+  public static final String SPARK_WRITE_FANOUT_MAX_BUFFERED_BYTES = "write.spark.fanout.max-buffered-bytes";
+  public static final long SPARK_WRITE_FANOUT_MAX_BUFFERED_BYTES_DEFAULT = 512L * 1024 * 1024; // 512 MB
+
   public static final String SNAPSHOT_ID_INHERITANCE_ENABLED = "compatibility.snapshot-id-inheritance.enabled";
   public static final boolean SNAPSHOT_ID_INHERITANCE_ENABLED_DEFAULT = false;
 }
@@ -36,7 +36,8 @@ class V1Metadata {
       ManifestFile.PATH, ManifestFile.LENGTH, ManifestFile.SPEC_ID, ManifestFile.SNAPSHOT_ID,
       ManifestFile.ADDED_FILES_COUNT, ManifestFile.EXISTING_FILES_COUNT, ManifestFile.DELETED_FILES_COUNT,
       ManifestFile.PARTITION_SUMMARIES,
-      ManifestFile.ADDED_ROWS_COUNT, ManifestFile.EXISTING_ROWS_COUNT, ManifestFile.DELETED_ROWS_COUNT);
+      ManifestFile.ADDED_ROWS_COUNT, ManifestFile.EXISTING_ROWS_COUNT, ManifestFile.DELETED_ROWS_COUNT,
+      ManifestFile.COLUMN_SUMMARIES, ManifestFile.FILE_PATH_FILTER);
 
   /**
    * A wrapper class to write any ManifestFile implementation to Avro using the v1 schema.
@@ -90,6 +91,10 @@ class V1Metadata {
           return existingRowsCount();
         case 10:
           return deletedRowsCount();
+        case 11:
+          return columnSummaries();
+        case 12:
+          return filePathFilter();
         default:
           throw new UnsupportedOperationException("Unknown field ordinal: " + pos);
       }
@@ -175,6 +180,16 @@ class V1Metadata {
       return wrapped.partitions();
     }
 
+    @Override
+    public List<ColumnSummary> columnSummaries() {
+      return wrapped.columnSummaries();
+    }
+
+    @Override
+    public ByteBuffer filePathFilter() {
+      return wrapped.filePathFilter();
+    }
+
     @Override
     public ManifestFile copy() {
       return wrapped.copy();
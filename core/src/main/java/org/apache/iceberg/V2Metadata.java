@@ -20,6 +20,7 @@
 package org.apache.iceberg;
 
 import com.google.common.base.Preconditions;
+import java.nio.ByteBuffer;
 import java.util.List;
 import org.apache.avro.generic.IndexedRecord;
 import org.apache.iceberg.avro.AvroSchemaUtil;
@@ -56,7 +57,7 @@ class V2Metadata {
       REQUIRED_SEQUENCE_NUMBER, REQUIRED_MIN_SEQUENCE_NUMBER, REQUIRED_SNAPSHOT_ID,
       REQUIRED_ADDED_FILES_COUNT, REQUIRED_EXISTING_FILES_COUNT, REQUIRED_DELETED_FILES_COUNT,
       REQUIRED_ADDED_ROWS_COUNT, REQUIRED_EXISTING_ROWS_COUNT, REQUIRED_DELETED_ROWS_COUNT,
-      ManifestFile.PARTITION_SUMMARIES);
+      ManifestFile.PARTITION_SUMMARIES, ManifestFile.COLUMN_SUMMARIES, ManifestFile.FILE_PATH_FILTER);
 
 
   /**
@@ -139,6 +140,10 @@ class V2Metadata {
           return wrapped.deletedRowsCount();
         case 12:
           return wrapped.partitions();
+        case 13:
+          return wrapped.columnSummaries();
+        case 14:
+          return wrapped.filePathFilter();
         default:
           throw new UnsupportedOperationException("Unknown field ordinal: " + pos);
       }
@@ -224,6 +229,16 @@ class V2Metadata {
       return wrapped.partitions();
     }
 
+    @Override
+    public List<ColumnSummary> columnSummaries() {
+      return wrapped.columnSummaries();
+    }
+
+    @Override
+    public ByteBuffer filePathFilter() {
+      return wrapped.filePathFilter();
+    }
+
     @Override
     public ManifestFile copy() {
       return wrapped.copy();
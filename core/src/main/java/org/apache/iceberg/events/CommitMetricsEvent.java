@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.events;
+
+/**
+ * Event sent to listeners after a snapshot update commits, with measurements of the work it took.
+ * <p>
+ * Each retry after a commit conflict applies the update to the new table state again. The time spent in these
+ * retries is reported as rebase time, and manifests that did not need to be processed again because a previous
+ * attempt already handled them are reported as reused. Files that the update wrote but did not commit are deleted
+ * when it finishes and are reported as cleaned up. These include files written by failed attempts, and also
+ * manifests that a successful attempt replaced, like a manifest of new files that was merged into a larger one.
+ */
+public final class CommitMetricsEvent {
+  private final String operation;
+  private final long snapshotId;
+  private final int attempts;
+  private final long applyDurationMillis;
+  private final long rebaseDurationMillis;
+  private final int reusedManifestCount;
+  private final int cleanedUpFileCount;
+
+  public CommitMetricsEvent(String operation, long snapshotId, int attempts,
+                            long applyDurationMillis, long rebaseDurationMillis,
+                            int reusedManifestCount, int cleanedUpFileCount) {
+    this.operation = operation;
+    this.snapshotId = snapshotId;
+    this.attempts = attempts;
+    this.applyDurationMillis = applyDurationMillis;
+    this.rebaseDurationMillis = rebaseDurationMillis;
+    this.reusedManifestCount = reusedManifestCount;
+    this.cleanedUpFileCount = cleanedUpFileCount;
+  }
+
+  public String operation() {
+    return operation;
+  }
+
+  public long snapshotId() {
+    return snapshotId;
+  }
+
+  /**
+   * @return the number of times the update was applied and committed, including the successful attempt
+   */
+  public int attempts() {
+    return attempts;
+  }
+
+  /**
+   * @return total time in milliseconds spent applying the update, across all attempts
+   */
+  public long applyDurationMillis() {
+    return applyDurationMillis;
+  }
+
+  /**
+   * @return time in milliseconds spent applying the update again after commit conflicts
+   */
+  public long rebaseDurationMillis() {
+    return rebaseDurationMillis;
+  }
+
+  /**
+   * @return the number of manifests whose results from a previous attempt were reused by a retry
+   */
+  public int reusedManifestCount() {
+    return reusedManifestCount;
+  }
+
+  /**
+   * @return the number of files written by this update, by any attempt, that were not committed and were deleted
+   */
+  public int cleanedUpFileCount() {
+    return cleanedUpFileCount;
+  }
+}
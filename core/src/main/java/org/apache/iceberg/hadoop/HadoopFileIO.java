@@ -19,15 +19,21 @@
 
 package org.apache.iceberg.hadoop;
 
+import com.google.common.collect.Maps;
 import java.io.IOException;
+import java.util.Map;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
+import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.util.SerializableSupplier;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
 
 public class HadoopFileIO implements FileIO {
 
@@ -65,4 +71,23 @@ public class HadoopFileIO implements FileIO {
       throw new RuntimeIOException(e, "Failed to delete file: %s", path);
     }
   }
+
+  /**
+   * Deletes files in parallel using the shared {@link ThreadPools#getDeletePool() delete pool}.
+   * <p>
+   * Each delete is retried up to 3 times before it is reported as a failure.
+   */
+  @Override
+  public void deleteFiles(Iterable<String> paths) throws BulkDeletionFailureException {
+    Map<String, Exception> failures = Maps.newConcurrentMap();
+    Tasks.foreach(paths)
+        .executeWith(ThreadPools.getDeletePool())
+        .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
+        .onFailure(failures::put)
+        .run(this::deleteFile);
+
+    if (!failures.isEmpty()) {
+      throw new BulkDeletionFailureException(failures);
+    }
+  }
 }
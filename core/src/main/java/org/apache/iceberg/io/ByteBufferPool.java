@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.io;
+
+import com.google.common.base.Preconditions;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iceberg.SystemProperties;
+
+/**
+ * A pool of reusable {@link ByteBuffer byte buffers} for readers and writers that allocate a buffer per page or block.
+ * <p>
+ * Buffers are grouped in power-of-two size classes, from {@link #MIN_BUFFER_SIZE} up to a maximum buffer size. A
+ * request is served by a buffer of the smallest class that fits it, with its limit set to the requested size. Larger
+ * requests are allocated without pooling. Released buffers are kept for reuse until the pool retains its maximum
+ * number of bytes, after which they are left to the garbage collector.
+ * <p>
+ * The pool records hits, misses, and the number and size of buffers that have not been released. When leak tracking
+ * is enabled, it also remembers each outstanding buffer so that releasing a buffer twice, or one that the pool did
+ * not allocate, fails. Tests use this to check that readers and writers return all of their buffers.
+ * <p>
+ * The shared pool is configured using Java system properties; see {@link SystemProperties#BUFFER_POOL_ENABLED},
+ * {@link SystemProperties#BUFFER_POOL_MAX_RETAINED_BYTES} and {@link SystemProperties#BUFFER_POOL_DIRECT}. When
+ * pooling is not enabled, the shared pool retains no buffers but still reports its metrics.
+ */
+public class ByteBufferPool {
+  public static final int MIN_BUFFER_SIZE = 4 * 1024; // 4 KB
+  public static final int DEFAULT_MAX_BUFFER_SIZE = 16 * 1024 * 1024; // 16 MB
+
+  private static volatile ByteBufferPool shared = new ByteBufferPool(
+      getBoolean(SystemProperties.BUFFER_POOL_ENABLED, false) ?
+          getLong(SystemProperties.BUFFER_POOL_MAX_RETAINED_BYTES,
+              SystemProperties.BUFFER_POOL_MAX_RETAINED_BYTES_DEFAULT) :
+          0L,
+      DEFAULT_MAX_BUFFER_SIZE,
+      getBoolean(SystemProperties.BUFFER_POOL_DIRECT, false),
+      false);
+
+  /**
+   * @return the shared {@link ByteBufferPool}
+   */
+  public static ByteBufferPool shared() {
+    return shared;
+  }
+
+  // visible for testing
+  static void setShared(ByteBufferPool pool) {
+    shared = pool;
+  }
+
+  private final long maxRetainedBytes;
+  private final int maxBufferSize;
+  private final boolean direct;
+  private final ConcurrentLinkedDeque<ByteBuffer>[] sizeClasses;
+  private final Set<ByteBuffer> outstanding;
+  private final AtomicLong retainedBytes = new AtomicLong(0L);
+  private final AtomicLong allocatedBytes = new AtomicLong(0L);
+  private final AtomicLong peakAllocatedBytes = new AtomicLong(0L);
+  private final AtomicLong allocatedBuffers = new AtomicLong(0L);
+  private final AtomicLong hitCount = new AtomicLong(0L);
+  private final AtomicLong missCount = new AtomicLong(0L);
+
+  /**
+   * @param maxRetainedBytes the largest number of bytes of released buffers to keep for reuse
+   * @param maxBufferSize the largest buffer size that is pooled, rounded up to a power of two
+   * @param direct whether to allocate direct buffers instead of heap buffers
+   * @param trackLeaks whether to remember outstanding buffers and validate that released buffers are outstanding
+   */
+  @SuppressWarnings("unchecked")
+  public ByteBufferPool(long maxRetainedBytes, int maxBufferSize, boolean direct, boolean trackLeaks) {
+    Preconditions.checkArgument(maxRetainedBytes >= 0,
+        "Invalid max retained bytes: %s (must be >= 0)", maxRetainedBytes);
+    Preconditions.checkArgument(maxBufferSize >= MIN_BUFFER_SIZE && maxBufferSize <= (1 << 30),
+        "Invalid max buffer size: %s (must be >= %s and <= 1GB)", maxBufferSize, MIN_BUFFER_SIZE);
+    this.maxRetainedBytes = maxRetainedBytes;
+    this.maxBufferSize = roundUp(maxBufferSize);
+    this.direct = direct;
+    this.sizeClasses = new ConcurrentLinkedDeque[sizeClass(this.maxBufferSize) + 1];
+    for (int i = 0; i < sizeClasses.length; i += 1) {
+      sizeClasses[i] = new ConcurrentLinkedDeque<>();
+    }
+    this.outstanding = trackLeaks ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
+  }
+
+  /**
+   * Returns a buffer with at least the given capacity, positioned at 0 and with its limit set to the size.
+   * <p>
+   * The buffer must be passed to {@link #release(ByteBuffer)} when it is no longer used, and must not be used after
+   * it is released.
+   *
+   * @param size the number of bytes needed
+   * @return a buffer with {@code size} bytes remaining
+   */
+  public ByteBuffer allocate(int size) {
+    Preconditions.checkArgument(size >= 0, "Invalid buffer size: %s (must be >= 0)", size);
+
+    ByteBuffer buffer = null;
+    if (size <= maxBufferSize) {
+      int sizeClass = sizeClass(size);
+      buffer = sizeClasses[sizeClass].pollFirst();
+      if (buffer != null) {
+        retainedBytes.addAndGet(-buffer.capacity());
+        hitCount.incrementAndGet();
+      } else {
+        buffer = newBuffer(MIN_BUFFER_SIZE << sizeClass);
+        missCount.incrementAndGet();
+      }
+    } else {
+      buffer = newBuffer(size);
+      missCount.incrementAndGet();
+    }
+
+    if (outstanding != null) {
+      synchronized (outstanding) {
+        outstanding.add(buffer);
+      }
+    }
+
+    allocatedBuffers.incrementAndGet();
+    long allocated = allocatedBytes.addAndGet(buffer.capacity());
+    peakAllocatedBytes.accumulateAndGet(allocated, Math::max);
+
+    buffer.clear();
+    buffer.limit(size);
+    return buffer;
+  }
+
+  /**
+   * Returns a buffer from {@link #allocate(int)} to the pool.
+   *
+   * @param buffer a buffer allocated by this pool
+   */
+  public void release(ByteBuffer buffer) {
+    if (outstanding != null) {
+      synchronized (outstanding) {
+        Preconditions.checkArgument(outstanding.remove(buffer),
+            "Cannot release a buffer that is not outstanding: %s", buffer);
+      }
+    }
+
+    allocatedBuffers.decrementAndGet();
+    allocatedBytes.addAndGet(-buffer.capacity());
+
+    int capacity = buffer.capacity();
+    if (capacity > maxBufferSize || Integer.bitCount(capacity) != 1 || capacity < MIN_BUFFER_SIZE) {
+      // not a size-class buffer
+      return;
+    }
+
+    if (retainedBytes.addAndGet(capacity) <= maxRetainedBytes) {
+      sizeClasses[sizeClass(capacity)].offerFirst(buffer);
+    } else {
+      retainedBytes.addAndGet(-capacity);
+    }
+  }
+
+  /**
+   * @return whether this pool retains released buffers for reuse
+   */
+  public boolean isEnabled() {
+    return maxRetainedBytes > 0;
+  }
+
+  /**
+   * @return whether this pool allocates direct buffers
+   */
+  public boolean isDirect() {
+    return direct;
+  }
+
+  /**
+   * @return the number of allocations that reused a released buffer
+   */
+  public long hitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return the number of allocations that created a new buffer
+   */
+  public long missCount() {
+    return missCount.get();
+  }
+
+  /**
+   * @return the number of buffers that have been allocated and not released
+   */
+  public long outstandingBuffers() {
+    return allocatedBuffers.get();
+  }
+
+  /**
+   * @return the total capacity of buffers that have been allocated and not released
+   */
+  public long outstandingBytes() {
+    return allocatedBytes.get();
+  }
+
+  /**
+   * @return the largest total capacity of outstanding buffers at any time
+   */
+  public long peakOutstandingBytes() {
+    return peakAllocatedBytes.get();
+  }
+
+  /**
+   * @return the total capacity of released buffers held for reuse
+   */
+  public long retainedBytes() {
+    return retainedBytes.get();
+  }
+
+  private ByteBuffer newBuffer(int capacity) {
+    return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+  }
+
+  private static int roundUp(int size) {
+    return size <= MIN_BUFFER_SIZE ? MIN_BUFFER_SIZE : Integer.highestOneBit(size - 1) << 1;
+  }
+
+  private static int sizeClass(int size) {
+    return Integer.numberOfTrailingZeros(roundUp(size)) - Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+  }
+
+  private static boolean getBoolean(String systemProperty, boolean defaultValue) {
+    String value = System.getProperty(systemProperty);
+    if (value != null) {
+      return Boolean.parseBoolean(value);
+    }
+    return defaultValue;
+  }
+
+  private static long getLong(String systemProperty, long defaultValue) {
+    String value = System.getProperty(systemProperty);
+    if (value != null) {
+      try {
+        return Long.parseLong(value);
+      } catch (NumberFormatException e) {
+        // will return the default
+      }
+    }
+    return defaultValue;
+  }
+}
@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.io;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link SeekableInputStream} that serves {@link VectoredReadable vectored reads} by fetching coalesced ranges of
+ * a file in parallel.
+ * <p>
+ * Requested ranges are sorted and ranges separated by at most {@code maxGapBytes} are merged, because reading a
+ * small gap costs less than another request. Merged ranges longer than {@code maxRangeBytes} are split so that a
+ * large range is also fetched in parallel. Each range is read into memory by its own stream, opened from the file in
+ * the executor. A fetch that has not started when the reader reaches it runs in the reader's thread instead, so
+ * callers that already run in the executor cannot deadlock waiting on it.
+ * <p>
+ * Reads outside the requested ranges use the wrapped stream. Ranges are fetched into buffers from a
+ * {@link ByteBufferPool}, and a range's buffer is released once it has been read to the end, when
+ * {@link #readVectored(List)} is called again, or when the stream is closed.
+ */
+public class CoalescingInputStream extends SeekableInputStream implements VectoredReadable {
+  private final InputFile file;
+  private final SeekableInputStream stream;
+  private final Executor executor;
+  private final ByteBufferPool pool;
+  private final long maxGapBytes;
+  private final int maxRangeBytes;
+  private final NavigableMap<Long, Fetch> fetches = new TreeMap<>();
+  private final byte[] singleByte = new byte[1];
+  private long pos = 0L;
+
+  /**
+   * @param file the file to open additional streams from
+   * @param stream a stream opened from the file, used for reads outside of requested ranges
+   * @param executor an executor to fetch ranges in
+   * @param maxGapBytes the largest gap between two ranges that are fetched together
+   * @param maxRangeBytes the largest range to fetch in a single request
+   */
+  public CoalescingInputStream(InputFile file, SeekableInputStream stream, Executor executor,
+                               long maxGapBytes, int maxRangeBytes) {
+    this(file, stream, executor, ByteBufferPool.shared(), maxGapBytes, maxRangeBytes);
+  }
+
+  /**
+   * @param file the file to open additional streams from
+   * @param stream a stream opened from the file, used for reads outside of requested ranges
+   * @param executor an executor to fetch ranges in
+   * @param pool a pool to allocate buffers for fetched ranges from
+   * @param maxGapBytes the largest gap between two ranges that are fetched together
+   * @param maxRangeBytes the largest range to fetch in a single request
+   */
+  public CoalescingInputStream(InputFile file, SeekableInputStream stream, Executor executor, ByteBufferPool pool,
+                               long maxGapBytes, int maxRangeBytes) {
+    Preconditions.checkArgument(maxGapBytes >= 0, "Invalid max gap size: %s (must be >= 0)", maxGapBytes);
+    Preconditions.checkArgument(maxRangeBytes > 0, "Invalid max range size: %s (must be > 0)", maxRangeBytes);
+    this.file = file;
+    this.stream = stream;
+    this.executor = executor;
+    this.pool = pool;
+    this.maxGapBytes = maxGapBytes;
+    this.maxRangeBytes = maxRangeBytes;
+  }
+
+  @Override
+  public void readVectored(List<FileRange> ranges) {
+    discardFetches();
+
+    for (FileRange range : coalesce(ranges, maxGapBytes, maxRangeBytes)) {
+      Fetch fetch = new Fetch(range);
+      fetches.put(range.offset(), fetch);
+      executor.execute(fetch.task);
+    }
+  }
+
+  @Override
+  public long getPos() {
+    return pos;
+  }
+
+  @Override
+  public void seek(long newPos) throws IOException {
+    if (newPos < 0) {
+      throw new EOFException("Cannot seek to a negative position: " + newPos);
+    }
+
+    // the wrapped stream is positioned lazily because the next read may be served from a fetched range
+    this.pos = newPos;
+  }
+
+  @Override
+  public int read() throws IOException {
+    int bytesRead = read(singleByte, 0, 1);
+    return bytesRead < 0 ? -1 : singleByte[0] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] bytes, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+
+    Fetch fetch = fetchAt(pos);
+    if (fetch != null) {
+      ByteBuffer data = fetch.data().duplicate();
+      data.position((int) (pos - fetch.range.offset()));
+      int bytesRead = Math.min(len, data.remaining());
+      data.get(bytes, off, bytesRead);
+      this.pos += bytesRead;
+
+      if (pos >= fetch.range.end()) {
+        fetches.remove(fetch.range.offset());
+        fetch.release();
+      }
+
+      return bytesRead;
+    }
+
+    // stop at the next fetched range so that its bytes are not read twice
+    Long nextFetchStart = fetches.higherKey(pos);
+    int toRead = nextFetchStart != null ? (int) Math.min(len, nextFetchStart - pos) : len;
+
+    if (stream.getPos() != pos) {
+      stream.seek(pos);
+    }
+
+    int bytesRead = stream.read(bytes, off, toRead);
+    if (bytesRead > 0) {
+      this.pos += bytesRead;
+    }
+
+    return bytesRead;
+  }
+
+  @Override
+  public void close() throws IOException {
+    discardFetches();
+    stream.close();
+  }
+
+  private Fetch fetchAt(long position) {
+    Map.Entry<Long, Fetch> entry = fetches.floorEntry(position);
+    if (entry != null && position < entry.getValue().range.end()) {
+      return entry.getValue();
+    }
+
+    return null;
+  }
+
+  private void discardFetches() {
+    for (Fetch fetch : fetches.values()) {
+      fetch.release();
+    }
+
+    fetches.clear();
+  }
+
+  static List<FileRange> coalesce(List<FileRange> ranges, long maxGapBytes, int maxRangeBytes) {
+    List<FileRange> sorted = ranges.stream()
+        .filter(range -> range.length() > 0)
+        .sorted(Comparator.comparingLong(FileRange::offset))
+        .collect(Collectors.toList());
+
+    List<FileRange> coalesced = Lists.newArrayList();
+    long start = -1L;
+    long end = -1L;
+    for (FileRange range : sorted) {
+      if (start >= 0 && range.offset() <= end + maxGapBytes) {
+        end = Math.max(end, range.end());
+      } else {
+        if (start >= 0) {
+          split(start, end, maxRangeBytes, coalesced);
+        }
+
+        start = range.offset();
+        end = range.end();
+      }
+    }
+
+    if (start >= 0) {
+      split(start, end, maxRangeBytes, coalesced);
+    }
+
+    return coalesced;
+  }
+
+  private static void split(long start, long end, int maxRangeBytes, List<FileRange> ranges) {
+    for (long offset = start; offset < end; offset += maxRangeBytes) {
+      ranges.add(new FileRange(offset, Math.min(maxRangeBytes, end - offset)));
+    }
+  }
+
+  private ByteBuffer fetch(FileRange range) throws IOException {
+    ByteBuffer buffer = pool.allocate((int) range.length());
+    try (SeekableInputStream in = file.newStream()) {
+      in.seek(range.offset());
+      if (buffer.hasArray()) {
+        readFully(in, buffer.array(), buffer.arrayOffset(), buffer.remaining(), range);
+      } else {
+        byte[] chunk = new byte[Math.min(buffer.remaining(), 8192)];
+        while (buffer.hasRemaining()) {
+          int toRead = Math.min(buffer.remaining(), chunk.length);
+          readFully(in, chunk, 0, toRead, range);
+          buffer.put(chunk, 0, toRead);
+        }
+        buffer.flip();
+      }
+    } catch (IOException | RuntimeException e) {
+      pool.release(buffer);
+      throw e;
+    }
+
+    return buffer;
+  }
+
+  private void readFully(SeekableInputStream in, byte[] bytes, int off, int len, FileRange range) throws IOException {
+    int offset = 0;
+    while (offset < len) {
+      int bytesRead = in.read(bytes, off + offset, len - offset);
+      if (bytesRead < 0) {
+        throw new EOFException(String.format(
+            "Reached the end of %s before the end of range %s", file.location(), range));
+      }
+      offset += bytesRead;
+    }
+  }
+
+  private class Fetch {
+    private final FileRange range;
+    private final FutureTask<ByteBuffer> task;
+    private ByteBuffer buffer = null; // guarded by this
+    private boolean released = false; // guarded by this
+
+    private Fetch(FileRange range) {
+      this.range = range;
+      this.task = new FutureTask<>(this::load);
+    }
+
+    private ByteBuffer load() throws IOException {
+      ByteBuffer loaded = fetch(range);
+      synchronized (this) {
+        if (released) {
+          // the range was discarded while it was fetched
+          pool.release(loaded);
+          return null;
+        }
+
+        this.buffer = loaded;
+        return loaded;
+      }
+    }
+
+    private synchronized void release() {
+      if (!released) {
+        this.released = true;
+        // fetches that are running are left to finish and release their buffer when they complete
+        task.cancel(false);
+        if (buffer != null) {
+          pool.release(buffer);
+          this.buffer = null;
+        }
+      }
+    }
+
+    private ByteBuffer data() throws IOException {
+      // run the fetch in this thread if the executor has not started it yet; this does nothing if it has
+      task.run();
+
+      try {
+        return task.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while fetching " + range);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        Throwables.propagateIfPossible(cause, IOException.class);
+        throw new IOException("Failed to fetch " + range, cause);
+      }
+    }
+  }
+}
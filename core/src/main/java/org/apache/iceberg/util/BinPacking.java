@@ -121,16 +121,22 @@ public class BinPacking {
           bin = newBin();
           bin.add(item, weight);
           bins.addLast(bin);
+        }
+
+        if (largestBinFirst && bin.isFull()) {
+          // a full bin would be the next to drop out of the look-back, so return it without waiting for more items
+          bins.remove(bin);
+          return ImmutableList.copyOf(bin.items());
+        }
 
-          if (bins.size() > lookback) {
-            Bin<T> binToRemove;
-            if (largestBinFirst) {
-              binToRemove = removeLargestBin(bins);
-            } else {
-              binToRemove = bins.removeFirst();
-            }
-            return ImmutableList.copyOf(binToRemove.items());
+        if (bins.size() > lookback) {
+          Bin<T> binToRemove;
+          if (largestBinFirst) {
+            binToRemove = removeLargestBin(bins);
+          } else {
+            binToRemove = bins.removeFirst();
           }
+          return ImmutableList.copyOf(binToRemove.items());
         }
       }
 
@@ -184,6 +190,10 @@ public class BinPacking {
       return binWeight + weight <= targetWeight;
     }
 
+    boolean isFull() {
+      return binWeight >= targetWeight;
+    }
+
     void add(T item, long weight) {
       this.binWeight += weight;
       items.add(item);
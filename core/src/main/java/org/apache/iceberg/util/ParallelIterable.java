@@ -25,9 +25,10 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
@@ -35,54 +36,126 @@ import org.apache.iceberg.io.CloseableIterable;
 public class ParallelIterable<T> extends CloseableGroup implements CloseableIterable<T> {
   private final Iterable<? extends Iterable<T>> iterables;
   private final ExecutorService workerPool;
+  private final int maxQueueSize;
 
   public ParallelIterable(Iterable<? extends Iterable<T>> iterables,
                           ExecutorService workerPool) {
+    this(iterables, workerPool, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a parallel iterable that buffers at most {@code maxQueueSize} items.
+   * <p>
+   * When the buffer is full, producer tasks block until the consumer removes items, which caps the
+   * memory used by items that have been read but not yet consumed. Iterators returned by a bounded
+   * iterable must be closed, or producer tasks will stay blocked in the worker pool.
+   *
+   * @param iterables iterables to read in parallel
+   * @param workerPool an executor used to run producer tasks
+   * @param maxQueueSize the maximum number of items buffered for the consumer
+   */
+  public ParallelIterable(Iterable<? extends Iterable<T>> iterables,
+                          ExecutorService workerPool, int maxQueueSize) {
+    Preconditions.checkArgument(maxQueueSize > 0, "Invalid max queue size: %s (must be > 0)", maxQueueSize);
     this.iterables = iterables;
     this.workerPool = workerPool;
+    this.maxQueueSize = maxQueueSize;
   }
 
   @Override
   public Iterator<T> iterator() {
-    ParallelIterator<T> iter = new ParallelIterator<>(iterables, workerPool);
+    ParallelIterator<T> iter = new ParallelIterator<>(iterables, workerPool, maxQueueSize);
     addCloseable(iter);
     return iter;
   }
 
   private static class ParallelIterator<T> implements Iterator<T>, Closeable {
-    private final Iterator<Runnable> tasks;
+    private final Iterator<Task> tasks;
     private final ExecutorService workerPool;
     private final Future<?>[] taskFutures;
-    private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
-    private boolean closed = false;
+    private final Task[] runningTasks;
+    private final BlockingQueue<T> queue;
+    private final Object signal = new Object();
+    private volatile boolean consumerWaiting = false;
+    private volatile boolean closed = false;
 
+    @SuppressWarnings("unchecked")
     private ParallelIterator(Iterable<? extends Iterable<T>> iterables,
-                             ExecutorService workerPool) {
-      this.tasks = Iterables.transform(iterables, iterable ->
-          (Runnable) () -> {
-            try (Closeable ignored = (iterable instanceof Closeable) ?
-                (Closeable) iterable : () -> { }) {
-              for (T item : iterable) {
-                queue.add(item);
-              }
-            } catch (IOException e) {
-              throw new RuntimeIOException(e, "Failed to close iterable");
-            }
-          }).iterator();
+                             ExecutorService workerPool, int maxQueueSize) {
+      this.tasks = Iterables.transform(iterables, Task::new).iterator();
       this.workerPool = workerPool;
+      this.queue = new LinkedBlockingQueue<>(maxQueueSize);
       // submit 2 tasks per worker at a time
       this.taskFutures = new Future[2 * ThreadPools.WORKER_THREAD_POOL_SIZE];
+      this.runningTasks = (Task[]) new ParallelIterator.Task[taskFutures.length];
+    }
+
+    /**
+     * A producer task that reads one iterable into the queue.
+     * <p>
+     * Completion is tracked with a flag that is set before the consumer is signalled, because a
+     * {@link Future} may not report that it is done until after the task has returned.
+     */
+    private class Task implements Runnable {
+      private final Iterable<T> iterable;
+      private volatile boolean done = false;
+      private volatile Throwable failure = null;
+
+      private Task(Iterable<T> iterable) {
+        this.iterable = iterable;
+      }
+
+      @Override
+      public void run() {
+        try (Closeable ignored = (iterable instanceof Closeable) ?
+            (Closeable) iterable : () -> { }) {
+          for (T item : iterable) {
+            if (closed) {
+              // stop reading as soon as the consumer is closed
+              break;
+            }
+
+            queue.put(item);
+            signalConsumer();
+          }
+        } catch (InterruptedException e) {
+          // the task was cancelled by close
+          Thread.currentThread().interrupt();
+        } catch (IOException e) {
+          this.failure = new RuntimeIOException(e, "Failed to close iterable");
+        } catch (RuntimeException | Error e) {
+          this.failure = e;
+        } finally {
+          this.done = true;
+          signalConsumer();
+        }
+      }
+    }
+
+    private void signalConsumer() {
+      // only take the lock when the consumer may be waiting. the consumer sets the flag before it
+      // checks the queue and tasks for the last time, so it will either see the new state or be
+      // notified.
+      if (consumerWaiting) {
+        synchronized (signal) {
+          signal.notifyAll();
+        }
+      }
     }
 
     @Override
     public void close() {
+      this.closed = true;
+
       // cancel background tasks
       for (int i = 0; i < taskFutures.length; i += 1) {
         if (taskFutures[i] != null && !taskFutures[i].isDone()) {
           taskFutures[i].cancel(true);
         }
       }
-      this.closed = true;
+
+      // drop buffered items and unblock any producers waiting for space
+      queue.clear();
     }
 
     /**
@@ -96,11 +169,25 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       boolean hasRunningTask = false;
 
       for (int i = 0; i < taskFutures.length; i += 1) {
-        if (taskFutures[i] == null || taskFutures[i].isDone()) {
-          taskFutures[i] = submitNextTask();
+        if (runningTasks[i] == null || runningTasks[i].done) {
+          if (runningTasks[i] != null && runningTasks[i].failure != null) {
+            Throwable failure = runningTasks[i].failure;
+            close();
+            if (failure instanceof Error) {
+              throw (Error) failure;
+            }
+            throw (RuntimeException) failure;
+          }
+
+          runningTasks[i] = null;
+          taskFutures[i] = null;
+          if (tasks.hasNext()) {
+            runningTasks[i] = tasks.next();
+            taskFutures[i] = workerPool.submit(runningTasks[i]);
+          }
         }
 
-        if (taskFutures[i] != null) {
+        if (runningTasks[i] != null) {
           hasRunningTask = true;
         }
       }
@@ -108,13 +195,6 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       return tasks.hasNext() || hasRunningTask;
     }
 
-    private Future<?> submitNextTask() {
-      if (tasks.hasNext()) {
-        return workerPool.submit(tasks.next());
-      }
-      return null;
-    }
-
     @Override
     public synchronized boolean hasNext() {
       Preconditions.checkState(!closed, "Already closed");
@@ -124,7 +204,7 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       // return here before running checkTasks. when enough of the tasks are finished that the
       // consumer catches up, then lots of new tasks will be submitted at once. this behavior is
       // okay because it ensures that records are not stacking up waiting to be consumed and taking
-      // up memory.
+      // up memory. when the queue is bounded, producers block instead of adding more records.
       //
       // consumers that process results quickly will periodically exhaust the queue and submit new
       // tasks when checkTasks runs. fast consumers should not be delayed.
@@ -133,23 +213,43 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       }
 
       // this cannot conclude that there are no more records until tasks have finished. while some
-      // are running, return true when there is at least one item to return.
+      // are running, wait until a producer adds an item or finishes.
       while (checkTasks()) {
         if (!queue.isEmpty()) {
           return true;
         }
 
-        try {
-          Thread.sleep(10);
+        awaitProducers();
+      }
 
+      // when tasks are no longer running, return whether the queue has items
+      return !queue.isEmpty();
+    }
+
+    private void awaitProducers() {
+      synchronized (signal) {
+        this.consumerWaiting = true;
+        try {
+          // re-check after publishing the waiting flag so that a signal cannot be missed
+          while (queue.isEmpty() && !anyTaskDone()) {
+            signal.wait();
+          }
         } catch (InterruptedException e) {
           Thread.currentThread().interrupt();
           throw new RuntimeException(e);
+        } finally {
+          this.consumerWaiting = false;
         }
       }
+    }
 
-      // when tasks are no longer running, return whether the queue has items
-      return !queue.isEmpty();
+    private boolean anyTaskDone() {
+      for (Task task : runningTasks) {
+        if (task != null && task.done) {
+          return true;
+        }
+      }
+      return false;
     }
 
     @Override
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * An iterator that opens resources ahead of the consumer.
+ * <p>
+ * Each item is passed to an open function and the results are returned in order. While the consumer works with one
+ * result, up to {@code depth} of the following items are opened in an executor, so that the latency of opening them
+ * overlaps with consuming the current one. Because at most {@code depth} results are held ahead of the consumer,
+ * memory used by opened resources is bounded. With a depth of 0, items are opened in the calling thread.
+ * <p>
+ * Results that were opened but not returned are closed by {@link #close()}. Results returned by {@link #next()} are
+ * owned by the caller.
+ *
+ * @param <I> the type of items to open
+ * @param <O> the type of opened resources
+ */
+public class PrefetchingIterator<I, O extends Closeable> implements Iterator<O>, Closeable {
+  private final Iterator<I> items;
+  private final Function<I, O> openFunc;
+  private final int depth;
+  private final ExecutorService executor;
+  private final Deque<Future<O>> pending;
+  private boolean closed = false;
+
+  public PrefetchingIterator(Iterator<I> items, Function<I, O> openFunc, int depth, ExecutorService executor) {
+    Preconditions.checkArgument(depth >= 0, "Invalid prefetch depth: %s (must be >= 0)", depth);
+    Preconditions.checkArgument(depth == 0 || executor != null, "Invalid executor: null");
+    this.items = items;
+    this.openFunc = openFunc;
+    this.depth = depth;
+    this.executor = executor;
+    this.pending = new ArrayDeque<>(depth + 1);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !closed && (!pending.isEmpty() || items.hasNext());
+  }
+
+  @Override
+  public O next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    if (depth == 0) {
+      return openFunc.apply(items.next());
+    }
+
+    if (pending.isEmpty()) {
+      submitNext();
+    }
+
+    Future<O> current = pending.removeFirst();
+
+    // start opening the following items before waiting for the current one
+    while (pending.size() < depth && items.hasNext()) {
+      submitNext();
+    }
+
+    return await(current);
+  }
+
+  private void submitNext() {
+    I item = items.next();
+    pending.addLast(executor.submit(() -> openFunc.apply(item)));
+  }
+
+  private static <O> O await(Future<O> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while opening", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      Throwables.throwIfUnchecked(cause);
+      throw new RuntimeException("Failed to open", cause);
+    }
+  }
+
+  /**
+   * Closes results that were opened ahead of the consumer.
+   * <p>
+   * Opens that are in progress cannot be interrupted safely, so this waits for them to finish and closes the results.
+   */
+  @Override
+  public void close() throws IOException {
+    this.closed = true;
+
+    IOException failure = null;
+    while (!pending.isEmpty()) {
+      Future<O> future = pending.removeFirst();
+      try {
+        future.get().close();
+      } catch (ExecutionException e) {
+        // the open failed, so there is nothing to close
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while closing prefetched results");
+      } catch (IOException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+
+    if (failure != null) {
+      throw failure;
+    }
+  }
+}
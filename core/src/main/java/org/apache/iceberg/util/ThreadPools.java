@@ -37,13 +37,40 @@ public class ThreadPools {
       WORKER_THREAD_POOL_SIZE_PROP,
       Runtime.getRuntime().availableProcessors());
 
-  private static final ExecutorService WORKER_POOL = MoreExecutors.getExitingExecutorService(
-      (ThreadPoolExecutor) Executors.newFixedThreadPool(
-          WORKER_THREAD_POOL_SIZE,
-          new ThreadFactoryBuilder()
-              .setDaemon(true)
-              .setNameFormat("iceberg-worker-pool-%d")
-              .build()));
+  public static final String COMMIT_THREAD_POOL_SIZE_PROP =
+      SystemProperties.COMMIT_THREAD_POOL_SIZE_PROP;
+
+  public static final int COMMIT_THREAD_POOL_SIZE = getPoolSize(
+      COMMIT_THREAD_POOL_SIZE_PROP,
+      Runtime.getRuntime().availableProcessors());
+
+  public static final String DELETE_THREAD_POOL_SIZE_PROP =
+      SystemProperties.DELETE_THREAD_POOL_SIZE_PROP;
+
+  // deletes spend most of their time waiting on the file system, so use more threads than processors
+  public static final int DELETE_THREAD_POOL_SIZE = getPoolSize(
+      DELETE_THREAD_POOL_SIZE_PROP,
+      2 * Runtime.getRuntime().availableProcessors());
+
+  public static final String READ_THREAD_POOL_SIZE_PROP =
+      SystemProperties.READ_THREAD_POOL_SIZE_PROP;
+
+  // opening data files is dominated by file system latency, so use more threads than processors
+  public static final int READ_THREAD_POOL_SIZE = getPoolSize(
+      READ_THREAD_POOL_SIZE_PROP,
+      2 * Runtime.getRuntime().availableProcessors());
+
+  private static final ThreadPoolExecutor WORKER_EXECUTOR = newPool(WORKER_THREAD_POOL_SIZE, "iceberg-worker-pool-%d");
+  private static final ExecutorService WORKER_POOL = MoreExecutors.getExitingExecutorService(WORKER_EXECUTOR);
+
+  private static final ThreadPoolExecutor COMMIT_EXECUTOR = newPool(COMMIT_THREAD_POOL_SIZE, "iceberg-commit-pool-%d");
+  private static final ExecutorService COMMIT_POOL = MoreExecutors.getExitingExecutorService(COMMIT_EXECUTOR);
+
+  private static final ExecutorService DELETE_POOL = MoreExecutors.getExitingExecutorService(
+      newPool(DELETE_THREAD_POOL_SIZE, "iceberg-delete-pool-%d"));
+
+  private static final ExecutorService READ_POOL = MoreExecutors.getExitingExecutorService(
+      newPool(READ_THREAD_POOL_SIZE, "iceberg-read-pool-%d"));
 
   /**
    * Return an {@link ExecutorService} that uses the "worker" thread-pool.
@@ -60,6 +87,75 @@ public class ThreadPools {
     return WORKER_POOL;
   }
 
+  /**
+   * Return an {@link ExecutorService} that uses the "commit" thread-pool.
+   * <p>
+   * The commit pool is used by snapshot updates to read, filter, and merge manifests. It is separate
+   * from the worker pool so that commits and scan planning do not delay one another. Operations can
+   * use a different pool by calling {@link org.apache.iceberg.SnapshotUpdate#scanManifestsWith(ExecutorService)}.
+   * <p>
+   * The size of this thread-pool is controlled by the Java system property
+   * {@code iceberg.commit.num-threads}.
+   *
+   * @return an {@link ExecutorService} that uses the commit pool
+   */
+  public static ExecutorService getCommitPool() {
+    return COMMIT_POOL;
+  }
+
+  /**
+   * Return an {@link ExecutorService} that uses the "delete" thread-pool.
+   * <p>
+   * The delete pool is used for bulk file deletes, like those from expiring snapshots or removing
+   * orphan files, and bounds the number of deletes that run concurrently.
+   * <p>
+   * The size of this thread-pool is controlled by the Java system property
+   * {@code iceberg.delete.num-threads}.
+   *
+   * @return an {@link ExecutorService} that uses the delete pool
+   */
+  public static ExecutorService getDeletePool() {
+    return DELETE_POOL;
+  }
+
+  /**
+   * Return an {@link ExecutorService} that uses the "read" thread-pool.
+   * <p>
+   * The read pool is used by readers to open data files ahead of the file that is being read, and bounds the number
+   * of files that are concurrently opened in the background.
+   * <p>
+   * The size of this thread-pool is controlled by the Java system property
+   * {@code iceberg.read.num-threads}.
+   *
+   * @return an {@link ExecutorService} that uses the read pool
+   */
+  public static ExecutorService getReadPool() {
+    return READ_POOL;
+  }
+
+  /**
+   * @return the number of tasks waiting for a thread in the worker pool
+   */
+  public static int getWorkerPoolQueueDepth() {
+    return WORKER_EXECUTOR.getQueue().size();
+  }
+
+  /**
+   * @return the number of tasks waiting for a thread in the commit pool
+   */
+  public static int getCommitPoolQueueDepth() {
+    return COMMIT_EXECUTOR.getQueue().size();
+  }
+
+  private static ThreadPoolExecutor newPool(int poolSize, String nameFormat) {
+    return (ThreadPoolExecutor) Executors.newFixedThreadPool(
+        poolSize,
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat(nameFormat)
+            .build());
+  }
+
   private static int getPoolSize(String systemProperty, int defaultSize) {
     String value = System.getProperty(systemProperty);
     if (value != null) {
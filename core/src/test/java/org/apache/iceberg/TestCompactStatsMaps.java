@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Map;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.ConvertedBounds;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestCompactStatsMaps {
+  private static final Map<Integer, Long> COUNTS = ImmutableMap.of(5, 100L, 1, 0L, 3, 1234567890123L);
+  private static final Map<Integer, ByteBuffer> BOUNDS = ImmutableMap.of(
+      4, Conversions.toByteBuffer(Types.StringType.get(), "abc"),
+      2, Conversions.toByteBuffer(Types.IntegerType.get(), 34));
+
+  @Test
+  public void testLongMapMatchesSource() {
+    Map<Integer, Long> compact = CompactLongMap.copyOf(COUNTS);
+    Assert.assertTrue("Should use a compact map", compact instanceof CompactLongMap);
+    Assert.assertEquals("Should be equal to the source map", COUNTS, compact);
+    Assert.assertEquals("Hash codes should match", COUNTS.hashCode(), compact.hashCode());
+    Assert.assertEquals("Should find a key", (Long) 1234567890123L, compact.get(3));
+    Assert.assertNull("Should not find a missing key", compact.get(2));
+    Assert.assertFalse("Should not contain a key of another type", compact.containsKey(3L));
+
+    Iterator<Integer> keys = compact.keySet().iterator();
+    Assert.assertEquals("Should iterate in field id order", (Integer) 1, keys.next());
+    Assert.assertEquals("Should iterate in field id order", (Integer) 3, keys.next());
+    Assert.assertEquals("Should iterate in field id order", (Integer) 5, keys.next());
+  }
+
+  @Test
+  public void testLongMapUpdates() {
+    Map<Integer, Long> compact = CompactLongMap.copyOf(COUNTS);
+    Map<Integer, Long> expected = Maps.newHashMap(COUNTS);
+
+    Assert.assertNull("Should add a new key", compact.put(2, 7L));
+    expected.put(2, 7L);
+    Assert.assertEquals("Should replace a value", (Long) 100L, compact.put(5, 8L));
+    expected.put(5, 8L);
+    Assert.assertEquals("Should remove a key", (Long) 0L, compact.remove(1));
+    expected.remove(1);
+    Assert.assertEquals("Should match after updates", expected, compact);
+
+    compact.entrySet().removeIf(entry -> entry.getKey() == 3);
+    expected.remove(3);
+    Assert.assertEquals("Should remove through the iterator", expected, compact);
+
+    compact.clear();
+    Assert.assertTrue("Should be empty after clear", compact.isEmpty());
+
+    Map<Integer, Long> filled = new CompactLongMap();
+    filled.putAll(COUNTS);
+    Assert.assertEquals("Should fill an empty map", COUNTS, filled);
+
+    Map<Integer, Long> ascending = new CompactLongMap();
+    Map<Integer, Long> descending = new CompactLongMap();
+    Map<Integer, Long> many = Maps.newHashMap();
+    for (int i = 0; i < 100; i += 1) {
+      ascending.put(i, (long) i);
+      descending.put(99 - i, (long) (99 - i));
+      many.put(i, (long) i);
+    }
+    Assert.assertEquals("Should add keys in order", many, ascending);
+    Assert.assertEquals("Should add keys out of order", many, descending);
+    Assert.assertEquals("Should copy a filled map", many, CompactLongMap.copyOf(ascending));
+  }
+
+  @Test
+  public void testNullValuesAreCopied() {
+    Map<Integer, Long> withNull = Maps.newHashMap();
+    withNull.put(1, null);
+    Map<Integer, Long> copy = CompactLongMap.copyOf(withNull);
+    Assert.assertFalse("Should not use a compact map", copy instanceof CompactLongMap);
+    Assert.assertEquals("Should keep null values", withNull, copy);
+    Assert.assertNull("Should copy a null map", CompactLongMap.copyOf(null));
+  }
+
+  @Test
+  public void testBoundsMapMatchesSource() {
+    Map<Integer, ByteBuffer> compact = CompactBoundsMap.copyOf(BOUNDS);
+    Assert.assertTrue("Should use a compact map", compact instanceof CompactBoundsMap);
+    Assert.assertEquals("Should be equal to the source map", BOUNDS, compact);
+    Assert.assertEquals("Should return the bound", BOUNDS.get(4), compact.get(4));
+    Assert.assertNull("Should not find a missing key", compact.get(3));
+
+    ByteBuffer source = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+    Map<Integer, ByteBuffer> copy = CompactBoundsMap.copyOf(ImmutableMap.of(1, source));
+    source.put(0, (byte) 9);
+    Assert.assertEquals("Should copy bound bytes", ByteBuffer.wrap(new byte[] { 1, 2, 3 }), copy.get(1));
+  }
+
+  @Test
+  public void testConvertedBoundsAreCached() {
+    ConvertedBounds compact = (ConvertedBounds) CompactBoundsMap.copyOf(BOUNDS);
+
+    CharSequence first = compact.converted(4, Types.StringType.get());
+    Assert.assertEquals("Should convert the bound", "abc", first.toString());
+    Assert.assertSame("Should reuse the converted bound", first, compact.converted(4, Types.StringType.get()));
+    Assert.assertEquals("Should convert the bound", (Integer) 34, compact.converted(2, Types.IntegerType.get()));
+    Assert.assertEquals("Should convert for a promoted type", (Long) 34L, compact.converted(2, Types.LongType.get()));
+    CharSequence expected = Conversions.fromByteBuffer(Types.StringType.get(), BOUNDS.get(4));
+    CharSequence actual = Conversions.fromBounds(Types.StringType.get(), compact, 4);
+    Assert.assertEquals("Should match Conversions", expected.toString(), actual.toString());
+    Assert.assertNull("Should not convert a missing bound", compact.converted(3, Types.IntegerType.get()));
+
+    compact.put(2, Conversions.toByteBuffer(Types.IntegerType.get(), 56));
+    Assert.assertEquals("Should convert the updated bound",
+        (Integer) 56, compact.converted(2, Types.IntegerType.get()));
+  }
+
+  @Test
+  public void testJavaSerialization() throws Exception {
+    Map<Integer, Long> counts = TestHelpers.roundTripSerialize(CompactLongMap.copyOf(COUNTS));
+    Assert.assertEquals("Should serialize counts", COUNTS, counts);
+
+    Map<Integer, ByteBuffer> bounds = TestHelpers.roundTripSerialize(CompactBoundsMap.copyOf(BOUNDS));
+    Assert.assertEquals("Should serialize bounds", BOUNDS, bounds);
+    Assert.assertEquals("Should convert deserialized bounds",
+        (Integer) 34, ((ConvertedBounds) bounds).converted(2, Types.IntegerType.get()));
+  }
+
+  @Test
+  public void testDataFileCopiesUseCompactStats() {
+    DataFile file = DataFiles.builder(PartitionSpec.unpartitioned())
+        .withPath("/path/to/data.parquet")
+        .withFileSizeInBytes(10)
+        .withMetrics(new Metrics(5L, COUNTS, COUNTS, COUNTS, BOUNDS, BOUNDS))
+        .build();
+
+    for (DataFile dataFile : new DataFile[] { file, file.copy() }) {
+      Assert.assertTrue("Should use compact column sizes", dataFile.columnSizes() instanceof CompactLongMap);
+      Assert.assertTrue("Should use compact lower bounds", dataFile.lowerBounds() instanceof CompactBoundsMap);
+      Assert.assertEquals("Should keep value counts", COUNTS, dataFile.valueCounts());
+      Assert.assertEquals("Should keep upper bounds", BOUNDS, dataFile.upperBounds());
+    }
+  }
+}
@@ -19,7 +19,10 @@
 
 package org.apache.iceberg;
 
+import com.google.common.collect.Lists;
+import java.util.List;
 import org.apache.iceberg.types.Types;
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -69,4 +72,19 @@ public class TestDataTableScan extends TableTestBase {
         scan2.schema().asStruct());
   }
 
+  @Test
+  public void testTasksShareSpec() {
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .commit();
+    table.newFastAppend()
+        .appendFile(FILE_B)
+        .commit();
+
+    List<FileScanTask> tasks = Lists.newArrayList(table.newScan().planFiles());
+    Assert.assertEquals("Should plan a task for each file", 2, tasks.size());
+    Assert.assertSame("Tasks from different manifests should share the parsed spec",
+        tasks.get(0).spec(), tasks.get(1).spec());
+    assertEquals("Should use the table spec", table.spec(), tasks.get(0).spec());
+  }
 }
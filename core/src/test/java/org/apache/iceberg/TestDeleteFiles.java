@@ -19,7 +19,11 @@
 
 package org.apache.iceberg;
 
+import com.google.common.collect.Maps;
+import java.util.Map;
 import org.apache.iceberg.ManifestEntry.Status;
+import org.apache.iceberg.events.CommitMetricsEvent;
+import org.apache.iceberg.events.Listeners;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -35,6 +39,12 @@ public class TestDeleteFiles extends TableTestBase {
     };
   }
 
+  private static final Map<Long, CommitMetricsEvent> COMMIT_METRICS = Maps.newConcurrentMap();
+
+  static {
+    Listeners.register(event -> COMMIT_METRICS.put(event.snapshotId(), event), CommitMetricsEvent.class);
+  }
+
   public TestDeleteFiles(int formatVersion) {
     super(formatVersion);
   }
@@ -75,4 +85,50 @@ public class TestDeleteFiles extends TableTestBase {
         files(FILE_B, FILE_C),
         statuses(Status.DELETED, Status.EXISTING));
   }
+
+  @Test
+  public void testRetryReusesFilteredManifests() {
+    table.newAppend()
+        .appendFile(FILE_A)
+        .commit();
+    table.newAppend()
+        .appendFile(FILE_B)
+        .commit();
+
+    Assert.assertEquals("Should have 2 manifests", 2, readMetadata().currentSnapshot().manifests().size());
+
+    table.ops().failCommits(1);
+
+    table.newDelete()
+        .deleteFile(FILE_A)
+        .commit();
+
+    CommitMetricsEvent metrics = COMMIT_METRICS.get(readMetadata().currentSnapshot().snapshotId());
+    Assert.assertNotNull("Should report commit metrics", metrics);
+    Assert.assertEquals("Should report the operation", DataOperations.DELETE, metrics.operation());
+    Assert.assertEquals("Should take 2 attempts", 2, metrics.attempts());
+    Assert.assertEquals("Should reuse both filtered manifests in the retry", 2, metrics.reusedManifestCount());
+    Assert.assertTrue("Should clean up the manifest list from the failed attempt", metrics.cleanedUpFileCount() >= 1);
+    Assert.assertTrue("Rebase time should be part of the apply time",
+        metrics.rebaseDurationMillis() <= metrics.applyDurationMillis());
+  }
+
+  @Test
+  public void testCommitMetricsWithoutRetry() {
+    table.newAppend()
+        .appendFile(FILE_A)
+        .appendFile(FILE_B)
+        .commit();
+
+    table.newDelete()
+        .deleteFile(FILE_A)
+        .commit();
+
+    CommitMetricsEvent metrics = COMMIT_METRICS.get(readMetadata().currentSnapshot().snapshotId());
+    Assert.assertNotNull("Should report commit metrics", metrics);
+    Assert.assertEquals("Should take 1 attempt", 1, metrics.attempts());
+    Assert.assertEquals("Should not reuse manifests", 0, metrics.reusedManifestCount());
+    Assert.assertEquals("Should not clean up files", 0, metrics.cleanedUpFileCount());
+    Assert.assertEquals("Should not spend time rebasing", 0, metrics.rebaseDurationMillis());
+  }
 }
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestManifestCaching extends TableTestBase {
+  @Parameterized.Parameters
+  public static Object[][] parameters() {
+    return new Object[][] {
+        new Object[] { 1 },
+        new Object[] { 2 },
+    };
+  }
+
+  private ManifestCache cache = null;
+
+  public TestManifestCaching(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Before
+  public void enableCache() {
+    this.cache = new ManifestCache(1024 * 1024, 1024 * 1024);
+    ManifestCache.setShared(cache);
+  }
+
+  @After
+  public void disableCache() {
+    ManifestCache.setShared(null);
+  }
+
+  @Test
+  public void testRepeatedScansHitCache() {
+    table.newAppend()
+        .appendFile(FILE_A)
+        .appendFile(FILE_B)
+        .commit();
+
+    Set<String> expected = Sets.newHashSet(FILE_A.path().toString(), FILE_B.path().toString());
+    Assert.assertEquals("Should plan all files", expected, plannedPaths());
+    Assert.assertEquals("First scan should miss", 1, cache.missCount());
+    Assert.assertEquals("First scan should not hit", 0, cache.hitCount());
+
+    Assert.assertEquals("Should plan all files", expected, plannedPaths());
+    Assert.assertEquals("Second scan should not miss", 1, cache.missCount());
+    Assert.assertEquals("Second scan should hit", 1, cache.hitCount());
+    Assert.assertTrue("Should track cached bytes", cache.estimatedSizeInBytes() > 0);
+  }
+
+  @Test
+  public void testDeleteUsesCachedManifest() {
+    table.newAppend()
+        .appendFile(FILE_A)
+        .appendFile(FILE_B)
+        .commit();
+
+    plannedPaths();
+    long misses = cache.missCount();
+
+    table.newDelete()
+        .deleteFile(FILE_A)
+        .commit();
+
+    Assert.assertTrue("Delete should read the cached manifest", cache.hitCount() > 0);
+    Assert.assertEquals("Delete should not reload the existing manifest", misses, cache.missCount());
+
+    Assert.assertEquals("Should plan remaining files",
+        Sets.newHashSet(FILE_B.path().toString()), plannedPaths());
+  }
+
+  @Test
+  public void testLargeManifestsAreNotCached() {
+    this.cache = new ManifestCache(1024 * 1024, 10);
+    ManifestCache.setShared(cache);
+
+    table.newAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    Assert.assertEquals("Should plan all files",
+        Sets.newHashSet(FILE_A.path().toString()), plannedPaths());
+    Assert.assertEquals("Should not use the cache", 0, cache.missCount() + cache.hitCount());
+  }
+
+  @Test
+  public void testEviction() {
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .commit();
+    table.newFastAppend()
+        .appendFile(FILE_B)
+        .commit();
+
+    long manifestLength = Iterables.getFirst(table.currentSnapshot().manifests(), null).length();
+    this.cache = new ManifestCache(manifestLength + manifestLength / 2, manifestLength * 2);
+    ManifestCache.setShared(cache);
+
+    plannedPaths();
+    cache.invalidateAll();
+    Assert.assertEquals("Should have no cached bytes after invalidation", 0, cache.estimatedSizeInBytes());
+
+    plannedPaths();
+    plannedPaths();
+    Assert.assertTrue("Should evict manifests that do not fit", cache.evictionCount() > 0);
+  }
+
+  private Set<String> plannedPaths() {
+    return StreamSupport.stream(table.newScan().planFiles().spliterator(), false)
+        .map(task -> task.file().path().toString())
+        .collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
+import java.io.File;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.apache.iceberg.ManifestFile.ColumnSummary;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestManifestColumnSummaries extends TableTestBase {
+  @Parameterized.Parameters
+  public static Object[][] parameters() {
+    return new Object[][] {
+        new Object[] { 1 },
+        new Object[] { 2 },
+    };
+  }
+
+  private DataFile fileLow = null;
+  private DataFile fileHigh = null;
+
+  public TestManifestColumnSummaries(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Before
+  public void createFiles() {
+    this.fileLow = fileWithIds("/path/to/data-low.parquet", 0, 9);
+    this.fileHigh = fileWithIds("/path/to/data-high.parquet", 10, 19);
+  }
+
+  @Test
+  public void testSummariesDisabledByDefault() {
+    table.newFastAppend()
+        .appendFile(fileLow)
+        .commit();
+
+    ManifestFile manifest = Iterables.getOnlyElement(table.currentSnapshot().manifests());
+    Assert.assertNull("Should not write column summaries", manifest.columnSummaries());
+  }
+
+  @Test
+  public void testSummariesWritten() {
+    enableSummaries();
+
+    table.newAppend()
+        .appendFile(fileLow)
+        .appendFile(fileHigh)
+        .appendFile(FILE_A)
+        .commit();
+
+    ManifestFile manifest = Iterables.getOnlyElement(table.currentSnapshot().manifests());
+    List<ColumnSummary> summaries = manifest.columnSummaries();
+    Assert.assertNotNull("Should write column summaries", summaries);
+    Assert.assertEquals("Should only summarize columns with metrics in every file", 0, summaries.size());
+
+    table.newDelete()
+        .deleteFile(FILE_A)
+        .commit();
+
+    // the delete rewrites the manifest and keeps a DELETED entry for FILE_A, which has no metrics
+    table.newAppend()
+        .appendFile(fileLow)
+        .appendFile(fileHigh)
+        .commit();
+
+    ManifestFile appended = table.currentSnapshot().manifests().stream()
+        .filter(m -> m.snapshotId() == table.currentSnapshot().snapshotId())
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("Should have a manifest for the last append"));
+
+    ColumnSummary idSummary = Iterables.getOnlyElement(appended.columnSummaries());
+    Assert.assertEquals("Should summarize the id column",
+        table.schema().findField("id").fieldId(), idSummary.columnId());
+    Assert.assertEquals("Should sum value counts", (Long) 20L, idSummary.valueCount());
+    Assert.assertEquals("Should sum null value counts", (Long) 0L, idSummary.nullValueCount());
+    Assert.assertEquals("Should use the lowest lower bound",
+        0, (int) Conversions.fromByteBuffer(Types.IntegerType.get(), idSummary.lowerBound()));
+    Assert.assertEquals("Should use the highest upper bound",
+        19, (int) Conversions.fromByteBuffer(Types.IntegerType.get(), idSummary.upperBound()));
+  }
+
+  @Test
+  public void testScanSkipsNonMatchingManifests() {
+    enableSummaries();
+
+    table.newFastAppend()
+        .appendFile(fileLow)
+        .commit();
+    ManifestFile lowManifest = Iterables.getOnlyElement(table.currentSnapshot().manifests());
+
+    table.newFastAppend()
+        .appendFile(fileHigh)
+        .commit();
+
+    // remove the manifest so that reading it would fail the scan
+    Assert.assertTrue("Should delete the low manifest", new File(lowManifest.path()).delete());
+
+    Assert.assertEquals("Should plan only the matching file",
+        Sets.newHashSet(fileHigh.path().toString()), plannedPaths(Expressions.greaterThan("id", 15)));
+    Assert.assertEquals("Should plan only the matching file",
+        Sets.newHashSet(fileHigh.path().toString()), plannedPaths(Expressions.equal("id", 10)));
+  }
+
+  @Test
+  public void testScanReadsManifestsWithoutSummaries() {
+    table.newFastAppend()
+        .appendFile(fileLow)
+        .commit();
+
+    enableSummaries();
+
+    table.newFastAppend()
+        .appendFile(fileHigh)
+        .commit();
+
+    Assert.assertEquals("Should plan only the matching file",
+        Sets.newHashSet(fileHigh.path().toString()), plannedPaths(Expressions.greaterThan("id", 15)));
+    Assert.assertEquals("Should plan only the matching file",
+        Sets.newHashSet(fileLow.path().toString()), plannedPaths(Expressions.lessThan("id", 5)));
+  }
+
+  private void enableSummaries() {
+    table.updateProperties()
+        .set(TableProperties.MANIFEST_COLUMN_SUMMARIES_ENABLED, "true")
+        .commit();
+  }
+
+  private Set<String> plannedPaths(Expression filter) {
+    return StreamSupport.stream(table.newScan().filter(filter).planFiles().spliterator(), false)
+        .map(task -> task.file().path().toString())
+        .collect(Collectors.toSet());
+  }
+
+  private DataFile fileWithIds(String path, int lower, int upper) {
+    int id = table.schema().findField("id").fieldId();
+    long count = upper - lower + 1;
+    return DataFiles.builder(SPEC)
+        .withPath(path)
+        .withFileSizeInBytes(10)
+        .withPartitionPath("data_bucket=0")
+        .withMetrics(new Metrics(count, null,
+            ImmutableMap.of(id, count), ImmutableMap.of(id, 0L),
+            ImmutableMap.of(id, Conversions.toByteBuffer(Types.IntegerType.get(), lower)),
+            ImmutableMap.of(id, Conversions.toByteBuffer(Types.IntegerType.get(), upper))))
+        .build();
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
+import java.io.File;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestManifestPathFilters extends TableTestBase {
+  @Parameterized.Parameters
+  public static Object[][] parameters() {
+    return new Object[][] {
+        new Object[] { 1 },
+        new Object[] { 2 },
+    };
+  }
+
+  public TestManifestPathFilters(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Test
+  public void testFiltersDisabledByDefault() {
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    ManifestFile manifest = Iterables.getOnlyElement(table.currentSnapshot().manifests());
+    Assert.assertNull("Should not write a path filter", manifest.filePathFilter());
+  }
+
+  @Test
+  public void testFiltersWritten() {
+    enableFilters();
+
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .appendFile(FILE_B)
+        .commit();
+
+    ManifestFile manifest = Iterables.getOnlyElement(table.currentSnapshot().manifests());
+    Assert.assertNotNull("Should write a path filter", manifest.filePathFilter());
+
+    Assert.assertTrue("Should match an added path",
+        FilePathFilter.probe(ImmutableList.of(FILE_A.path())).mightContainAny(manifest));
+    Assert.assertTrue("Should match an added path",
+        FilePathFilter.probe(ImmutableList.of("/path/to/missing.parquet", FILE_B.path())).mightContainAny(manifest));
+    Assert.assertFalse("Should not match paths that were not added",
+        FilePathFilter.probe(ImmutableList.of(FILE_C.path(), FILE_D.path())).mightContainAny(manifest));
+  }
+
+  @Test
+  public void testFilterExcludesDeletedFiles() {
+    enableFilters();
+
+    table.newAppend()
+        .appendFile(FILE_A)
+        .appendFile(FILE_B)
+        .commit();
+
+    table.newDelete()
+        .deleteFile(FILE_A)
+        .commit();
+
+    ManifestFile manifest = Iterables.getOnlyElement(table.currentSnapshot().manifests());
+    Assert.assertEquals("Should keep a deleted entry", 1, (int) manifest.deletedFilesCount());
+    Assert.assertFalse("Should not match a deleted path",
+        FilePathFilter.probe(ImmutableList.of(FILE_A.path())).mightContainAny(manifest));
+    Assert.assertTrue("Should match an existing path",
+        FilePathFilter.probe(ImmutableList.of(FILE_B.path())).mightContainAny(manifest));
+  }
+
+  @Test
+  public void testDeleteSkipsNonMatchingManifests() {
+    enableFilters();
+    // merging reads every manifest it rewrites, so filters only skip manifests that are not merged
+    table.updateProperties()
+        .set(TableProperties.MANIFEST_MERGE_ENABLED, "false")
+        .commit();
+
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    table.newFastAppend()
+        .appendFile(FILE_B)
+        .commit();
+    ManifestFile manifestB = table.currentSnapshot().manifests().stream()
+        .filter(m -> m.snapshotId() == table.currentSnapshot().snapshotId())
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("Should have a manifest for the last append"));
+
+    // remove the manifest so that reading it would fail the delete
+    Assert.assertTrue("Should delete the manifest for FILE_B", new File(manifestB.path()).delete());
+
+    table.newDelete()
+        .deleteFile(FILE_A.path())
+        .commit();
+
+    Assert.assertEquals("Should keep the manifest for FILE_B",
+        2, table.currentSnapshot().manifests().size());
+    Assert.assertTrue("Should not rewrite the manifest for FILE_B",
+        table.currentSnapshot().manifests().contains(manifestB));
+    Assert.assertEquals("Should delete FILE_A",
+        FILE_A.path().toString(), Iterables.getOnlyElement(table.currentSnapshot().deletedFiles()).path().toString());
+  }
+
+  @Test
+  public void testFindFilesByPath() {
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    enableFilters();
+
+    table.newFastAppend()
+        .appendFile(FILE_B)
+        .commit();
+
+    table.newFastAppend()
+        .appendFile(FILE_C)
+        .commit();
+    ManifestFile manifestC = table.currentSnapshot().manifests().stream()
+        .filter(m -> m.snapshotId() == table.currentSnapshot().snapshotId())
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("Should have a manifest for the last append"));
+
+    // remove the manifest so that reading it would fail the lookup
+    Assert.assertTrue("Should delete the manifest for FILE_C", new File(manifestC.path()).delete());
+
+    Assert.assertEquals("Should find files in manifests with and without filters",
+        Sets.newHashSet(FILE_A.path().toString(), FILE_B.path().toString()),
+        pathsOf(FindFiles.in(table).withPaths(FILE_A.path(), FILE_B.path()).collect()));
+    Assert.assertEquals("Should not find missing files",
+        Sets.newHashSet(),
+        pathsOf(FindFiles.in(table).withPaths("/path/to/missing.parquet").collect()));
+  }
+
+  private void enableFilters() {
+    table.updateProperties()
+        .set(TableProperties.MANIFEST_PATH_FILTERS_ENABLED, "true")
+        .commit();
+  }
+
+  private static Set<String> pathsOf(Iterable<DataFile> files) {
+    return StreamSupport.stream(files.spliterator(), false)
+        .map(file -> file.path().toString())
+        .collect(Collectors.toSet());
+  }
+}
@@ -25,9 +25,15 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.iceberg.ManifestEntry.Status;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ThreadPools;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -210,6 +216,41 @@ public class TestMergeAppend extends TableTestBase {
         "3", readMetadata().currentSnapshot().summary().get("added-data-files"));
   }
 
+  @Test
+  public void testMergeWithCustomExecutor() {
+    table.updateProperties()
+        .set(TableProperties.MANIFEST_MIN_MERGE_COUNT, "1")
+        .commit();
+
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    AtomicInteger executedTasks = new AtomicInteger(0);
+    ExecutorService executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+      @Override
+      protected void beforeExecute(Thread thread, Runnable task) {
+        executedTasks.incrementAndGet();
+        super.beforeExecute(thread, task);
+      }
+    };
+
+    try {
+      table.newAppend()
+          .appendFile(FILE_B)
+          .scanManifestsWith(executor)
+          .commit();
+    } finally {
+      executor.shutdown();
+    }
+
+    Assert.assertEquals("Should merge into a single manifest",
+        1, readMetadata().currentSnapshot().manifests().size());
+    Assert.assertTrue("Should run manifest work in the custom executor", executedTasks.get() > 0);
+    Assert.assertNotSame("Commit pool should be separate from the worker pool",
+        ThreadPools.getWorkerPool(), ThreadPools.getCommitPool());
+  }
+
   @Test
   public void testManifestDoNotMergeMinCount() throws IOException {
     Assert.assertEquals("Table should start empty", 0, listManifestFiles().size());
@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestPartitionStatsFile extends TableTestBase {
+  @Parameterized.Parameters
+  public static Object[][] parameters() {
+    return new Object[][] {
+        new Object[] { 1 },
+        new Object[] { 2 },
+    };
+  }
+
+  public TestPartitionStatsFile(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Before
+  public void enablePartitionStats() {
+    table.updateProperties()
+        .set(TableProperties.PARTITION_STATS_ENABLED, "true")
+        .commit();
+  }
+
+  @Test
+  public void testStatsDisabledByDefault() {
+    table.updateProperties()
+        .remove(TableProperties.PARTITION_STATS_ENABLED)
+        .commit();
+
+    table.newAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    Assert.assertNull("Should not write a stats file",
+        PartitionStatsFile.location(table.currentSnapshot()));
+  }
+
+  @Test
+  public void testIncrementalStats() {
+    table.newAppend()
+        .appendFile(FILE_A)
+        .appendFile(FILE_B)
+        .commit();
+
+    Snapshot first = table.currentSnapshot();
+    Map<String, ScanSummary.PartitionMetrics> firstStats = readStats(first);
+    Assert.assertEquals("Should have 2 partitions", 2, firstStats.size());
+    assertMetrics(firstStats.get("data_bucket=0"), 1, 1L, first.timestampMillis());
+    assertMetrics(firstStats.get("data_bucket=1"), 1, 1L, first.timestampMillis());
+
+    table.newAppend()
+        .appendFile(FILE_C)
+        .commit();
+
+    table.newDelete()
+        .deleteFile(FILE_A)
+        .commit();
+
+    Snapshot third = table.currentSnapshot();
+    Map<String, ScanSummary.PartitionMetrics> thirdStats = readStats(third);
+    Assert.assertEquals("Should remove partitions with no files", 2, thirdStats.size());
+    Assert.assertNull("Should not contain deleted partition", thirdStats.get("data_bucket=0"));
+    assertMetrics(thirdStats.get("data_bucket=1"), 1, 1L, first.timestampMillis());
+    assertMetrics(thirdStats.get("data_bucket=2"), 1, 1L, table.snapshot(third.parentId()).timestampMillis());
+
+    Assert.assertEquals("Scan summary should match manifests",
+        planSummary(), ScanSummary.of(table.newScan()).build().keySet());
+  }
+
+  @Test
+  public void testDeleteDoesNotUpdateTimestamp() {
+    DataFile fileA2 = DataFiles.builder(SPEC)
+        .withPath("/path/to/data-a2.parquet")
+        .withFileSizeInBytes(0)
+        .withPartitionPath("data_bucket=0")
+        .withRecordCount(1)
+        .build();
+
+    table.newAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    table.newAppend()
+        .appendFile(fileA2)
+        .commit();
+    long addedTimestamp = table.currentSnapshot().timestampMillis();
+
+    table.newDelete()
+        .deleteFile(FILE_A)
+        .commit();
+
+    Map<String, ScanSummary.PartitionMetrics> stats = readStats(table.currentSnapshot());
+    assertMetrics(stats.get("data_bucket=0"), 1, 1L, addedTimestamp);
+
+    // a row filter that matches all files reads the manifests instead of the stats file
+    Map<String, ScanSummary.PartitionMetrics> fromManifests = ScanSummary.of(
+        table.newScan().filter(Expressions.notNull("data"))).build();
+    Assert.assertEquals("Stats timestamp should match the manifests",
+        fromManifests.get("data_bucket=0").dataTimestampMillis(),
+        ScanSummary.of(table.newScan()).build().get("data_bucket=0").dataTimestampMillis());
+  }
+
+  @Test
+  public void testStatsBootstrapFromManifests() {
+    table.updateProperties()
+        .remove(TableProperties.PARTITION_STATS_ENABLED)
+        .commit();
+
+    table.newAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    Assert.assertNull("Should not write a stats file",
+        PartitionStatsFile.location(table.currentSnapshot()));
+
+    table.updateProperties()
+        .set(TableProperties.PARTITION_STATS_ENABLED, "true")
+        .commit();
+
+    table.newAppend()
+        .appendFile(FILE_B)
+        .appendFile(FILE_C)
+        .commit();
+
+    Map<String, ScanSummary.PartitionMetrics> stats = readStats(table.currentSnapshot());
+    Assert.assertEquals("Should include files from all snapshots", 3, stats.size());
+    long firstTimestamp = table.snapshot(table.currentSnapshot().parentId()).timestampMillis();
+    assertMetrics(stats.get("data_bucket=0"), 1, 1L, firstTimestamp);
+    assertMetrics(stats.get("data_bucket=1"), 1, 1L, table.currentSnapshot().timestampMillis());
+  }
+
+  @Test
+  public void testStatsBootstrapWhenFileIsMissing() {
+    table.newAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    String location = PartitionStatsFile.location(table.currentSnapshot());
+    Assert.assertTrue("Should delete stats file", new File(location).delete());
+    Assert.assertNull("Should not read a missing stats file",
+        PartitionStatsFile.read(table.io(), table.ops().current(), table.currentSnapshot()));
+
+    table.newAppend()
+        .appendFile(FILE_B)
+        .commit();
+
+    Assert.assertEquals("Should recompute stats from manifests", 2, readStats(table.currentSnapshot()).size());
+  }
+
+  @Test
+  public void testPartitionsTableUsesStats() throws IOException {
+    // metadata tables need a metadata file, which in-memory test tables do not have
+    String location = temp.newFolder("hadoop").toString();
+    Table hadoopTable = new HadoopTables(new Configuration()).create(SCHEMA, SPEC,
+        ImmutableMap.of(TableProperties.PARTITION_STATS_ENABLED, "true"), location);
+    TableOperations ops = ((HasTableOperations) hadoopTable).operations();
+    ops.commit(ops.current(), ops.current().upgradeToFormatVersion(formatVersion));
+    hadoopTable.refresh();
+
+    hadoopTable.newAppend()
+        .appendFile(FILE_A)
+        .appendFile(FILE_B)
+        .commit();
+
+    hadoopTable.newAppend()
+        .appendFile(FILE_B.copy())
+        .commit();
+
+    Assert.assertNotNull("Should write a stats file",
+        PartitionStatsFile.read(ops.io(), ops.current(), hadoopTable.currentSnapshot()));
+
+    Table partitionsTable = new PartitionsTable(ops, hadoopTable);
+    List<Object> rows = Lists.newArrayList();
+    long totalRecords = 0L;
+    int totalFiles = 0;
+    for (FileScanTask task : partitionsTable.newScan().planFiles()) {
+      try (CloseableIterable<StructLike> taskRows = ((DataTask) task).rows()) {
+        for (StructLike row : taskRows) {
+          rows.add(row);
+          totalRecords += row.get(1, Long.class);
+          totalFiles += row.get(2, Integer.class);
+        }
+      }
+    }
+
+    Assert.assertEquals("Should have a row for each partition", 2, rows.size());
+    Assert.assertEquals("Should count all records", 3L, totalRecords);
+    Assert.assertEquals("Should count all files", 3, totalFiles);
+  }
+
+  @Test
+  public void testRetriesCleanUpStatsFiles() {
+    table.ops().failCommits(1);
+
+    table.newAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    String location = PartitionStatsFile.location(table.currentSnapshot());
+    File[] statsFiles = metadataDir.listFiles((dir, name) -> name.startsWith("partition-stats-"));
+    Assert.assertEquals("Should only keep the committed stats file", 1, statsFiles.length);
+    Assert.assertEquals("Should keep the committed stats file",
+        new File(location).getName(), statsFiles[0].getName());
+  }
+
+  @Test
+  public void testExpireSnapshotsDeletesStatsFiles() {
+    table.newAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    String expiredStats = PartitionStatsFile.location(table.currentSnapshot());
+    long expiredId = table.currentSnapshot().snapshotId();
+
+    table.newAppend()
+        .appendFile(FILE_B)
+        .commit();
+
+    table.expireSnapshots()
+        .expireSnapshotId(expiredId)
+        .commit();
+
+    Assert.assertFalse("Should delete the expired snapshot's stats file", new File(expiredStats).exists());
+    Assert.assertTrue("Should keep the current snapshot's stats file",
+        new File(PartitionStatsFile.location(table.currentSnapshot())).exists());
+  }
+
+  private Map<String, ScanSummary.PartitionMetrics> readStats(Snapshot snapshot) {
+    Collection<PartitionStatsFile.PartitionStats> stats = PartitionStatsFile.read(
+        table.io(), table.ops().current(), snapshot);
+    Assert.assertNotNull("Should read partition stats", stats);
+
+    Map<String, ScanSummary.PartitionMetrics> metrics = Maps.newHashMap();
+    for (PartitionStatsFile.PartitionStats partition : stats) {
+      metrics.put(table.spec().partitionToPath(partition.partition()), new ScanSummary.PartitionMetrics()
+          .updateFromCounts(partition.fileCount(), partition.recordCount(), partition.totalSize(),
+              partition.lastUpdatedMillis()));
+    }
+
+    return metrics;
+  }
+
+  private Set<String> planSummary() {
+    Set<String> partitions = Sets.newHashSet();
+    for (FileScanTask task : table.newScan().planFiles()) {
+      partitions.add(table.spec().partitionToPath(task.file().partition()));
+    }
+    return partitions;
+  }
+
+  private static void assertMetrics(ScanSummary.PartitionMetrics metrics, int fileCount, long recordCount,
+                                    long timestampMillis) {
+    Assert.assertNotNull("Should have metrics for the partition", metrics);
+    Assert.assertEquals("File count should match", fileCount, metrics.fileCount());
+    Assert.assertEquals("Record count should match", recordCount, metrics.recordCount());
+    Assert.assertEquals("Last updated time should match", (Long) timestampMillis, metrics.dataTimestampMillis());
+  }
+}
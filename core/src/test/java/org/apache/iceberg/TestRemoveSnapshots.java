@@ -22,6 +22,7 @@ package org.apache.iceberg;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -404,6 +405,30 @@ public class TestRemoveSnapshots extends TableTestBase {
     Assert.assertTrue("FILE_B should be deleted", deletedFiles.contains(FILE_B.path().toString()));
   }
 
+  @Test
+  public void testDefaultDeleteUsesFileIO() {
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .commit();
+    Snapshot firstSnapshot = table.currentSnapshot();
+
+    table.newFastAppend()
+        .appendFile(FILE_B)
+        .commit();
+
+    File firstManifestList = new File(firstSnapshot.manifestListLocation());
+    Assert.assertTrue("Manifest list should exist before expiring", firstManifestList.exists());
+
+    table.expireSnapshots()
+        .expireSnapshotId(firstSnapshot.snapshotId())
+        .commit();
+
+    Assert.assertFalse("Manifest list of the expired snapshot should be deleted", firstManifestList.exists());
+    for (ManifestFile manifest : table.currentSnapshot().manifests()) {
+      Assert.assertTrue("Manifests still in use should not be deleted", new File(manifest.path()).exists());
+    }
+  }
+
   /**
    * Test on table below, and expiring the staged commit `B` using `expireOlderThan` API.
    * Table: A - C
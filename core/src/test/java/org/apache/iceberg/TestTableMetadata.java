@@ -27,6 +27,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -470,6 +471,67 @@ public class TestTableMetadata {
     );
   }
 
+  @Test
+  public void testStreamingParseLoadsSnapshotsLazily() throws Exception {
+    long previousSnapshotId = System.currentTimeMillis() - new Random(1234).nextInt(3600);
+    Snapshot previousSnapshot = new BaseSnapshot(
+        ops.io(), SEQ_NO - 1, previousSnapshotId, null, previousSnapshotId, DataOperations.APPEND,
+        ImmutableMap.of("added-data-files", "1"), localInput("file:/tmp/snap-1.avro"));
+    long currentSnapshotId = System.currentTimeMillis();
+    Snapshot currentSnapshot = new BaseSnapshot(
+        ops.io(), SEQ_NO, currentSnapshotId, previousSnapshotId, currentSnapshotId, DataOperations.APPEND,
+        ImmutableMap.of("added-data-files", "2"), localInput("file:/tmp/snap-2.avro"));
+
+    TableMetadata expected = new TableMetadata(null, 2, UUID.randomUUID().toString(), TEST_LOCATION,
+        SEQ_NO, System.currentTimeMillis(), 3, TEST_SCHEMA, 5, ImmutableList.of(SPEC_5),
+        ImmutableMap.of("property", "value"), currentSnapshotId,
+        Arrays.asList(previousSnapshot, currentSnapshot), ImmutableList.of(), ImmutableList.of());
+
+    byte[] asJson = TableMetadataParser.toJson(expected).getBytes(StandardCharsets.UTF_8);
+    TableMetadata metadata = TableMetadataParser.fromJson(ops.io(), null, asJson);
+
+    Assert.assertTrue("Should not parse snapshots eagerly", metadata.snapshots() instanceof LazySnapshotList);
+    Assert.assertEquals("Should have 2 snapshots", 2, metadata.snapshots().size());
+    Assert.assertEquals("Schema should match", expected.schema().asStruct(), metadata.schema().asStruct());
+    Assert.assertEquals("Properties should match", expected.properties(), metadata.properties());
+
+    Snapshot current = metadata.currentSnapshot();
+    Assert.assertEquals("Current snapshot ID should match", currentSnapshotId, current.snapshotId());
+    Assert.assertEquals("Parent snapshot ID should match", (Long) previousSnapshotId, current.parentId());
+    Assert.assertEquals("Sequence number should match", SEQ_NO, current.sequenceNumber());
+    Assert.assertEquals("Summary should match", currentSnapshot.summary(), current.summary());
+    Assert.assertEquals("Manifest list should match",
+        currentSnapshot.manifestListLocation(), current.manifestListLocation());
+    Assert.assertSame("Should reuse parsed snapshots", current, metadata.currentSnapshot());
+    Assert.assertSame("Should reuse parsed snapshots in the list", current, metadata.snapshots().get(1));
+
+    Assert.assertEquals("Previous snapshot should match",
+        previousSnapshot.summary(), metadata.snapshot(previousSnapshotId).summary());
+    Assert.assertNull("Should not find a missing snapshot", metadata.snapshot(currentSnapshotId + 1));
+  }
+
+  @Test
+  public void testStreamingParseValidatesSnapshots() throws Exception {
+    long snapshotId = System.currentTimeMillis();
+    Snapshot snapshot = new BaseSnapshot(
+        ops.io(), SEQ_NO, snapshotId, null, snapshotId, DataOperations.APPEND, null, localInput("file:/tmp/snap.avro"));
+    TableMetadata metadata = new TableMetadata(null, 2, UUID.randomUUID().toString(), TEST_LOCATION,
+        SEQ_NO, System.currentTimeMillis(), 3, TEST_SCHEMA, 5, ImmutableList.of(SPEC_5),
+        ImmutableMap.of(), snapshotId, ImmutableList.of(snapshot), ImmutableList.of(), ImmutableList.of());
+
+    String invalidSequenceNumber = TableMetadataParser.toJson(metadata)
+        .replace("\"last-sequence-number\":" + SEQ_NO, "\"last-sequence-number\":" + (SEQ_NO - 1));
+    AssertHelpers.assertThrows("Should validate sequence numbers without parsing snapshots",
+        ValidationException.class, "greater than last sequence number",
+        () -> TableMetadataParser.fromJson(ops.io(), null, invalidSequenceNumber.getBytes(StandardCharsets.UTF_8)));
+
+    String missingCurrent = TableMetadataParser.toJson(metadata)
+        .replace("\"current-snapshot-id\":" + snapshotId, "\"current-snapshot-id\":" + (snapshotId + 1));
+    AssertHelpers.assertThrows("Should validate the current snapshot without parsing snapshots",
+        IllegalArgumentException.class, "Cannot find current version",
+        () -> TableMetadataParser.fromJson(ops.io(), null, missingCurrent.getBytes(StandardCharsets.UTF_8)));
+  }
+
   @Test
   public void testParserVersionValidation() throws Exception {
     String supportedVersion = toJsonWithVersion(
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.hadoop;
+
+import com.google.common.collect.ImmutableList;
+import java.io.File;
+import java.io.IOException;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestHadoopFileIO {
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private HadoopFileIO io;
+
+  @Before
+  public void createFileIO() {
+    this.io = new HadoopFileIO(new Configuration());
+  }
+
+  @Test
+  public void testDeleteFiles() throws IOException {
+    File first = temp.newFile();
+    File second = temp.newFile();
+    File missing = new File(temp.getRoot(), "missing");
+
+    io.deleteFiles(ImmutableList.of(first.toString(), second.toString(), missing.toString()));
+
+    Assert.assertFalse("Should delete the first file", first.exists());
+    Assert.assertFalse("Should delete the second file", second.exists());
+  }
+
+  @Test
+  public void testDeleteFilesReportsFailures() throws IOException {
+    File file = temp.newFile();
+    File nonEmptyDir = temp.newFolder();
+    Assert.assertTrue("Should create a file in the directory", new File(nonEmptyDir, "child").createNewFile());
+
+    try {
+      io.deleteFiles(ImmutableList.of(file.toString(), nonEmptyDir.toString()));
+      Assert.fail("Should fail to delete a non-empty directory");
+    } catch (BulkDeletionFailureException e) {
+      Assert.assertEquals("Should report only the directory",
+          ImmutableList.of(nonEmptyDir.toString()), ImmutableList.copyOf(e.failures().keySet()));
+    }
+
+    Assert.assertFalse("Should delete the file even though another delete failed", file.exists());
+    Assert.assertTrue("Should not delete the non-empty directory", nonEmptyDir.exists());
+  }
+}
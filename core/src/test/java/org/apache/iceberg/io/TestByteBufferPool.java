@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.io;
+
+import java.nio.ByteBuffer;
+import org.apache.iceberg.AssertHelpers;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestByteBufferPool {
+  private static final int KB = 1024;
+
+  @Test
+  public void testSizeClasses() {
+    ByteBufferPool pool = new ByteBufferPool(1024 * KB, 64 * KB, false, true);
+
+    ByteBuffer small = pool.allocate(100);
+    Assert.assertEquals("Should use the smallest size class", 4 * KB, small.capacity());
+    Assert.assertEquals("Should start at position 0", 0, small.position());
+    Assert.assertEquals("Should limit the buffer to the requested size", 100, small.limit());
+
+    ByteBuffer medium = pool.allocate(5 * KB);
+    Assert.assertEquals("Should round up to a power of two", 8 * KB, medium.capacity());
+
+    ByteBuffer exact = pool.allocate(16 * KB);
+    Assert.assertEquals("Should not round up exact sizes", 16 * KB, exact.capacity());
+
+    ByteBuffer large = pool.allocate(100 * KB);
+    Assert.assertEquals("Should allocate large buffers exactly", 100 * KB, large.capacity());
+
+    Assert.assertEquals("Should track outstanding buffers", 4, pool.outstandingBuffers());
+    Assert.assertEquals("Should track outstanding bytes", 128 * KB, pool.outstandingBytes());
+
+    pool.release(small);
+    pool.release(medium);
+    pool.release(exact);
+    pool.release(large);
+
+    Assert.assertEquals("Should have no outstanding buffers", 0, pool.outstandingBuffers());
+    Assert.assertEquals("Should retain pooled buffers only", 28 * KB, pool.retainedBytes());
+    Assert.assertEquals("Should record the peak outstanding bytes", 128 * KB, pool.peakOutstandingBytes());
+  }
+
+  @Test
+  public void testReuse() {
+    ByteBufferPool pool = new ByteBufferPool(1024 * KB, 64 * KB, false, true);
+
+    ByteBuffer first = pool.allocate(6 * KB);
+    first.put((byte) 1);
+    pool.release(first);
+
+    ByteBuffer second = pool.allocate(7 * KB);
+    Assert.assertSame("Should reuse a released buffer of the same class", first, second);
+    Assert.assertEquals("Should reset the position", 0, second.position());
+    Assert.assertEquals("Should set the new limit", 7 * KB, second.limit());
+    Assert.assertEquals("Should record a hit", 1, pool.hitCount());
+    Assert.assertEquals("Should record a miss", 1, pool.missCount());
+
+    ByteBuffer other = pool.allocate(4 * KB);
+    Assert.assertNotSame("Should not reuse buffers from another class", first, other);
+
+    pool.release(second);
+    pool.release(other);
+  }
+
+  @Test
+  public void testMaxRetainedBytes() {
+    ByteBufferPool pool = new ByteBufferPool(8 * KB, 64 * KB, false, false);
+
+    ByteBuffer first = pool.allocate(8 * KB);
+    ByteBuffer second = pool.allocate(8 * KB);
+    pool.release(first);
+    pool.release(second);
+
+    Assert.assertEquals("Should not retain more than the max retained bytes", 8 * KB, pool.retainedBytes());
+    Assert.assertSame("Should reuse the retained buffer", first, pool.allocate(8 * KB));
+    Assert.assertNotSame("Should allocate a new buffer", second, pool.allocate(8 * KB));
+  }
+
+  @Test
+  public void testDisabledPool() {
+    ByteBufferPool pool = new ByteBufferPool(0, 64 * KB, false, false);
+    Assert.assertFalse("Should not be enabled without retained bytes", pool.isEnabled());
+
+    ByteBuffer buffer = pool.allocate(8 * KB);
+    pool.release(buffer);
+    Assert.assertEquals("Should not retain released buffers", 0, pool.retainedBytes());
+    Assert.assertNotSame("Should allocate a new buffer", buffer, pool.allocate(8 * KB));
+  }
+
+  @Test
+  public void testDirectBuffers() {
+    ByteBufferPool pool = new ByteBufferPool(1024 * KB, 64 * KB, true, true);
+    ByteBuffer buffer = pool.allocate(10);
+    Assert.assertTrue("Should allocate direct buffers", buffer.isDirect());
+    pool.release(buffer);
+  }
+
+  @Test
+  public void testLeakTracking() {
+    ByteBufferPool pool = new ByteBufferPool(1024 * KB, 64 * KB, false, true);
+    ByteBuffer buffer = pool.allocate(10);
+    pool.release(buffer);
+
+    AssertHelpers.assertThrows("Should reject releasing a buffer twice",
+        IllegalArgumentException.class, "not outstanding",
+        () -> pool.release(buffer));
+
+    AssertHelpers.assertThrows("Should reject releasing a buffer from elsewhere",
+        IllegalArgumentException.class, "not outstanding",
+        () -> pool.release(ByteBuffer.allocate(4 * KB)));
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.io;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.io.ByteStreams;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.apache.iceberg.Files;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestCoalescingInputStream {
+  private static final int FILE_SIZE = 64 * 1024;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private ExecutorService executor = null;
+  private byte[] contents = null;
+  private CountingInputFile file = null;
+
+  @Before
+  public void createFile() throws IOException {
+    this.executor = Executors.newFixedThreadPool(4);
+    this.contents = new byte[FILE_SIZE];
+    new Random(34).nextBytes(contents);
+
+    File local = temp.newFile();
+    try (FileOutputStream out = new FileOutputStream(local)) {
+      out.write(contents);
+    }
+
+    this.file = new CountingInputFile(Files.localInput(local));
+  }
+
+  @After
+  public void shutdownExecutor() throws InterruptedException {
+    executor.shutdownNow();
+    Assert.assertTrue("Fetches should stop", executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testCoalesce() {
+    List<FileRange> ranges = ImmutableList.of(
+        new FileRange(100, 10), new FileRange(15, 5), new FileRange(0, 10), new FileRange(50, 0));
+
+    Assert.assertEquals("Should merge ranges separated by small gaps",
+        ImmutableList.of("0-20", "100-110"),
+        describe(CoalescingInputStream.coalesce(ranges, 5, 1000)));
+
+    Assert.assertEquals("Should not merge ranges separated by large gaps",
+        ImmutableList.of("0-10", "15-20", "100-110"),
+        describe(CoalescingInputStream.coalesce(ranges, 4, 1000)));
+
+    Assert.assertEquals("Should split ranges larger than the max range size",
+        ImmutableList.of("0-100", "100-200", "200-250"),
+        describe(CoalescingInputStream.coalesce(ImmutableList.of(new FileRange(0, 250)), 0, 100)));
+  }
+
+  @Test
+  public void testReadRequestedRanges() throws IOException {
+    List<FileRange> ranges = ImmutableList.of(
+        new FileRange(40000, 3000), new FileRange(1000, 500), new FileRange(1600, 2000), new FileRange(20000, 100));
+
+    try (CoalescingInputStream stream = newStream(128, 1024)) {
+      stream.readVectored(ranges);
+
+      for (FileRange range : ranges) {
+        assertReads(stream, range.offset(), (int) range.length());
+      }
+    }
+
+    // 1000-3600 in 3 ranges, 20000-20100, and 40000-43000 in 3 ranges, plus the wrapped stream
+    Assert.assertEquals("Should fetch each coalesced range with its own stream", 8, file.openCount.get());
+  }
+
+  @Test
+  public void testReadOutsideRequestedRanges() throws IOException {
+    try (CoalescingInputStream stream = newStream(0, 1024)) {
+      stream.readVectored(ImmutableList.of(new FileRange(1000, 100), new FileRange(5000, 2000)));
+
+      assertReads(stream, 0, 500);
+      assertReads(stream, 900, 300); // spans the start and end of a fetched range
+      assertReads(stream, 4000, 2000); // ends inside a fetched range
+      assertReads(stream, 6500, 1000); // starts inside a fetched range
+
+      stream.seek(FILE_SIZE - 1);
+      Assert.assertEquals("Should read the last byte", contents[FILE_SIZE - 1] & 0xFF, stream.read());
+      Assert.assertEquals("Should return -1 at the end of the file", -1, stream.read());
+    }
+  }
+
+  @Test
+  public void testFetchInReaderThreadWhenExecutorDoesNotRun() throws IOException {
+    List<Runnable> neverRun = Lists.newArrayList();
+    try (CoalescingInputStream stream = new CoalescingInputStream(
+        file, file.newStream(), neverRun::add, 0, 1024)) {
+      stream.readVectored(ImmutableList.of(new FileRange(100, 5000)));
+      assertReads(stream, 100, 5000);
+    }
+
+    Assert.assertEquals("Should submit a fetch for each split range", 5, neverRun.size());
+  }
+
+  @Test
+  public void testReleaseFetchedBuffers() throws IOException, InterruptedException {
+    ByteBufferPool pool = new ByteBufferPool(FILE_SIZE, FILE_SIZE, false, true);
+    try (CoalescingInputStream stream = new CoalescingInputStream(
+        file, file.newStream(), executor, pool, 0, 4096)) {
+      stream.readVectored(ImmutableList.of(new FileRange(0, 4096), new FileRange(8192, 4096)));
+      // partially reading the second range waits for its fetch so that its buffer is outstanding
+      assertReads(stream, 8192, 1024);
+      assertReads(stream, 0, 4096);
+      Assert.assertEquals("Should release a range that was read to the end", 1, pool.outstandingBuffers());
+
+      stream.readVectored(ImmutableList.of(new FileRange(16384, 4096), new FileRange(32768, 4096)));
+      assertReads(stream, 16384, 4096);
+      assertReads(stream, 32768, 2048);
+    }
+
+    // fetches discarded while running release their buffers when they finish
+    executor.shutdown();
+    Assert.assertTrue("Fetches should finish", executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    Assert.assertEquals("Should release discarded and partially read ranges", 0, pool.outstandingBuffers());
+    Assert.assertTrue("Should reuse released buffers", pool.hitCount() > 0);
+  }
+
+  private CoalescingInputStream newStream(long maxGapBytes, int maxRangeBytes) {
+    return new CoalescingInputStream(file, file.newStream(), executor, maxGapBytes, maxRangeBytes);
+  }
+
+  private void assertReads(SeekableInputStream stream, long offset, int length) throws IOException {
+    byte[] actual = new byte[length];
+    stream.seek(offset);
+    ByteStreams.readFully(stream, actual);
+
+    Assert.assertArrayEquals("Should read bytes " + offset + "-" + (offset + length),
+        Arrays.copyOfRange(contents, (int) offset, (int) offset + length), actual);
+    Assert.assertEquals("Should advance the position", offset + length, stream.getPos());
+  }
+
+  private static List<String> describe(List<FileRange> ranges) {
+    return ranges.stream().map(range -> range.offset() + "-" + range.end()).collect(Collectors.toList());
+  }
+
+  private static class CountingInputFile implements InputFile {
+    private final InputFile delegate;
+    private final AtomicInteger openCount = new AtomicInteger(0);
+
+    private CountingInputFile(InputFile delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public long getLength() {
+      return delegate.getLength();
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      openCount.incrementAndGet();
+      return delegate.newStream();
+    }
+
+    @Override
+    public String location() {
+      return delegate.location();
+    }
+
+    @Override
+    public boolean exists() {
+      return delegate.exists();
+    }
+  }
+}
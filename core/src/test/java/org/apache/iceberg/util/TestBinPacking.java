@@ -19,9 +19,12 @@
 
 package org.apache.iceberg.util;
 
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import java.util.Iterator;
 import java.util.List;
 import org.apache.iceberg.util.BinPacking.ListPacker;
+import org.apache.iceberg.util.BinPacking.PackingIterable;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -173,6 +176,22 @@ public class TestBinPacking {
         pack(list(64, 64, 128, 32, 32, 32, 32), 128, 1, true));
   }
 
+  @Test
+  public void testFullBinsReturnedEarly() {
+    List<Integer> consumed = Lists.newArrayList();
+    Iterable<Integer> items = () -> Iterators.transform(list(4, 4, 4, 4, 4, 4).iterator(), item -> {
+      consumed.add(item);
+      return item;
+    });
+
+    Iterator<List<Integer>> bins = new PackingIterable<>(items, 8, 10, Integer::longValue, true).iterator();
+
+    Assert.assertEquals("Should return the first full bin", list(4, 4), bins.next());
+    Assert.assertEquals("Should not consume items past the first full bin", 2, consumed.size());
+    Assert.assertEquals("Should return the second full bin", list(4, 4), bins.next());
+    Assert.assertEquals("Should not consume items past the second full bin", 4, consumed.size());
+  }
+
   private List<List<Integer>> pack(List<Integer> items, long targetWeight) {
     return pack(items, targetWeight, Integer.MAX_VALUE);
   }
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.util;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.iceberg.AssertHelpers;
+import org.apache.iceberg.io.CloseableIterable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestParallelIterable {
+  private ExecutorService executor = null;
+
+  @Before
+  public void createExecutor() {
+    this.executor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void shutdownExecutor() throws InterruptedException {
+    executor.shutdownNow();
+    Assert.assertTrue("Producer tasks should stop", executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testUnboundedReadsAllItems() throws IOException {
+    List<List<Integer>> iterables = ranges(20, 100);
+
+    try (CloseableIterable<Integer> parallel = new ParallelIterable<>(iterables, executor)) {
+      Assert.assertEquals("Should read all items", expected(iterables), Sets.newHashSet(parallel));
+    }
+  }
+
+  @Test
+  public void testBoundedReadsAllItems() throws IOException {
+    List<List<Integer>> iterables = ranges(20, 100);
+
+    try (CloseableIterable<Integer> parallel = new ParallelIterable<>(iterables, executor, 3)) {
+      Set<Integer> items = Sets.newHashSet();
+      for (Integer item : parallel) {
+        Assert.assertTrue("Should not produce duplicates", items.add(item));
+      }
+      Assert.assertEquals("Should read all items", expected(iterables), items);
+    }
+  }
+
+  @Test
+  public void testBoundedQueueBlocksProducers() throws Exception {
+    AtomicInteger produced = new AtomicInteger(0);
+    Iterable<Integer> counting = () -> IntStream.range(0, 1000)
+        .peek(i -> produced.incrementAndGet())
+        .iterator();
+
+    try (CloseableIterable<Integer> parallel = new ParallelIterable<>(ImmutableList.of(counting), executor, 5)) {
+      Iterator<Integer> iter = parallel.iterator();
+      Assert.assertTrue("Should have items", iter.hasNext());
+      iter.next();
+
+      // give the producer time to fill the queue
+      Thread.sleep(200);
+
+      // the producer can hold one item while it waits for space in the queue
+      Assert.assertTrue("Should not read more than the queue can hold: " + produced.get(), produced.get() <= 7);
+    }
+  }
+
+  @Test
+  public void testCloseStopsProducers() throws Exception {
+    AtomicInteger produced = new AtomicInteger(0);
+    Iterable<Integer> endless = () -> IntStream.iterate(0, i -> i + 1)
+        .peek(i -> produced.incrementAndGet())
+        .iterator();
+
+    CloseableIterable<Integer> parallel = new ParallelIterable<>(ImmutableList.of(endless, endless), executor, 10);
+    Iterator<Integer> iter = parallel.iterator();
+    Assert.assertTrue("Should have items", iter.hasNext());
+    parallel.close();
+
+    Thread.sleep(100);
+    int producedAfterClose = produced.get();
+    Thread.sleep(100);
+    Assert.assertEquals("Should not produce items after close", producedAfterClose, produced.get());
+  }
+
+  @Test
+  public void testProducerFailurePropagates() throws IOException {
+    Iterable<Integer> failing = () -> new Iterator<Integer>() {
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public Integer next() {
+        throw new IllegalStateException("Injected failure");
+      }
+    };
+
+    try (CloseableIterable<Integer> parallel = new ParallelIterable<>(ImmutableList.of(failing), executor, 10)) {
+      AssertHelpers.assertThrows("Should propagate producer failures",
+          IllegalStateException.class, "Injected failure",
+          () -> Lists.newArrayList(parallel));
+    }
+  }
+
+  @Test
+  public void testInvalidQueueSize() {
+    AssertHelpers.assertThrows("Should reject a non-positive queue size",
+        IllegalArgumentException.class, "Invalid max queue size",
+        () -> new ParallelIterable<>(ImmutableList.of(ImmutableList.of(1)), executor, 0));
+  }
+
+  private static List<List<Integer>> ranges(int numRanges, int rangeSize) {
+    return IntStream.range(0, numRanges)
+        .mapToObj(r -> IntStream.range(r * rangeSize, (r + 1) * rangeSize).boxed().collect(Collectors.toList()))
+        .collect(Collectors.toList());
+  }
+
+  private static Set<Integer> expected(List<List<Integer>> iterables) {
+    return iterables.stream().flatMap(List::stream).collect(Collectors.toSet());
+  }
+}
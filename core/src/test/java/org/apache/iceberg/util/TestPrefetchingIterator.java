@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.util;
+
+import com.google.common.collect.Lists;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.iceberg.AssertHelpers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestPrefetchingIterator {
+  private ExecutorService executor = null;
+
+  @Before
+  public void createExecutor() {
+    this.executor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void shutdownExecutor() throws InterruptedException {
+    executor.shutdownNow();
+    Assert.assertTrue("Open tasks should stop", executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testReturnsResultsInOrder() throws IOException {
+    List<Integer> items = range(20);
+
+    List<Integer> opened = Lists.newArrayList();
+    try (PrefetchingIterator<Integer, Resource> iter = new PrefetchingIterator<>(
+        items.iterator(), Resource::new, 3, executor)) {
+      while (iter.hasNext()) {
+        opened.add(iter.next().id);
+      }
+    }
+
+    Assert.assertEquals("Should open all items in order", items, opened);
+  }
+
+  @Test
+  public void testOpensAheadUpToDepth() throws Exception {
+    AtomicInteger openCount = new AtomicInteger(0);
+    Function<Integer, Resource> open = id -> {
+      openCount.incrementAndGet();
+      return new Resource(id);
+    };
+
+    try (PrefetchingIterator<Integer, Resource> iter = new PrefetchingIterator<>(
+        range(20).iterator(), open, 3, executor)) {
+      Assert.assertEquals("Should not open before the first item is requested", 0, openCount.get());
+
+      int consumed = 0;
+      while (iter.hasNext()) {
+        iter.next();
+        consumed += 1;
+
+        int expectedOpened = Math.min(consumed + 3, 20);
+        waitForOpens(openCount, expectedOpened);
+        Assert.assertEquals("Should open exactly depth items ahead", expectedOpened, openCount.get());
+      }
+    }
+  }
+
+  @Test
+  public void testZeroDepthOpensInCallingThread() {
+    Thread caller = Thread.currentThread();
+    Function<Integer, Resource> open = id -> {
+      Assert.assertSame("Should open in the calling thread", caller, Thread.currentThread());
+      return new Resource(id);
+    };
+
+    PrefetchingIterator<Integer, Resource> iter = new PrefetchingIterator<>(range(5).iterator(), open, 0, null);
+    int count = 0;
+    while (iter.hasNext()) {
+      iter.next();
+      count += 1;
+    }
+
+    Assert.assertEquals("Should open all items", 5, count);
+  }
+
+  @Test
+  public void testCloseReleasesPrefetchedResults() throws IOException {
+    List<Resource> resources = Lists.newArrayList();
+    Function<Integer, Resource> open = id -> {
+      Resource resource = new Resource(id);
+      synchronized (resources) {
+        resources.add(resource);
+      }
+      return resource;
+    };
+
+    PrefetchingIterator<Integer, Resource> iter = new PrefetchingIterator<>(range(20).iterator(), open, 4, executor);
+    Resource first = iter.next();
+    iter.close();
+
+    Assert.assertFalse("Should not return items after close", iter.hasNext());
+    Assert.assertFalse("Should not close the result owned by the caller", first.closed);
+    Assert.assertEquals("Should open the first item and depth items ahead", 5, resources.size());
+    for (Resource resource : resources) {
+      if (resource != first) {
+        Assert.assertTrue("Should close prefetched result " + resource.id, resource.closed);
+      }
+    }
+  }
+
+  @Test
+  public void testOpenFailureIsRethrown() throws IOException {
+    Function<Integer, Resource> open = id -> {
+      if (id == 2) {
+        throw new IllegalStateException("Cannot open item: " + id);
+      }
+      return new Resource(id);
+    };
+
+    try (PrefetchingIterator<Integer, Resource> iter = new PrefetchingIterator<>(
+        range(5).iterator(), open, 2, executor)) {
+      Assert.assertEquals(0, iter.next().id);
+      Assert.assertEquals(1, iter.next().id);
+      AssertHelpers.assertThrows("Should rethrow the failure from the read pool",
+          IllegalStateException.class, "Cannot open item: 2",
+          iter::next);
+    }
+  }
+
+  @Test
+  public void testInvalidDepth() {
+    Iterator<Integer> items = range(5).iterator();
+    AssertHelpers.assertThrows("Should reject negative depth",
+        IllegalArgumentException.class, "Invalid prefetch depth: -1",
+        () -> new PrefetchingIterator<>(items, Resource::new, -1, executor));
+  }
+
+  private static void waitForOpens(AtomicInteger openCount, int expected) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (openCount.get() < expected && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+
+  private static List<Integer> range(int size) {
+    return IntStream.range(0, size).boxed().collect(Collectors.toList());
+  }
+
+  private static class Resource implements Closeable {
+    private final int id;
+    private volatile boolean closed = false;
+
+    private Resource(int id) {
+      this.id = id;
+    }
+
+    @Override
+    public void close() {
+      this.closed = true;
+    }
+  }
+}
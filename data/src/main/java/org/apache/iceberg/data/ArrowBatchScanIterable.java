@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.data;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.util.TransferPair;
+import org.apache.avro.generic.GenericData;
+import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.HasTableOperations;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.TableScan;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.arrow.vectorized.ArrowBatchReaders;
+import org.apache.iceberg.arrow.vectorized.BatchEvaluator;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableGroup;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.PartitionUtil;
+
+/**
+ * Reads a table scan as Arrow {@link VectorSchemaRoot} batches.
+ * <p>
+ * Only Parquet data files are supported. Batches reuse vectors and are only valid until the iterator is advanced.
+ * When a task has a residual filter, rows that do not match are removed by copying the matching rows of each batch
+ * into new vectors; batches without a residual, or with only matching rows, are returned without a copy.
+ */
+class ArrowBatchScanIterable extends CloseableGroup implements CloseableIterable<VectorSchemaRoot> {
+  private final TableOperations ops;
+  private final Schema projection;
+  private final boolean caseSensitive;
+  private final int batchSize;
+  private final boolean applyResidual;
+  private final CloseableIterable<CombinedScanTask> tasks;
+
+  ArrowBatchScanIterable(TableScan scan, int batchSize, boolean applyResidual) {
+    Preconditions.checkArgument(scan.table() instanceof HasTableOperations,
+        "Cannot scan table that doesn't expose its TableOperations");
+    Preconditions.checkArgument(batchSize > 0, "Invalid batch size: %s", batchSize);
+    Preconditions.checkArgument(ArrowBatchReaders.isSupported(scan.schema()),
+        "Cannot read Arrow batches for unsupported schema: %s", scan.schema());
+    this.ops = ((HasTableOperations) scan.table()).operations();
+    this.projection = scan.schema();
+    this.caseSensitive = scan.isCaseSensitive();
+    this.batchSize = batchSize;
+    this.applyResidual = applyResidual;
+
+    // start planning tasks in the background
+    this.tasks = scan.planTasks();
+  }
+
+  @Override
+  public Iterator<VectorSchemaRoot> iterator() {
+    BatchIterator iter = new BatchIterator(tasks);
+    addCloseable(iter);
+    return iter;
+  }
+
+  private CloseableIterable<VectorSchemaRoot> open(FileScanTask task) {
+    if (task.file().format() != FileFormat.PARQUET) {
+      throw new UnsupportedOperationException(String.format("Cannot read %s file as Arrow batches: %s",
+          task.file().format().name(), task.file().path()));
+    }
+
+    InputFile input = ops.io().newInputFile(task.file().path().toString());
+    Map<Integer, ?> partition = PartitionUtil.constantsMap(task, ArrowBatchScanIterable::convertConstant);
+
+    return Parquet.read(input)
+        .project(projection)
+        .createBatchedReaderFunc(fileSchema -> ArrowBatchReaders.buildReader(
+            projection, fileSchema, partition, batchSize))
+        .recordsPerBatch(batchSize)
+        .filter(task.residual())
+        .caseSensitive(caseSensitive)
+        .split(task.start(), task.length())
+        .reuseContainers()
+        .build();
+  }
+
+  @Override
+  public void close() throws IOException {
+    tasks.close(); // close manifests from scan planning
+    super.close(); // close data files
+  }
+
+  private class BatchIterator implements Iterator<VectorSchemaRoot>, Closeable {
+    private final Iterator<FileScanTask> tasks;
+    private final BufferAllocator allocator = ArrowAllocation.rootAllocator();
+    private Closeable currentCloseable = null;
+    private Iterator<VectorSchemaRoot> currentIterator = Collections.emptyIterator();
+    private BatchEvaluator currentResidual = null;
+    private VectorSchemaRoot filtered = null;
+    private VectorSchemaRoot nextBatch = null;
+
+    private BatchIterator(CloseableIterable<CombinedScanTask> tasks) {
+      this.tasks = Lists.newArrayList(Iterables.concat(
+          CloseableIterable.transform(tasks, CombinedScanTask::files))).iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (nextBatch == null) {
+        if (currentIterator.hasNext()) {
+          VectorSchemaRoot batch = currentIterator.next();
+          if (currentResidual != null) {
+            batch = filter(batch);
+          }
+
+          if (batch.getRowCount() > 0) {
+            this.nextBatch = batch;
+          }
+
+        } else if (tasks.hasNext()) {
+          closeCurrent();
+
+          FileScanTask task = tasks.next();
+          CloseableIterable<VectorSchemaRoot> reader = open(task);
+          this.currentCloseable = reader;
+          this.currentIterator = reader.iterator();
+
+          if (applyResidual && task.residual() != null && task.residual() != Expressions.alwaysTrue()) {
+            this.currentResidual = new BatchEvaluator(projection.asStruct(), task.residual(), caseSensitive);
+          } else {
+            this.currentResidual = null;
+          }
+
+        } else {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    @Override
+    public VectorSchemaRoot next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      VectorSchemaRoot batch = nextBatch;
+      this.nextBatch = null;
+      return batch;
+    }
+
+    /**
+     * Returns a batch with only the rows that match the current residual.
+     * <p>
+     * If all rows match, the batch is returned as-is. Otherwise, matching rows are copied into a new batch that
+     * replaces the last filtered batch.
+     */
+    private VectorSchemaRoot filter(VectorSchemaRoot batch) {
+      int numRows = batch.getRowCount();
+      int[] selected = new int[numRows];
+      int numSelected = currentResidual.select(batch, selected);
+
+      if (numSelected == numRows) {
+        return batch;
+      }
+
+      closeFiltered();
+
+      List<Field> fields = Lists.newArrayListWithExpectedSize(batch.getFieldVectors().size());
+      List<FieldVector> vectors = Lists.newArrayListWithExpectedSize(batch.getFieldVectors().size());
+      for (FieldVector vector : batch.getFieldVectors()) {
+        TransferPair copy = vector.getTransferPair(allocator);
+        FieldVector copied = (FieldVector) copy.getTo();
+        copied.allocateNew();
+        for (int pos = 0; pos < numSelected; pos += 1) {
+          copy.copyValueSafe(selected[pos], pos);
+        }
+        copied.setValueCount(numSelected);
+
+        fields.add(copied.getField());
+        vectors.add(copied);
+      }
+
+      this.filtered = new VectorSchemaRoot(fields, vectors, numSelected);
+      return filtered;
+    }
+
+    private void closeFiltered() {
+      if (filtered != null) {
+        filtered.close();
+        this.filtered = null;
+      }
+    }
+
+    private void closeCurrent() {
+      if (currentCloseable != null) {
+        try {
+          currentCloseable.close();
+        } catch (IOException e) {
+          throw new RuntimeIOException(e, "Failed to close task");
+        }
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      closeFiltered();
+      if (currentCloseable != null) {
+        currentCloseable.close();
+      }
+    }
+  }
+
+  /**
+   * Conversions from generic Avro partition values to the values used to fill Arrow vectors.
+   */
+  private static Object convertConstant(Type type, Object value) {
+    if (value instanceof GenericData.Fixed) {
+      return ((GenericData.Fixed) value).bytes();
+    }
+
+    return value;
+  }
+}
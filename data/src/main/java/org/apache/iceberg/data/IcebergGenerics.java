@@ -20,9 +20,11 @@
 package org.apache.iceberg.data;
 
 import com.google.common.collect.ImmutableList;
+import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.io.CloseableIterable;
 
 public class IcebergGenerics {
   private IcebergGenerics() {
@@ -41,6 +43,7 @@ public class IcebergGenerics {
   public static class ScanBuilder {
     private TableScan tableScan;
     private boolean reuseContainers = false;
+    private Integer prefetchDepth = null;
 
     public ScanBuilder(Table table) {
       this.tableScan = table.newScan();
@@ -51,6 +54,20 @@ public class IcebergGenerics {
       return this;
     }
 
+    /**
+     * Opens up to depth data files ahead of the file that is being read, overriding the table's
+     * {@link org.apache.iceberg.TableProperties#SPLIT_PREFETCH_DEPTH prefetch depth}.
+     * <p>
+     * Files are opened in the shared read pool. A depth of 0 opens each file when it is reached.
+     *
+     * @param depth the number of files to open ahead
+     * @return this for method chaining
+     */
+    public ScanBuilder prefetch(int depth) {
+      this.prefetchDepth = depth;
+      return this;
+    }
+
     public ScanBuilder where(Expression rowFilter) {
       this.tableScan = tableScan.filter(rowFilter);
       return this;
@@ -79,8 +96,36 @@ public class IcebergGenerics {
     public Iterable<Record> build() {
       return new TableScanIterable(
           tableScan,
-          reuseContainers
+          reuseContainers,
+          prefetchDepth
       );
     }
+
+    /**
+     * Returns an iterable of Arrow batches with at most batchSize rows, filtered by the scan's row filter.
+     * <p>
+     * This requires iceberg-arrow and only supports Parquet data files and flat schemas of primitive types. Batches
+     * reuse vectors and are only valid until the iterator is advanced; closing the iterable releases them.
+     *
+     * @param batchSize the maximum number of rows in a batch
+     * @return an iterable of Arrow batches
+     */
+    public CloseableIterable<VectorSchemaRoot> buildArrowBatches(int batchSize) {
+      return buildArrowBatches(batchSize, true);
+    }
+
+    /**
+     * Returns an iterable of Arrow batches with at most batchSize rows.
+     * <p>
+     * When applyResidual is false, only files and row groups are filtered, so batches may contain rows that do not
+     * match the row filter. Callers that filter batches themselves can use this to avoid copying matching rows.
+     *
+     * @param batchSize the maximum number of rows in a batch
+     * @param applyResidual whether to remove rows in each batch that do not match the row filter
+     * @return an iterable of Arrow batches
+     */
+    public CloseableIterable<VectorSchemaRoot> buildArrowBatches(int batchSize, boolean applyResidual) {
+      return new ArrowBatchScanIterable(tableScan, batchSize, applyResidual);
+    }
   }
 }
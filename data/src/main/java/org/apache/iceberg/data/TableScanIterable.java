@@ -21,7 +21,9 @@ package org.apache.iceberg.data;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import com.google.common.collect.PeekingIterator;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Collections;
@@ -34,6 +36,7 @@ import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.HasTableOperations;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.data.avro.DataReader;
@@ -50,21 +53,29 @@ import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.PartitionUtil;
+import org.apache.iceberg.util.PrefetchingIterator;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.ThreadPools;
 
 class TableScanIterable extends CloseableGroup implements CloseableIterable<Record> {
   private final TableOperations ops;
   private final Schema projection;
   private final boolean reuseContainers;
   private final boolean caseSensitive;
+  private final int prefetchDepth;
   private final CloseableIterable<CombinedScanTask> tasks;
 
-  TableScanIterable(TableScan scan, boolean reuseContainers) {
+  TableScanIterable(TableScan scan, boolean reuseContainers, Integer prefetchDepth) {
     Preconditions.checkArgument(scan.table() instanceof HasTableOperations,
         "Cannot scan table that doesn't expose its TableOperations");
     this.ops = ((HasTableOperations) scan.table()).operations();
     this.projection = scan.schema();
     this.reuseContainers = reuseContainers;
     this.caseSensitive = scan.isCaseSensitive();
+    this.prefetchDepth = prefetchDepth != null ? prefetchDepth : PropertyUtil.propertyAsInt(
+        ops.current().properties(), TableProperties.SPLIT_PREFETCH_DEPTH, TableProperties.SPLIT_PREFETCH_DEPTH_DEFAULT);
+    Preconditions.checkArgument(this.prefetchDepth >= 0,
+        "Invalid prefetch depth: %s (must be >= 0)", this.prefetchDepth);
 
     // start planning tasks in the background
     this.tasks = scan.planTasks();
@@ -112,6 +123,8 @@ class TableScanIterable extends CloseableGroup implements CloseableIterable<Reco
         ORC.ReadBuilder orc = ORC.read(input)
                 .project(projection)
                 .createReaderFunc(fileSchema -> GenericOrcReader.buildReader(projection, fileSchema))
+                .filter(task.residual())
+                .caseSensitive(caseSensitive)
                 .split(task.start(), task.length());
 
         return orc.build();
@@ -129,14 +142,15 @@ class TableScanIterable extends CloseableGroup implements CloseableIterable<Reco
   }
 
   private class ScanIterator implements Iterator<Record>, Closeable {
-    private final Iterator<FileScanTask> tasks;
+    private final PrefetchingIterator<FileScanTask, OpenTask> openTasks;
     private final boolean caseSensitive;
-    private Closeable currentCloseable = null;
+    private OpenTask currentTask = null;
     private Iterator<Record> currentIterator = Collections.emptyIterator();
 
     private ScanIterator(CloseableIterable<CombinedScanTask> tasks, boolean caseSensitive) {
-      this.tasks = Lists.newArrayList(Iterables.concat(
+      Iterator<FileScanTask> fileTasks = Lists.newArrayList(Iterables.concat(
           CloseableIterable.transform(tasks, CombinedScanTask::files))).iterator();
+      this.openTasks = new PrefetchingIterator<>(fileTasks, this::openTask, prefetchDepth, ThreadPools.getReadPool());
       this.caseSensitive = caseSensitive;
     }
 
@@ -146,25 +160,17 @@ class TableScanIterable extends CloseableGroup implements CloseableIterable<Reco
         if (currentIterator.hasNext()) {
           return true;
 
-        } else if (tasks.hasNext()) {
-          if (currentCloseable != null) {
+        } else if (openTasks.hasNext()) {
+          if (currentTask != null) {
             try {
-              currentCloseable.close();
+              currentTask.close();
             } catch (IOException e) {
               throw new RuntimeIOException(e, "Failed to close task");
             }
           }
 
-          FileScanTask task = tasks.next();
-          CloseableIterable<Record> reader = open(task);
-          this.currentCloseable = reader;
-
-          if (task.residual() != null && task.residual() != Expressions.alwaysTrue()) {
-            Evaluator filter = new Evaluator(projection.asStruct(), task.residual(), caseSensitive);
-            this.currentIterator = Iterables.filter(reader, filter::eval).iterator();
-          } else {
-            this.currentIterator = reader.iterator();
-          }
+          this.currentTask = openTasks.next();
+          this.currentIterator = currentTask.records;
 
         } else {
           return false;
@@ -181,11 +187,63 @@ class TableScanIterable extends CloseableGroup implements CloseableIterable<Reco
       return currentIterator.next();
     }
 
+    /**
+     * Opens a task and applies its residual. When prefetching, this runs in the read pool and also reads the first
+     * record so that the first row group or block is ready when the task is reached.
+     */
+    private OpenTask openTask(FileScanTask task) {
+      CloseableIterable<Record> reader = open(task);
+      try {
+        Iterator<Record> records;
+        if (task.residual() != null && task.residual() != Expressions.alwaysTrue()) {
+          Evaluator filter = new Evaluator(projection.asStruct(), task.residual(), caseSensitive);
+          records = Iterables.filter(reader, filter::eval).iterator();
+        } else {
+          records = reader.iterator();
+        }
+
+        if (prefetchDepth > 0) {
+          PeekingIterator<Record> peeking = Iterators.peekingIterator(records);
+          if (peeking.hasNext()) {
+            peeking.peek();
+          }
+          records = peeking;
+        }
+
+        return new OpenTask(reader, records);
+
+      } catch (RuntimeException e) {
+        try {
+          reader.close();
+        } catch (IOException closeException) {
+          e.addSuppressed(closeException);
+        }
+        throw e;
+      }
+    }
+
     @Override
     public void close() throws IOException {
-      if (currentCloseable != null) {
-        currentCloseable.close();
+      if (currentTask != null) {
+        currentTask.close();
       }
+
+      openTasks.close();
+    }
+  }
+
+  private static class OpenTask implements Closeable {
+    private final Closeable reader;
+    private final Iterator<Record> records;
+
+    private OpenTask(Closeable reader, Iterator<Record> records) {
+      this.reader = reader;
+      this.records = records;
+    }
+
+    @Override
+    public void close() throws IOException {
+      reader.close();
     }
   }
 
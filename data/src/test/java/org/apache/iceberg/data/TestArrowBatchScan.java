@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.data;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.AssertHelpers;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.Tables;
+import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.data.avro.DataWriter;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.hadoop.HadoopInputFile;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.apache.iceberg.hadoop.HadoopOutputFile.fromPath;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+public class TestArrowBatchScan {
+  private static final Schema SCHEMA = new Schema(
+      required(1, "id", Types.LongType.get()),
+      optional(2, "data", Types.StringType.get()),
+      optional(3, "category", Types.StringType.get()),
+      optional(4, "i", Types.IntegerType.get()),
+      optional(5, "d", Types.DoubleType.get()),
+      optional(6, "date", Types.DateType.get()),
+      optional(7, "ts", Types.TimestampType.withZone()),
+      optional(8, "dec", Types.DecimalType.of(9, 2)));
+
+  private static final List<String> CATEGORIES = ImmutableList.of("a", "b", "c");
+  private static final int RECORDS_PER_FILE = 200;
+  private static final int BATCH_SIZE = 64;
+
+  private static final Configuration CONF = new Configuration();
+  private static final Tables TABLES = new HadoopTables(CONF);
+
+  @Rule
+  public final TemporaryFolder temp = new TemporaryFolder();
+
+  private Table table = null;
+  private List<Record> records = null;
+
+  @Before
+  public void createTable() throws IOException {
+    File location = temp.newFolder("table");
+    Assert.assertTrue(location.delete());
+    this.table = TABLES.create(SCHEMA, PartitionSpec.unpartitioned(), location.toString());
+
+    // use sequential ids so that files have disjoint id ranges, and a low-cardinality column for dictionary encoding
+    this.records = RandomGenericData.generate(SCHEMA, 1000, 4821369023L);
+    for (int i = 0; i < records.size(); i += 1) {
+      records.get(i).setField("id", (long) i);
+      records.get(i).setField("category", CATEGORIES.get(i % CATEGORIES.size()));
+    }
+
+    AppendFiles append = table.newAppend();
+    for (int i = 0; i * RECORDS_PER_FILE < records.size(); i += 1) {
+      List<Record> fileRecords = records.subList(i * RECORDS_PER_FILE, (i + 1) * RECORDS_PER_FILE);
+      append.appendFile(writeParquetFile(location.toString(), "file-" + i + ".parquet", fileRecords));
+    }
+    append.commit();
+  }
+
+  @Test
+  public void testFullScan() throws IOException {
+    List<Record> actual = Lists.newArrayList();
+    try (CloseableIterable<VectorSchemaRoot> batches = IcebergGenerics.read(table).buildArrowBatches(BATCH_SIZE)) {
+      for (VectorSchemaRoot batch : batches) {
+        Assert.assertTrue("Batch should not exceed the batch size", batch.getRowCount() <= BATCH_SIZE);
+        Assert.assertTrue("Dictionary-encoded strings should be decoded",
+            batch.getVector("category") instanceof VarCharVector);
+        actual.addAll(toRecords(SCHEMA, batch));
+      }
+    }
+
+    Assert.assertEquals("Should produce correct number of records", records.size(), actual.size());
+    Assert.assertEquals("Record set should match", Sets.newHashSet(records), Sets.newHashSet(actual));
+  }
+
+  @Test
+  public void testResidualFilter() throws IOException {
+    List<Record> expected = records.stream()
+        .filter(record -> (Long) record.getField("id") < 300 && "b".equals(record.getField("category")))
+        .collect(Collectors.toList());
+
+    IcebergGenerics.ScanBuilder scan = IcebergGenerics.read(table)
+        .where(Expressions.and(Expressions.lessThan("id", 300L), Expressions.equal("category", "b")));
+
+    List<Record> actual = Lists.newArrayList();
+    try (CloseableIterable<VectorSchemaRoot> batches = scan.buildArrowBatches(BATCH_SIZE)) {
+      for (VectorSchemaRoot batch : batches) {
+        Assert.assertTrue("Filtered batches should not be empty", batch.getRowCount() > 0);
+        actual.addAll(toRecords(SCHEMA, batch));
+      }
+    }
+
+    Assert.assertEquals("Should produce correct number of records", expected.size(), actual.size());
+    Assert.assertEquals("Record set should match", Sets.newHashSet(expected), Sets.newHashSet(actual));
+  }
+
+  @Test
+  public void testWithoutResidualFilter() throws IOException {
+    IcebergGenerics.ScanBuilder scan = IcebergGenerics.read(table)
+        .where(Expressions.lessThan("id", 300L));
+
+    List<Record> actual = Lists.newArrayList();
+    try (CloseableIterable<VectorSchemaRoot> batches = scan.buildArrowBatches(BATCH_SIZE, false)) {
+      for (VectorSchemaRoot batch : batches) {
+        actual.addAll(toRecords(SCHEMA, batch));
+      }
+    }
+
+    // files are still filtered using column stats, but all rows of the matching files are returned
+    Assert.assertEquals("Should return all rows of the first two files",
+        Sets.newHashSet(records.subList(0, 2 * RECORDS_PER_FILE)), Sets.newHashSet(actual));
+  }
+
+  @Test
+  public void testProjectionWithMissingColumn() throws IOException {
+    table.updateSchema()
+        .addColumn("extra", Types.IntegerType.get())
+        .commit();
+
+    Schema projection = table.schema().select("id", "extra");
+
+    List<Record> actual = Lists.newArrayList();
+    try (CloseableIterable<VectorSchemaRoot> batches = IcebergGenerics.read(table)
+        .select("id", "extra")
+        .buildArrowBatches(BATCH_SIZE)) {
+      for (VectorSchemaRoot batch : batches) {
+        actual.addAll(toRecords(projection, batch));
+      }
+    }
+
+    Assert.assertEquals("Should produce correct number of records", records.size(), actual.size());
+    for (Record record : actual) {
+      Assert.assertNull("Column missing from data files should be null", record.getField("extra"));
+    }
+  }
+
+  @Test
+  public void testUnsupportedSchema() {
+    table.updateSchema()
+        .addColumn("location", Types.StructType.of(
+            optional(100, "lat", Types.DoubleType.get()),
+            optional(101, "long", Types.DoubleType.get())))
+        .commit();
+
+    AssertHelpers.assertThrows("Should reject nested columns",
+        IllegalArgumentException.class, "Cannot read Arrow batches for unsupported schema",
+        () -> IcebergGenerics.read(table).buildArrowBatches(BATCH_SIZE));
+  }
+
+  @Test
+  public void testUnsupportedFormat() throws IOException {
+    Path path = new Path(table.location(), "data/file.avro");
+    FileAppender<Record> appender = Avro.write(fromPath(path, CONF))
+        .schema(SCHEMA)
+        .createWriterFunc(DataWriter::create)
+        .build();
+    try {
+      appender.addAll(records.subList(0, 10));
+    } finally {
+      appender.close();
+    }
+
+    table.newFastAppend()
+        .appendFile(DataFiles.builder(PartitionSpec.unpartitioned())
+            .withInputFile(HadoopInputFile.fromPath(path, CONF))
+            .withMetrics(appender.metrics())
+            .build())
+        .commit();
+
+    AssertHelpers.assertThrows("Should reject Avro data files",
+        UnsupportedOperationException.class, "Cannot read AVRO file as Arrow batches",
+        () -> {
+          try (CloseableIterable<VectorSchemaRoot> batches = IcebergGenerics.read(table)
+              .buildArrowBatches(BATCH_SIZE)) {
+            batches.forEach(batch -> { });
+          } catch (IOException e) {
+            throw new RuntimeException(e);
+          }
+        });
+  }
+
+  private static List<Record> toRecords(Schema schema, VectorSchemaRoot batch) {
+    List<Record> result = Lists.newArrayListWithExpectedSize(batch.getRowCount());
+    for (int row = 0; row < batch.getRowCount(); row += 1) {
+      Record record = GenericRecord.create(schema);
+      for (Types.NestedField field : schema.columns()) {
+        FieldVector vector = batch.getVector(field.name());
+        record.setField(field.name(), vector.isNull(row) ? null : toGeneric(field, vector, row));
+      }
+      result.add(record);
+    }
+
+    return result;
+  }
+
+  private static Object toGeneric(Types.NestedField field, FieldVector vector, int row) {
+    switch (field.type().typeId()) {
+      case STRING:
+        return new String(((VarCharVector) vector).get(row), StandardCharsets.UTF_8);
+      case DATE:
+        return DateTimeUtil.dateFromDays((Integer) vector.getObject(row));
+      case TIMESTAMP:
+        return DateTimeUtil.timestamptzFromMicros((Long) vector.getObject(row));
+      case DECIMAL:
+        return (BigDecimal) vector.getObject(row);
+      default:
+        return vector.getObject(row);
+    }
+  }
+
+  private DataFile writeParquetFile(String location, String filename, List<Record> fileRecords) throws IOException {
+    Path path = new Path(location, filename);
+    FileAppender<Record> appender = Parquet.write(fromPath(path, CONF))
+        .schema(SCHEMA)
+        .createWriterFunc(GenericParquetWriter::buildWriter)
+        .build();
+    try {
+      appender.addAll(fileRecords);
+    } finally {
+      appender.close();
+    }
+
+    return DataFiles.builder(PartitionSpec.unpartitioned())
+        .withInputFile(HadoopInputFile.fromPath(path, CONF))
+        .withMetrics(appender.metrics())
+        .build();
+  }
+}
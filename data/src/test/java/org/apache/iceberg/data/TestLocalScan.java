@@ -273,6 +273,36 @@ public class TestLocalScan {
         Sets.newHashSet(expected), records);
   }
 
+  @Test
+  public void testFullScanWithPrefetch() {
+    Iterable<Record> results = IcebergGenerics.read(sharedTable).prefetch(2).build();
+
+    Set<Record> expected = Sets.newHashSet();
+    expected.addAll(file1Records);
+    expected.addAll(file2Records);
+    expected.addAll(file3Records);
+
+    List<Record> records = Lists.newArrayList(results);
+    Assert.assertEquals("Should produce correct number of records",
+        expected.size(), records.size());
+    Assert.assertEquals("Record set should match",
+        expected, Sets.newHashSet(records));
+  }
+
+  @Test
+  public void testFilterWithTablePrefetchDepth() {
+    sharedTable.updateProperties()
+        .set(TableProperties.SPLIT_PREFETCH_DEPTH, "1")
+        .commit();
+
+    Iterable<Record> result = IcebergGenerics.read(sharedTable).where(lessThanOrEqual("id", 11)).build();
+
+    Set<Record> expected = Sets.newHashSet(file1Records);
+    Iterables.addAll(expected, filter(file2Records, r -> (Long) r.getField("id") <= 11));
+    Assert.assertEquals("Records should match files 1 and 2 up to id 11",
+        expected, Sets.newHashSet(result));
+  }
+
   @Test
   public void testFilter() {
     Iterable<Record> result = IcebergGenerics.read(sharedTable).where(lessThan("id", 3)).build();
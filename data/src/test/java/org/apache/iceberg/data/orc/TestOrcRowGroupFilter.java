@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.data.orc;
+
+import com.google.common.collect.Lists;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.orc.ORC;
+import org.apache.iceberg.types.Types;
+import org.apache.orc.OrcConf;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.apache.iceberg.expressions.Expressions.alwaysFalse;
+import static org.apache.iceberg.expressions.Expressions.and;
+import static org.apache.iceberg.expressions.Expressions.equal;
+import static org.apache.iceberg.expressions.Expressions.greaterThan;
+import static org.apache.iceberg.expressions.Expressions.greaterThanOrEqual;
+import static org.apache.iceberg.expressions.Expressions.in;
+import static org.apache.iceberg.expressions.Expressions.isNull;
+import static org.apache.iceberg.expressions.Expressions.lessThan;
+import static org.apache.iceberg.expressions.Expressions.not;
+import static org.apache.iceberg.expressions.Expressions.notEqual;
+import static org.apache.iceberg.expressions.Expressions.notIn;
+import static org.apache.iceberg.expressions.Expressions.notNull;
+import static org.apache.iceberg.expressions.Expressions.or;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+public class TestOrcRowGroupFilter {
+  private static final int ROW_GROUP_SIZE = 1000;
+  private static final int NUM_ROWS = 5 * ROW_GROUP_SIZE;
+
+  private static final Schema SCHEMA = new Schema(
+      required(1, "id", Types.LongType.get()),
+      required(2, "int_col", Types.IntegerType.get()),
+      required(3, "str", Types.StringType.get()),
+      required(4, "date", Types.DateType.get()),
+      required(5, "dec", Types.DecimalType.of(9, 2)),
+      optional(6, "opt", Types.LongType.get()),
+      optional(7, "struct", Types.StructType.of(
+          required(8, "nested", Types.LongType.get())))
+  );
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private File testFile = null;
+
+  @Before
+  public void writeTestFile() throws IOException {
+    this.testFile = temp.newFile();
+    Assert.assertTrue("Delete should succeed", testFile.delete());
+
+    try (FileAppender<Record> writer = ORC.write(Files.localOutput(testFile))
+        .schema(SCHEMA)
+        .config(OrcConf.ROW_INDEX_STRIDE.getAttribute(), String.valueOf(ROW_GROUP_SIZE))
+        .createWriterFunc(GenericOrcWriter::buildWriter)
+        .build()) {
+      GenericRecord nested = GenericRecord.create(SCHEMA.findType("struct").asStructType());
+      GenericRecord record = GenericRecord.create(SCHEMA);
+      for (long id = 0; id < NUM_ROWS; id += 1) {
+        record.setField("id", id);
+        record.setField("int_col", (int) id);
+        record.setField("str", String.format("%05d", id));
+        record.setField("date", LocalDate.ofEpochDay(id));
+        record.setField("dec", BigDecimal.valueOf(id, 2));
+        // the first row group has only null values
+        record.setField("opt", id < ROW_GROUP_SIZE ? null : id);
+        nested.setField("nested", id);
+        record.setField("struct", nested.copy());
+        writer.add(record.copy());
+      }
+    }
+  }
+
+  @Test
+  public void testNoFilter() {
+    assertRowGroups(Expressions.alwaysTrue(), 0, 1, 2, 3, 4);
+  }
+
+  @Test
+  public void testAlwaysFalse() {
+    assertRowGroups(alwaysFalse());
+  }
+
+  @Test
+  public void testComparisons() {
+    assertRowGroups(lessThan("id", 1000L), 0);
+    assertRowGroups(greaterThan("id", 3999L), 4);
+    assertRowGroups(greaterThanOrEqual("id", 3999L), 3, 4);
+    assertRowGroups(equal("int_col", 2500), 2);
+    assertRowGroups(and(greaterThan("int_col", 1500), lessThan("int_col", 2500)), 1, 2);
+    assertRowGroups(or(lessThan("int_col", 10), greaterThan("int_col", 4990)), 0, 4);
+  }
+
+  @Test
+  public void testNot() {
+    assertRowGroups(not(lessThan("id", 1000L)), 1, 2, 3, 4);
+  }
+
+  @Test
+  public void testIn() {
+    assertRowGroups(in("id", 10L, 4010L), 0, 4);
+    assertRowGroups(notIn("id", 10L, 4010L), 0, 1, 2, 3, 4);
+  }
+
+  @Test
+  public void testTypes() {
+    assertRowGroups(equal("str", "01234"), 1);
+    assertRowGroups(lessThan("date", "1970-01-11"), 0);
+    assertRowGroups(greaterThan("dec", new BigDecimal("30.00")), 3, 4);
+    assertRowGroups(equal("struct.nested", 1234L), 1);
+  }
+
+  @Test
+  public void testNulls() {
+    assertRowGroups(isNull("opt"), 0);
+    // ORC's statistics cannot show that a row group has no non-null values
+    assertRowGroups(notNull("opt"), 0, 1, 2, 3, 4);
+    // null values are not equal to any value, so the all-null row group must be read
+    assertRowGroups(notEqual("opt", 5L), 0, 1, 2, 3, 4);
+    assertRowGroups(notIn("opt", 5L, 6L), 0, 1, 2, 3, 4);
+  }
+
+  @Test
+  public void testCaseInsensitive() {
+    List<Long> ids = readIds(SCHEMA, lessThan("ID", 1000L), false);
+    Assert.assertEquals("Should skip row groups using case insensitive names", ROW_GROUP_SIZE, ids.size());
+  }
+
+  @Test
+  public void testMissingColumn() {
+    Schema projection = new Schema(
+        required(1, "id", Types.LongType.get()),
+        optional(100, "missing", Types.LongType.get()));
+
+    // the missing column cannot be used to skip data
+    List<Long> ids = readIds(projection, and(equal("missing", 5L), lessThan("id", 1000L)), true);
+    Assert.assertEquals("Should skip row groups using the other predicate", ROW_GROUP_SIZE, ids.size());
+  }
+
+  private void assertRowGroups(Expression filter, int... expectedRowGroups) {
+    List<Long> expected = Lists.newArrayList();
+    for (int rowGroup : expectedRowGroups) {
+      for (long id = rowGroup * ROW_GROUP_SIZE; id < (rowGroup + 1) * ROW_GROUP_SIZE; id += 1) {
+        expected.add(id);
+      }
+    }
+
+    Assert.assertEquals("Should read only the expected row groups for filter: " + filter,
+        expected, readIds(SCHEMA, filter, true));
+  }
+
+  private List<Long> readIds(Schema projection, Expression filter, boolean caseSensitive) {
+    List<Long> ids = Lists.newArrayList();
+    try (CloseableIterable<Record> reader = ORC.read(Files.localInput(testFile))
+        .project(projection)
+        .createReaderFunc(fileSchema -> GenericOrcReader.buildReader(projection, fileSchema))
+        .filter(filter)
+        .caseSensitive(caseSensitive)
+        .build()) {
+      for (Record record : reader) {
+        ids.add((Long) record.getField("id"));
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return ids;
+  }
+}
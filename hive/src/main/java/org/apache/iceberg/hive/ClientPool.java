@@ -23,25 +23,76 @@ import com.google.common.base.Preconditions;
 import java.io.Closeable;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A pool of clients that grows on demand up to a maximum size and shrinks when clients are idle.
+ * <p>
+ * Clients are created when a caller needs one and none is idle. When the pool is at its maximum size, callers wait
+ * in FIFO order and a released client is handed directly to the longest-waiting caller, so that new callers cannot
+ * take it first. Callers give up after the wait timeout, if one is set.
+ * <p>
+ * The most recently released client is reused first. Clients that have been idle longer than the idle timeout are
+ * closed when the pool is next used, keeping at least the minimum number of clients open.
+ * <p>
+ * The pool reports the number of active and idle clients and waiting callers, along with a histogram of the time
+ * callers waited for a client.
+ */
 public abstract class ClientPool<C, E extends Exception> implements Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(ClientPool.class);
 
-  private final int poolSize;
-  private final Deque<C> clients;
+  // upper bounds of the wait time histogram buckets; the last bucket has no bound
+  private static final long[] WAIT_TIME_BUCKETS_MILLIS = new long[] { 1, 10, 100, 1_000, 10_000 };
+
+  private final int minSize;
+  private final int maxSize;
+  private final long idleTimeoutMillis;
+  private final long waitTimeoutMillis;
   private final Class<? extends E> reconnectExc;
-  private final Object signal = new Object();
-  private volatile int currentSize;
-  private boolean closed;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition emptied = lock.newCondition();
+  private final Deque<IdleClient<C>> idle; // guarded by lock, most recently released first
+  private final Deque<Waiter<C>> waiters = new ArrayDeque<>(); // guarded by lock, in arrival order
+  private int currentSize = 0; // guarded by lock, includes clients being created
+  private boolean closed = false; // guarded by lock
+
+  private final AtomicLongArray waitTimes = new AtomicLongArray(WAIT_TIME_BUCKETS_MILLIS.length + 1);
+  private final AtomicLong totalWaitMillis = new AtomicLong(0L);
+  private final AtomicLong timeoutCount = new AtomicLong(0L);
 
   ClientPool(int poolSize, Class<? extends E> reconnectExc) {
-    this.poolSize = poolSize;
+    this(0, poolSize, 0L, 0L, reconnectExc);
+  }
+
+  /**
+   * @param minSize the number of clients to keep open when they are idle
+   * @param maxSize the largest number of clients to open
+   * @param idleTimeoutMillis time after which idle clients are closed, or 0 to keep them open
+   * @param waitTimeoutMillis time to wait for a client when the pool is at its maximum size, or 0 to wait forever
+   * @param reconnectExc the exception class that signals a client should reconnect and retry
+   */
+  ClientPool(int minSize, int maxSize, long idleTimeoutMillis, long waitTimeoutMillis,
+             Class<? extends E> reconnectExc) {
+    Preconditions.checkArgument(maxSize > 0, "Invalid max pool size: %s (must be > 0)", maxSize);
+    Preconditions.checkArgument(minSize >= 0 && minSize <= maxSize,
+        "Invalid min pool size: %s (must be >= 0 and <= max size %s)", minSize, maxSize);
+    Preconditions.checkArgument(idleTimeoutMillis >= 0,
+        "Invalid idle timeout: %s (must be >= 0)", idleTimeoutMillis);
+    Preconditions.checkArgument(waitTimeoutMillis >= 0,
+        "Invalid wait timeout: %s (must be >= 0)", waitTimeoutMillis);
+    this.minSize = minSize;
+    this.maxSize = maxSize;
+    this.idleTimeoutMillis = idleTimeoutMillis;
+    this.waitTimeoutMillis = waitTimeoutMillis;
     this.reconnectExc = reconnectExc;
-    this.clients = new ArrayDeque<>(poolSize);
-    this.currentSize = 0;
-    this.closed = false;
+    this.idle = new ArrayDeque<>(maxSize);
   }
 
   public interface Action<R, C, E extends Exception> {
@@ -78,60 +129,300 @@ public abstract class ClientPool<C, E extends Exception> implements Closeable {
 
   protected abstract void close(C client);
 
+  /**
+   * @return the number of clients that are in use
+   */
+  public int activeCount() {
+    lock.lock();
+    try {
+      return currentSize - idle.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of open clients that are not in use
+   */
+  public int idleCount() {
+    lock.lock();
+    try {
+      return idle.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of callers waiting for a client
+   */
+  public int waiterCount() {
+    lock.lock();
+    try {
+      return waiters.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of callers that waited for a client, by wait time.
+   * <p>
+   * The buckets count waits of less than 1 ms, 10 ms, 100 ms, 1 s, and 10 s, and the last bucket counts longer
+   * waits. Each wait is counted in the first bucket it fits. Callers that got a client without waiting are not
+   * counted.
+   *
+   * @return counts of waits in each bucket
+   */
+  public long[] waitTimeHistogram() {
+    long[] counts = new long[waitTimes.length()];
+    for (int i = 0; i < counts.length; i += 1) {
+      counts[i] = waitTimes.get(i);
+    }
+    return counts;
+  }
+
+  /**
+   * @return the total time in milliseconds that callers spent waiting for a client
+   */
+  public long totalWaitMillis() {
+    return totalWaitMillis.get();
+  }
+
+  /**
+   * @return the number of callers that gave up waiting for a client
+   */
+  public long timeoutCount() {
+    return timeoutCount.get();
+  }
+
   @Override
   public void close() {
-    this.closed = true;
+    lock.lock();
     try {
+      this.closed = true;
+
+      // fail callers that are waiting; they will not get a client from this pool
+      for (Waiter<C> waiter : waiters) {
+        waiter.condition.signal();
+      }
+      waiters.clear();
+
+      closeIdle(idle.size());
+
       while (currentSize > 0) {
-        if (!clients.isEmpty()) {
-          synchronized (this) {
-            if (!clients.isEmpty()) {
-              C client = clients.removeFirst();
-              close(client);
-              currentSize -= 1;
-            }
-          }
-        }
-        if (clients.isEmpty() && currentSize > 0) {
-          // wake every second in case this missed the signal
-          synchronized (signal) {
-            signal.wait(1000);
-          }
-        }
+        // active clients are closed when they are released
+        emptied.await();
       }
 
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       LOG.warn("Interrupted while shutting down pool. Some clients may not be closed.", e);
+
+    } finally {
+      lock.unlock();
     }
   }
 
   private C get() throws InterruptedException {
-    Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
-    while (true) {
-      if (!clients.isEmpty() || currentSize < poolSize) {
-        synchronized (this) {
-          if (!clients.isEmpty()) {
-            return clients.removeFirst();
-          } else if (currentSize < poolSize) {
-            currentSize += 1;
-            return newClient();
+    Waiter<C> waiter;
+
+    lock.lock();
+    try {
+      Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
+      evictIdle();
+
+      if (waiters.isEmpty()) {
+        if (!idle.isEmpty()) {
+          return idle.removeFirst().client;
+        } else if (currentSize < maxSize) {
+          currentSize += 1;
+          waiter = null;
+        } else {
+          waiter = enqueue();
+        }
+      } else {
+        waiter = enqueue();
+      }
+
+      if (waiter != null) {
+        awaitHandoff(waiter);
+        if (waiter.client != null) {
+          return waiter.client;
+        }
+        // otherwise a slot was freed and this caller may create a client
+      }
+
+    } finally {
+      lock.unlock();
+    }
+
+    return create();
+  }
+
+  private Waiter<C> enqueue() {
+    Waiter<C> waiter = new Waiter<>(lock.newCondition());
+    waiters.addLast(waiter);
+    return waiter;
+  }
+
+  private void awaitHandoff(Waiter<C> waiter) throws InterruptedException {
+    long start = System.nanoTime();
+    long remainingNanos = TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+    try {
+      while (!waiter.done) {
+        Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
+        if (waitTimeoutMillis > 0) {
+          if (remainingNanos <= 0) {
+            waiters.remove(waiter);
+            timeoutCount.incrementAndGet();
+            throw new RuntimeException(String.format(
+                "Timed out after %s ms waiting for a client (pool size: %s)", waitTimeoutMillis, maxSize));
           }
+          remainingNanos = waiter.condition.awaitNanos(remainingNanos);
+        } else {
+          waiter.condition.await();
         }
       }
-      synchronized (signal) {
-        // wake every second in case this missed the signal
-        signal.wait(1000);
+
+    } catch (InterruptedException e) {
+      if (waiter.done) {
+        // a client or slot was already handed to this caller; pass it on before giving up
+        Thread.currentThread().interrupt();
+        releaseHandoff(waiter);
+      } else {
+        waiters.remove(waiter);
       }
+      throw e;
+
+    } finally {
+      recordWait(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+  }
+
+  private void releaseHandoff(Waiter<C> waiter) {
+    if (waiter.client != null) {
+      handOff(waiter.client);
+    } else {
+      freeSlot();
+    }
+  }
+
+  private C create() {
+    try {
+      return newClient();
+    } catch (RuntimeException e) {
+      lock.lock();
+      try {
+        freeSlot();
+      } finally {
+        lock.unlock();
+      }
+      throw e;
     }
   }
 
   private void release(C client) {
-    synchronized (this) {
-      clients.addFirst(client);
+    lock.lock();
+    try {
+      if (closed) {
+        close(client);
+        freeSlot();
+      } else {
+        handOff(client);
+        evictIdle();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void handOff(C client) {
+    Waiter<C> waiter = waiters.pollFirst();
+    if (waiter != null) {
+      waiter.client = client;
+      waiter.done = true;
+      waiter.condition.signal();
+    } else {
+      idle.addFirst(new IdleClient<>(client, System.currentTimeMillis()));
     }
-    synchronized (signal) {
-      signal.notify();
+  }
+
+  /**
+   * Removes a client from the pool's size and lets the first waiter, if any, create a new client instead.
+   */
+  private void freeSlot() {
+    Waiter<C> waiter = waiters.pollFirst();
+    if (waiter != null) {
+      waiter.done = true;
+      waiter.condition.signal();
+    } else {
+      currentSize -= 1;
+      if (currentSize == 0) {
+        emptied.signalAll();
+      }
+    }
+  }
+
+  private void evictIdle() {
+    if (idleTimeoutMillis <= 0) {
+      return;
+    }
+
+    long evictBefore = System.currentTimeMillis() - idleTimeoutMillis;
+    int evictable = Math.min(idle.size(), currentSize - minSize);
+    int toEvict = 0;
+    // the oldest clients are at the end of the idle queue
+    Iterator<IdleClient<C>> oldestFirst = idle.descendingIterator();
+    while (toEvict < evictable && oldestFirst.hasNext() && oldestFirst.next().releasedAtMillis < evictBefore) {
+      toEvict += 1;
+    }
+
+    closeIdle(toEvict);
+  }
+
+  private void closeIdle(int count) {
+    for (int i = 0; i < count; i += 1) {
+      IdleClient<C> evicted = idle.removeLast();
+      try {
+        close(evicted.client);
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to close client", e);
+      }
+      currentSize -= 1;
+    }
+
+    if (currentSize == 0) {
+      emptied.signalAll();
+    }
+  }
+
+  private void recordWait(long waitMillis) {
+    totalWaitMillis.addAndGet(waitMillis);
+    int bucket = 0;
+    while (bucket < WAIT_TIME_BUCKETS_MILLIS.length && waitMillis >= WAIT_TIME_BUCKETS_MILLIS[bucket]) {
+      bucket += 1;
+    }
+    waitTimes.incrementAndGet(bucket);
+  }
+
+  private static class IdleClient<C> {
+    private final C client;
+    private final long releasedAtMillis;
+
+    private IdleClient(C client, long releasedAtMillis) {
+      this.client = client;
+      this.releasedAtMillis = releasedAtMillis;
+    }
+  }
+
+  private static class Waiter<C> {
+    private final Condition condition;
+    private C client = null;
+    private boolean done = false;
+
+    private Waiter(Condition condition) {
+      this.condition = condition;
     }
   }
 }
@@ -27,10 +27,24 @@ import org.apache.thrift.TException;
 import org.apache.thrift.transport.TTransportException;
 
 public class HiveClientPool extends ClientPool<HiveMetaStoreClient, TException> {
+  private static final String CLIENT_POOL_SIZE = "iceberg.hive.client-pool-size";
+  private static final int CLIENT_POOL_SIZE_DEFAULT = 5;
+  private static final String CLIENT_POOL_MIN_SIZE = "iceberg.hive.client-pool-min-size";
+  private static final int CLIENT_POOL_MIN_SIZE_DEFAULT = 1;
+  private static final String CLIENT_POOL_IDLE_TIMEOUT_MS = "iceberg.hive.client-pool-idle-timeout-ms";
+  private static final long CLIENT_POOL_IDLE_TIMEOUT_MS_DEFAULT = 5 * 60 * 1000; // 5 minutes
+  private static final String CLIENT_POOL_WAIT_TIMEOUT_MS = "iceberg.hive.client-pool-wait-timeout-ms";
+  private static final long CLIENT_POOL_WAIT_TIMEOUT_MS_DEFAULT = 0; // wait forever
+
   private final HiveConf hiveConf;
 
   HiveClientPool(Configuration conf) {
-    this(conf.getInt("iceberg.hive.client-pool-size", 5), conf);
+    this(Math.min(conf.getInt(CLIENT_POOL_MIN_SIZE, CLIENT_POOL_MIN_SIZE_DEFAULT),
+            conf.getInt(CLIENT_POOL_SIZE, CLIENT_POOL_SIZE_DEFAULT)),
+        conf.getInt(CLIENT_POOL_SIZE, CLIENT_POOL_SIZE_DEFAULT),
+        conf.getLong(CLIENT_POOL_IDLE_TIMEOUT_MS, CLIENT_POOL_IDLE_TIMEOUT_MS_DEFAULT),
+        conf.getLong(CLIENT_POOL_WAIT_TIMEOUT_MS, CLIENT_POOL_WAIT_TIMEOUT_MS_DEFAULT),
+        conf);
   }
 
   public HiveClientPool(int poolSize, Configuration conf) {
@@ -38,6 +52,12 @@ public class HiveClientPool extends ClientPool<HiveMetaStoreClient, TException>
     this.hiveConf = new HiveConf(conf, HiveClientPool.class);
   }
 
+  public HiveClientPool(int minSize, int maxSize, long idleTimeoutMillis, long waitTimeoutMillis,
+                        Configuration conf) {
+    super(minSize, maxSize, idleTimeoutMillis, waitTimeoutMillis, TTransportException.class);
+    this.hiveConf = new HiveConf(conf, HiveClientPool.class);
+  }
+
   @Override
   protected HiveMetaStoreClient newClient()  {
     try {
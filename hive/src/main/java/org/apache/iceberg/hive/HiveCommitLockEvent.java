@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.hive;
+
+/**
+ * Event sent to listeners after a commit to a Hive table, with measurements of the metastore lock it used.
+ * <p>
+ * Commits that use the metastore's conditional alter instead of a lock report no lock wait time.
+ */
+public final class HiveCommitLockEvent {
+  private final String database;
+  private final String tableName;
+  private final boolean locked;
+  private final long lockWaitMillis;
+  private final int heartbeatCount;
+
+  public HiveCommitLockEvent(String database, String tableName, boolean locked,
+                             long lockWaitMillis, int heartbeatCount) {
+    this.database = database;
+    this.tableName = tableName;
+    this.locked = locked;
+    this.lockWaitMillis = lockWaitMillis;
+    this.heartbeatCount = heartbeatCount;
+  }
+
+  public String database() {
+    return database;
+  }
+
+  public String tableName() {
+    return tableName;
+  }
+
+  /**
+   * @return whether the commit held a table lock
+   */
+  public boolean locked() {
+    return locked;
+  }
+
+  /**
+   * @return time in milliseconds spent requesting and waiting for the table lock
+   */
+  public long lockWaitMillis() {
+    return lockWaitMillis;
+  }
+
+  /**
+   * @return the number of heartbeats sent to keep the lock alive
+   */
+  public int heartbeatCount() {
+    return heartbeatCount;
+  }
+}
@@ -19,8 +19,12 @@
 
 package org.apache.iceberg.hive;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Collections;
@@ -30,6 +34,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.common.StatsSetupConst;
@@ -51,6 +61,7 @@ import org.apache.iceberg.BaseMetastoreTableOperations;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.common.DynMethods;
+import org.apache.iceberg.events.Listeners;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
@@ -69,6 +80,21 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
 
   private static final String HIVE_ACQUIRE_LOCK_STATE_TIMEOUT_MS = "iceberg.hive.lock-timeout-ms";
   private static final long HIVE_ACQUIRE_LOCK_STATE_TIMEOUT_MS_DEFAULT = 3 * 60 * 1000; // 3 minutes
+  private static final String HIVE_LOCK_HEARTBEAT_INTERVAL_MS = "iceberg.hive.lock-heartbeat-interval-ms";
+  private static final long HIVE_LOCK_HEARTBEAT_INTERVAL_MS_DEFAULT = 4 * 60 * 1000; // 4 minutes
+  private static final String HIVE_LOCK_FREE_COMMITS_ENABLED = "iceberg.hive.lock-free-commits.enabled";
+  private static final boolean HIVE_LOCK_FREE_COMMITS_ENABLED_DEFAULT = false;
+  // environment context keys that metastores with conditional alter_table (HIVE-26882) check before altering
+  private static final String EXPECTED_PARAMETER_KEY = "expected_parameter_key";
+  private static final String EXPECTED_PARAMETER_VALUE = "expected_parameter_value";
+  private static final String CONDITIONAL_ALTER_FAILURE = "The table has been modified";
+  // whether conditional alter_table is supported, keyed by metastore URIs
+  private static final Map<String, Boolean> CONDITIONAL_ALTER_SUPPORT = Maps.newConcurrentMap();
+  private static final ScheduledExecutorService HEARTBEAT_POOL = MoreExecutors.getExitingScheduledExecutorService(
+      new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+          .setDaemon(true)
+          .setNameFormat("iceberg-hive-lock-heartbeat-%d")
+          .build()));
   private static final DynMethods.UnboundMethod ALTER_TABLE = DynMethods.builder("alter_table")
       .impl(HiveMetaStoreClient.class, "alter_table_with_environmentContext",
           String.class, String.class, Table.class, EnvironmentContext.class)
@@ -81,6 +107,8 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
   private final String tableName;
   private final Configuration conf;
   private final long lockAcquireTimeout;
+  private final long lockHeartbeatInterval;
+  private final boolean lockFreeCommits;
 
   private FileIO fileIO;
 
@@ -91,6 +119,11 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
     this.tableName = table;
     this.lockAcquireTimeout =
         conf.getLong(HIVE_ACQUIRE_LOCK_STATE_TIMEOUT_MS, HIVE_ACQUIRE_LOCK_STATE_TIMEOUT_MS_DEFAULT);
+    this.lockHeartbeatInterval =
+        conf.getLong(HIVE_LOCK_HEARTBEAT_INTERVAL_MS, HIVE_LOCK_HEARTBEAT_INTERVAL_MS_DEFAULT);
+    Preconditions.checkArgument(lockHeartbeatInterval > 0,
+        "Invalid lock heartbeat interval: %s (must be > 0)", lockHeartbeatInterval);
+    this.lockFreeCommits = conf.getBoolean(HIVE_LOCK_FREE_COMMITS_ENABLED, HIVE_LOCK_FREE_COMMITS_ENABLED_DEFAULT);
   }
 
   @Override
@@ -143,10 +176,24 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
     String newMetadataLocation = writeNewMetadata(metadata, currentVersion() + 1);
 
     boolean threw = true;
+    boolean useLock = true;
     Optional<Long> lockId = Optional.empty();
+    Optional<Heartbeat> heartbeat = Optional.empty();
+    long lockWaitMillis = 0L;
     try {
-      lockId = Optional.of(acquireLock());
-      // TODO add lock heart beating for cases where default lock timeout is too low.
+      // new tables are created with a lock; the metastore can only compare parameters of existing tables
+      useLock = !lockFreeCommits || base == null || !supportsConditionalAlter();
+
+      if (useLock) {
+        long lockStart = System.currentTimeMillis();
+        LockResponse lockResponse = requestLock();
+        lockId = Optional.of(lockResponse.getLockid());
+        // heartbeat while waiting as well, so that a waiting lock request does not time out
+        heartbeat = Optional.of(new Heartbeat(lockResponse.getLockid()));
+        waitForLock(lockResponse);
+        lockWaitMillis = System.currentTimeMillis() - lockStart;
+      }
+
       Table tbl;
       if (base != null) {
         tbl = metaClients.run(client -> client.getTable(database, tableName));
@@ -179,13 +226,14 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
       setParameters(newMetadataLocation, tbl);
 
       if (base != null) {
-        metaClients.run(client -> {
-          EnvironmentContext envContext = new EnvironmentContext(
-              ImmutableMap.of(StatsSetupConst.DO_NOT_UPDATE_STATS, StatsSetupConst.TRUE)
-          );
-          ALTER_TABLE.invoke(client, database, tableName, tbl, envContext);
-          return null;
-        });
+        EnvironmentContext envContext = new EnvironmentContext(useLock ?
+            ImmutableMap.of(StatsSetupConst.DO_NOT_UPDATE_STATS, StatsSetupConst.TRUE) :
+            ImmutableMap.of(
+                StatsSetupConst.DO_NOT_UPDATE_STATS, StatsSetupConst.TRUE,
+                EXPECTED_PARAMETER_KEY, METADATA_LOCATION_PROP,
+                EXPECTED_PARAMETER_VALUE, baseMetadataLocation)
+        );
+        alterTable(tbl, envContext);
       } else {
         metaClients.run(client -> {
           client.createTable(tbl);
@@ -197,6 +245,11 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
       throw new AlreadyExistsException("Table already exists: %s.%s", database, tableName);
 
     } catch (TException | UnknownHostException e) {
+      if (!useLock && isConditionalAlterFailure(e)) {
+        throw new CommitFailedException(e, "Table metadata location of %s.%s changed during the commit",
+            database, tableName);
+      }
+
       if (e.getMessage() != null && e.getMessage().contains("Table/View 'HIVE_LOCKS' does not exist")) {
         throw new RuntimeException("Failed to acquire locks from metastore because 'HIVE_LOCKS' doesn't " +
             "exist, this probably happened when using embedded metastore or doesn't create a " +
@@ -214,8 +267,92 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
         // if anything went wrong, clean up the uncommitted metadata file
         io().deleteFile(newMetadataLocation);
       }
+      heartbeat.ifPresent(Heartbeat::cancel);
       unlock(lockId);
     }
+
+    int heartbeatCount = heartbeat.map(Heartbeat::count).orElse(0);
+    LOG.info("Committed to table {}.{} (locked: {}, lock wait: {} ms, heartbeats: {})",
+        database, tableName, useLock, lockWaitMillis, heartbeatCount);
+    Listeners.notifyAll(new HiveCommitLockEvent(database, tableName, useLock, lockWaitMillis, heartbeatCount));
+  }
+
+  private void alterTable(Table tbl, EnvironmentContext envContext) throws TException, InterruptedException {
+    metaClients.run(client -> {
+      try {
+        ALTER_TABLE.invokeChecked(client, database, tableName, tbl, envContext);
+      } catch (TException | RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new RuntimeException(String.format("Failed to alter table %s.%s", database, tableName), e);
+      }
+      return null;
+    });
+  }
+
+  private static boolean isConditionalAlterFailure(Exception e) {
+    return e.getMessage() != null && e.getMessage().contains(CONDITIONAL_ALTER_FAILURE);
+  }
+
+  /**
+   * Returns whether the metastore rejects alter_table calls when the expected parameter value does not match.
+   * <p>
+   * Metastores without conditional alter_table ignore the expected parameter, so lock-free commits would silently
+   * overwrite concurrent commits. Support is probed once for each metastore.
+   */
+  private boolean supportsConditionalAlter() throws TException, InterruptedException, UnknownHostException {
+    String metastoreUris = conf.get("hive.metastore.uris", "");
+    Boolean supported = CONDITIONAL_ALTER_SUPPORT.get(metastoreUris);
+    if (supported == null) {
+      supported = probeConditionalAlter();
+      CONDITIONAL_ALTER_SUPPORT.put(metastoreUris, supported);
+      if (!supported) {
+        LOG.warn("Metastore {} does not support conditional alter_table, lock-free commits will use locks",
+            metastoreUris);
+      }
+    }
+
+    return supported;
+  }
+
+  /**
+   * Alters the table without changes, expecting a metadata location that cannot match.
+   * <p>
+   * The probe holds the table lock so that, on metastores that ignore the expected value, it cannot overwrite a
+   * concurrent commit; commits to those metastores always hold the lock.
+   */
+  protected boolean probeConditionalAlter() throws TException, InterruptedException, UnknownHostException {
+    LockResponse lockResponse = requestLock();
+    Heartbeat heartbeat = new Heartbeat(lockResponse.getLockid());
+    try {
+      waitForLock(lockResponse);
+
+      Table tbl = metaClients.run(client -> client.getTable(database, tableName));
+      EnvironmentContext envContext = new EnvironmentContext(ImmutableMap.of(
+          StatsSetupConst.DO_NOT_UPDATE_STATS, StatsSetupConst.TRUE,
+          EXPECTED_PARAMETER_KEY, METADATA_LOCATION_PROP,
+          EXPECTED_PARAMETER_VALUE, "conditional-alter-probe-" + UUID.randomUUID()));
+
+      try {
+        alterTable(tbl, envContext);
+        // the expected value was ignored
+        return false;
+      } catch (TException e) {
+        if (isConditionalAlterFailure(e)) {
+          return true;
+        }
+        throw e;
+      }
+
+    } finally {
+      heartbeat.cancel();
+      unlock(Optional.of(lockResponse.getLockid()));
+    }
+  }
+
+  // visible for testing
+  static void clearConditionalAlterSupport() {
+    CONDITIONAL_ALTER_SUPPORT.clear();
   }
 
   private void setParameters(String newMetadataLocation, Table tbl) {
@@ -254,13 +391,17 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
         .collect(Collectors.toList());
   }
 
-  private long acquireLock() throws UnknownHostException, TException, InterruptedException {
+  private LockResponse requestLock() throws UnknownHostException, TException, InterruptedException {
     final LockComponent lockComponent = new LockComponent(LockType.EXCLUSIVE, LockLevel.TABLE, database);
     lockComponent.setTablename(tableName);
     final LockRequest lockRequest = new LockRequest(Lists.newArrayList(lockComponent),
         System.getProperty("user.name"),
         InetAddress.getLocalHost().getHostName());
-    LockResponse lockResponse = metaClients.run(client -> client.lock(lockRequest));
+    return metaClients.run(client -> client.lock(lockRequest));
+  }
+
+  private void waitForLock(LockResponse response) throws TException, InterruptedException {
+    LockResponse lockResponse = response;
     LockState state = lockResponse.getState();
     long lockId = lockResponse.getLockid();
 
@@ -290,7 +431,6 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
       throw new CommitFailedException(String.format("Could not acquire the lock on %s.%s, " +
           "lock request ended in state %s", database, tableName, state));
     }
-    return lockId;
   }
 
   private void unlock(Optional<Long> lockId) {
@@ -310,4 +450,45 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
       return null;
     });
   }
+
+  // visible for testing
+  protected void doHeartbeat(long lockId) throws TException, InterruptedException {
+    metaClients.run(client -> {
+      client.heartbeat(0, lockId);
+      return null;
+    });
+  }
+
+  /**
+   * Sends heartbeats for a lock until it is cancelled, so that the metastore does not time out long commits.
+   */
+  private class Heartbeat {
+    private final long lockId;
+    private final AtomicInteger count = new AtomicInteger(0);
+    private final ScheduledFuture<?> future;
+
+    private Heartbeat(long lockId) {
+      this.lockId = lockId;
+      this.future = HEARTBEAT_POOL.scheduleAtFixedRate(
+          this::send, lockHeartbeatInterval, lockHeartbeatInterval, TimeUnit.MILLISECONDS);
+    }
+
+    private void send() {
+      try {
+        doHeartbeat(lockId);
+        count.incrementAndGet();
+      } catch (Exception e) {
+        // the next heartbeat may still reach the metastore before the lock times out
+        LOG.warn("Failed to send heartbeat for lock {} on {}.{}", lockId, database, tableName, e);
+      }
+    }
+
+    private int count() {
+      return count.get();
+    }
+
+    private void cancel() {
+      future.cancel(false);
+    }
+  }
 }
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.hive;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.iceberg.AssertHelpers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestClientPool {
+  private ExecutorService executor = null;
+
+  @Before
+  public void createExecutor() {
+    this.executor = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void shutdownExecutor() throws InterruptedException {
+    executor.shutdownNow();
+    Assert.assertTrue("Callers should finish", executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testManyConcurrentCallers() throws Exception {
+    int callers = 64;
+    int callsPerCaller = 200;
+    try (FakeClientPool pool = new FakeClientPool(0, 4, 0, 0)) {
+      AtomicInteger inUse = new AtomicInteger(0);
+      AtomicInteger maxInUse = new AtomicInteger(0);
+
+      List<Future<?>> futures = Lists.newArrayList();
+      for (int i = 0; i < callers; i += 1) {
+        futures.add(executor.submit(() -> {
+          for (int call = 0; call < callsPerCaller; call += 1) {
+            pool.run(client -> {
+              Assert.assertFalse("Should not use a closed client", client.closed);
+              maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+              client.calls += 1;
+              // hold the client briefly so that callers contend for clients
+              LockSupport.parkNanos(10_000);
+              inUse.decrementAndGet();
+              return null;
+            });
+          }
+          return null;
+        }));
+      }
+
+      for (Future<?> future : futures) {
+        future.get();
+      }
+
+      Assert.assertTrue("Should not use more clients than the max size", maxInUse.get() <= 4);
+      Assert.assertTrue("Should not create more clients than the max size", pool.created.size() <= 4);
+      Assert.assertEquals("Should make every call",
+          callers * callsPerCaller, pool.created.stream().mapToInt(client -> client.calls).sum());
+      Assert.assertEquals("Should have no active clients", 0, pool.activeCount());
+      Assert.assertEquals("Should have no waiters", 0, pool.waiterCount());
+      Assert.assertEquals("All clients should be idle", pool.created.size(), pool.idleCount());
+      Assert.assertTrue("Should record waits", Arrays.stream(pool.waitTimeHistogram()).sum() > 0);
+    }
+  }
+
+  @Test
+  public void testFifoHandoff() throws Exception {
+    try (FakeClientPool pool = new FakeClientPool(0, 1, 0, 0)) {
+      CountDownLatch holding = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      Future<?> holder = executor.submit(() -> pool.run(client -> {
+        holding.countDown();
+        Uninterruptibles.awaitUninterruptibly(release);
+        return null;
+      }));
+      holding.await();
+
+      List<Integer> order = Collections.synchronizedList(Lists.newArrayList());
+      List<Future<?>> waiters = Lists.newArrayList();
+      for (int i = 0; i < 5; i += 1) {
+        int id = i;
+        waiters.add(executor.submit(() -> pool.run(client -> order.add(id))));
+        awaitWaiters(pool, i + 1);
+      }
+
+      release.countDown();
+      holder.get();
+      for (Future<?> waiter : waiters) {
+        waiter.get();
+      }
+
+      Assert.assertEquals("Should hand the client to waiters in arrival order",
+          ImmutableList.of(0, 1, 2, 3, 4), order);
+      Assert.assertEquals("Should reuse a single client", 1, pool.created.size());
+    }
+  }
+
+  @Test
+  public void testWaitTimeout() throws Exception {
+    try (FakeClientPool pool = new FakeClientPool(0, 1, 0, 50)) {
+      CountDownLatch holding = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      Future<?> holder = executor.submit(() -> pool.run(client -> {
+        holding.countDown();
+        Uninterruptibles.awaitUninterruptibly(release);
+        return null;
+      }));
+      holding.await();
+
+      AssertHelpers.assertThrows("Should time out waiting for a client",
+          RuntimeException.class, "Timed out after 50 ms",
+          () -> pool.run(client -> null));
+
+      Assert.assertEquals("Should count the timeout", 1, pool.timeoutCount());
+      Assert.assertEquals("Should remove the waiter", 0, pool.waiterCount());
+      Assert.assertTrue("Should record the wait time", pool.totalWaitMillis() >= 50);
+
+      release.countDown();
+      holder.get();
+      Assert.assertEquals("Should still serve callers after a timeout", "ok", pool.run(client -> "ok"));
+    }
+  }
+
+  @Test
+  public void testIdleEviction() throws Exception {
+    try (FakeClientPool pool = new FakeClientPool(1, 4, 10, 0)) {
+      CountDownLatch holding = new CountDownLatch(4);
+      CountDownLatch release = new CountDownLatch(1);
+      List<Future<?>> holders = Lists.newArrayList();
+      for (int i = 0; i < 4; i += 1) {
+        holders.add(executor.submit(() -> pool.run(client -> {
+          holding.countDown();
+          Uninterruptibles.awaitUninterruptibly(release);
+          return null;
+        })));
+      }
+
+      holding.await();
+      Assert.assertEquals("Should have 4 active clients", 4, pool.activeCount());
+
+      release.countDown();
+      for (Future<?> holder : holders) {
+        holder.get();
+      }
+
+      Thread.sleep(50);
+      pool.run(client -> null);
+
+      Assert.assertEquals("Should close idle clients down to the min size",
+          3, pool.created.stream().filter(client -> client.closed).count());
+      Assert.assertEquals("Should keep the min number of clients", 1, pool.idleCount());
+    }
+  }
+
+  @Test
+  public void testCloseClosesClients() throws Exception {
+    FakeClientPool pool = new FakeClientPool(0, 2, 0, 0);
+    pool.run(client -> null);
+    pool.close();
+
+    Assert.assertTrue("Should close all clients", pool.created.stream().allMatch(client -> client.closed));
+    AssertHelpers.assertThrows("Should not serve callers after closing",
+        IllegalStateException.class, "closed pool",
+        () -> pool.run(client -> null));
+  }
+
+  private static void awaitWaiters(ClientPool<?, ?> pool, int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (pool.waiterCount() < count) {
+      Assert.assertTrue("Callers should start waiting", System.currentTimeMillis() < deadline);
+      Thread.sleep(5);
+    }
+  }
+
+  private static class FakeClient {
+    private boolean closed = false;
+    private int calls = 0; // only updated while the client is in use by one caller
+  }
+
+  private static class FakeClientPool extends ClientPool<FakeClient, RuntimeException> {
+    private final List<FakeClient> created = Collections.synchronizedList(Lists.newArrayList());
+
+    private FakeClientPool(int minSize, int maxSize, long idleTimeoutMillis, long waitTimeoutMillis) {
+      super(minSize, maxSize, idleTimeoutMillis, waitTimeoutMillis, IllegalStateException.class);
+    }
+
+    @Override
+    protected FakeClient newClient() {
+      FakeClient client = new FakeClient();
+      created.add(client);
+      return client;
+    }
+
+    @Override
+    protected FakeClient reconnect(FakeClient client) {
+      return client;
+    }
+
+    @Override
+    protected void close(FakeClient client) {
+      client.closed = true;
+    }
+  }
+}
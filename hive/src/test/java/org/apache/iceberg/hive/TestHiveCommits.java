@@ -19,19 +19,50 @@
 
 package org.apache.iceberg.hive;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hive.metastore.api.LockComponent;
+import org.apache.hadoop.hive.metastore.api.LockLevel;
+import org.apache.hadoop.hive.metastore.api.LockRequest;
+import org.apache.hadoop.hive.metastore.api.LockResponse;
+import org.apache.hadoop.hive.metastore.api.LockState;
+import org.apache.hadoop.hive.metastore.api.LockType;
+import org.apache.iceberg.AssertHelpers;
+import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.HasTableOperations;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.events.Listeners;
+import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.types.Types;
 import org.apache.thrift.TException;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class TestHiveCommits extends HiveTableBaseTest {
+  private static final ConcurrentLinkedQueue<HiveCommitLockEvent> LOCK_EVENTS = new ConcurrentLinkedQueue<>();
+
+  static {
+    Listeners.register(LOCK_EVENTS::add, HiveCommitLockEvent.class);
+  }
 
   @Test
   public void testSuppressUnlockExceptions() throws TException, InterruptedException {
@@ -66,4 +97,150 @@ public class TestHiveCommits extends HiveTableBaseTest {
     // the commit must succeed
     Assert.assertEquals(1, ops.current().schema().columns().size());
   }
+
+  @Test
+  public void testLockHeartbeatsWhileWaiting() throws Exception {
+    Configuration conf = new Configuration(hiveConf);
+    conf.setLong("iceberg.hive.lock-heartbeat-interval-ms", 10);
+
+    LockComponent component = new LockComponent(LockType.EXCLUSIVE, LockLevel.TABLE, DB_NAME);
+    component.setTablename(TABLE_NAME);
+    LockResponse heldLock = metastoreClient.lock(new LockRequest(Lists.newArrayList(component),
+        System.getProperty("user.name"), InetAddress.getLocalHost().getHostName()));
+    Assert.assertEquals("Should acquire the lock", LockState.ACQUIRED, heldLock.getState());
+
+    try (HiveClientPool clients = new HiveClientPool(1, conf)) {
+      HiveTableOperations ops = spy(new HiveTableOperations(conf, clients, DB_NAME, TABLE_NAME));
+      AtomicInteger heartbeats = new AtomicInteger(0);
+      doAnswer(invocation -> {
+        heartbeats.incrementAndGet();
+        return invocation.callRealMethod();
+      }).when(ops).doHeartbeat(anyLong());
+
+      // release the held lock once the commit is seen waiting for it
+      CompletableFuture<Void> release = CompletableFuture.runAsync(() -> {
+        try {
+          long deadline = System.currentTimeMillis() + 30_000;
+          while (heartbeats.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+          }
+          metastoreClient.unlock(heldLock.getLockid());
+        } catch (Exception e) {
+          throw new RuntimeException(e);
+        }
+      });
+
+      LOCK_EVENTS.clear();
+      try {
+        new BaseTable(ops, TABLE_NAME).updateSchema()
+            .addColumn("n", Types.IntegerType.get())
+            .commit();
+      } finally {
+        release.join();
+      }
+    }
+
+    List<HiveCommitLockEvent> events = Lists.newArrayList(LOCK_EVENTS);
+    Assert.assertEquals("Should report the commit", 1, events.size());
+    HiveCommitLockEvent event = events.get(0);
+    Assert.assertTrue("Should commit with a lock", event.locked());
+    Assert.assertTrue("Should report the time spent waiting for the lock", event.lockWaitMillis() > 0);
+    Assert.assertTrue("Should send heartbeats while waiting", event.heartbeatCount() > 0);
+
+    Assert.assertEquals("Should commit the schema change",
+        2, catalog.loadTable(TABLE_IDENTIFIER).schema().columns().size());
+  }
+
+  @Test
+  public void testLockFreeCommit() throws TException, InterruptedException, UnknownHostException {
+    Configuration conf = new Configuration(hiveConf);
+    conf.setBoolean("iceberg.hive.lock-free-commits.enabled", true);
+
+    HiveTableOperations.clearConditionalAlterSupport();
+    try (HiveClientPool clients = new HiveClientPool(1, conf)) {
+      HiveTableOperations ops = spy(new HiveTableOperations(conf, clients, DB_NAME, TABLE_NAME));
+      // the test metastore ignores the expected parameter, so simulate one that supports conditional alter_table
+      doReturn(true).when(ops).probeConditionalAlter();
+      LOCK_EVENTS.clear();
+
+      new BaseTable(ops, TABLE_NAME).updateSchema()
+          .addColumn("n", Types.IntegerType.get())
+          .commit();
+
+      verify(ops, never()).doUnlock(anyLong());
+    } finally {
+      HiveTableOperations.clearConditionalAlterSupport();
+    }
+
+    List<HiveCommitLockEvent> events = Lists.newArrayList(LOCK_EVENTS);
+    Assert.assertEquals("Should report the commit", 1, events.size());
+    Assert.assertFalse("Should commit without a lock", events.get(0).locked());
+    Assert.assertEquals("Should not wait for a lock", 0, events.get(0).lockWaitMillis());
+
+    Assert.assertEquals("Should commit the schema change",
+        2, catalog.loadTable(TABLE_IDENTIFIER).schema().columns().size());
+  }
+
+  @Test
+  public void testLockFreeCommitFallsBackToLocks() throws TException, InterruptedException, UnknownHostException {
+    Configuration conf = new Configuration(hiveConf);
+    conf.setBoolean("iceberg.hive.lock-free-commits.enabled", true);
+
+    HiveTableOperations.clearConditionalAlterSupport();
+    try (HiveClientPool clients = new HiveClientPool(1, conf)) {
+      HiveTableOperations ops = spy(new HiveTableOperations(conf, clients, DB_NAME, TABLE_NAME));
+      LOCK_EVENTS.clear();
+
+      Table table = new BaseTable(ops, TABLE_NAME);
+      table.updateSchema()
+          .addColumn("n", Types.IntegerType.get())
+          .commit();
+      table.updateSchema()
+          .addColumn("m", Types.IntegerType.get())
+          .commit();
+
+      verify(ops, times(1)).probeConditionalAlter();
+      // one lock for the probe and one for each commit
+      verify(ops, times(3)).doUnlock(anyLong());
+    } finally {
+      HiveTableOperations.clearConditionalAlterSupport();
+    }
+
+    List<HiveCommitLockEvent> events = Lists.newArrayList(LOCK_EVENTS);
+    Assert.assertEquals("Should report the commits", 2, events.size());
+    Assert.assertTrue("Should commit with a lock", events.get(0).locked());
+    Assert.assertTrue("Should commit with a lock", events.get(1).locked());
+
+    Assert.assertEquals("Should commit the schema changes",
+        3, catalog.loadTable(TABLE_IDENTIFIER).schema().columns().size());
+  }
+
+  @Test
+  public void testLockFreeCommitDetectsConflicts() {
+    Configuration conf = new Configuration(hiveConf);
+    conf.setBoolean("iceberg.hive.lock-free-commits.enabled", true);
+
+    HiveTableOperations.clearConditionalAlterSupport();
+    try (HiveClientPool clients = new HiveClientPool(1, conf)) {
+      Table first = new BaseTable(new HiveTableOperations(conf, clients, DB_NAME, TABLE_NAME), TABLE_NAME);
+      Table second = new BaseTable(new HiveTableOperations(conf, clients, DB_NAME, TABLE_NAME), TABLE_NAME);
+      TableOperations secondOps = ((HasTableOperations) second).operations();
+      TableMetadata staleBase = secondOps.current();
+
+      first.updateSchema()
+          .addColumn("n", Types.IntegerType.get())
+          .commit();
+
+      TableMetadata conflicting = staleBase.replaceProperties(ImmutableMap.of("conflicting", "true"));
+
+      AssertHelpers.assertThrows("Should reject a commit based on stale metadata",
+          CommitFailedException.class, "is not same as the current table metadata location",
+          () -> secondOps.commit(staleBase, conflicting));
+    } finally {
+      HiveTableOperations.clearConditionalAlterSupport();
+    }
+
+    Assert.assertEquals("Should keep the first schema change",
+        2, catalog.loadTable(TABLE_IDENTIFIER).schema().columns().size());
+  }
 }
@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.orc;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.apache.iceberg.expressions.BoundReference;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.types.Type;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.storage.common.type.HiveDecimal;
+import org.apache.orc.storage.ql.io.sarg.PredicateLeaf;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument.TruthValue;
+import org.apache.orc.storage.ql.io.sarg.SearchArgumentFactory;
+import org.apache.orc.storage.serde2.io.HiveDecimalWritable;
+
+/**
+ * Converts a bound Iceberg {@link Expression} to an ORC {@link SearchArgument}.
+ * <p>
+ * ORC uses the search argument to skip stripes and row groups using column statistics and bloom filters. Rows that
+ * are returned are not filtered, so the expression must still be evaluated for each record.
+ * <p>
+ * Predicates that cannot be converted, like those on columns that are missing from the file, nested in lists or maps,
+ * or that have no ORC predicate type, are replaced by {@link TruthValue#YES_NO_NULL} so that they never cause data to
+ * be skipped.
+ * <p>
+ * ORC evaluates NOT using three-valued logic, which excludes null values. Expressions should be passed through
+ * {@link org.apache.iceberg.expressions.Expressions#rewriteNot(Expression)} before binding so that the only
+ * negations are those added by this class, which account for nulls.
+ */
+class ExpressionToSearchArgument extends ExpressionVisitors.BoundExpressionVisitor<ExpressionToSearchArgument.Action> {
+
+  private static final Pattern SIMPLE_NAME = Pattern.compile("[a-zA-Z0-9_]+");
+  private static final Set<TypeDescription.Category> SUPPORTED_CATEGORIES = ImmutableSet.of(
+      TypeDescription.Category.BOOLEAN, TypeDescription.Category.BYTE, TypeDescription.Category.SHORT,
+      TypeDescription.Category.INT, TypeDescription.Category.LONG, TypeDescription.Category.FLOAT,
+      TypeDescription.Category.DOUBLE, TypeDescription.Category.STRING, TypeDescription.Category.CHAR,
+      TypeDescription.Category.VARCHAR, TypeDescription.Category.DATE, TypeDescription.Category.DECIMAL);
+
+  static SearchArgument convert(Expression expr, TypeDescription fileSchema) {
+    Map<Integer, String> idToColumnName = Maps.newHashMap();
+    indexColumnNames(fileSchema, null, idToColumnName);
+
+    SearchArgument.Builder builder = SearchArgumentFactory.newBuilder();
+    ExpressionVisitors.visit(expr, new ExpressionToSearchArgument(builder, idToColumnName)).invoke();
+    return builder.build();
+  }
+
+  /**
+   * An action that adds a node to the search argument builder.
+   * <p>
+   * The builder is stateful, so children are deferred until their parent has started its node.
+   */
+  @FunctionalInterface
+  interface Action {
+    void invoke();
+  }
+
+  private final SearchArgument.Builder builder;
+  private final Map<Integer, String> idToColumnName;
+
+  private ExpressionToSearchArgument(SearchArgument.Builder builder, Map<Integer, String> idToColumnName) {
+    this.builder = builder;
+    this.idToColumnName = idToColumnName;
+  }
+
+  @Override
+  public Action alwaysTrue() {
+    return () -> builder.literal(TruthValue.YES);
+  }
+
+  @Override
+  public Action alwaysFalse() {
+    return () -> builder.literal(TruthValue.NO);
+  }
+
+  @Override
+  public Action not(Action child) {
+    return () -> {
+      builder.startNot();
+      child.invoke();
+      builder.end();
+    };
+  }
+
+  @Override
+  public Action and(Action leftChild, Action rightChild) {
+    return () -> {
+      builder.startAnd();
+      leftChild.invoke();
+      rightChild.invoke();
+      builder.end();
+    };
+  }
+
+  @Override
+  public Action or(Action leftChild, Action rightChild) {
+    return () -> {
+      builder.startOr();
+      leftChild.invoke();
+      rightChild.invoke();
+      builder.end();
+    };
+  }
+
+  @Override
+  public <T> Action isNull(BoundReference<T> ref) {
+    return convertIfSupported(ref, (column, type) -> builder.isNull(column, type));
+  }
+
+  @Override
+  public <T> Action notNull(BoundReference<T> ref) {
+    return not(isNull(ref));
+  }
+
+  @Override
+  public <T> Action lt(BoundReference<T> ref, Literal<T> lit) {
+    return convertIfSupported(ref, (column, type) -> builder.lessThan(column, type, literal(ref.type(), lit.value())));
+  }
+
+  @Override
+  public <T> Action ltEq(BoundReference<T> ref, Literal<T> lit) {
+    return convertIfSupported(ref,
+        (column, type) -> builder.lessThanEquals(column, type, literal(ref.type(), lit.value())));
+  }
+
+  @Override
+  public <T> Action gt(BoundReference<T> ref, Literal<T> lit) {
+    // ORC has no greater than predicate, so use NOT less than or equal
+    return not(ltEq(ref, lit));
+  }
+
+  @Override
+  public <T> Action gtEq(BoundReference<T> ref, Literal<T> lit) {
+    return not(lt(ref, lit));
+  }
+
+  @Override
+  public <T> Action eq(BoundReference<T> ref, Literal<T> lit) {
+    return convertIfSupported(ref, (column, type) -> builder.equals(column, type, literal(ref.type(), lit.value())));
+  }
+
+  @Override
+  public <T> Action notEq(BoundReference<T> ref, Literal<T> lit) {
+    // null values are not equal to the literal, but ORC's NOT would exclude them
+    return or(not(eq(ref, lit)), isNull(ref));
+  }
+
+  @Override
+  public <T> Action in(BoundReference<T> ref, Set<T> literalSet) {
+    return convertIfSupported(ref, (column, type) -> builder.in(column, type,
+        literalSet.stream().map(value -> literal(ref.type(), value)).toArray()));
+  }
+
+  @Override
+  public <T> Action notIn(BoundReference<T> ref, Set<T> literalSet) {
+    return or(not(in(ref, literalSet)), isNull(ref));
+  }
+
+  @Override
+  public <T> Action startsWith(BoundReference<T> ref, Literal<T> lit) {
+    // ORC has no prefix predicate
+    return () -> builder.literal(TruthValue.YES_NO_NULL);
+  }
+
+  private interface LeafBuilder {
+    void add(String column, PredicateLeaf.Type type);
+  }
+
+  private <T> Action convertIfSupported(BoundReference<T> ref, LeafBuilder leaf) {
+    String column = idToColumnName.get(ref.fieldId());
+    PredicateLeaf.Type type = type(ref.type());
+    if (column == null || type == null) {
+      return () -> builder.literal(TruthValue.YES_NO_NULL);
+    }
+
+    return () -> leaf.add(column, type);
+  }
+
+  private static PredicateLeaf.Type type(Type icebergType) {
+    switch (icebergType.typeId()) {
+      case BOOLEAN:
+        return PredicateLeaf.Type.BOOLEAN;
+      case INTEGER:
+      case LONG:
+        return PredicateLeaf.Type.LONG;
+      case FLOAT:
+      case DOUBLE:
+        return PredicateLeaf.Type.FLOAT;
+      case STRING:
+        return PredicateLeaf.Type.STRING;
+      case DATE:
+        return PredicateLeaf.Type.DATE;
+      case DECIMAL:
+        return PredicateLeaf.Type.DECIMAL;
+      default:
+        // timestamps are not converted because ORC statistics are not stored with microsecond precision
+        return null;
+    }
+  }
+
+  private static Object literal(Type icebergType, Object value) {
+    switch (icebergType.typeId()) {
+      case BOOLEAN:
+        return value;
+      case INTEGER:
+      case LONG:
+        return ((Number) value).longValue();
+      case FLOAT:
+      case DOUBLE:
+        return ((Number) value).doubleValue();
+      case STRING:
+        return value.toString();
+      case DATE:
+        return Date.valueOf(LocalDate.ofEpochDay((Integer) value));
+      case DECIMAL:
+        return new HiveDecimalWritable(HiveDecimal.create((BigDecimal) value));
+      default:
+        throw new UnsupportedOperationException("Cannot convert literal of type: " + icebergType);
+    }
+  }
+
+  /**
+   * Indexes the ORC column name of each primitive field that is reachable through structs.
+   * <p>
+   * Fields in lists and maps are not indexed because ORC search arguments cannot reference them.
+   */
+  private static void indexColumnNames(TypeDescription struct, String prefix, Map<Integer, String> idToColumnName) {
+    List<String> names = struct.getFieldNames();
+    List<TypeDescription> children = struct.getChildren();
+    for (int i = 0; i < children.size(); i += 1) {
+      TypeDescription child = children.get(i);
+      String name = quote(names.get(i));
+      String path = prefix == null ? name : prefix + "." + name;
+
+      if (child.getCategory() == TypeDescription.Category.STRUCT) {
+        indexColumnNames(child, path, idToColumnName);
+      } else if (SUPPORTED_CATEGORIES.contains(child.getCategory())) {
+        String id = child.getAttributeValue(ORCSchemaUtil.ICEBERG_ID_ATTRIBUTE);
+        if (id != null) {
+          idToColumnName.put(Integer.parseInt(id), path);
+        }
+      }
+    }
+  }
+
+  private static String quote(String name) {
+    return SIMPLE_NAME.matcher(name).matches() ? name : "`" + name.replace("`", "``") + "`";
+  }
+}
@@ -25,12 +25,16 @@ import java.util.function.Function;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.InputFile;
 import org.apache.orc.Reader;
 import org.apache.orc.TypeDescription;
 import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
 
 /**
  * Iterable used to read rows from ORC.
@@ -42,16 +46,21 @@ class OrcIterable<T> extends CloseableGroup implements CloseableIterable<T> {
   private final Long start;
   private final Long length;
   private final Function<TypeDescription, OrcValueReader<?>> readerFunction;
+  private final Expression filter;
+  private final boolean caseSensitive;
 
   OrcIterable(InputFile file, Configuration config, Schema schema,
               Long start, Long length,
-              Function<TypeDescription, OrcValueReader<?>> readerFunction) {
+              Function<TypeDescription, OrcValueReader<?>> readerFunction,
+              Expression filter, boolean caseSensitive) {
     this.schema = schema;
     this.readerFunction = readerFunction;
     this.file = file;
     this.start = start;
     this.length = length;
     this.config = config;
+    this.filter = filter;
+    this.caseSensitive = caseSensitive;
   }
 
   @SuppressWarnings("unchecked")
@@ -61,20 +70,30 @@ class OrcIterable<T> extends CloseableGroup implements CloseableIterable<T> {
     addCloseable(orcFileReader);
     TypeDescription readOrcSchema = ORCSchemaUtil.buildOrcProjection(schema, orcFileReader.getSchema());
 
+    SearchArgument sarg = null;
+    if (filter != null && filter != Expressions.alwaysTrue()) {
+      Expression boundFilter = Binder.bind(schema.asStruct(), Expressions.rewriteNot(filter), caseSensitive);
+      sarg = ExpressionToSearchArgument.convert(boundFilter, orcFileReader.getSchema());
+    }
+
     return new OrcIterator(
-        newOrcIterator(file, readOrcSchema, start, length, orcFileReader),
+        newOrcIterator(file, readOrcSchema, start, length, orcFileReader, sarg),
         readerFunction.apply(readOrcSchema));
   }
 
   private static VectorizedRowBatchIterator newOrcIterator(InputFile file,
                                                            TypeDescription readerSchema,
                                                            Long start, Long length,
-                                                           Reader orcFileReader) {
+                                                           Reader orcFileReader, SearchArgument sarg) {
     final Reader.Options options = orcFileReader.options();
     if (start != null) {
       options.range(start, length);
     }
     options.schema(readerSchema);
+    if (sarg != null) {
+      // column names are resolved using the search argument, so none are passed here
+      options.searchArgument(sarg, new String[] {});
+    }
 
     try {
       return new VectorizedRowBatchIterator(file.location(), readerSchema, orcFileReader.rows(options));
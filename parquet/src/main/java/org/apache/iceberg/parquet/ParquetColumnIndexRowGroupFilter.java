@@ -0,0 +1,498 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.parquet;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.BoundReference;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.expressions.ExpressionVisitors.BoundExpressionVisitor;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types.StructType;
+import org.apache.iceberg.util.BinaryUtil;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * Filters row groups using Parquet page indexes.
+ * <p>
+ * Page indexes store the bounds and null count of every page in a column chunk. A row group may pass the footer
+ * statistics of each column while none of its pages contain a matching value. This filter finds the row ranges of the
+ * pages that may match each predicate and combines them, so a row group can be skipped when no rows remain. Row
+ * groups without page indexes are always read.
+ */
+public class ParquetColumnIndexRowGroupFilter {
+  private final Schema schema;
+  private final Expression expr;
+  private transient ThreadLocal<ColumnIndexEvalVisitor> visitors = null;
+
+  private ColumnIndexEvalVisitor visitor() {
+    if (visitors == null) {
+      this.visitors = ThreadLocal.withInitial(ColumnIndexEvalVisitor::new);
+    }
+    return visitors.get();
+  }
+
+  public ParquetColumnIndexRowGroupFilter(Schema schema, Expression unbound) {
+    this(schema, unbound, true);
+  }
+
+  public ParquetColumnIndexRowGroupFilter(Schema schema, Expression unbound, boolean caseSensitive) {
+    this.schema = schema;
+    StructType struct = schema.asStruct();
+    this.expr = Binder.bind(struct, Expressions.rewriteNot(unbound), caseSensitive);
+  }
+
+  /**
+   * Test whether the row group may contain records that match the expression.
+   *
+   * @param fileSchema schema for the Parquet file
+   * @param rowGroup metadata for a row group
+   * @param reader a file reader used to read the page indexes of the row group
+   * @return false if the row group cannot contain rows that match the expression, true otherwise.
+   */
+  public boolean shouldRead(MessageType fileSchema, BlockMetaData rowGroup, ParquetFileReader reader) {
+    return visitor().eval(fileSchema, rowGroup, reader);
+  }
+
+  private class ColumnIndexEvalVisitor extends BoundExpressionVisitor<RowRanges> {
+    private ParquetFileReader reader = null;
+    private long rowCount = 0L;
+    private Map<Integer, ColumnChunkMetaData> columns = null;
+    private Map<Integer, PrimitiveType> types = null;
+    private Map<Integer, PageIndex> pageIndexes = null;
+
+    private boolean eval(MessageType fileSchema, BlockMetaData rowGroup, ParquetFileReader fileReader) {
+      if (rowGroup.getRowCount() <= 0) {
+        return false;
+      }
+
+      this.reader = fileReader;
+      this.rowCount = rowGroup.getRowCount();
+      this.columns = Maps.newHashMap();
+      this.types = Maps.newHashMap();
+      this.pageIndexes = Maps.newHashMap();
+      for (ColumnChunkMetaData col : rowGroup.getColumns()) {
+        PrimitiveType colType = fileSchema.getType(col.getPath().toArray()).asPrimitiveType();
+        if (colType.getId() != null) {
+          int id = colType.getId().intValue();
+          columns.put(id, col);
+          types.put(id, colType);
+        }
+      }
+
+      try {
+        return !ExpressionVisitors.visit(expr, this).isEmpty();
+      } finally {
+        this.reader = null;
+      }
+    }
+
+    @Override
+    public RowRanges alwaysTrue() {
+      return RowRanges.all(rowCount);
+    }
+
+    @Override
+    public RowRanges alwaysFalse() {
+      return RowRanges.EMPTY;
+    }
+
+    @Override
+    public RowRanges not(RowRanges result) {
+      // pages that may match the child can also contain rows that do not match it
+      return RowRanges.all(rowCount);
+    }
+
+    @Override
+    public RowRanges and(RowRanges leftResult, RowRanges rightResult) {
+      return leftResult.intersect(rightResult);
+    }
+
+    @Override
+    public RowRanges or(RowRanges leftResult, RowRanges rightResult) {
+      return leftResult.union(rightResult);
+    }
+
+    @Override
+    public <T> RowRanges isNull(BoundReference<T> ref) {
+      int id = ref.fieldId();
+      if (!columns.containsKey(id)) {
+        // the column is not present and is all nulls
+        return RowRanges.all(rowCount);
+      }
+
+      return select(id, (index, page) -> index.nullCount(page) != 0);
+    }
+
+    @Override
+    public <T> RowRanges notNull(BoundReference<T> ref) {
+      int id = ref.fieldId();
+
+      // nested types are not stored in a single column, leave them to be evaluated after the scan
+      if (schema.findType(id) instanceof Type.NestedType) {
+        return RowRanges.all(rowCount);
+      }
+
+      if (!columns.containsKey(id)) {
+        // the column is not present and is all nulls
+        return RowRanges.EMPTY;
+      }
+
+      return select(id, (index, page) -> !index.isNullPage(page));
+    }
+
+    @Override
+    public <T> RowRanges lt(BoundReference<T> ref, Literal<T> lit) {
+      return selectNonNull(ref, (index, page) -> lit.comparator().compare(index.<T>min(page), lit.value()) < 0);
+    }
+
+    @Override
+    public <T> RowRanges ltEq(BoundReference<T> ref, Literal<T> lit) {
+      return selectNonNull(ref, (index, page) -> lit.comparator().compare(index.<T>min(page), lit.value()) <= 0);
+    }
+
+    @Override
+    public <T> RowRanges gt(BoundReference<T> ref, Literal<T> lit) {
+      return selectNonNull(ref, (index, page) -> lit.comparator().compare(index.<T>max(page), lit.value()) > 0);
+    }
+
+    @Override
+    public <T> RowRanges gtEq(BoundReference<T> ref, Literal<T> lit) {
+      return selectNonNull(ref, (index, page) -> lit.comparator().compare(index.<T>max(page), lit.value()) >= 0);
+    }
+
+    @Override
+    public <T> RowRanges eq(BoundReference<T> ref, Literal<T> lit) {
+      if (schema.findType(ref.fieldId()) instanceof Type.NestedType) {
+        return RowRanges.all(rowCount);
+      }
+
+      return selectNonNull(ref, (index, page) -> contains(index, page, lit.comparator(), lit.value()));
+    }
+
+    @Override
+    public <T> RowRanges notEq(BoundReference<T> ref, Literal<T> lit) {
+      // page bounds do not show whether all values in a page are equal to the literal
+      return RowRanges.all(rowCount);
+    }
+
+    @Override
+    public <T> RowRanges in(BoundReference<T> ref, Set<T> literalSet) {
+      if (schema.findType(ref.fieldId()) instanceof Type.NestedType) {
+        return RowRanges.all(rowCount);
+      }
+
+      return selectNonNull(ref, (index, page) -> {
+        for (T value : literalSet) {
+          if (contains(index, page, ref.comparator(), value)) {
+            return true;
+          }
+        }
+        return false;
+      });
+    }
+
+    @Override
+    public <T> RowRanges notIn(BoundReference<T> ref, Set<T> literalSet) {
+      // page bounds do not show whether all values in a page are in the set
+      return RowRanges.all(rowCount);
+    }
+
+    @Override
+    public <T> RowRanges startsWith(BoundReference<T> ref, Literal<T> lit) {
+      ByteBuffer prefixAsBytes = lit.toByteBuffer();
+      Comparator<ByteBuffer> comparator = Comparators.unsignedBytes();
+
+      return selectNonNull(ref, (index, page) -> {
+        // truncate the bounds so that their length in bytes is not greater than the length of prefix
+        ByteBuffer lower = index.rawMin(page);
+        int lowerLength = Math.min(prefixAsBytes.remaining(), lower.remaining());
+        if (comparator.compare(BinaryUtil.truncateBinary(lower, lowerLength), prefixAsBytes) > 0) {
+          return false;
+        }
+
+        ByteBuffer upper = index.rawMax(page);
+        int upperLength = Math.min(prefixAsBytes.remaining(), upper.remaining());
+        return comparator.compare(BinaryUtil.truncateBinary(upper, upperLength), prefixAsBytes) >= 0;
+      });
+    }
+
+    private <T> boolean contains(PageIndex index, int page, Comparator<T> comparator, T value) {
+      return comparator.compare(index.<T>min(page), value) <= 0 && comparator.compare(index.<T>max(page), value) >= 0;
+    }
+
+    /**
+     * Selects rows of non-null pages that may match a predicate on their bounds.
+     */
+    private <T> RowRanges selectNonNull(BoundReference<T> ref, PagePredicate pageMightMatch) {
+      int id = ref.fieldId();
+      if (!columns.containsKey(id)) {
+        // the column is not present and is all nulls
+        return RowRanges.EMPTY;
+      }
+
+      if (ref.type().typeId() == Type.TypeID.UUID) {
+        // UUID bounds are not converted to UUID values
+        return RowRanges.all(rowCount);
+      }
+
+      return select(id, (index, page) -> !index.isNullPage(page) && pageMightMatch.test(index, page));
+    }
+
+    private RowRanges select(int id, PagePredicate pageMightMatch) {
+      PageIndex index = pageIndexes.computeIfAbsent(id, this::readPageIndex);
+      if (index == null) {
+        return RowRanges.all(rowCount);
+      }
+
+      return RowRanges.of(rowCount, index.offsets, page -> pageMightMatch.test(index, page));
+    }
+
+    private PageIndex readPageIndex(int id) {
+      ColumnChunkMetaData column = columns.get(id);
+      if (types.get(id).getPrimitiveTypeName() == PrimitiveType.PrimitiveTypeName.INT96) {
+        // INT96 bounds are not ordered like the timestamps they store
+        return null;
+      }
+
+      try {
+        ColumnIndex columnIndex = reader.readColumnIndex(column);
+        OffsetIndex offsetIndex = reader.readOffsetIndex(column);
+        if (columnIndex == null || offsetIndex == null) {
+          return null;
+        }
+
+        return new PageIndex(types.get(id), columnIndex, offsetIndex);
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to read page index for column: %s", column.getPath());
+      }
+    }
+  }
+
+  private interface PagePredicate {
+    boolean test(PageIndex index, int page);
+  }
+
+  private static class PageIndex {
+    private final PrimitiveType type;
+    private final Function<Object, Object> conversion;
+    private final List<Boolean> nullPages;
+    private final List<Long> nullCounts;
+    private final List<ByteBuffer> minValues;
+    private final List<ByteBuffer> maxValues;
+    private final OffsetIndex offsets;
+
+    private PageIndex(PrimitiveType type, ColumnIndex columnIndex, OffsetIndex offsets) {
+      this.type = type;
+      this.conversion = ParquetConversions.converterFromParquet(type);
+      this.nullPages = columnIndex.getNullPages();
+      this.nullCounts = columnIndex.getNullCounts();
+      this.minValues = columnIndex.getMinValues();
+      this.maxValues = columnIndex.getMaxValues();
+      this.offsets = offsets;
+    }
+
+    private boolean isNullPage(int page) {
+      return nullPages.get(page);
+    }
+
+    private long nullCount(int page) {
+      // null counts are optional, -1 means the count is unknown
+      return nullCounts != null ? nullCounts.get(page) : -1L;
+    }
+
+    private ByteBuffer rawMin(int page) {
+      return minValues.get(page).duplicate();
+    }
+
+    private ByteBuffer rawMax(int page) {
+      return maxValues.get(page).duplicate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T min(int page) {
+      return (T) conversion.apply(fromPlain(rawMin(page)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T max(int page) {
+      return (T) conversion.apply(fromPlain(rawMax(page)));
+    }
+
+    /**
+     * Decodes a page bound, which is stored using Parquet's plain encoding for the column type.
+     */
+    private Object fromPlain(ByteBuffer buffer) {
+      ByteBuffer value = buffer.order(ByteOrder.LITTLE_ENDIAN);
+      switch (type.getPrimitiveTypeName()) {
+        case BOOLEAN:
+          return value.get(value.position()) != 0;
+        case INT32:
+          return value.getInt(value.position());
+        case INT64:
+          return value.getLong(value.position());
+        case FLOAT:
+          return value.getFloat(value.position());
+        case DOUBLE:
+          return value.getDouble(value.position());
+        case BINARY:
+        case FIXED_LEN_BYTE_ARRAY:
+          return Binary.fromConstantByteBuffer(value);
+        default:
+          throw new UnsupportedOperationException("Unsupported page bound type: " + type);
+      }
+    }
+  }
+
+  /**
+   * Sorted, non-overlapping ranges of row positions in a row group.
+   */
+  static class RowRanges {
+    private static final RowRanges EMPTY = new RowRanges(new long[0]);
+
+    // pairs of inclusive start and end positions
+    private final long[] ranges;
+
+    private RowRanges(long[] ranges) {
+      this.ranges = ranges;
+    }
+
+    static RowRanges all(long rowCount) {
+      return new RowRanges(new long[] { 0L, rowCount - 1 });
+    }
+
+    static RowRanges of(long rowCount, OffsetIndex offsets, IntPredicate includePage) {
+      List<Long> bounds = Lists.newArrayList();
+      for (int page = 0; page < offsets.getPageCount(); page += 1) {
+        if (includePage.test(page)) {
+          long start = offsets.getFirstRowIndex(page);
+          long end = offsets.getLastRowIndex(page, rowCount);
+          addRange(bounds, start, end);
+        }
+      }
+
+      return fromBounds(bounds);
+    }
+
+    boolean isEmpty() {
+      return ranges.length == 0;
+    }
+
+    RowRanges union(RowRanges other) {
+      List<Long> bounds = Lists.newArrayList();
+      int left = 0;
+      int right = 0;
+      while (left < ranges.length || right < other.ranges.length) {
+        if (right >= other.ranges.length || (left < ranges.length && ranges[left] <= other.ranges[right])) {
+          addRange(bounds, ranges[left], ranges[left + 1]);
+          left += 2;
+        } else {
+          addRange(bounds, other.ranges[right], other.ranges[right + 1]);
+          right += 2;
+        }
+      }
+
+      return fromBounds(bounds);
+    }
+
+    RowRanges intersect(RowRanges other) {
+      List<Long> bounds = Lists.newArrayList();
+      int left = 0;
+      int right = 0;
+      while (left < ranges.length && right < other.ranges.length) {
+        long start = Math.max(ranges[left], other.ranges[right]);
+        long end = Math.min(ranges[left + 1], other.ranges[right + 1]);
+        if (start <= end) {
+          addRange(bounds, start, end);
+        }
+
+        if (ranges[left + 1] < other.ranges[right + 1]) {
+          left += 2;
+        } else {
+          right += 2;
+        }
+      }
+
+      return fromBounds(bounds);
+    }
+
+    /**
+     * Adds a range that starts at or after the start of the last range, merging it with the last range if they overlap
+     * or are adjacent.
+     */
+    private static void addRange(List<Long> bounds, long start, long end) {
+      int last = bounds.size() - 1;
+      if (last > 0 && start <= bounds.get(last) + 1) {
+        bounds.set(last, Math.max(end, bounds.get(last)));
+      } else {
+        bounds.add(start);
+        bounds.add(end);
+      }
+    }
+
+    private static RowRanges fromBounds(List<Long> bounds) {
+      if (bounds.isEmpty()) {
+        return EMPTY;
+      }
+
+      long[] ranges = new long[bounds.size()];
+      for (int i = 0; i < ranges.length; i += 1) {
+        ranges[i] = bounds.get(i);
+      }
+
+      return new RowRanges(ranges);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("[");
+      for (int i = 0; i < ranges.length; i += 2) {
+        if (i > 0) {
+          sb.append(", ");
+        }
+        sb.append(ranges[i]).append("-").append(ranges[i + 1]);
+      }
+      return sb.append("]").toString();
+    }
+  }
+}
@@ -30,6 +30,7 @@ import org.apache.iceberg.hadoop.HadoopInputFile;
 import org.apache.iceberg.hadoop.HadoopOutputFile;
 import org.apache.iceberg.io.DelegatingInputStream;
 import org.apache.iceberg.io.DelegatingOutputStream;
+import org.apache.iceberg.io.VectoredReadable;
 import org.apache.parquet.hadoop.util.HadoopStreams;
 import org.apache.parquet.io.DelegatingPositionOutputStream;
 import org.apache.parquet.io.DelegatingSeekableInputStream;
@@ -84,7 +85,8 @@ class ParquetIO {
   }
 
   static SeekableInputStream stream(org.apache.iceberg.io.SeekableInputStream stream) {
-    if (stream instanceof DelegatingInputStream) {
+    // vectored streams are not unwrapped because ranges are requested from them and served by their reads
+    if (stream instanceof DelegatingInputStream && !(stream instanceof VectoredReadable)) {
       InputStream wrapped = ((DelegatingInputStream) stream).getDelegate();
       if (wrapped instanceof FSDataInputStream) {
         return HadoopStreams.wrap((FSDataInputStream) wrapped);
@@ -62,12 +62,14 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
   private final long targetRowGroupSize;
   private final Map<String, String> metadata;
   private final ParquetProperties props;
+  private final CodecFactory codecFactory;
   private final CodecFactory.BytesCompressor compressor;
   private final MessageType parquetSchema;
   private final ParquetValueWriter<T> model;
   private final ParquetFileWriter writer;
   private final MetricsConfig metricsConfig;
   private final int columnIndexTruncateLength;
+  private final PooledByteBufferAllocator pooledAllocator;
 
   private DynMethods.BoundMethod flushPageStoreToWriter;
   private ColumnWriteStore writeStore;
@@ -89,11 +91,17 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     this.targetRowGroupSize = rowGroupSize;
     this.props = properties;
     this.metadata = ImmutableMap.copyOf(metadata);
-    this.compressor = new CodecFactory(conf, props.getPageSizeThreshold()).getCompressor(codec);
+    // direct allocators are used to compress into direct buffers, which heap codecs cannot use
+    this.codecFactory = props.getAllocator().isDirect() ?
+        CodecFactory.createDirectCodecFactory(conf, props.getAllocator(), props.getPageSizeThreshold()) :
+        new CodecFactory(conf, props.getPageSizeThreshold());
+    this.compressor = codecFactory.getCompressor(codec);
     this.parquetSchema = ParquetSchemaUtil.convert(schema, "table");
     this.model = (ParquetValueWriter<T>) createWriterFunc.apply(parquetSchema);
     this.metricsConfig = metricsConfig;
     this.columnIndexTruncateLength = conf.getInt(COLUMN_INDEX_TRUNCATE_LENGTH, DEFAULT_COLUMN_INDEX_TRUNCATE_LENGTH);
+    this.pooledAllocator = props.getAllocator() instanceof PooledByteBufferAllocator ?
+        (PooledByteBufferAllocator) props.getAllocator() : null;
 
     try {
       this.writer = new ParquetFileWriter(ParquetIO.file(output, conf), parquetSchema,
@@ -116,6 +124,8 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     recordCount += 1;
     model.write(0, value);
     writeStore.endRecord();
+    // pages are written when a record ends, after which the buffers they released are no longer read
+    releaseBuffers();
     checkSize();
   }
 
@@ -161,6 +171,9 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
         flushPageStoreToWriter.invoke(writer);
         writer.endBlock();
         if (!finished) {
+          // release the page buffers of the flushed row group before allocating buffers for the next one
+          writeStore.close();
+          releaseBuffers();
           startRowGroup();
         }
       }
@@ -192,5 +205,14 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     flushRowGroup(true);
     writeStore.close();
     writer.end(metadata);
+    // direct compressors return their buffers to the allocator when released, so release them before the pool
+    codecFactory.release();
+    releaseBuffers();
+  }
+
+  private void releaseBuffers() {
+    if (pooledAllocator != null) {
+      pooledAllocator.releaseDeferred();
+    }
   }
 }
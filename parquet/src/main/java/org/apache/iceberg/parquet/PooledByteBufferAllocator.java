@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.parquet;
+
+import com.google.common.collect.Lists;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.iceberg.io.ByteBufferPool;
+import org.apache.parquet.bytes.ByteBufferAllocator;
+
+/**
+ * A Parquet {@link ByteBufferAllocator} that draws buffers from a {@link ByteBufferPool}.
+ * <p>
+ * Parquet writers may read from a buffer after releasing it; for example, a dictionary page is read after its values
+ * writer is closed. Released buffers are therefore held until {@link #releaseDeferred()} is called at a point where
+ * the writer no longer references them, like after a record ends and its pages have been written to the page store.
+ * This allocator is not thread-safe and should be used by a single writer.
+ */
+class PooledByteBufferAllocator implements ByteBufferAllocator {
+  private final ByteBufferPool pool;
+  private final List<ByteBuffer> released = Lists.newArrayList();
+
+  PooledByteBufferAllocator(ByteBufferPool pool) {
+    this.pool = pool;
+  }
+
+  @Override
+  public ByteBuffer allocate(int size) {
+    return pool.allocate(size);
+  }
+
+  @Override
+  public void release(ByteBuffer buffer) {
+    released.add(buffer);
+  }
+
+  /**
+   * Returns buffers released since the last call to the pool.
+   */
+  void releaseDeferred() {
+    if (released.isEmpty()) {
+      return;
+    }
+
+    for (ByteBuffer buffer : released) {
+      pool.release(buffer);
+    }
+
+    released.clear();
+  }
+
+  @Override
+  public boolean isDirect() {
+    return pool.isDirect();
+  }
+}
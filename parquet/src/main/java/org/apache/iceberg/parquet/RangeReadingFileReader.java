@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.parquet;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.iceberg.io.CoalescingInputStream;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.VectoredReadable;
+import org.apache.iceberg.util.ThreadPools;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.SeekableInputStream;
+import org.apache.parquet.schema.MessageType;
+
+/**
+ * A {@link ParquetFileReader} that requests the byte ranges of a row group's column chunks before reading it.
+ * <p>
+ * Only the chunks of projected columns are requested. The file's stream is {@link VectoredReadable}, so the ranges
+ * are coalesced and fetched in parallel, and the reader's positional reads are then served from memory. Streams that
+ * do not support vectored reads natively are wrapped in a {@link CoalescingInputStream} that fetches in the shared
+ * {@link ThreadPools#getReadPool() read pool}.
+ */
+class RangeReadingFileReader extends ParquetFileReader {
+  static final String VECTORED_READS_ENABLED = "iceberg.parquet.vectored-reads.enabled";
+  static final boolean VECTORED_READS_ENABLED_DEFAULT = false;
+
+  static final String VECTORED_READS_MAX_GAP_BYTES = "iceberg.parquet.vectored-reads.max-gap-bytes";
+  static final long VECTORED_READS_MAX_GAP_BYTES_DEFAULT = 1024 * 1024; // 1 MB
+
+  static final String VECTORED_READS_MAX_RANGE_BYTES = "iceberg.parquet.vectored-reads.max-range-bytes";
+  static final int VECTORED_READS_MAX_RANGE_BYTES_DEFAULT = 8 * 1024 * 1024; // 8 MB
+
+  private final VectoredReadable stream;
+  private Set<ColumnPath> projectedColumns = null;
+  private int nextRowGroup = 0;
+  private int requestedRowGroup = -1;
+
+  private RangeReadingFileReader(VectoredInputFile file, ParquetReadOptions options) throws IOException {
+    super(file, options);
+    this.stream = file.openedStream();
+  }
+
+  static boolean isEnabled(ParquetReadOptions options) {
+    String enabled = options.getProperty(VECTORED_READS_ENABLED);
+    return enabled != null ? Boolean.parseBoolean(enabled) : VECTORED_READS_ENABLED_DEFAULT;
+  }
+
+  static ParquetFileReader open(org.apache.iceberg.io.InputFile file, ParquetReadOptions options) throws IOException {
+    String maxGap = options.getProperty(VECTORED_READS_MAX_GAP_BYTES);
+    String maxRange = options.getProperty(VECTORED_READS_MAX_RANGE_BYTES);
+    return new RangeReadingFileReader(new VectoredInputFile(file,
+        maxGap != null ? Long.parseLong(maxGap) : VECTORED_READS_MAX_GAP_BYTES_DEFAULT,
+        maxRange != null ? Integer.parseInt(maxRange) : VECTORED_READS_MAX_RANGE_BYTES_DEFAULT), options);
+  }
+
+  @Override
+  public void setRequestedSchema(MessageType projection) {
+    super.setRequestedSchema(projection);
+    this.projectedColumns = projection.getColumns().stream()
+        .map(column -> ColumnPath.get(column.getPath()))
+        .collect(Collectors.toSet());
+  }
+
+  @Override
+  public PageReadStore readNextRowGroup() throws IOException {
+    requestNextRowGroup();
+    PageReadStore pages = super.readNextRowGroup();
+    if (pages != null) {
+      nextRowGroup += 1;
+    }
+
+    return pages;
+  }
+
+  @Override
+  public PageReadStore readNextFilteredRowGroup() throws IOException {
+    requestNextRowGroup();
+    int rowGroup = nextRowGroup;
+    PageReadStore pages = super.readNextFilteredRowGroup();
+    // the parent reader may have delegated to readNextRowGroup, which already moved to the next row group
+    if (pages != null && nextRowGroup == rowGroup) {
+      nextRowGroup += 1;
+    }
+
+    return pages;
+  }
+
+  @Override
+  public boolean skipNextRowGroup() {
+    boolean skipped = super.skipNextRowGroup();
+    if (skipped) {
+      nextRowGroup += 1;
+    }
+
+    return skipped;
+  }
+
+  private void requestNextRowGroup() throws IOException {
+    List<BlockMetaData> rowGroups = getRowGroups();
+    if (nextRowGroup < rowGroups.size() && requestedRowGroup != nextRowGroup) {
+      stream.readVectored(chunkRanges(rowGroups.get(nextRowGroup)));
+      this.requestedRowGroup = nextRowGroup;
+    }
+  }
+
+  private List<FileRange> chunkRanges(BlockMetaData rowGroup) {
+    ImmutableList.Builder<FileRange> ranges = ImmutableList.builder();
+    for (ColumnChunkMetaData chunk : rowGroup.getColumns()) {
+      if (projectedColumns == null || projectedColumns.contains(chunk.getPath())) {
+        ranges.add(new FileRange(chunk.getStartingPos(), chunk.getTotalSize()));
+      }
+    }
+
+    return ranges.build();
+  }
+
+  /**
+   * A Parquet input file that keeps the vectored stream it opens, so the reader can request ranges from it.
+   */
+  private static class VectoredInputFile implements InputFile {
+    private final org.apache.iceberg.io.InputFile file;
+    private final long maxGapBytes;
+    private final int maxRangeBytes;
+    private VectoredReadable openedStream = null;
+
+    private VectoredInputFile(org.apache.iceberg.io.InputFile file, long maxGapBytes, int maxRangeBytes) {
+      this.file = file;
+      this.maxGapBytes = maxGapBytes;
+      this.maxRangeBytes = maxRangeBytes;
+    }
+
+    @Override
+    public long getLength() {
+      return file.getLength();
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      org.apache.iceberg.io.SeekableInputStream stream = file.newStream();
+      if (!(stream instanceof VectoredReadable)) {
+        stream = new CoalescingInputStream(file, stream, ThreadPools.getReadPool(), maxGapBytes, maxRangeBytes);
+      }
+
+      this.openedStream = (VectoredReadable) stream;
+      return ParquetIO.stream(stream);
+    }
+
+    private VectoredReadable openedStream() {
+      return openedStream;
+    }
+  }
+}
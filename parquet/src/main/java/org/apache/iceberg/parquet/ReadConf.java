@@ -84,9 +84,13 @@ class ReadConf<T> {
 
     ParquetMetricsRowGroupFilter statsFilter = null;
     ParquetDictionaryRowGroupFilter dictFilter = null;
+    ParquetColumnIndexRowGroupFilter indexFilter = null;
     if (filter != null) {
       statsFilter = new ParquetMetricsRowGroupFilter(expectedSchema, filter, caseSensitive);
       dictFilter = new ParquetDictionaryRowGroupFilter(expectedSchema, filter, caseSensitive);
+      if (options.useColumnIndexFilter()) {
+        indexFilter = new ParquetColumnIndexRowGroupFilter(expectedSchema, filter, caseSensitive);
+      }
     }
 
     long computedTotalValues = 0L;
@@ -94,6 +98,7 @@ class ReadConf<T> {
       BlockMetaData rowGroup = rowGroups.get(i);
       boolean shouldRead = filter == null || (
           statsFilter.shouldRead(typeWithIds, rowGroup) &&
+              (indexFilter == null || indexFilter.shouldRead(typeWithIds, rowGroup, reader)) &&
               dictFilter.shouldRead(typeWithIds, rowGroup, reader.getDictionaryReader(rowGroup)));
       this.shouldSkip[i] = !shouldRead;
       if (shouldRead) {
@@ -176,6 +181,10 @@ class ReadConf<T> {
 
   private static ParquetFileReader newReader(InputFile file, ParquetReadOptions options) {
     try {
+      if (RangeReadingFileReader.isEnabled(options)) {
+        return RangeReadingFileReader.open(file, options);
+      }
+
       return ParquetFileReader.open(ParquetIO.file(file), options);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to open Parquet file: %s", file.location());
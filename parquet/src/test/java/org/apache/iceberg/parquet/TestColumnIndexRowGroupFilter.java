@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.parquet;
+
+import com.google.common.collect.Iterables;
+import java.io.File;
+import java.io.IOException;
+import org.apache.avro.generic.GenericData.Record;
+import org.apache.avro.generic.GenericRecordBuilder;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.types.Types.IntegerType;
+import org.apache.iceberg.types.Types.StringType;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.schema.MessageType;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.apache.iceberg.avro.AvroSchemaUtil.convert;
+import static org.apache.iceberg.expressions.Expressions.and;
+import static org.apache.iceberg.expressions.Expressions.equal;
+import static org.apache.iceberg.expressions.Expressions.greaterThan;
+import static org.apache.iceberg.expressions.Expressions.in;
+import static org.apache.iceberg.expressions.Expressions.isNull;
+import static org.apache.iceberg.expressions.Expressions.lessThan;
+import static org.apache.iceberg.expressions.Expressions.notEqual;
+import static org.apache.iceberg.expressions.Expressions.notNull;
+import static org.apache.iceberg.expressions.Expressions.or;
+import static org.apache.iceberg.expressions.Expressions.startsWith;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+public class TestColumnIndexRowGroupFilter {
+
+  private static final Schema SCHEMA = new Schema(
+      required(1, "id", IntegerType.get()),
+      optional(2, "data", StringType.get()),
+      optional(3, "late_values", StringType.get()),
+      optional(4, "not_in_file", IntegerType.get())
+  );
+
+  private static final Schema FILE_SCHEMA = new Schema(
+      required(1, "id", IntegerType.get()),
+      optional(2, "data", StringType.get()),
+      optional(3, "late_values", StringType.get())
+  );
+
+  private static final int PAGE_ROW_LIMIT = 100;
+  private static final int NUM_ROWS = 1000;
+
+  @ClassRule
+  public static final TemporaryFolder TEMP = new TemporaryFolder();
+
+  private static File parquetFile = null;
+  private static ParquetFileReader reader = null;
+  private static MessageType parquetSchema = null;
+  private static BlockMetaData rowGroupMetadata = null;
+
+  @BeforeClass
+  public static void createInputFile() throws IOException {
+    parquetFile = new File(TEMP.newFolder(), "column-index-row-group-filter-test.parquet");
+
+    OutputFile outFile = Files.localOutput(parquetFile);
+    try (FileAppender<Record> appender = Parquet.write(outFile)
+        .schema(FILE_SCHEMA)
+        .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, String.valueOf(PAGE_ROW_LIMIT))
+        .build()) {
+      GenericRecordBuilder builder = new GenericRecordBuilder(convert(FILE_SCHEMA, "table"));
+      // ids are sorted with a gap: 0 to 499 and 1000 to 1499
+      for (int i = 0; i < NUM_ROWS; i += 1) {
+        int id = i < NUM_ROWS / 2 ? i : i + NUM_ROWS / 2;
+        builder.set("id", id);
+        builder.set("data", String.format("%s-%04d", id < NUM_ROWS / 2 ? "a" : "c", id));
+        builder.set("late_values", id < NUM_ROWS / 2 ? null : "value"); // null in the first half
+        appender.add(builder.build());
+      }
+    }
+
+    reader = ParquetFileReader.open(ParquetIO.file(Files.localInput(parquetFile)));
+    Assert.assertEquals("Should create only one row group", 1, reader.getRowGroups().size());
+    rowGroupMetadata = reader.getRowGroups().get(0);
+    parquetSchema = reader.getFileMetaData().getSchema();
+  }
+
+  @AfterClass
+  public static void closeReader() throws IOException {
+    reader.close();
+  }
+
+  @Test
+  public void testAssumptions() {
+    Assert.assertTrue("Footer stats should not skip a value in the gap",
+        new ParquetMetricsRowGroupFilter(SCHEMA, equal("id", 700)).shouldRead(parquetSchema, rowGroupMetadata));
+    Assert.assertTrue("Footer stats should not skip a prefix in the gap",
+        new ParquetMetricsRowGroupFilter(SCHEMA, startsWith("data", "b")).shouldRead(parquetSchema, rowGroupMetadata));
+  }
+
+  @Test
+  public void testEqual() {
+    Assert.assertTrue("Should read: a page contains 300", shouldRead(equal("id", 300)));
+    Assert.assertTrue("Should read: a page contains 1200", shouldRead(equal("id", 1200)));
+    Assert.assertFalse("Should skip: 700 is between pages", shouldRead(equal("id", 700)));
+    Assert.assertFalse("Should skip: 2000 is above all pages", shouldRead(equal("id", 2000)));
+  }
+
+  @Test
+  public void testNotEqual() {
+    Assert.assertTrue("Should read: page bounds cannot exclude notEqual", shouldRead(notEqual("id", 700)));
+  }
+
+  @Test
+  public void testIn() {
+    Assert.assertFalse("Should skip: all values are between pages", shouldRead(in("id", 600, 700, 800)));
+    Assert.assertTrue("Should read: a page contains 1000", shouldRead(in("id", 700, 1000)));
+  }
+
+  @Test
+  public void testAnd() {
+    Assert.assertFalse("Should skip: matching pages do not overlap",
+        shouldRead(and(greaterThan("id", 499), lessThan("id", 1000))));
+    Assert.assertTrue("Should read: matching pages overlap",
+        shouldRead(and(greaterThan("id", 450), lessThan("id", 1000))));
+  }
+
+  @Test
+  public void testOr() {
+    Assert.assertFalse("Should skip: no pages match either side",
+        shouldRead(or(equal("id", 700), equal("id", 800))));
+    Assert.assertTrue("Should read: pages match one side",
+        shouldRead(or(equal("id", 700), equal("id", 10))));
+  }
+
+  @Test
+  public void testStartsWith() {
+    Assert.assertFalse("Should skip: no page has prefix b", shouldRead(startsWith("data", "b")));
+    Assert.assertTrue("Should read: pages have prefix c", shouldRead(startsWith("data", "c-12")));
+  }
+
+  @Test
+  public void testNulls() {
+    Assert.assertTrue("Should read: pages contain nulls", shouldRead(isNull("late_values")));
+    Assert.assertFalse("Should skip: no null id", shouldRead(isNull("data")));
+    Assert.assertFalse("Should skip: low ids are in all-null pages",
+        shouldRead(and(notNull("late_values"), lessThan("id", 500))));
+    Assert.assertTrue("Should read: high ids are in non-null pages",
+        shouldRead(and(notNull("late_values"), greaterThan("id", 500))));
+  }
+
+  @Test
+  public void testMissingColumn() {
+    Assert.assertFalse("Should skip: a missing column is all null", shouldRead(equal("not_in_file", 1)));
+    Assert.assertTrue("Should read: a missing column is all null", shouldRead(isNull("not_in_file")));
+  }
+
+  @Test
+  public void testReadSkipsRowGroup() throws IOException {
+    try (CloseableIterable<Record> records = Parquet.read(Files.localInput(parquetFile))
+        .project(SCHEMA)
+        .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(SCHEMA, fileSchema))
+        .filter(equal("id", 700))
+        .build()) {
+      Assert.assertEquals("Should skip the row group", 0, Iterables.size(records));
+    }
+
+    try (CloseableIterable<Record> records = Parquet.read(Files.localInput(parquetFile))
+        .project(SCHEMA)
+        .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(SCHEMA, fileSchema))
+        .filter(equal("id", 1200))
+        .build()) {
+      Assert.assertEquals("Should read the row group", NUM_ROWS, Iterables.size(records));
+    }
+  }
+
+  private boolean shouldRead(Expression expr) {
+    return new ParquetColumnIndexRowGroupFilter(SCHEMA, expr).shouldRead(parquetSchema, rowGroupMetadata, reader);
+  }
+}
@@ -24,12 +24,24 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.apache.avro.generic.GenericData;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.MetricsConfig;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.io.ByteBufferPool;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.types.Types.IntegerType;
+import org.apache.iceberg.types.Types.LongType;
+import org.apache.iceberg.types.Types.StringType;
+import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.schema.MessageType;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -37,6 +49,7 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import static org.apache.iceberg.Files.localInput;
+import static org.apache.iceberg.Files.localOutput;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES;
 import static org.apache.iceberg.parquet.ParquetWritingTestUtils.writeRecords;
 import static org.apache.iceberg.types.Types.NestedField.optional;
@@ -65,6 +78,165 @@ public class TestParquet {
     }
   }
 
+  @Test
+  public void testVectoredReads() throws IOException {
+    Schema schema = new Schema(
+        optional(1, "id", IntegerType.get()),
+        optional(2, "data", StringType.get()),
+        optional(3, "count", LongType.get())
+    );
+
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct());
+    List<GenericData.Record> records = new ArrayList<>();
+    for (int i = 0; i < 1000; i += 1) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("id", i);
+      record.put("data", "data-" + i);
+      record.put("count", i * 10L);
+      records.add(record);
+    }
+
+    File parquetFile = writeRecords(temp, schema,
+        ImmutableMap.of(PARQUET_ROW_GROUP_SIZE_BYTES, "2048"),
+        records.toArray(new GenericData.Record[] {}));
+
+    Schema projection = schema.select("id", "count");
+    List<String> expected = readAsStrings(localInput(parquetFile), projection, false);
+    Assert.assertEquals("Should read all rows", 1000, expected.size());
+
+    AtomicInteger openCount = new AtomicInteger(0);
+    InputFile countingFile = new InputFile() {
+      private final InputFile delegate = localInput(parquetFile);
+
+      @Override
+      public long getLength() {
+        return delegate.getLength();
+      }
+
+      @Override
+      public SeekableInputStream newStream() {
+        openCount.incrementAndGet();
+        return delegate.newStream();
+      }
+
+      @Override
+      public String location() {
+        return delegate.location();
+      }
+
+      @Override
+      public boolean exists() {
+        return delegate.exists();
+      }
+    };
+
+    Assert.assertEquals("Vectored reads should return the same rows",
+        expected, readAsStrings(countingFile, projection, true));
+
+    int rowGroupCount;
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(localInput(parquetFile)))) {
+      rowGroupCount = reader.getRowGroups().size();
+    }
+
+    Assert.assertTrue("Should write more than one row group", rowGroupCount > 1);
+    Assert.assertTrue("Should fetch the ranges of each row group with separate streams",
+        openCount.get() > rowGroupCount);
+  }
+
+  @Test
+  public void testPooledPageBuffers() throws IOException {
+    Schema schema = new Schema(
+        optional(1, "id", IntegerType.get()),
+        optional(2, "data", StringType.get())
+    );
+
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct());
+    List<GenericData.Record> records = new ArrayList<>();
+    for (int i = 0; i < 1000; i += 1) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("id", i);
+      record.put("data", "data-" + i);
+      records.add(record);
+    }
+
+    ByteBufferPool pool = new ByteBufferPool(16 * 1024 * 1024, 1024 * 1024, false, true);
+    File parquetFile = new File(temp.newFolder(), "pooled.parquet");
+    ParquetProperties properties = ParquetProperties.builder()
+        .withAllocator(new PooledByteBufferAllocator(pool))
+        .build();
+
+    try (ParquetWriter<GenericData.Record> writer = new ParquetWriter<>(
+        new Configuration(), localOutput(parquetFile), schema, 2048, ImmutableMap.of(),
+        ParquetAvroWriter::buildWriter, CompressionCodecName.SNAPPY, properties, MetricsConfig.getDefault(),
+        ParquetFileWriter.Mode.CREATE)) {
+      writer.addAll(records);
+    }
+
+    Assert.assertEquals("Should release all page buffers", 0, pool.outstandingBuffers());
+    Assert.assertTrue("Should reuse page buffers across row groups", pool.hitCount() > 0);
+
+    List<String> expected = new ArrayList<>();
+    for (GenericData.Record record : records) {
+      expected.add(record.toString());
+    }
+
+    Assert.assertEquals("Should read the written rows",
+        expected, readAsStrings(localInput(parquetFile), schema, false));
+  }
+
+  @Test
+  public void testPooledPageBuffersReleasedAfterPages() throws IOException {
+    Schema schema = new Schema(
+        optional(1, "id", IntegerType.get()),
+        optional(2, "data", StringType.get())
+    );
+
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct());
+    List<GenericData.Record> records = new ArrayList<>();
+    for (int i = 0; i < 10000; i += 1) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("id", i);
+      record.put("data", "data-" + i);
+      records.add(record);
+    }
+
+    ByteBufferPool pool = new ByteBufferPool(16 * 1024 * 1024, 1024 * 1024, false, true);
+    File parquetFile = new File(temp.newFolder(), "pooled-pages.parquet");
+    ParquetProperties properties = ParquetProperties.builder()
+        .withPageSize(1024)
+        .withDictionaryEncoding(false)
+        .withAllocator(new PooledByteBufferAllocator(pool))
+        .build();
+
+    try (ParquetWriter<GenericData.Record> writer = new ParquetWriter<>(
+        new Configuration(), localOutput(parquetFile), schema, 128 * 1024 * 1024, ImmutableMap.of(),
+        ParquetAvroWriter::buildWriter, CompressionCodecName.SNAPPY, properties, MetricsConfig.getDefault(),
+        ParquetFileWriter.Mode.CREATE)) {
+      writer.addAll(records);
+      Assert.assertTrue("Should reuse page buffers within a row group", pool.hitCount() > 0);
+    }
+
+    Assert.assertEquals("Should release all page buffers", 0, pool.outstandingBuffers());
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(localInput(parquetFile)))) {
+      Assert.assertEquals("Should write a single row group", 1, reader.getRowGroups().size());
+    }
+  }
+
+  private static List<String> readAsStrings(InputFile file, Schema projection, boolean vectored) throws IOException {
+    try (CloseableIterable<GenericData.Record> reader = Parquet.read(file)
+        .project(projection)
+        .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(projection, fileSchema))
+        .set(RangeReadingFileReader.VECTORED_READS_ENABLED, Boolean.toString(vectored))
+        .build()) {
+      List<String> rows = new ArrayList<>();
+      for (GenericData.Record record : reader) {
+        rows.add(record.toString());
+      }
+      return rows;
+    }
+  }
+
   private File generateFileWithTwoRowGroups(Function<MessageType, ParquetValueWriter<?>> createWriterFunc)
       throws IOException {
     Schema schema = new Schema(
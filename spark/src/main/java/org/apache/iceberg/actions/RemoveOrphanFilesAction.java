@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import org.apache.hadoop.conf.Configuration;
@@ -33,9 +34,11 @@ import org.apache.hadoop.fs.Path;
 import org.apache.iceberg.HasTableOperations;
 import org.apache.iceberg.MetadataTableType;
 import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.SnapshotSummary;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.hadoop.HiddenPathFilter;
 import org.apache.iceberg.util.Tasks;
@@ -61,7 +64,8 @@ import org.slf4j.LoggerFactory;
  * removes unreachable files that are older than 3 days using {@link Table#io()}. The behavior can be modified
  * by passing a custom location to {@link #location} and a custom timestamp to {@link #olderThan(long)}.
  * For example, someone might point this action to the data folder to clean up only orphan data files.
- * In addition, there is a way to configure an alternative delete method via {@link #deleteWith(Consumer)}.
+ * Files are deleted in bulk using {@link org.apache.iceberg.io.FileIO#deleteFiles(Iterable)}. In addition, there is
+ * a way to configure an alternative delete method via {@link #deleteWith(Consumer)}.
  * <p>
  * <em>Note:</em> It is dangerous to call this action with a short retention interval as it might corrupt
  * the state of the table if another operation is writing at the same time.
@@ -79,12 +83,7 @@ public class RemoveOrphanFilesAction extends BaseAction<List<String>> {
 
   private String location = null;
   private long olderThanTimestamp = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(3);
-  private Consumer<String> deleteFunc = new Consumer<String>() {
-    @Override
-    public void accept(String file) {
-      table.io().deleteFile(file);
-    }
-  };
+  private Consumer<String> deleteFunc = null;
 
   RemoveOrphanFilesAction(SparkSession spark, Table table) {
     this.spark = spark;
@@ -146,15 +145,40 @@ public class RemoveOrphanFilesAction extends BaseAction<List<String>> {
         .as(Encoders.STRING())
         .collectAsList();
 
-    Tasks.foreach(orphanFiles)
-        .noRetry()
-        .suppressFailureWhenFinished()
-        .onFailure((file, exc) -> LOG.warn("Failed to delete file: {}", file, exc))
-        .run(deleteFunc::accept);
+    deleteFiles(orphanFiles);
 
     return orphanFiles;
   }
 
+  private void deleteFiles(List<String> orphanFiles) {
+    long start = System.currentTimeMillis();
+    AtomicInteger failed = new AtomicInteger(0);
+
+    if (deleteFunc == null) {
+      try {
+        table.io().deleteFiles(orphanFiles);
+      } catch (BulkDeletionFailureException e) {
+        failed.set(e.failures().size());
+        e.failures().forEach((file, exc) -> LOG.warn("Failed to delete file: {}", file, exc));
+      }
+
+    } else {
+      Tasks.foreach(orphanFiles)
+          .noRetry()
+          .suppressFailureWhenFinished()
+          .onFailure((file, exc) -> {
+            failed.incrementAndGet();
+            LOG.warn("Failed to delete file: {}", file, exc);
+          })
+          .run(deleteFunc::accept);
+    }
+
+    long duration = Math.max(System.currentTimeMillis() - start, 1L);
+    int deleted = orphanFiles.size() - failed.get();
+    LOG.info("Deleted {} orphan file(s) in {} ms ({} files/sec), {} failed",
+        deleted, duration, deleted * 1000L / duration, failed.get());
+  }
+
   private Dataset<Row> buildValidDataFileDF() {
     String allDataFilesMetadataTable = metadataTableName(MetadataTableType.ALL_DATA_FILES);
     return spark.read().format("iceberg")
@@ -175,6 +199,12 @@ public class RemoveOrphanFilesAction extends BaseAction<List<String>> {
       if (manifestListLocation != null) {
         otherMetadataFiles.add(manifestListLocation);
       }
+
+      String partitionStatsLocation = snapshot.summary() != null ?
+          snapshot.summary().get(SnapshotSummary.PARTITION_STATS_FILE_PROP) : null;
+      if (partitionStatsLocation != null) {
+        otherMetadataFiles.add(partitionStatsLocation);
+      }
     }
 
     otherMetadataFiles.add(ops.metadataFileLocation("version-hint.text"));
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.actions;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.iceberg.BaseCombinedScanTask;
+import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.RewriteFiles;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.encryption.EncryptionManager;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.hadoop.HadoopFileIO;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.spark.source.RowDataRewriter;
+import org.apache.iceberg.util.BinPacking;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.StructLikeWrapper;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.JavaSparkContext;
+import org.apache.spark.broadcast.Broadcast;
+import org.apache.spark.sql.SparkSession;
+import org.apache.spark.util.SerializableConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An action that compacts small data files by rewriting them into fewer, larger files.
+ * <p>
+ * Data files of the table's current partition spec that are smaller than the target size are grouped by partition
+ * and packed into groups of about the target size with {@link BinPacking}. Each group with more than one file is
+ * read and rewritten by a Spark task, and all groups are committed together using {@link RewriteFiles}.
+ * <p>
+ * By default, all partitions are compacted and the target size is the table's
+ * {@value TableProperties#WRITE_TARGET_FILE_SIZE_BYTES} property. Files can be selected with
+ * {@link #filter(Expression)}. Files that match the filter are always rewritten entirely, including
+ * rows that do not match it.
+ */
+public class RewriteDataFilesAction
+    extends BaseSnapshotUpdateAction<RewriteDataFilesAction, RewriteDataFilesActionResult> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RewriteDataFilesAction.class);
+
+  private final JavaSparkContext sparkContext;
+  private final Table table;
+  private final PartitionSpec spec;
+  private final FileIO fileIO;
+  private final boolean caseSensitive;
+
+  private Expression filter = Expressions.alwaysTrue();
+  private long targetSizeInBytes;
+  private int maxConcurrentGroups = Integer.MAX_VALUE;
+
+  RewriteDataFilesAction(SparkSession spark, Table table) {
+    this.sparkContext = new JavaSparkContext(spark.sparkContext());
+    this.table = table;
+    this.spec = table.spec();
+    this.caseSensitive = Boolean.parseBoolean(spark.conf().get("spark.sql.caseSensitive", "false"));
+    this.targetSizeInBytes = PropertyUtil.propertyAsLong(
+        table.properties(),
+        TableProperties.WRITE_TARGET_FILE_SIZE_BYTES,
+        TableProperties.WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT);
+
+    if (table.io() instanceof HadoopFileIO) {
+      // we need to use Spark's SerializableConfiguration to avoid issues with Kryo serialization
+      SerializableConfiguration conf = new SerializableConfiguration(((HadoopFileIO) table.io()).conf());
+      this.fileIO = new HadoopFileIO(conf::value);
+    } else {
+      this.fileIO = table.io();
+    }
+  }
+
+  @Override
+  protected RewriteDataFilesAction self() {
+    return this;
+  }
+
+  @Override
+  protected Table table() {
+    return table;
+  }
+
+  /**
+   * Rewrites only data files that may contain rows matching the given filter.
+   *
+   * @param expr a filter expression
+   * @return this for method chaining
+   */
+  public RewriteDataFilesAction filter(Expression expr) {
+    this.filter = Expressions.and(filter, expr);
+    return this;
+  }
+
+  /**
+   * Sets the target size of rewritten files. Only files smaller than this size are rewritten.
+   *
+   * @param newTargetSizeInBytes a target file size in bytes
+   * @return this for method chaining
+   */
+  public RewriteDataFilesAction targetSizeInBytes(long newTargetSizeInBytes) {
+    Preconditions.checkArgument(newTargetSizeInBytes > 0,
+        "Invalid target file size: %s (must be positive)", newTargetSizeInBytes);
+    this.targetSizeInBytes = newTargetSizeInBytes;
+    return this;
+  }
+
+  /**
+   * Limits the number of file groups that are rewritten at the same time.
+   *
+   * @param newMaxConcurrentGroups the max number of groups to rewrite concurrently
+   * @return this for method chaining
+   */
+  public RewriteDataFilesAction maxConcurrentGroups(int newMaxConcurrentGroups) {
+    Preconditions.checkArgument(newMaxConcurrentGroups > 0,
+        "Invalid max concurrent groups: %s (must be positive)", newMaxConcurrentGroups);
+    this.maxConcurrentGroups = newMaxConcurrentGroups;
+    return this;
+  }
+
+  @Override
+  public RewriteDataFilesActionResult execute() {
+    List<CombinedScanTask> groups = planGroups();
+    if (groups.isEmpty()) {
+      return RewriteDataFilesActionResult.empty();
+    }
+
+    Broadcast<FileIO> io = sparkContext.broadcast(fileIO);
+    Broadcast<EncryptionManager> encryptionManager = sparkContext.broadcast(table.encryption());
+
+    // each Spark task rewrites its groups one at a time, so the number of tasks bounds concurrent groups
+    JavaRDD<CombinedScanTask> taskRDD = sparkContext.parallelize(groups, Math.min(groups.size(), maxConcurrentGroups));
+    RowDataRewriter rewriter = new RowDataRewriter(
+        table, spec, io, encryptionManager, targetSizeInBytes, caseSensitive);
+    List<DataFile> addedDataFiles = rewriter.rewriteDataForTasks(taskRDD);
+
+    List<DataFile> deletedDataFiles = groups.stream()
+        .flatMap(group -> group.files().stream())
+        .map(FileScanTask::file)
+        .collect(Collectors.toList());
+
+    replaceDataFiles(deletedDataFiles, addedDataFiles);
+
+    return new RewriteDataFilesActionResult(
+        deletedDataFiles, addedDataFiles, summarize(deletedDataFiles, addedDataFiles));
+  }
+
+  private List<CombinedScanTask> planGroups() {
+    Map<StructLikeWrapper, List<FileScanTask>> tasksByPartition = Maps.newHashMap();
+    try (CloseableIterable<FileScanTask> tasks = table.newScan()
+        .filter(filter)
+        .caseSensitive(caseSensitive)
+        .planFiles()) {
+      for (FileScanTask task : tasks) {
+        DataFile file = task.file();
+        if (task.spec().specId() == spec.specId() && file.fileSizeInBytes() < targetSizeInBytes) {
+          tasksByPartition
+              .computeIfAbsent(StructLikeWrapper.wrap(file.partition()), partition -> Lists.newArrayList())
+              .add(new WholeFileScanTask(task));
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close scan for table: %s", table);
+    }
+
+    BinPacking.ListPacker<FileScanTask> packer = new BinPacking.ListPacker<>(
+        targetSizeInBytes, TableProperties.SPLIT_LOOKBACK_DEFAULT, false);
+
+    ImmutableList.Builder<CombinedScanTask> groups = ImmutableList.builder();
+    for (List<FileScanTask> partitionTasks : tasksByPartition.values()) {
+      for (List<FileScanTask> group : packer.pack(partitionTasks, task -> task.file().fileSizeInBytes())) {
+        // rewriting a single file would not reduce the number of files
+        if (group.size() > 1) {
+          groups.add(new BaseCombinedScanTask(group));
+        }
+      }
+    }
+
+    return groups.build();
+  }
+
+  private void replaceDataFiles(List<DataFile> deletedDataFiles, List<DataFile> addedDataFiles) {
+    try {
+      RewriteFiles rewriteFiles = table.newRewrite()
+          .rewriteFiles(Sets.newHashSet(deletedDataFiles), Sets.newHashSet(addedDataFiles));
+      commit(rewriteFiles);
+    } catch (Exception e) {
+      // delete all new files because the rewrite failed
+      try {
+        fileIO.deleteFiles(Lists.transform(addedDataFiles, file -> file.path().toString()));
+      } catch (BulkDeletionFailureException deleteFailure) {
+        deleteFailure.failures().forEach((path, exc) -> LOG.warn("Failed to delete: {}", path, exc));
+      }
+      throw e;
+    }
+  }
+
+  private Map<String, RewriteDataFilesActionResult.PartitionSummary> summarize(
+      List<DataFile> deletedDataFiles, List<DataFile> addedDataFiles) {
+    Map<String, RewriteDataFilesActionResult.PartitionSummary> summaries = Maps.newTreeMap();
+    for (DataFile file : deletedDataFiles) {
+      summaries.computeIfAbsent(spec.partitionToPath(file.partition()),
+          path -> new RewriteDataFilesActionResult.PartitionSummary()).deleted(file);
+    }
+
+    for (DataFile file : addedDataFiles) {
+      summaries.computeIfAbsent(spec.partitionToPath(file.partition()),
+          path -> new RewriteDataFilesActionResult.PartitionSummary()).added(file);
+    }
+
+    return summaries;
+  }
+
+  /**
+   * A task that reads all rows of a file, ignoring the residual filter of the scan that planned it.
+   */
+  private static class WholeFileScanTask implements FileScanTask {
+    private final FileScanTask task;
+
+    WholeFileScanTask(FileScanTask task) {
+      this.task = task;
+    }
+
+    @Override
+    public DataFile file() {
+      return task.file();
+    }
+
+    @Override
+    public PartitionSpec spec() {
+      return task.spec();
+    }
+
+    @Override
+    public long start() {
+      return task.start();
+    }
+
+    @Override
+    public long length() {
+      return task.length();
+    }
+
+    @Override
+    public Expression residual() {
+      return Expressions.alwaysTrue();
+    }
+
+    @Override
+    public Iterable<FileScanTask> split(long splitSize) {
+      throw new UnsupportedOperationException("Cannot split a task for rewriting a whole file");
+    }
+  }
+}
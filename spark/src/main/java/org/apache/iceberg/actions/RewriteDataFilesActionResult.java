@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.actions;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.DataFile;
+
+public class RewriteDataFilesActionResult {
+
+  private static final RewriteDataFilesActionResult EMPTY =
+      new RewriteDataFilesActionResult(ImmutableList.of(), ImmutableList.of(), ImmutableMap.of());
+
+  private final List<DataFile> deletedDataFiles;
+  private final List<DataFile> addedDataFiles;
+  private final Map<String, PartitionSummary> partitionSummaries;
+
+  public RewriteDataFilesActionResult(List<DataFile> deletedDataFiles, List<DataFile> addedDataFiles,
+                                      Map<String, PartitionSummary> partitionSummaries) {
+    this.deletedDataFiles = deletedDataFiles;
+    this.addedDataFiles = addedDataFiles;
+    this.partitionSummaries = partitionSummaries;
+  }
+
+  static RewriteDataFilesActionResult empty() {
+    return EMPTY;
+  }
+
+  public List<DataFile> deletedDataFiles() {
+    return deletedDataFiles;
+  }
+
+  public List<DataFile> addedDataFiles() {
+    return addedDataFiles;
+  }
+
+  /**
+   * @return a map from partition path to a summary of the files rewritten in that partition
+   */
+  public Map<String, PartitionSummary> partitionSummaries() {
+    return partitionSummaries;
+  }
+
+  public static class PartitionSummary {
+    private int deletedFilesCount = 0;
+    private long deletedFilesSizeInBytes = 0L;
+    private int addedFilesCount = 0;
+    private long addedFilesSizeInBytes = 0L;
+
+    void deleted(DataFile file) {
+      this.deletedFilesCount += 1;
+      this.deletedFilesSizeInBytes += file.fileSizeInBytes();
+    }
+
+    void added(DataFile file) {
+      this.addedFilesCount += 1;
+      this.addedFilesSizeInBytes += file.fileSizeInBytes();
+    }
+
+    public int deletedFilesCount() {
+      return deletedFilesCount;
+    }
+
+    public long deletedFilesSizeInBytes() {
+      return deletedFilesSizeInBytes;
+    }
+
+    public int addedFilesCount() {
+      return addedFilesCount;
+    }
+
+    public long addedFilesSizeInBytes() {
+      return addedFilesSizeInBytes;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("PartitionSummary(deleted=%d files, %d bytes; added=%d files, %d bytes)",
+          deletedFilesCount, deletedFilesSizeInBytes, addedFilesCount, addedFilesSizeInBytes);
+    }
+  }
+}
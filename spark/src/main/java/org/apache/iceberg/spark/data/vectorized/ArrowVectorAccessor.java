@@ -0,0 +1,371 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.spark.data.vectorized;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.iceberg.arrow.vectorized.VectorHolder;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.spark.sql.types.Decimal;
+import org.apache.spark.unsafe.types.UTF8String;
+
+/**
+ * Reads values from an Arrow vector filled by a
+ * {@link org.apache.iceberg.arrow.vectorized.VectorizedArrowReader}.
+ * <p>
+ * Values are read directly from the vector's data buffers because the Arrow validity buffer is not
+ * populated; nulls are tracked by the reader's
+ * {@link org.apache.iceberg.arrow.vectorized.NullabilityHolder} instead.
+ */
+abstract class ArrowVectorAccessor {
+
+  boolean getBoolean(int rowId) {
+    throw new UnsupportedOperationException("Unsupported type: boolean");
+  }
+
+  int getInt(int rowId) {
+    throw new UnsupportedOperationException("Unsupported type: int");
+  }
+
+  long getLong(int rowId) {
+    throw new UnsupportedOperationException("Unsupported type: long");
+  }
+
+  float getFloat(int rowId) {
+    throw new UnsupportedOperationException("Unsupported type: float");
+  }
+
+  double getDouble(int rowId) {
+    throw new UnsupportedOperationException("Unsupported type: double");
+  }
+
+  Decimal getDecimal(int rowId, int precision, int scale) {
+    throw new UnsupportedOperationException("Unsupported type: decimal");
+  }
+
+  UTF8String getUTF8String(int rowId) {
+    throw new UnsupportedOperationException("Unsupported type: string");
+  }
+
+  byte[] getBinary(int rowId) {
+    throw new UnsupportedOperationException("Unsupported type: binary");
+  }
+
+  static ArrowVectorAccessor forHolder(VectorHolder holder) {
+    FieldVector vector = holder.vector();
+    if (holder.isDictionaryEncoded()) {
+      return forDictionary((IntVector) vector, holder.descriptor(), holder.dictionary());
+    } else if (vector instanceof BitVector) {
+      return new BooleanAccessor((BitVector) vector);
+    } else if (vector instanceof IntVector || vector instanceof DateDayVector) {
+      return new IntAccessor(vector);
+    } else if (vector instanceof BigIntVector || vector instanceof TimeStampMicroTZVector) {
+      return new LongAccessor(vector);
+    } else if (vector instanceof Float4Vector) {
+      return new FloatAccessor((Float4Vector) vector);
+    } else if (vector instanceof Float8Vector) {
+      return new DoubleAccessor((Float8Vector) vector);
+    } else if (vector instanceof DecimalVector) {
+      return new DecimalAccessor((DecimalVector) vector);
+    } else if (vector instanceof VarCharVector) {
+      return new StringAccessor((VarCharVector) vector);
+    } else if (vector instanceof VarBinaryVector) {
+      return new BinaryAccessor((VarBinaryVector) vector);
+    }
+
+    throw new UnsupportedOperationException("Unsupported vector: " + vector.getClass().getName());
+  }
+
+  private static ArrowVectorAccessor forDictionary(IntVector ids, ColumnDescriptor desc, Dictionary dictionary) {
+    PrimitiveType primitive = desc.getPrimitiveType();
+    if (primitive.getOriginalType() == OriginalType.DECIMAL) {
+      return new DictionaryDecimalAccessor(ids, dictionary, primitive);
+    }
+
+    switch (primitive.getPrimitiveTypeName()) {
+      case INT32:
+        return new DictionaryIntAccessor(ids, dictionary);
+      case INT64:
+        return new DictionaryLongAccessor(ids, dictionary,
+            primitive.getOriginalType() == OriginalType.TIMESTAMP_MILLIS ? 1000 : 1);
+      case FLOAT:
+        return new DictionaryFloatAccessor(ids, dictionary);
+      case DOUBLE:
+        return new DictionaryDoubleAccessor(ids, dictionary);
+      case BINARY:
+      case FIXED_LEN_BYTE_ARRAY:
+        return new DictionaryBinaryAccessor(ids, dictionary);
+      default:
+        throw new UnsupportedOperationException("Unsupported dictionary-encoded type: " + primitive);
+    }
+  }
+
+  private static class BooleanAccessor extends ArrowVectorAccessor {
+    private final BitVector vector;
+
+    private BooleanAccessor(BitVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    boolean getBoolean(int rowId) {
+      return ((vector.getDataBuffer().getByte(rowId >> 3) >> (rowId & 7)) & 1) == 1;
+    }
+  }
+
+  private static class IntAccessor extends ArrowVectorAccessor {
+    private final FieldVector vector;
+
+    private IntAccessor(FieldVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    int getInt(int rowId) {
+      return vector.getDataBuffer().getInt(rowId * IntVector.TYPE_WIDTH);
+    }
+
+    @Override
+    long getLong(int rowId) {
+      // allows reading int columns that were promoted to long
+      return getInt(rowId);
+    }
+  }
+
+  private static class LongAccessor extends ArrowVectorAccessor {
+    private final FieldVector vector;
+
+    private LongAccessor(FieldVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    long getLong(int rowId) {
+      return vector.getDataBuffer().getLong(rowId * BigIntVector.TYPE_WIDTH);
+    }
+  }
+
+  private static class FloatAccessor extends ArrowVectorAccessor {
+    private final Float4Vector vector;
+
+    private FloatAccessor(Float4Vector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    float getFloat(int rowId) {
+      return vector.getDataBuffer().getFloat(rowId * Float4Vector.TYPE_WIDTH);
+    }
+
+    @Override
+    double getDouble(int rowId) {
+      // allows reading float columns that were promoted to double
+      return getFloat(rowId);
+    }
+  }
+
+  private static class DoubleAccessor extends ArrowVectorAccessor {
+    private final Float8Vector vector;
+
+    private DoubleAccessor(Float8Vector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    double getDouble(int rowId) {
+      return vector.getDataBuffer().getDouble(rowId * Float8Vector.TYPE_WIDTH);
+    }
+  }
+
+  private static class DecimalAccessor extends ArrowVectorAccessor {
+    private final DecimalVector vector;
+
+    private DecimalAccessor(DecimalVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    Decimal getDecimal(int rowId, int precision, int scale) {
+      return Decimal.apply(vector.getObject(rowId), precision, scale);
+    }
+  }
+
+  private static class StringAccessor extends ArrowVectorAccessor {
+    private final VarCharVector vector;
+
+    private StringAccessor(VarCharVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    UTF8String getUTF8String(int rowId) {
+      int start = vector.getOffsetBuffer().getInt(rowId * BaseVariableWidthVector.OFFSET_WIDTH);
+      int end = vector.getOffsetBuffer().getInt((rowId + 1) * BaseVariableWidthVector.OFFSET_WIDTH);
+      return UTF8String.fromAddress(null, vector.getDataBuffer().memoryAddress() + start, end - start);
+    }
+  }
+
+  private static class BinaryAccessor extends ArrowVectorAccessor {
+    private final VarBinaryVector vector;
+
+    private BinaryAccessor(VarBinaryVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    byte[] getBinary(int rowId) {
+      int start = vector.getOffsetBuffer().getInt(rowId * BaseVariableWidthVector.OFFSET_WIDTH);
+      int end = vector.getOffsetBuffer().getInt((rowId + 1) * BaseVariableWidthVector.OFFSET_WIDTH);
+      byte[] bytes = new byte[end - start];
+      vector.getDataBuffer().getBytes(start, bytes, 0, bytes.length);
+      return bytes;
+    }
+  }
+
+  private abstract static class DictionaryAccessor extends ArrowVectorAccessor {
+    private final IntVector ids;
+    private final Dictionary dictionary;
+
+    private DictionaryAccessor(IntVector ids, Dictionary dictionary) {
+      this.ids = ids;
+      this.dictionary = dictionary;
+    }
+
+    int id(int rowId) {
+      return ids.getDataBuffer().getInt(rowId * IntVector.TYPE_WIDTH);
+    }
+
+    Dictionary dictionary() {
+      return dictionary;
+    }
+  }
+
+  private static class DictionaryIntAccessor extends DictionaryAccessor {
+    private DictionaryIntAccessor(IntVector ids, Dictionary dictionary) {
+      super(ids, dictionary);
+    }
+
+    @Override
+    int getInt(int rowId) {
+      return dictionary().decodeToInt(id(rowId));
+    }
+
+    @Override
+    long getLong(int rowId) {
+      return getInt(rowId);
+    }
+  }
+
+  private static class DictionaryLongAccessor extends DictionaryAccessor {
+    private final long multiplier;
+
+    private DictionaryLongAccessor(IntVector ids, Dictionary dictionary, long multiplier) {
+      super(ids, dictionary);
+      this.multiplier = multiplier;
+    }
+
+    @Override
+    long getLong(int rowId) {
+      return dictionary().decodeToLong(id(rowId)) * multiplier;
+    }
+  }
+
+  private static class DictionaryFloatAccessor extends DictionaryAccessor {
+    private DictionaryFloatAccessor(IntVector ids, Dictionary dictionary) {
+      super(ids, dictionary);
+    }
+
+    @Override
+    float getFloat(int rowId) {
+      return dictionary().decodeToFloat(id(rowId));
+    }
+
+    @Override
+    double getDouble(int rowId) {
+      return getFloat(rowId);
+    }
+  }
+
+  private static class DictionaryDoubleAccessor extends DictionaryAccessor {
+    private DictionaryDoubleAccessor(IntVector ids, Dictionary dictionary) {
+      super(ids, dictionary);
+    }
+
+    @Override
+    double getDouble(int rowId) {
+      return dictionary().decodeToDouble(id(rowId));
+    }
+  }
+
+  private static class DictionaryBinaryAccessor extends DictionaryAccessor {
+    private DictionaryBinaryAccessor(IntVector ids, Dictionary dictionary) {
+      super(ids, dictionary);
+    }
+
+    @Override
+    UTF8String getUTF8String(int rowId) {
+      return UTF8String.fromBytes(getBinary(rowId));
+    }
+
+    @Override
+    byte[] getBinary(int rowId) {
+      return dictionary().decodeToBinary(id(rowId)).getBytes();
+    }
+  }
+
+  private static class DictionaryDecimalAccessor extends DictionaryAccessor {
+    private final PrimitiveType primitive;
+
+    private DictionaryDecimalAccessor(IntVector ids, Dictionary dictionary, PrimitiveType primitive) {
+      super(ids, dictionary);
+      this.primitive = primitive;
+    }
+
+    @Override
+    Decimal getDecimal(int rowId, int precision, int scale) {
+      int fileScale = primitive.getDecimalMetadata().getScale();
+      switch (primitive.getPrimitiveTypeName()) {
+        case INT32:
+          return Decimal.apply(BigDecimal.valueOf(dictionary().decodeToInt(id(rowId)), fileScale), precision, scale);
+        case INT64:
+          return Decimal.apply(BigDecimal.valueOf(dictionary().decodeToLong(id(rowId)), fileScale), precision, scale);
+        default:
+          Binary binary = dictionary().decodeToBinary(id(rowId));
+          return Decimal.apply(new BigDecimal(new BigInteger(binary.getBytes()), fileScale), precision, scale);
+      }
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.spark.data.vectorized;
+
+import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.arrow.vectorized.VectorHolder;
+import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader;
+import org.apache.iceberg.parquet.VectorizedReader;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.spark.sql.types.DataType;
+import org.apache.spark.sql.vectorized.ColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+/**
+ * {@link VectorizedReader} that returns Spark's {@link ColumnarBatch} to support Spark's vectorized read path. The
+ * {@link ColumnarBatch} returned is created by passing in the Arrow vectors populated via delegated read calls to
+ * {@linkplain VectorizedArrowReader VectorReader(s)}.
+ * <p>
+ * Columns that are not read from the file, like identity partition columns, are filled with constant values.
+ */
+public class ColumnarBatchReader implements VectorizedReader<ColumnarBatch> {
+  private final DataType[] types;
+  private final VectorizedArrowReader[] readers;
+  private final Object[] constants;
+
+  ColumnarBatchReader(List<DataType> types, List<VectorizedArrowReader> readers, List<Object> constants) {
+    Preconditions.checkArgument(types.size() == readers.size() && types.size() == constants.size(),
+        "Invalid column readers: expected %s columns", types.size());
+    this.types = types.toArray(new DataType[0]);
+    this.readers = readers.toArray(new VectorizedArrowReader[0]);
+    this.constants = constants.toArray();
+  }
+
+  @Override
+  public final void setRowGroupInfo(PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData) {
+    for (VectorizedArrowReader reader : readers) {
+      if (reader != null) {
+        reader.setRowGroupInfo(pageStore, metaData);
+      }
+    }
+  }
+
+  @Override
+  public final ColumnarBatch read(int numRowsToRead) {
+    ColumnVector[] columns = new ColumnVector[readers.length];
+    for (int i = 0; i < readers.length; i += 1) {
+      if (readers[i] != null) {
+        VectorHolder holder = readers[i].read(numRowsToRead);
+        columns[i] = new IcebergArrowColumnVector(types[i], holder);
+      } else {
+        columns[i] = new ConstantColumnVector(types[i], numRowsToRead, constants[i]);
+      }
+    }
+
+    ColumnarBatch batch = new ColumnarBatch(columns);
+    batch.setNumRows(numRowsToRead);
+    return batch;
+  }
+
+  @Override
+  public void reuseContainers(boolean reuse) {
+    for (VectorizedArrowReader reader : readers) {
+      if (reader != null) {
+        reader.reuseContainers(reuse);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    for (VectorizedArrowReader reader : readers) {
+      if (reader != null) {
+        reader.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.spark.data.vectorized;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader;
+import org.apache.iceberg.parquet.ParquetSchemaUtil;
+import org.apache.iceberg.spark.SparkSchemaUtil;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.schema.MessageType;
+import org.apache.spark.sql.types.DataType;
+
+public class VectorizedSparkParquetReaders {
+  private static final Set<Type.TypeID> SUPPORTED_TYPES = ImmutableSet.of(
+      Type.TypeID.BOOLEAN, Type.TypeID.INTEGER, Type.TypeID.LONG, Type.TypeID.FLOAT, Type.TypeID.DOUBLE,
+      Type.TypeID.DATE, Type.TypeID.TIMESTAMP, Type.TypeID.STRING, Type.TypeID.FIXED, Type.TypeID.BINARY,
+      Type.TypeID.DECIMAL);
+
+  private VectorizedSparkParquetReaders() {
+  }
+
+  /**
+   * Returns whether a schema can be read into {@link org.apache.spark.sql.vectorized.ColumnarBatch columnar batches}.
+   * <p>
+   * Only flat schemas of primitive types that have a Spark equivalent are supported.
+   *
+   * @param schema a projected schema
+   * @return true if batches can be read for the schema, false otherwise
+   */
+  public static boolean isSupported(Schema schema) {
+    return !schema.columns().isEmpty() && schema.columns().stream()
+        .allMatch(field -> SUPPORTED_TYPES.contains(field.type().typeId()) &&
+            (field.type().typeId() != Type.TypeID.TIMESTAMP ||
+                ((Types.TimestampType) field.type()).shouldAdjustToUTC()));
+  }
+
+  public static ColumnarBatchReader buildReader(Schema expectedSchema, MessageType fileSchema, int batchSize) {
+    return buildReader(expectedSchema, fileSchema, ImmutableMap.of(), batchSize);
+  }
+
+  /**
+   * Builds a reader for columnar batches of a flat schema.
+   *
+   * @param expectedSchema the projected schema
+   * @param fileSchema the Parquet file schema, with field ids
+   * @param idToConstant a map of field id to constant values for columns that are not read from the file
+   * @param batchSize the maximum number of rows in a batch
+   * @return a {@link ColumnarBatchReader}
+   */
+  public static ColumnarBatchReader buildReader(Schema expectedSchema, MessageType fileSchema,
+                                                Map<Integer, ?> idToConstant, int batchSize) {
+    Preconditions.checkArgument(isSupported(expectedSchema),
+        "Cannot read batches for unsupported schema: %s", expectedSchema);
+
+    Schema fileIcebergSchema = ParquetSchemaUtil.convert(fileSchema);
+
+    List<DataType> types = Lists.newArrayList();
+    List<VectorizedArrowReader> readers = Lists.newArrayList();
+    List<Object> constants = Lists.newArrayList();
+
+    for (Types.NestedField field : expectedSchema.columns()) {
+      types.add(SparkSchemaUtil.convert(field.type()));
+
+      int id = field.fieldId();
+      Types.NestedField fileField = fileIcebergSchema.findField(id);
+      if (idToConstant.containsKey(id)) {
+        readers.add(null);
+        constants.add(idToConstant.get(id));
+
+      } else if (fileField != null) {
+        // use the file's type to allocate vectors; type promotion is handled when values are read
+        readers.add(new VectorizedArrowReader(
+            fileSchema.getColumnDescription(new String[] { fileField.name() }),
+            fileField, ArrowAllocation.rootAllocator(), batchSize, false /* nulls are tracked separately */));
+        constants.add(null);
+
+      } else {
+        // the column is not in the file, so all values are null
+        readers.add(null);
+        constants.add(null);
+      }
+    }
+
+    return new ColumnarBatchReader(types, readers, constants);
+  }
+}
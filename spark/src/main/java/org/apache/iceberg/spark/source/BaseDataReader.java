@@ -22,39 +22,46 @@ package org.apache.iceberg.spark.source;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
 import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.DataFile;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.encryption.EncryptedFiles;
 import org.apache.iceberg.encryption.EncryptionManager;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.util.PrefetchingIterator;
+import org.apache.iceberg.util.ThreadPools;
 import org.apache.spark.rdd.InputFileBlockHolder;
 import org.apache.spark.sql.sources.v2.reader.InputPartitionReader;
 
 /**
  * Base class of readers of type {@link InputPartitionReader} to read data as objects of type @param &lt;T&gt;
+ * <p>
+ * When the prefetch depth is positive, the files that follow the current file in the task are opened in the shared
+ * read pool while the current file is read, including the first row group or block of each file.
  *
  * @param <T> is the Java class returned by this reader whose objects contain one or more rows.
  */
-@SuppressWarnings("checkstyle:VisibilityModifier")
 abstract class BaseDataReader<T> implements InputPartitionReader<T> {
-  private final Iterator<FileScanTask> tasks;
   private final FileIO fileIo;
   private final Map<String, InputFile> inputFiles;
+  private final int prefetchDepth;
+  private final PrefetchingIterator<FileScanTask, OpenTask<T>> openTasks;
 
+  private OpenTask<T> currentTask = null;
   private Iterator<T> currentIterator;
-  Closeable currentCloseable;
   private T current = null;
 
-  BaseDataReader(CombinedScanTask task, FileIO fileIo, EncryptionManager encryptionManager) {
+  BaseDataReader(CombinedScanTask task, FileIO fileIo, EncryptionManager encryptionManager, int prefetchDepth) {
     this.fileIo = fileIo;
-    this.tasks = task.files().iterator();
     Iterable<InputFile> decryptedFiles = encryptionManager.decrypt(Iterables.transform(
         task.files(),
         fileScanTask ->
@@ -64,7 +71,9 @@ abstract class BaseDataReader<T> implements InputPartitionReader<T> {
     ImmutableMap.Builder<String, InputFile> inputFileBuilder = ImmutableMap.builder();
     decryptedFiles.forEach(decrypted -> inputFileBuilder.put(decrypted.location(), decrypted));
     this.inputFiles = inputFileBuilder.build();
-    this.currentCloseable = CloseableIterable.empty();
+    this.prefetchDepth = prefetchDepth;
+    this.openTasks = new PrefetchingIterator<>(
+        task.files().iterator(), this::openTask, prefetchDepth, ThreadPools.getReadPool());
     this.currentIterator = Collections.emptyIterator();
   }
 
@@ -74,9 +83,14 @@ abstract class BaseDataReader<T> implements InputPartitionReader<T> {
       if (currentIterator.hasNext()) {
         this.current = currentIterator.next();
         return true;
-      } else if (tasks.hasNext()) {
-        this.currentCloseable.close();
-        this.currentIterator = open(tasks.next());
+      } else if (openTasks.hasNext()) {
+        closeCurrentTask();
+        this.currentTask = openTasks.next();
+        this.currentIterator = currentTask.rows;
+
+        // update the current file for Spark's filename() function
+        DataFile file = currentTask.task.file();
+        InputFileBlockHolder.set(file.path().toString(), currentTask.task.start(), currentTask.task.length());
       } else {
         return false;
       }
@@ -88,23 +102,75 @@ abstract class BaseDataReader<T> implements InputPartitionReader<T> {
     return current;
   }
 
-  abstract Iterator<T> open(FileScanTask task);
+  /**
+   * Opens a file scan task.
+   * <p>
+   * This may be called from a thread in the read pool, so implementations must not modify reader state.
+   */
+  abstract CloseableIterable<T> open(FileScanTask task);
+
+  private OpenTask<T> openTask(FileScanTask task) {
+    CloseableIterable<T> iterable = open(task);
+    try {
+      Iterator<T> rows = iterable.iterator();
+      if (prefetchDepth > 0) {
+        // read the first rows so that the first row group or block is ready when the consumer reaches this file
+        PeekingIterator<T> peeking = Iterators.peekingIterator(rows);
+        if (peeking.hasNext()) {
+          peeking.peek();
+        }
+        rows = peeking;
+      }
+
+      return new OpenTask<>(task, iterable, rows);
+
+    } catch (RuntimeException e) {
+      try {
+        iterable.close();
+      } catch (IOException closeException) {
+        e.addSuppressed(closeException);
+      }
+      throw e;
+    }
+  }
+
+  private void closeCurrentTask() throws IOException {
+    if (currentTask != null) {
+      currentTask.close();
+      this.currentTask = null;
+    }
+  }
 
   @Override
   public void close() throws IOException {
     InputFileBlockHolder.unset();
 
     // close the current iterator
-    this.currentCloseable.close();
+    closeCurrentTask();
 
-    // exhaust the task iterator
-    while (tasks.hasNext()) {
-      tasks.next();
-    }
+    // close files that were opened ahead
+    openTasks.close();
   }
 
   InputFile getInputFile(FileScanTask task) {
     Preconditions.checkArgument(!task.isDataTask(), "Invalid task type");
     return inputFiles.get(task.file().path().toString());
   }
+
+  private static class OpenTask<T> implements Closeable {
+    private final FileScanTask task;
+    private final CloseableIterable<T> iterable;
+    private final Iterator<T> rows;
+
+    private OpenTask(FileScanTask task, CloseableIterable<T> iterable, Iterator<T> rows) {
+      this.task = task;
+      this.iterable = iterable;
+      this.rows = rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+      iterable.close();
+    }
+  }
 }
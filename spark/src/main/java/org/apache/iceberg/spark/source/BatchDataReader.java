@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.spark.source;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.encryption.EncryptionManager;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.spark.data.vectorized.VectorizedSparkParquetReaders;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.util.PartitionUtil;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+class BatchDataReader extends BaseDataReader<ColumnarBatch> {
+  private final Schema expectedSchema;
+  private final boolean caseSensitive;
+  private final int batchSize;
+
+  BatchDataReader(
+      CombinedScanTask task, Schema expectedSchema, FileIO fileIo,
+      EncryptionManager encryptionManager, boolean caseSensitive, int batchSize, int prefetchDepth) {
+    super(task, fileIo, encryptionManager, prefetchDepth);
+    this.expectedSchema = expectedSchema;
+    this.caseSensitive = caseSensitive;
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  CloseableIterable<ColumnarBatch> open(FileScanTask task) {
+    DataFile file = task.file();
+    Preconditions.checkArgument(file.format() == FileFormat.PARQUET,
+        "Cannot read batches from unsupported format: %s", file.format());
+
+    // identity partition values are filled in as constant columns
+    Schema partitionSchema = TypeUtil.select(expectedSchema, task.spec().identitySourceIds());
+    Map<Integer, ?> idToConstant = partitionSchema.columns().isEmpty() ? ImmutableMap.of() :
+        PartitionUtil.constantsMap(task, RowDataReader::convertConstant);
+
+    InputFile location = getInputFile(task);
+    Preconditions.checkNotNull(location, "Could not find InputFile associated with FileScanTask");
+
+    return Parquet.read(location)
+        .project(expectedSchema)
+        .split(task.start(), task.length())
+        .createBatchedReaderFunc(fileSchema ->
+            VectorizedSparkParquetReaders.buildReader(expectedSchema, fileSchema, idToConstant, batchSize))
+        .recordsPerBatch(batchSize)
+        .filter(task.residual())
+        .caseSensitive(caseSensitive)
+        // Spark eagerly consumes the batches, so the vectors can be reused
+        .reuseContainers()
+        .build();
+  }
+}
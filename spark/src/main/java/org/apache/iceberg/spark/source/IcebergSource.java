@@ -48,17 +48,20 @@ import org.apache.spark.sql.execution.streaming.StreamExecution;
 import org.apache.spark.sql.sources.DataSourceRegister;
 import org.apache.spark.sql.sources.v2.DataSourceOptions;
 import org.apache.spark.sql.sources.v2.DataSourceV2;
+import org.apache.spark.sql.sources.v2.MicroBatchReadSupport;
 import org.apache.spark.sql.sources.v2.ReadSupport;
 import org.apache.spark.sql.sources.v2.StreamWriteSupport;
 import org.apache.spark.sql.sources.v2.WriteSupport;
 import org.apache.spark.sql.sources.v2.reader.DataSourceReader;
+import org.apache.spark.sql.sources.v2.reader.streaming.MicroBatchReader;
 import org.apache.spark.sql.sources.v2.writer.DataSourceWriter;
 import org.apache.spark.sql.sources.v2.writer.streaming.StreamWriter;
 import org.apache.spark.sql.streaming.OutputMode;
 import org.apache.spark.sql.types.StructType;
 import org.apache.spark.util.SerializableConfiguration;
 
-public class IcebergSource implements DataSourceV2, ReadSupport, WriteSupport, DataSourceRegister, StreamWriteSupport {
+public class IcebergSource implements DataSourceV2, ReadSupport, WriteSupport, DataSourceRegister, StreamWriteSupport,
+    MicroBatchReadSupport {
 
   private SparkSession lazySpark = null;
   private JavaSparkContext lazySparkContext = null;
@@ -93,6 +96,27 @@ public class IcebergSource implements DataSourceV2, ReadSupport, WriteSupport, D
     return reader;
   }
 
+  @Override
+  public MicroBatchReader createMicroBatchReader(Optional<StructType> readSchema, String checkpointLocation,
+                                                 DataSourceOptions options) {
+    Configuration conf = new Configuration(lazyBaseConf());
+    Table table = getTableAndResolveHadoopConfiguration(options, conf);
+    String caseSensitive = lazySparkSession().conf().get("spark.sql.caseSensitive");
+
+    Broadcast<FileIO> io = lazySparkContext().broadcast(fileIO(table));
+    Broadcast<EncryptionManager> encryptionManager = lazySparkContext().broadcast(table.encryption());
+
+    StreamingReader reader = new StreamingReader(
+        table, io, encryptionManager, Boolean.parseBoolean(caseSensitive), options);
+    if (readSchema.isPresent()) {
+      // convert() will fail if readSchema contains fields not in table.schema()
+      SparkSchemaUtil.convert(table.schema(), readSchema.get());
+      reader.pruneColumns(readSchema.get());
+    }
+
+    return reader;
+  }
+
   @Override
   public Optional<DataSourceWriter> createWriter(String jobId, StructType dsStruct, SaveMode mode,
                                                  DataSourceOptions options) {
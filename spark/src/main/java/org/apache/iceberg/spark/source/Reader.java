@@ -19,6 +19,7 @@
 
 package org.apache.iceberg.spark.source;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import java.io.IOException;
@@ -29,6 +30,7 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.SchemaParser;
@@ -46,6 +48,8 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.spark.SparkFilters;
 import org.apache.iceberg.spark.SparkSchemaUtil;
+import org.apache.iceberg.spark.data.vectorized.VectorizedSparkParquetReaders;
+import org.apache.iceberg.util.PropertyUtil;
 import org.apache.spark.broadcast.Broadcast;
 import org.apache.spark.sql.SparkSession;
 import org.apache.spark.sql.catalyst.InternalRow;
@@ -58,14 +62,16 @@ import org.apache.spark.sql.sources.v2.reader.Statistics;
 import org.apache.spark.sql.sources.v2.reader.SupportsPushDownFilters;
 import org.apache.spark.sql.sources.v2.reader.SupportsPushDownRequiredColumns;
 import org.apache.spark.sql.sources.v2.reader.SupportsReportStatistics;
+import org.apache.spark.sql.sources.v2.reader.SupportsScanColumnarBatch;
 import org.apache.spark.sql.types.DataType;
 import org.apache.spark.sql.types.StructField;
 import org.apache.spark.sql.types.StructType;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class Reader implements DataSourceReader, SupportsPushDownFilters, SupportsPushDownRequiredColumns,
-    SupportsReportStatistics {
+class Reader implements DataSourceReader, SupportsScanColumnarBatch, SupportsPushDownFilters,
+    SupportsPushDownRequiredColumns, SupportsReportStatistics {
   private static final Logger LOG = LoggerFactory.getLogger(Reader.class);
 
   private static final Filter[] NO_FILTERS = new Filter[0];
@@ -86,11 +92,15 @@ class Reader implements DataSourceReader, SupportsPushDownFilters, SupportsPushD
   private List<Expression> filterExpressions = null;
   private Filter[] pushedFilters = NO_FILTERS;
   private final boolean localityPreferred;
+  private final boolean vectorizationEnabled;
+  private final int batchSize;
+  private final int prefetchDepth;
 
   // lazy variables
   private Schema schema = null;
   private StructType type = null; // cached because Spark accesses it multiple times
   private List<CombinedScanTask> tasks = null; // lazy cache of tasks
+  private Boolean readUsingBatch = null;
 
   Reader(Table table, Broadcast<FileIO> io, Broadcast<EncryptionManager> encryptionManager,
          boolean caseSensitive, DataSourceOptions options) {
@@ -136,13 +146,24 @@ class Reader implements DataSourceReader, SupportsPushDownFilters, SupportsPushD
       this.localityPreferred = false;
     }
 
+    this.vectorizationEnabled = options.get("vectorization-enabled").map(Boolean::parseBoolean).orElse(
+        PropertyUtil.propertyAsBoolean(table.properties(),
+            TableProperties.PARQUET_VECTORIZATION_ENABLED, TableProperties.PARQUET_VECTORIZATION_ENABLED_DEFAULT));
+    this.batchSize = options.get("batch-size").map(Integer::parseInt).orElse(
+        PropertyUtil.propertyAsInt(table.properties(),
+            TableProperties.PARQUET_BATCH_SIZE, TableProperties.PARQUET_BATCH_SIZE_DEFAULT));
+    this.prefetchDepth = options.get("prefetch-depth").map(Integer::parseInt).orElse(
+        PropertyUtil.propertyAsInt(table.properties(),
+            TableProperties.SPLIT_PREFETCH_DEPTH, TableProperties.SPLIT_PREFETCH_DEPTH_DEFAULT));
+    Preconditions.checkArgument(prefetchDepth >= 0, "Invalid prefetch depth: %s (must be >= 0)", prefetchDepth);
+
     this.schema = table.schema();
     this.io = io;
     this.encryptionManager = encryptionManager;
     this.caseSensitive = caseSensitive;
   }
 
-  private Schema lazySchema() {
+  Schema lazySchema() {
     if (schema == null) {
       if (requestedSchema != null) {
         // the projection should include all columns that will be returned, including those only used in filters
@@ -154,7 +175,7 @@ class Reader implements DataSourceReader, SupportsPushDownFilters, SupportsPushD
     return schema;
   }
 
-  private Expression filterExpression() {
+  Expression filterExpression() {
     if (filterExpressions != null) {
       return filterExpressions.stream().reduce(Expressions.alwaysTrue(), Expressions::and);
     }
@@ -173,24 +194,53 @@ class Reader implements DataSourceReader, SupportsPushDownFilters, SupportsPushD
     return lazyType();
   }
 
+  /**
+   * This is called in the Spark Driver when data is to be materialized into {@link ColumnarBatch}
+   */
+  @Override
+  public List<InputPartition<ColumnarBatch>> planBatchInputPartitions() {
+    Preconditions.checkState(enableBatchRead(), "Batched reads not enabled");
+    return planInputPartitions(new BatchReaderFactory(batchSize, prefetchDepth));
+  }
+
+  /**
+   * This is called in the Spark Driver when data is to be materialized into {@link InternalRow}
+   */
   @Override
   public List<InputPartition<InternalRow>> planInputPartitions() {
+    return planInputPartitions(new RowReaderFactory(prefetchDepth));
+  }
+
+  private <T> List<InputPartition<T>> planInputPartitions(ReaderFactory<T> readerFactory) {
     String tableSchemaString = SchemaParser.toJson(table.schema());
     String expectedSchemaString = SchemaParser.toJson(lazySchema());
 
-    List<InputPartition<InternalRow>> readTasks = Lists.newArrayList();
+    List<InputPartition<T>> readTasks = Lists.newArrayList();
     for (CombinedScanTask task : tasks()) {
       readTasks.add(
-          new ReadTask(task, tableSchemaString, expectedSchemaString, io, encryptionManager,
-              caseSensitive, localityPreferred));
+          new ReadTask<>(task, tableSchemaString, expectedSchemaString, io, encryptionManager,
+              caseSensitive, localityPreferred, readerFactory));
     }
 
     return readTasks;
   }
 
+  @Override
+  public boolean enableBatchRead() {
+    if (readUsingBatch == null) {
+      boolean allParquetFileScanTasks = tasks().stream()
+          .flatMap(task -> task.files().stream())
+          .allMatch(fileTask -> !fileTask.isDataTask() && fileTask.file().format() == FileFormat.PARQUET);
+
+      this.readUsingBatch = vectorizationEnabled && allParquetFileScanTasks &&
+          VectorizedSparkParquetReaders.isSupported(lazySchema());
+    }
+    return readUsingBatch;
+  }
+
   @Override
   public Filter[] pushFilters(Filter[] filters) {
-    this.tasks = null; // invalidate cached tasks, if present
+    invalidateTasks();
 
     List<Expression> expressions = Lists.newArrayListWithExpectedSize(filters.length);
     List<Filter> pushed = Lists.newArrayListWithExpectedSize(filters.length);
@@ -227,6 +277,7 @@ class Reader implements DataSourceReader, SupportsPushDownFilters, SupportsPushD
     // invalidate the schema that will be projected
     this.schema = null;
     this.type = null;
+    this.readUsingBatch = null;
   }
 
   @Override
@@ -244,55 +295,69 @@ class Reader implements DataSourceReader, SupportsPushDownFilters, SupportsPushD
     return new Stats(sizeInBytes, numRows);
   }
 
+  /**
+   * Invalidates the cached tasks so that the next call to {@link #tasks()} plans them again.
+   */
+  void invalidateTasks() {
+    this.tasks = null;
+    this.readUsingBatch = null;
+  }
+
   private List<CombinedScanTask> tasks() {
     if (tasks == null) {
-      TableScan scan = table
-          .newScan()
-          .caseSensitive(caseSensitive)
-          .project(lazySchema());
+      this.tasks = planTasks();
+    }
 
-      if (snapshotId != null) {
-        scan = scan.useSnapshot(snapshotId);
-      }
+    return tasks;
+  }
 
-      if (asOfTimestamp != null) {
-        scan = scan.asOfTime(asOfTimestamp);
-      }
+  List<CombinedScanTask> planTasks() {
+    TableScan scan = table
+        .newScan()
+        .caseSensitive(caseSensitive)
+        .project(lazySchema());
 
-      if (startSnapshotId != null) {
-        if (endSnapshotId != null) {
-          scan = scan.appendsBetween(startSnapshotId, endSnapshotId);
-        } else {
-          scan = scan.appendsAfter(startSnapshotId);
-        }
-      }
+    if (snapshotId != null) {
+      scan = scan.useSnapshot(snapshotId);
+    }
 
-      if (splitSize != null) {
-        scan = scan.option(TableProperties.SPLIT_SIZE, splitSize.toString());
-      }
+    if (asOfTimestamp != null) {
+      scan = scan.asOfTime(asOfTimestamp);
+    }
 
-      if (splitLookback != null) {
-        scan = scan.option(TableProperties.SPLIT_LOOKBACK, splitLookback.toString());
+    if (startSnapshotId != null) {
+      if (endSnapshotId != null) {
+        scan = scan.appendsBetween(startSnapshotId, endSnapshotId);
+      } else {
+        scan = scan.appendsAfter(startSnapshotId);
       }
+    }
 
-      if (splitOpenFileCost != null) {
-        scan = scan.option(TableProperties.SPLIT_OPEN_FILE_COST, splitOpenFileCost.toString());
-      }
+    if (splitSize != null) {
+      scan = scan.option(TableProperties.SPLIT_SIZE, splitSize.toString());
+    }
 
-      if (filterExpressions != null) {
-        for (Expression filter : filterExpressions) {
-          scan = scan.filter(filter);
-        }
-      }
+    if (splitLookback != null) {
+      scan = scan.option(TableProperties.SPLIT_LOOKBACK, splitLookback.toString());
+    }
 
-      try (CloseableIterable<CombinedScanTask> tasksIterable = scan.planTasks()) {
-        this.tasks = Lists.newArrayList(tasksIterable);
-      }  catch (IOException e) {
-        throw new RuntimeIOException(e, "Failed to close table scan: %s", scan);
+    if (splitOpenFileCost != null) {
+      scan = scan.option(TableProperties.SPLIT_OPEN_FILE_COST, splitOpenFileCost.toString());
+    }
+
+    if (filterExpressions != null) {
+      for (Expression filter : filterExpressions) {
+        scan = scan.filter(filter);
       }
     }
 
-    return tasks;
+    // DataSourceV2 plans input partitions as a list, so every task is held in memory even though bins are emitted as
+    // they fill; shared specs keep each task small
+    try (CloseableIterable<CombinedScanTask> tasksIterable = scan.planTasks()) {
+      return Lists.newArrayList(tasksIterable);
+    }  catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close table scan: %s", scan);
+    }
   }
 
   @Override
@@ -302,7 +367,7 @@ class Reader implements DataSourceReader, SupportsPushDownFilters, SupportsPushD
         table, lazySchema().asStruct(), filterExpressions, caseSensitive);
   }
 
-  private static class ReadTask implements InputPartition<InternalRow>, Serializable {
+  private static class ReadTask<T> implements InputPartition<T>, Serializable {
     private final CombinedScanTask task;
     private final String tableSchemaString;
     private final String expectedSchemaString;
@@ -310,6 +375,7 @@ class Reader implements DataSourceReader, SupportsPushDownFilters, SupportsPushD
     private final Broadcast<EncryptionManager> encryptionManager;
     private final boolean caseSensitive;
     private final boolean localityPreferred;
+    private final ReaderFactory<T> readerFactory;
 
     private transient Schema tableSchema = null;
     private transient Schema expectedSchema = null;
@@ -317,7 +383,7 @@ class Reader implements DataSourceReader, SupportsPushDownFilters, SupportsPushD
 
     private ReadTask(CombinedScanTask task, String tableSchemaString, String expectedSchemaString,
                      Broadcast<FileIO> io, Broadcast<EncryptionManager> encryptionManager,
-                     boolean caseSensitive, boolean localityPreferred) {
+                     boolean caseSensitive, boolean localityPreferred, ReaderFactory<T> readerFactory) {
       this.task = task;
       this.tableSchemaString = tableSchemaString;
       this.expectedSchemaString = expectedSchemaString;
@@ -325,13 +391,14 @@ class Reader implements DataSourceReader, SupportsPushDownFilters, SupportsPushD
       this.encryptionManager = encryptionManager;
       this.caseSensitive = caseSensitive;
       this.localityPreferred = localityPreferred;
+      this.readerFactory = readerFactory;
       this.preferredLocations = getPreferredLocations();
     }
 
     @Override
-    public InputPartitionReader<InternalRow> createPartitionReader() {
-      return new RowDataReader(task, lazyTableSchema(), lazyExpectedSchema(), io.value(),
-        encryptionManager.value(), caseSensitive);
+    public InputPartitionReader<T> createPartitionReader() {
+      return readerFactory.create(task, lazyTableSchema(), lazyExpectedSchema(), io.value(),
+          encryptionManager.value(), caseSensitive);
     }
 
     @Override
@@ -363,6 +430,44 @@ class Reader implements DataSourceReader, SupportsPushDownFilters, SupportsPushD
     }
   }
 
+  private interface ReaderFactory<T> extends Serializable {
+    InputPartitionReader<T> create(CombinedScanTask task, Schema tableSchema, Schema expectedSchema,
+                                   FileIO io, EncryptionManager encryptionManager, boolean caseSensitive);
+  }
+
+  private static class RowReaderFactory implements ReaderFactory<InternalRow> {
+    private final int prefetchDepth;
+
+    RowReaderFactory(int prefetchDepth) {
+      this.prefetchDepth = prefetchDepth;
+    }
+
+    @Override
+    public InputPartitionReader<InternalRow> create(CombinedScanTask task, Schema tableSchema, Schema expectedSchema,
+                                                    FileIO io, EncryptionManager encryptionManager,
+                                                    boolean caseSensitive) {
+      return new RowDataReader(task, tableSchema, expectedSchema, io, encryptionManager, caseSensitive, prefetchDepth);
+    }
+  }
+
+  private static class BatchReaderFactory implements ReaderFactory<ColumnarBatch> {
+    private final int batchSize;
+    private final int prefetchDepth;
+
+    BatchReaderFactory(int batchSize, int prefetchDepth) {
+      this.batchSize = batchSize;
+      this.prefetchDepth = prefetchDepth;
+    }
+
+    @Override
+    public InputPartitionReader<ColumnarBatch> create(CombinedScanTask task, Schema tableSchema,
+                                                      Schema expectedSchema, FileIO io,
+                                                      EncryptionManager encryptionManager, boolean caseSensitive) {
+      return new BatchDataReader(task, expectedSchema, io, encryptionManager, caseSensitive, batchSize,
+          prefetchDepth);
+    }
+  }
+
   private static class StructLikeInternalRow implements StructLike {
     private final DataType[] types;
     private InternalRow row = null;
@@ -21,12 +21,10 @@ package org.apache.iceberg.spark.source;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -56,7 +54,6 @@ import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.ByteBuffers;
 import org.apache.iceberg.util.PartitionUtil;
-import org.apache.spark.rdd.InputFileBlockHolder;
 import org.apache.spark.sql.catalyst.InternalRow;
 import org.apache.spark.sql.catalyst.expressions.Attribute;
 import org.apache.spark.sql.catalyst.expressions.AttributeReference;
@@ -80,20 +77,17 @@ class RowDataReader extends BaseDataReader<InternalRow> {
 
   RowDataReader(
       CombinedScanTask task, Schema tableSchema, Schema expectedSchema, FileIO fileIo,
-      EncryptionManager encryptionManager, boolean caseSensitive) {
-    super(task, fileIo, encryptionManager);
+      EncryptionManager encryptionManager, boolean caseSensitive, int prefetchDepth) {
+    super(task, fileIo, encryptionManager, prefetchDepth);
     this.tableSchema = tableSchema;
     this.expectedSchema = expectedSchema;
     this.caseSensitive = caseSensitive;
   }
 
   @Override
-  Iterator<InternalRow> open(FileScanTask task) {
+  CloseableIterable<InternalRow> open(FileScanTask task) {
     DataFile file = task.file();
 
-    // update the current file for Spark's filename() function
-    InputFileBlockHolder.set(file.path().toString(), task.start(), task.length());
-
     // schema or rows returned by readers
     PartitionSpec spec = task.spec();
     Set<Integer> idColumns = spec.identitySourceIds();
@@ -115,8 +109,8 @@ class RowDataReader extends BaseDataReader<InternalRow> {
       InternalRow partition = convertToRow.apply(file.partition());
       joined.withRight(partition);
 
-      return Iterators.transform(
-          Iterators.transform(open(task, readSchema, ImmutableMap.of()), joined::withLeft),
+      return CloseableIterable.transform(
+          CloseableIterable.transform(open(task, readSchema, ImmutableMap.of()), joined::withLeft),
           APPLY_PROJECTION.bind(projection(expectedSchema, joinedSchema))::invoke);
     }
 
@@ -124,7 +118,7 @@ class RowDataReader extends BaseDataReader<InternalRow> {
     return open(task, expectedSchema, ImmutableMap.of());
   }
 
-  private Iterator<InternalRow> open(FileScanTask task, Schema readSchema, Map<Integer, ?> idToConstant) {
+  private CloseableIterable<InternalRow> open(FileScanTask task, Schema readSchema, Map<Integer, ?> idToConstant) {
     CloseableIterable<InternalRow> iter;
     if (task.isDataTask()) {
       iter = newDataIterable(task.asDataTask(), readSchema);
@@ -151,9 +145,7 @@ class RowDataReader extends BaseDataReader<InternalRow> {
       }
     }
 
-    this.currentCloseable = iter;
-
-    return iter.iterator();
+    return iter;
   }
 
   private CloseableIterable<InternalRow> newAvroIterable(
@@ -191,6 +183,7 @@ class RowDataReader extends BaseDataReader<InternalRow> {
         .project(readSchema)
         .split(task.start(), task.length())
         .createReaderFunc(SparkOrcReader::new)
+        .filter(task.residual())
         .caseSensitive(caseSensitive)
         .build();
   }
@@ -225,7 +218,7 @@ class RowDataReader extends BaseDataReader<InternalRow> {
         JavaConverters.asScalaBufferConverter(attrs).asScala().toSeq());
   }
 
-  private static Object convertConstant(Type type, Object value) {
+  static Object convertConstant(Type type, Object value) {
     if (value == null) {
       return null;
     }
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.spark.source;
+
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.encryption.EncryptionManager;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.LocationProvider;
+import org.apache.iceberg.spark.SparkSchemaUtil;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.spark.TaskContext;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.FlatMapFunction;
+import org.apache.spark.broadcast.Broadcast;
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.sources.v2.writer.DataWriter;
+import org.apache.spark.sql.types.StructType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.iceberg.TableProperties.DEFAULT_FILE_FORMAT;
+import static org.apache.iceberg.TableProperties.DEFAULT_FILE_FORMAT_DEFAULT;
+
+/**
+ * Rewrites the rows of {@link CombinedScanTask combined tasks} into new data files.
+ * <p>
+ * Each task is read with the same reader used by the Spark source and written with the same writer used
+ * for appends, so new files use the table's current schema, format, and write properties. All files in a
+ * task are expected to belong to the same partition of the given spec.
+ */
+public class RowDataRewriter implements Serializable {
+  private static final Logger LOG = LoggerFactory.getLogger(RowDataRewriter.class);
+
+  private final Schema schema;
+  private final PartitionSpec spec;
+  private final FileFormat format;
+  private final LocationProvider locations;
+  private final Map<String, String> properties;
+  private final Broadcast<FileIO> io;
+  private final Broadcast<EncryptionManager> encryptionManager;
+  private final long targetFileSize;
+  private final boolean caseSensitive;
+
+  public RowDataRewriter(Table table, PartitionSpec spec, Broadcast<FileIO> io,
+                         Broadcast<EncryptionManager> encryptionManager, long targetFileSize, boolean caseSensitive) {
+    this.schema = table.schema();
+    this.spec = spec;
+    this.format = FileFormat.valueOf(table.properties()
+        .getOrDefault(DEFAULT_FILE_FORMAT, DEFAULT_FILE_FORMAT_DEFAULT)
+        .toUpperCase(Locale.ENGLISH));
+    this.locations = table.locationProvider();
+    this.properties = table.properties();
+    this.io = io;
+    this.encryptionManager = encryptionManager;
+    this.targetFileSize = targetFileSize;
+    this.caseSensitive = caseSensitive;
+  }
+
+  /**
+   * Rewrites the given tasks and returns the new data files.
+   *
+   * @param taskRDD an RDD of combined tasks, where each task's files belong to one partition
+   * @return a list of new data files that contain all rows of the tasks
+   */
+  public List<DataFile> rewriteDataForTasks(JavaRDD<CombinedScanTask> taskRDD) {
+    return taskRDD.mapPartitions(rewriteTasks()).collect();
+  }
+
+  private FlatMapFunction<Iterator<CombinedScanTask>, DataFile> rewriteTasks() {
+    return tasks -> {
+      List<DataFile> dataFiles = Lists.newArrayList();
+      while (tasks.hasNext()) {
+        dataFiles.addAll(rewriteTask(tasks.next()));
+      }
+      return dataFiles.iterator();
+    };
+  }
+
+  private List<DataFile> rewriteTask(CombinedScanTask task) throws IOException {
+    TaskContext context = TaskContext.get();
+    int partitionId = context != null ? context.partitionId() : 0;
+    long taskId = context != null ? context.taskAttemptId() : 0L;
+
+    StructType sparkSchema = SparkSchemaUtil.convert(schema);
+    Writer.WriterFactory writerFactory = new Writer.WriterFactory(
+        spec, format, locations, properties, io, encryptionManager, targetFileSize,
+        false /* files in a task share a partition, so rows are clustered */,
+        TableProperties.SPARK_WRITE_FANOUT_MAX_OPEN_FILES_DEFAULT,
+        TableProperties.SPARK_WRITE_FANOUT_MAX_BUFFERED_BYTES_DEFAULT,
+        schema, sparkSchema);
+
+    int prefetchDepth = PropertyUtil.propertyAsInt(properties,
+        TableProperties.SPLIT_PREFETCH_DEPTH, TableProperties.SPLIT_PREFETCH_DEPTH_DEFAULT);
+    RowDataReader reader = new RowDataReader(
+        task, schema, schema, io.value(), encryptionManager.value(), caseSensitive, prefetchDepth);
+    DataWriter<InternalRow> writer = writerFactory.createDataWriter(partitionId, taskId, 0);
+
+    try {
+      while (reader.next()) {
+        writer.write(reader.get());
+      }
+
+      reader.close();
+      reader = null;
+
+      Writer.TaskCommit commit = (Writer.TaskCommit) writer.commit();
+      return Arrays.asList(commit.files());
+
+    } catch (Throwable originalThrowable) {
+      try {
+        LOG.error("Aborting rewrite of task {} in partition {}", taskId, partitionId, originalThrowable);
+        writer.abort();
+      } catch (Throwable inner) {
+        if (originalThrowable != inner) {
+          originalThrowable.addSuppressed(inner);
+          LOG.warn("Suppressing exception in catch: {}", inner.getMessage(), inner);
+        }
+      } finally {
+        if (reader != null) {
+          reader.close();
+        }
+      }
+
+      throw originalThrowable;
+    }
+  }
+}
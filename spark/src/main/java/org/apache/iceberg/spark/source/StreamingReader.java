@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.spark.source;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.iceberg.BaseCombinedScanTask;
+import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.DataOperations;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.TableScan;
+import org.apache.iceberg.encryption.EncryptionManager;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.util.BinPacking;
+import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.SnapshotUtil;
+import org.apache.spark.broadcast.Broadcast;
+import org.apache.spark.sql.sources.v2.DataSourceOptions;
+import org.apache.spark.sql.sources.v2.reader.streaming.MicroBatchReader;
+import org.apache.spark.sql.sources.v2.reader.streaming.Offset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A micro-batch reader that streams the data files appended to a table.
+ * <p>
+ * The stream starts with all data files of the table's current snapshot and then follows the appends of each later
+ * snapshot. Files added by a snapshot are planned with an incremental scan of the manifests
+ * written by that snapshot, so older manifests are not scanned again. Replace snapshots, like compactions, and delete
+ * snapshots do not add new data and are skipped. Overwrite snapshots cannot be streamed and fail the query.
+ * <p>
+ * The number of files and bytes read in each batch can be limited with the max-files-per-trigger and
+ * max-bytes-per-trigger options. Each batch reads at least one file.
+ */
+class StreamingReader extends Reader implements MicroBatchReader {
+  private static final Logger LOG = LoggerFactory.getLogger(StreamingReader.class);
+
+  private final Table table;
+  private final boolean caseSensitive;
+  private final long splitSize;
+  private final int splitLookback;
+  private final long splitOpenFileCost;
+  private final int maxFilesPerTrigger;
+  private final long maxBytesPerTrigger;
+
+  // files of each snapshot in offset order, keyed by snapshot id and whether all files are scanned
+  private final Map<Pair<Long, Boolean>, List<FileScanTask>> snapshotFiles = Maps.newHashMap();
+
+  private StreamingOffset startOffset = null;
+  private StreamingOffset endOffset = null;
+
+  StreamingReader(Table table, Broadcast<FileIO> io, Broadcast<EncryptionManager> encryptionManager,
+                  boolean caseSensitive, DataSourceOptions options) {
+    super(table, io, encryptionManager, caseSensitive, options);
+    this.table = table;
+    this.caseSensitive = caseSensitive;
+
+    this.splitSize = options.get("split-size").map(Long::parseLong).orElse(
+        PropertyUtil.propertyAsLong(table.properties(),
+            TableProperties.SPLIT_SIZE, TableProperties.SPLIT_SIZE_DEFAULT));
+    this.splitLookback = options.get("lookback").map(Integer::parseInt).orElse(
+        PropertyUtil.propertyAsInt(table.properties(),
+            TableProperties.SPLIT_LOOKBACK, TableProperties.SPLIT_LOOKBACK_DEFAULT));
+    this.splitOpenFileCost = options.get("file-open-cost").map(Long::parseLong).orElse(
+        PropertyUtil.propertyAsLong(table.properties(),
+            TableProperties.SPLIT_OPEN_FILE_COST, TableProperties.SPLIT_OPEN_FILE_COST_DEFAULT));
+
+    this.maxFilesPerTrigger = options.getInt("max-files-per-trigger", Integer.MAX_VALUE);
+    Preconditions.checkArgument(maxFilesPerTrigger > 0,
+        "Invalid max files per trigger: %s (must be positive)", maxFilesPerTrigger);
+    this.maxBytesPerTrigger = options.getLong("max-bytes-per-trigger", Long.MAX_VALUE);
+    Preconditions.checkArgument(maxBytesPerTrigger > 0,
+        "Invalid max bytes per trigger: %s (must be positive)", maxBytesPerTrigger);
+  }
+
+  @Override
+  public void setOffsetRange(Optional<Offset> start, Optional<Offset> end) {
+    table.refresh();
+
+    this.startOffset = start.map(StreamingOffset.class::cast).orElseGet(this::initialOffset);
+    if (startOffset.equals(StreamingOffset.START_OFFSET)) {
+      // the table was empty when the stream started, start from its first snapshot if there is one now
+      this.startOffset = initialOffset();
+    }
+
+    this.endOffset = end.map(StreamingOffset.class::cast).orElseGet(() -> latestOffset(startOffset));
+
+    invalidateTasks();
+  }
+
+  @Override
+  public Offset getStartOffset() {
+    Preconditions.checkState(startOffset != null, "Start offset is not set");
+    return startOffset;
+  }
+
+  @Override
+  public Offset getEndOffset() {
+    Preconditions.checkState(endOffset != null, "End offset is not set");
+    return endOffset;
+  }
+
+  @Override
+  public Offset deserializeOffset(String json) {
+    return StreamingOffset.fromJson(json);
+  }
+
+  @Override
+  public void commit(Offset end) {
+    // files of snapshots before the committed offset will not be read again
+    long committedSnapshotId = ((StreamingOffset) end).snapshotId();
+    snapshotFiles.keySet().removeIf(key ->
+        key.first() != committedSnapshotId && SnapshotUtil.ancestorOf(table, committedSnapshotId, key.first()));
+  }
+
+  @Override
+  public void stop() {
+  }
+
+  @Override
+  List<CombinedScanTask> planTasks() {
+    Preconditions.checkState(startOffset != null && endOffset != null, "Offset range is not set");
+
+    List<FileScanTask> files = Lists.newArrayList();
+    if (!endOffset.equals(StreamingOffset.START_OFFSET)) {
+      for (long snapshotId : snapshotIdsFrom(startOffset.snapshotId(), endOffset.snapshotId())) {
+        boolean scanAllFiles = snapshotId == startOffset.snapshotId() && startOffset.shouldScanAllFiles();
+        List<FileScanTask> snapshotTasks = snapshotFiles(snapshotId, scanAllFiles);
+        int startPos = snapshotId == startOffset.snapshotId() ? startOffset.position() : 0;
+        int endPos = snapshotId == endOffset.snapshotId() ? endOffset.position() : snapshotTasks.size();
+        files.addAll(snapshotTasks.subList(startPos, endPos));
+      }
+    }
+
+    Function<FileScanTask, Long> weightFunc = file -> Math.max(file.length(), splitOpenFileCost);
+    List<FileScanTask> splits = files.stream()
+        .flatMap(file -> ImmutableList.copyOf(file.split(splitSize)).stream())
+        .collect(Collectors.toList());
+
+    List<CombinedScanTask> tasks = Lists.newArrayList();
+    for (List<FileScanTask> group : new BinPacking.ListPacker<FileScanTask>(splitSize, splitLookback, true)
+        .pack(splits, weightFunc)) {
+      tasks.add(new BaseCombinedScanTask(group));
+    }
+
+    LOG.info("Planned {} tasks with {} files for offsets ({}, {}] of table {}",
+        tasks.size(), files.size(), startOffset, endOffset, table);
+
+    return tasks;
+  }
+
+  private StreamingOffset initialOffset() {
+    if (table.currentSnapshot() == null) {
+      return StreamingOffset.START_OFFSET;
+    }
+
+    // start with all files in the current snapshot; older snapshots may have overwritten or deleted data
+    return new StreamingOffset(table.currentSnapshot().snapshotId(), 0, true);
+  }
+
+  private StreamingOffset latestOffset(StreamingOffset start) {
+    Snapshot current = table.currentSnapshot();
+    if (current == null) {
+      return StreamingOffset.START_OFFSET;
+    }
+
+    int numFiles = 0;
+    long numBytes = 0L;
+    StreamingOffset latest = start;
+    for (long snapshotId : snapshotIdsFrom(start.snapshotId(), current.snapshotId())) {
+      boolean scanAllFiles = snapshotId == start.snapshotId() && start.shouldScanAllFiles();
+      List<FileScanTask> snapshotTasks = snapshotFiles(snapshotId, scanAllFiles);
+      int pos = snapshotId == start.snapshotId() ? start.position() : 0;
+      for (; pos < snapshotTasks.size(); pos += 1) {
+        long fileSize = snapshotTasks.get(pos).length();
+        if (numFiles >= maxFilesPerTrigger || (numFiles > 0 && numBytes + fileSize > maxBytesPerTrigger)) {
+          return new StreamingOffset(snapshotId, pos, scanAllFiles);
+        }
+
+        numFiles += 1;
+        numBytes += fileSize;
+      }
+
+      latest = new StreamingOffset(snapshotId, pos, scanAllFiles);
+    }
+
+    return latest;
+  }
+
+  /**
+   * Returns the IDs of snapshots from a start snapshot to an end snapshot, inclusive, ordered oldest first.
+   */
+  private List<Long> snapshotIdsFrom(long startSnapshotId, long endSnapshotId) {
+    Preconditions.checkState(table.snapshot(startSnapshotId) != null,
+        "Cannot stream from snapshot %s: it may have been expired", startSnapshotId);
+    Preconditions.checkState(SnapshotUtil.ancestorOf(table, endSnapshotId, startSnapshotId),
+        "Cannot stream from snapshot %s: it is not an ancestor of snapshot %s", startSnapshotId, endSnapshotId);
+
+    if (startSnapshotId == endSnapshotId) {
+      return ImmutableList.of(startSnapshotId);
+    }
+
+    List<Long> snapshotIds = Lists.newArrayList();
+    snapshotIds.add(startSnapshotId);
+    snapshotIds.addAll(Lists.reverse(SnapshotUtil.snapshotIdsBetween(table, startSnapshotId, endSnapshotId)));
+    return snapshotIds;
+  }
+
+  private List<FileScanTask> snapshotFiles(long snapshotId, boolean scanAllFiles) {
+    return snapshotFiles.computeIfAbsent(Pair.of(snapshotId, scanAllFiles),
+        key -> planSnapshotFiles(table.snapshot(snapshotId), scanAllFiles));
+  }
+
+  private List<FileScanTask> planSnapshotFiles(Snapshot snapshot, boolean scanAllFiles) {
+    TableScan scan = table.newScan()
+        .caseSensitive(caseSensitive)
+        .filter(filterExpression());
+
+    if (scanAllFiles || snapshot.parentId() == null) {
+      scan = scan.useSnapshot(snapshot.snapshotId());
+
+    } else if (DataOperations.APPEND.equals(snapshot.operation())) {
+      Preconditions.checkState(table.snapshot(snapshot.parentId()) != null,
+          "Cannot read appends in snapshot %s: parent snapshot %s may have been expired",
+          snapshot.snapshotId(), snapshot.parentId());
+      scan = scan.appendsBetween(snapshot.parentId(), snapshot.snapshotId());
+
+    } else if (DataOperations.REPLACE.equals(snapshot.operation()) ||
+        DataOperations.DELETE.equals(snapshot.operation())) {
+      LOG.debug("Skipping {} snapshot {}: no new data", snapshot.operation(), snapshot.snapshotId());
+      return ImmutableList.of();
+
+    } else {
+      throw new UnsupportedOperationException(String.format(
+          "Cannot stream %s snapshot %s: only appends are supported", snapshot.operation(), snapshot.snapshotId()));
+    }
+
+    try (CloseableIterable<FileScanTask> tasks = scan.planFiles()) {
+      // planning may run in parallel, so order the files to keep offset positions stable
+      List<FileScanTask> files = Lists.newArrayList(tasks);
+      files.sort(Comparator.comparing(task -> task.file().path().toString()));
+      return files;
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close table scan: %s", scan);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "IcebergMicroBatchScan(table=%s, type=%s, filter=%s, caseSensitive=%s)",
+        table, lazySchema().asStruct(), filterExpression(), caseSensitive);
+  }
+}
@@ -19,12 +19,15 @@
 
 package org.apache.iceberg.spark.source;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -61,6 +64,7 @@ import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.Tasks;
 import org.apache.spark.broadcast.Broadcast;
 import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.catalyst.expressions.UnsafeRow;
 import org.apache.spark.sql.sources.v2.DataSourceOptions;
 import org.apache.spark.sql.sources.v2.writer.DataSourceWriter;
 import org.apache.spark.sql.sources.v2.writer.DataWriter;
@@ -80,6 +84,12 @@ import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS;
 import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT;
 import static org.apache.iceberg.TableProperties.DEFAULT_FILE_FORMAT;
 import static org.apache.iceberg.TableProperties.DEFAULT_FILE_FORMAT_DEFAULT;
+import static org.apache.iceberg.TableProperties.SPARK_WRITE_FANOUT_ENABLED;
+import static org.apache.iceberg.TableProperties.SPARK_WRITE_FANOUT_ENABLED_DEFAULT;
+import static org.apache.iceberg.TableProperties.SPARK_WRITE_FANOUT_MAX_BUFFERED_BYTES;
+import static org.apache.iceberg.TableProperties.SPARK_WRITE_FANOUT_MAX_BUFFERED_BYTES_DEFAULT;
+import static org.apache.iceberg.TableProperties.SPARK_WRITE_FANOUT_MAX_OPEN_FILES;
+import static org.apache.iceberg.TableProperties.SPARK_WRITE_FANOUT_MAX_OPEN_FILES_DEFAULT;
 import static org.apache.iceberg.TableProperties.WRITE_TARGET_FILE_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT;
 
@@ -95,6 +105,9 @@ class Writer implements DataSourceWriter {
   private final String applicationId;
   private final String wapId;
   private final long targetFileSize;
+  private final boolean fanoutEnabled;
+  private final int fanoutMaxOpenFiles;
+  private final long fanoutMaxBufferedBytes;
   private final Schema writeSchema;
   private final StructType dsSchema;
 
@@ -120,6 +133,22 @@ class Writer implements DataSourceWriter {
     long tableTargetFileSize = PropertyUtil.propertyAsLong(
         table.properties(), WRITE_TARGET_FILE_SIZE_BYTES, WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT);
     this.targetFileSize = options.getLong("target-file-size-bytes", tableTargetFileSize);
+
+    boolean tableFanoutEnabled = PropertyUtil.propertyAsBoolean(
+        table.properties(), SPARK_WRITE_FANOUT_ENABLED, SPARK_WRITE_FANOUT_ENABLED_DEFAULT);
+    this.fanoutEnabled = options.getBoolean("fanout-enabled", tableFanoutEnabled);
+
+    int tableMaxOpenFiles = PropertyUtil.propertyAsInt(
+        table.properties(), SPARK_WRITE_FANOUT_MAX_OPEN_FILES, SPARK_WRITE_FANOUT_MAX_OPEN_FILES_DEFAULT);
+    this.fanoutMaxOpenFiles = options.getInt("fanout-max-open-files", tableMaxOpenFiles);
+    Preconditions.checkArgument(fanoutMaxOpenFiles > 0,
+        "Invalid fan-out max open files: %s (must be positive)", fanoutMaxOpenFiles);
+
+    long tableMaxBufferedBytes = PropertyUtil.propertyAsLong(
+        table.properties(), SPARK_WRITE_FANOUT_MAX_BUFFERED_BYTES, SPARK_WRITE_FANOUT_MAX_BUFFERED_BYTES_DEFAULT);
+    this.fanoutMaxBufferedBytes = options.getLong("fanout-max-buffered-bytes", tableMaxBufferedBytes);
+    Preconditions.checkArgument(fanoutMaxBufferedBytes > 0,
+        "Invalid fan-out max buffered bytes: %s (must be positive)", fanoutMaxBufferedBytes);
   }
 
   private FileFormat getFileFormat(Map<String, String> tableProperties, DataSourceOptions options) {
@@ -138,7 +167,7 @@ class Writer implements DataSourceWriter {
   public DataWriterFactory<InternalRow> createWriterFactory() {
     return new WriterFactory(
         table.spec(), format, table.locationProvider(), table.properties(), io, encryptionManager, targetFileSize,
-        writeSchema, dsSchema);
+        fanoutEnabled, fanoutMaxOpenFiles, fanoutMaxBufferedBytes, writeSchema, dsSchema);
   }
 
   @Override
@@ -236,7 +265,7 @@ class Writer implements DataSourceWriter {
   }
 
 
-  private static class TaskCommit implements WriterCommitMessage {
+  static class TaskCommit implements WriterCommitMessage {
     private final DataFile[] files;
 
     TaskCommit() {
@@ -256,7 +285,7 @@ class Writer implements DataSourceWriter {
     }
   }
 
-  private static class WriterFactory implements DataWriterFactory<InternalRow> {
+  static class WriterFactory implements DataWriterFactory<InternalRow> {
     private final PartitionSpec spec;
     private final FileFormat format;
     private final LocationProvider locations;
@@ -264,12 +293,16 @@ class Writer implements DataSourceWriter {
     private final Broadcast<FileIO> io;
     private final Broadcast<EncryptionManager> encryptionManager;
     private final long targetFileSize;
+    private final boolean fanoutEnabled;
+    private final int fanoutMaxOpenFiles;
+    private final long fanoutMaxBufferedBytes;
     private final Schema writeSchema;
     private final StructType dsSchema;
 
     WriterFactory(PartitionSpec spec, FileFormat format, LocationProvider locations,
                   Map<String, String> properties, Broadcast<FileIO> io,
                   Broadcast<EncryptionManager> encryptionManager, long targetFileSize,
+                  boolean fanoutEnabled, int fanoutMaxOpenFiles, long fanoutMaxBufferedBytes,
                   Schema writeSchema, StructType dsSchema) {
       this.spec = spec;
       this.format = format;
@@ -278,6 +311,9 @@ class Writer implements DataSourceWriter {
       this.io = io;
       this.encryptionManager = encryptionManager;
       this.targetFileSize = targetFileSize;
+      this.fanoutEnabled = fanoutEnabled;
+      this.fanoutMaxOpenFiles = fanoutMaxOpenFiles;
+      this.fanoutMaxBufferedBytes = fanoutMaxBufferedBytes;
       this.writeSchema = writeSchema;
       this.dsSchema = dsSchema;
     }
@@ -289,6 +325,9 @@ class Writer implements DataSourceWriter {
 
       if (spec.fields().isEmpty()) {
         return new UnpartitionedWriter(spec, format, appenderFactory, fileFactory, io.value(), targetFileSize);
+      } else if (fanoutEnabled) {
+        return new FanoutWriter(spec, format, appenderFactory, fileFactory, io.value(), targetFileSize,
+            writeSchema, fanoutMaxOpenFiles, fanoutMaxBufferedBytes);
       } else {
         return new PartitionedWriter(
             spec, format, appenderFactory, fileFactory, io.value(), targetFileSize, writeSchema);
@@ -406,9 +445,7 @@ class Writer implements DataSourceWriter {
     public abstract void write(InternalRow row) throws IOException;
 
     public void writeInternal(InternalRow row)  throws IOException {
-      //TODO: ORC file now not support target file size before closed
-      if  (!format.equals(FileFormat.ORC) &&
-          currentRows % ROWS_DIVISOR == 0 && currentAppender.length() >= targetFileSize) {
+      if (shouldRollToNewFile(currentAppender, currentRows)) {
         closeCurrent();
         openCurrent();
       }
@@ -435,42 +472,64 @@ class Writer implements DataSourceWriter {
           .run(file -> fileIo.deleteFile(file.path().toString()));
     }
 
+    protected boolean shouldRollToNewFile(FileAppender<InternalRow> appender, long rows) {
+      //TODO: ORC file now not support target file size before closed
+      return !format.equals(FileFormat.ORC) &&
+          rows % ROWS_DIVISOR == 0 && appender.length() >= targetFileSize;
+    }
+
     protected void openCurrent() {
-      if (spec.fields().size() == 0) {
-        // unpartitioned
-        currentFile = fileFactory.newOutputFile();
-      } else {
-        // partitioned
-        currentFile = fileFactory.newOutputFile(currentKey);
-      }
-      currentAppender = appenderFactory.newAppender(currentFile.encryptingOutputFile(), format);
+      currentFile = newOutputFile(currentKey);
+      currentAppender = newAppender(currentFile);
       currentRows = 0;
     }
 
     protected void closeCurrent() throws IOException {
       if (currentAppender != null) {
-        currentAppender.close();
-        // metrics are only valid after the appender is closed
-        Metrics metrics = currentAppender.metrics();
-        long fileSizeInBytes = currentAppender.length();
-        List<Long> splitOffsets = currentAppender.splitOffsets();
+        FileAppender<InternalRow> appender = currentAppender;
         this.currentAppender = null;
+        completeFile(currentKey, currentFile, appender);
+        this.currentFile = null;
+      }
+    }
 
-        if (metrics.recordCount() == 0L) {
-          fileIo.deleteFile(currentFile.encryptingOutputFile());
-        } else {
-          DataFile dataFile = DataFiles.builder(spec)
-              .withEncryptionKeyMetadata(currentFile.keyMetadata())
-              .withPath(currentFile.encryptingOutputFile().location())
-              .withFileSizeInBytes(fileSizeInBytes)
-              .withPartition(spec.fields().size() == 0 ? null : currentKey) // set null if unpartitioned
-              .withMetrics(metrics)
-              .withSplitOffsets(splitOffsets)
-              .build();
-          completedFiles.add(dataFile);
-        }
+    protected EncryptedOutputFile newOutputFile(PartitionKey key) {
+      if (spec.fields().size() == 0) {
+        // unpartitioned
+        return fileFactory.newOutputFile();
+      } else {
+        // partitioned
+        return fileFactory.newOutputFile(key);
+      }
+    }
 
-        this.currentFile = null;
+    protected FileAppender<InternalRow> newAppender(EncryptedOutputFile file) {
+      return appenderFactory.newAppender(file.encryptingOutputFile(), format);
+    }
+
+    /**
+     * Closes an appender and adds its file to the completed files, or deletes the file if it has no rows.
+     */
+    protected void completeFile(PartitionKey key, EncryptedOutputFile file, FileAppender<InternalRow> appender)
+        throws IOException {
+      appender.close();
+      // metrics are only valid after the appender is closed
+      Metrics metrics = appender.metrics();
+      long fileSizeInBytes = appender.length();
+      List<Long> splitOffsets = appender.splitOffsets();
+
+      if (metrics.recordCount() == 0L) {
+        fileIo.deleteFile(file.encryptingOutputFile());
+      } else {
+        DataFile dataFile = DataFiles.builder(spec)
+            .withEncryptionKeyMetadata(file.keyMetadata())
+            .withPath(file.encryptingOutputFile().location())
+            .withFileSizeInBytes(fileSizeInBytes)
+            .withPartition(spec.fields().size() == 0 ? null : key) // set null if unpartitioned
+            .withMetrics(metrics)
+            .withSplitOffsets(splitOffsets)
+            .build();
+        completedFiles.add(dataFile);
       }
     }
 
@@ -531,7 +590,8 @@ class Writer implements DataSourceWriter {
           // if rows are not correctly grouped, detect and fail the write
           PartitionKey existingKey = Iterables.find(completedPartitions, key::equals, null);
           LOG.warn("Duplicate key: {} == {}", existingKey, key);
-          throw new IllegalStateException("Already closed files for partition: " + key.toPath());
+          throw new IllegalStateException("Already closed files for partition: " + key.toPath() +
+              " (cluster rows by partition or enable the fan-out writer with the fanout-enabled option)");
         }
 
         setCurrentKey(key.copy());
@@ -541,4 +601,126 @@ class Writer implements DataSourceWriter {
       writeInternal(row);
     }
   }
+
+  /**
+   * A writer for partitioned data that does not require rows to be clustered by partition.
+   * <p>
+   * A file is kept open for each partition that rows are written to. When opening another file would exceed
+   * the max number of open files, or when the estimated size of rows written to open files exceeds the max
+   * buffered bytes, the least recently used file is closed. Later rows for that partition go to a new file.
+   */
+  private static class FanoutWriter extends BaseWriter {
+    private final PartitionKey key;
+    private final int maxOpenFiles;
+    private final long maxBufferedBytes;
+    // access-ordered, so iteration starts with the least recently used file
+    private final Map<PartitionKey, OpenFile> openFiles = new LinkedHashMap<>(16, 0.75f, true);
+    private long bufferedBytes = 0L;
+
+    FanoutWriter(
+        PartitionSpec spec,
+        FileFormat format,
+        AppenderFactory<InternalRow> appenderFactory,
+        WriterFactory.OutputFileFactory fileFactory,
+        FileIO fileIo,
+        long targetFileSize,
+        Schema writeSchema,
+        int maxOpenFiles,
+        long maxBufferedBytes) {
+      super(spec, format, appenderFactory, fileFactory, fileIo, targetFileSize);
+      this.key = new PartitionKey(spec, writeSchema);
+      this.maxOpenFiles = maxOpenFiles;
+      this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    @Override
+    public void write(InternalRow row) throws IOException {
+      key.partition(row);
+
+      OpenFile file = openFiles.get(key);
+      if (file == null) {
+        while (openFiles.size() >= maxOpenFiles) {
+          closeLeastRecentlyUsed();
+        }
+
+        PartitionKey copy = key.copy();
+        file = new OpenFile(copy);
+        openFiles.put(copy, file);
+
+      } else if (shouldRollToNewFile(file.appender, file.rows)) {
+        file.close();
+        file.open();
+      }
+
+      long rowBytes = estimatedSize(row);
+      file.appender.add(row);
+      file.rows += 1;
+      file.bytes += rowBytes;
+      this.bufferedBytes += rowBytes;
+
+      // the file that was just written is the most recently used, so it is closed only if it is the last one
+      while (bufferedBytes > maxBufferedBytes && openFiles.size() > 1) {
+        closeLeastRecentlyUsed();
+      }
+    }
+
+    @Override
+    public WriterCommitMessage commit() throws IOException {
+      closeAll();
+      return super.commit();
+    }
+
+    @Override
+    public void abort() throws IOException {
+      closeAll();
+      super.abort();
+    }
+
+    private void closeLeastRecentlyUsed() throws IOException {
+      Iterator<OpenFile> iterator = openFiles.values().iterator();
+      OpenFile eldest = iterator.next();
+      iterator.remove();
+      eldest.close();
+    }
+
+    private void closeAll() throws IOException {
+      while (!openFiles.isEmpty()) {
+        closeLeastRecentlyUsed();
+      }
+    }
+
+    private static long estimatedSize(InternalRow row) {
+      if (row instanceof UnsafeRow) {
+        return ((UnsafeRow) row).getSizeInBytes();
+      }
+
+      // assume 8 bytes per field when the row size is not known
+      return 8L * row.numFields();
+    }
+
+    private class OpenFile {
+      private final PartitionKey partition;
+      private EncryptedOutputFile file = null;
+      private FileAppender<InternalRow> appender = null;
+      private long rows = 0L;
+      private long bytes = 0L;
+
+      OpenFile(PartitionKey partition) {
+        this.partition = partition;
+        open();
+      }
+
+      private void open() {
+        this.file = newOutputFile(partition);
+        this.appender = newAppender(file);
+        this.rows = 0L;
+        this.bytes = 0L;
+      }
+
+      private void close() throws IOException {
+        bufferedBytes -= bytes;
+        completeFile(partition, file, appender);
+      }
+    }
+  }
 }
@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.actions;
+
+import com.google.common.collect.Lists;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.spark.source.ThreeColumnRecord;
+import org.apache.iceberg.types.Types;
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Encoders;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.SparkSession;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+
+public class TestRewriteDataFilesAction {
+
+  private static final HadoopTables TABLES = new HadoopTables(new Configuration());
+  private static final Schema SCHEMA = new Schema(
+      optional(1, "c1", Types.IntegerType.get()),
+      optional(2, "c2", Types.StringType.get()),
+      optional(3, "c3", Types.StringType.get())
+  );
+
+  private static SparkSession spark;
+
+  @BeforeClass
+  public static void startSpark() {
+    TestRewriteDataFilesAction.spark = SparkSession.builder()
+        .master("local[2]")
+        .getOrCreate();
+  }
+
+  @AfterClass
+  public static void stopSpark() {
+    SparkSession currentSpark = TestRewriteDataFilesAction.spark;
+    TestRewriteDataFilesAction.spark = null;
+    currentSpark.stop();
+  }
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private String tableLocation = null;
+
+  @Before
+  public void setupTableLocation() throws Exception {
+    File tableDir = temp.newFolder();
+    this.tableLocation = tableDir.toURI().toString();
+  }
+
+  @Test
+  public void testRewriteDataFilesEmptyTable() {
+    Table table = TABLES.create(SCHEMA, PartitionSpec.unpartitioned(), tableLocation);
+
+    Assert.assertNull("Table must be empty", table.currentSnapshot());
+
+    RewriteDataFilesActionResult result = Actions.forTable(table).rewriteDataFiles().execute();
+
+    Assert.assertTrue("Action should not rewrite files", result.deletedDataFiles().isEmpty());
+    Assert.assertTrue("Action should not add files", result.addedDataFiles().isEmpty());
+    Assert.assertNull("Table must stay empty", table.currentSnapshot());
+  }
+
+  @Test
+  public void testRewriteDataFilesUnpartitionedTable() {
+    Table table = TABLES.create(SCHEMA, PartitionSpec.unpartitioned(), tableLocation);
+
+    List<ThreeColumnRecord> records1 = Lists.newArrayList(
+        new ThreeColumnRecord(1, null, "AAAA"),
+        new ThreeColumnRecord(1, "BBBBBBBBBB", "BBBB")
+    );
+    writeRecords(records1);
+
+    List<ThreeColumnRecord> records2 = Lists.newArrayList(
+        new ThreeColumnRecord(2, "CCCCCCCCCC", "CCCC"),
+        new ThreeColumnRecord(2, "DDDDDDDDDD", "DDDD")
+    );
+    writeRecords(records2);
+
+    table.refresh();
+
+    List<DataFile> dataFiles = dataFiles(table);
+    Assert.assertEquals("Should have 4 data files before rewrite", 4, dataFiles.size());
+
+    RewriteDataFilesActionResult result = Actions.forTable(table).rewriteDataFiles().execute();
+
+    Assert.assertEquals("Action should rewrite 4 data files", 4, result.deletedDataFiles().size());
+    Assert.assertEquals("Action should add 1 data file", 1, result.addedDataFiles().size());
+
+    Map<String, RewriteDataFilesActionResult.PartitionSummary> summaries = result.partitionSummaries();
+    Assert.assertEquals("Should summarize 1 partition", 1, summaries.size());
+    RewriteDataFilesActionResult.PartitionSummary summary = summaries.get("");
+    Assert.assertEquals("Summary should count deleted files", 4, summary.deletedFilesCount());
+    Assert.assertEquals("Summary should count added files", 1, summary.addedFilesCount());
+
+    table.refresh();
+
+    Assert.assertEquals("Should have 1 data file after rewrite", 1, dataFiles(table).size());
+
+    List<ThreeColumnRecord> expectedRecords = Lists.newArrayList();
+    expectedRecords.addAll(records1);
+    expectedRecords.addAll(records2);
+    Assert.assertEquals("Rows must match", expectedRecords, readRecords());
+  }
+
+  @Test
+  public void testRewriteDataFilesPartitionedTable() {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA)
+        .identity("c1")
+        .truncate("c2", 2)
+        .build();
+    Table table = TABLES.create(SCHEMA, spec, tableLocation);
+
+    List<ThreeColumnRecord> records1 = Lists.newArrayList(
+        new ThreeColumnRecord(1, "AAAAAAAAAA", "AAAA"),
+        new ThreeColumnRecord(1, "AAAAAAAAAA", "CCCC")
+    );
+    writeRecords(records1);
+
+    List<ThreeColumnRecord> records2 = Lists.newArrayList(
+        new ThreeColumnRecord(1, "BBBBBBBBBB", "BBBB"),
+        new ThreeColumnRecord(1, "BBBBBBBBBB", "DDDD")
+    );
+    writeRecords(records2);
+
+    List<ThreeColumnRecord> records3 = Lists.newArrayList(
+        new ThreeColumnRecord(2, "AAAAAAAAAA", "EEEE"),
+        new ThreeColumnRecord(2, "AAAAAAAAAA", "GGGG")
+    );
+    writeRecords(records3);
+
+    table.refresh();
+
+    Assert.assertEquals("Should have 6 data files before rewrite", 6, dataFiles(table).size());
+
+    RewriteDataFilesActionResult result = Actions.forTable(table).rewriteDataFiles().execute();
+
+    Assert.assertEquals("Action should rewrite 6 data files", 6, result.deletedDataFiles().size());
+    Assert.assertEquals("Action should add 3 data files", 3, result.addedDataFiles().size());
+    Assert.assertEquals("Should summarize 3 partitions", 3, result.partitionSummaries().size());
+    for (RewriteDataFilesActionResult.PartitionSummary summary : result.partitionSummaries().values()) {
+      Assert.assertEquals("Each partition should rewrite 2 files", 2, summary.deletedFilesCount());
+      Assert.assertEquals("Each partition should add 1 file", 1, summary.addedFilesCount());
+    }
+
+    table.refresh();
+
+    Assert.assertEquals("Should have 3 data files after rewrite", 3, dataFiles(table).size());
+
+    List<ThreeColumnRecord> expectedRecords = Lists.newArrayList();
+    expectedRecords.addAll(records1);
+    expectedRecords.addAll(records2);
+    expectedRecords.addAll(records3);
+    Assert.assertEquals("Rows must match", expectedRecords, readRecords());
+  }
+
+  @Test
+  public void testRewriteDataFilesWithFilter() {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA)
+        .identity("c1")
+        .build();
+    Table table = TABLES.create(SCHEMA, spec, tableLocation);
+
+    List<ThreeColumnRecord> records1 = Lists.newArrayList(
+        new ThreeColumnRecord(1, "AAAAAAAAAA", "AAAA"),
+        new ThreeColumnRecord(1, "BBBBBBBBBB", "BBBB")
+    );
+    writeRecords(records1);
+
+    List<ThreeColumnRecord> records2 = Lists.newArrayList(
+        new ThreeColumnRecord(2, "CCCCCCCCCC", "CCCC"),
+        new ThreeColumnRecord(2, "DDDDDDDDDD", "DDDD")
+    );
+    writeRecords(records2);
+
+    table.refresh();
+
+    Assert.assertEquals("Should have 4 data files before rewrite", 4, dataFiles(table).size());
+
+    // files are rewritten whole, so the row that does not match c2 must be kept
+    RewriteDataFilesActionResult result = Actions.forTable(table)
+        .rewriteDataFiles()
+        .filter(Expressions.equal("c1", 1))
+        .filter(Expressions.startsWith("c2", "AA"))
+        .maxConcurrentGroups(1)
+        .execute();
+
+    Assert.assertTrue("Should not rewrite a single matching file", result.deletedDataFiles().isEmpty());
+
+    result = Actions.forTable(table)
+        .rewriteDataFiles()
+        .filter(Expressions.equal("c1", 1))
+        .execute();
+
+    Assert.assertEquals("Action should rewrite 2 data files", 2, result.deletedDataFiles().size());
+    Assert.assertEquals("Action should add 1 data file", 1, result.addedDataFiles().size());
+    Assert.assertEquals("Should only summarize the filtered partition",
+        1, result.partitionSummaries().size());
+    Assert.assertNotNull("Should summarize partition c1=1", result.partitionSummaries().get("c1=1"));
+
+    table.refresh();
+
+    Assert.assertEquals("Should have 3 data files after rewrite", 3, dataFiles(table).size());
+
+    List<ThreeColumnRecord> expectedRecords = Lists.newArrayList();
+    expectedRecords.addAll(records1);
+    expectedRecords.addAll(records2);
+    Assert.assertEquals("Rows must match", expectedRecords, readRecords());
+  }
+
+  @Test
+  public void testRewriteDataFilesSkipsLargeFiles() {
+    Table table = TABLES.create(SCHEMA, PartitionSpec.unpartitioned(), tableLocation);
+
+    writeRecords(Lists.newArrayList(
+        new ThreeColumnRecord(1, "AAAAAAAAAA", "AAAA"),
+        new ThreeColumnRecord(2, "BBBBBBBBBB", "BBBB")
+    ));
+
+    table.refresh();
+
+    RewriteDataFilesActionResult result = Actions.forTable(table)
+        .rewriteDataFiles()
+        .targetSizeInBytes(1)
+        .execute();
+
+    Assert.assertTrue("Should not rewrite files larger than the target size", result.deletedDataFiles().isEmpty());
+    Assert.assertEquals("Should not change data files", 2, dataFiles(table).size());
+  }
+
+  private List<DataFile> dataFiles(Table table) {
+    List<DataFile> files = Lists.newArrayList();
+    try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+      tasks.forEach(task -> files.add(task.file()));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return files;
+  }
+
+  private List<ThreeColumnRecord> readRecords() {
+    Dataset<Row> resultDF = spark.read().format("iceberg").load(tableLocation);
+    return resultDF.sort("c1", "c2", "c3")
+        .as(Encoders.bean(ThreeColumnRecord.class))
+        .collectAsList();
+  }
+
+  private void writeRecords(List<ThreeColumnRecord> records) {
+    Dataset<Row> df = spark.createDataFrame(records, ThreeColumnRecord.class);
+    df.select("c1", "c2", "c3")
+        .write()
+        .format("iceberg")
+        .mode("append")
+        .save(tableLocation);
+  }
+}
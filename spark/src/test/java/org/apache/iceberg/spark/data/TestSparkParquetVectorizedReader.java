@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.spark.data;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.generic.GenericData;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.spark.data.vectorized.VectorizedSparkParquetReaders;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import static org.apache.iceberg.spark.data.TestHelpers.assertEqualsUnsafe;
+
+public class TestSparkParquetVectorizedReader extends AvroDataTest {
+  private static final int BATCH_SIZE = 32;
+
+  @Test
+  public void testSimpleStructWithPlainEncoding() throws IOException {
+    // a tiny dictionary size causes the writer to fall back to plain encoding
+    writeAndValidate(TypeUtil.assignIncreasingFreshIds(new Schema(SUPPORTED_PRIMITIVES.fields())),
+        ImmutableMap.of(TableProperties.PARQUET_DICT_SIZE_BYTES, "1"));
+  }
+
+  @Override
+  protected void writeAndValidate(Schema schema) throws IOException {
+    writeAndValidate(schema, ImmutableMap.of());
+  }
+
+  private void writeAndValidate(Schema schema, Map<String, String> writeProperties) throws IOException {
+    Assume.assumeTrue("Vectorized reads only support flat schemas of primitives",
+        VectorizedSparkParquetReaders.isSupported(schema));
+
+    List<GenericData.Record> expected = RandomData.generateList(schema, 100, 0L);
+
+    File testFile = temp.newFile();
+    Assert.assertTrue("Delete should succeed", testFile.delete());
+
+    try (FileAppender<GenericData.Record> writer = Parquet.write(Files.localOutput(testFile))
+        .schema(schema)
+        .setAll(writeProperties)
+        .named("test")
+        .build()) {
+      writer.addAll(expected);
+    }
+
+    try (CloseableIterable<ColumnarBatch> reader = Parquet.read(Files.localInput(testFile))
+        .project(schema)
+        .createBatchedReaderFunc(type -> VectorizedSparkParquetReaders.buildReader(schema, type, BATCH_SIZE))
+        .recordsPerBatch(BATCH_SIZE)
+        .build()) {
+      int numRows = 0;
+      for (ColumnarBatch batch : reader) {
+        Assert.assertTrue("Batch should not exceed the batch size", batch.numRows() <= BATCH_SIZE);
+        Iterator<InternalRow> rows = batch.rowIterator();
+        while (rows.hasNext()) {
+          Assert.assertTrue("Should not have extra rows", numRows < expected.size());
+          // copy the row because batch rows do not check for null values in get
+          assertEqualsUnsafe(schema.asStruct(), expected.get(numRows), rows.next().copy());
+          numRows += 1;
+        }
+      }
+      Assert.assertEquals("Should have expected number of rows", expected.size(), numRows);
+    }
+  }
+}
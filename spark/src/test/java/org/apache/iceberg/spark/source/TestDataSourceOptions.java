@@ -202,6 +202,49 @@ public class TestDataSourceOptions {
     Assert.assertEquals("Spark partitions should match", 2, resultDf.javaRDD().getNumPartitions());
   }
 
+  @Test
+  public void testPrefetchDepthOption() throws IOException {
+    String tableLocation = temp.newFolder("iceberg-table").toString();
+
+    HadoopTables tables = new HadoopTables(CONF);
+    Map<String, String> properties = Maps.newHashMap();
+    properties.put(TableProperties.SPLIT_OPEN_FILE_COST, "0"); // combine all files into one task
+    tables.create(SCHEMA, PartitionSpec.unpartitioned(), properties, tableLocation);
+
+    List<SimpleRecord> expectedRecords = Lists.newArrayList();
+    for (int i = 0; i < 50; i += 1) {
+      expectedRecords.add(new SimpleRecord(i, String.valueOf((char) ('a' + i % 26))));
+    }
+    Dataset<Row> originalDf = spark.createDataFrame(expectedRecords, SimpleRecord.class);
+    originalDf.select("id", "data").repartition(10).write()
+        .format("iceberg")
+        .mode("append")
+        .save(tableLocation);
+
+    for (String vectorized : new String[] { "false", "true" }) {
+      Dataset<Row> resultDf = spark.read()
+          .format("iceberg")
+          .option("prefetch-depth", "3")
+          .option("vectorization-enabled", vectorized)
+          .load(tableLocation);
+
+      Assert.assertEquals("Should read all files in one task", 1, resultDf.javaRDD().getNumPartitions());
+      List<SimpleRecord> actualRecords = resultDf.orderBy("id")
+          .as(Encoders.bean(SimpleRecord.class))
+          .collectAsList();
+      Assert.assertEquals("Records should match with vectorization-enabled=" + vectorized,
+          expectedRecords, actualRecords);
+    }
+
+    AssertHelpers.assertThrows("Should reject a negative prefetch depth",
+        IllegalArgumentException.class, "Invalid prefetch depth: -1",
+        () -> spark.read()
+            .format("iceberg")
+            .option("prefetch-depth", "-1")
+            .load(tableLocation)
+            .collectAsList());
+  }
+
   @Test
   public void testIncrementalScanOptions() throws IOException {
     String tableLocation = temp.newFolder("iceberg-table").toString();
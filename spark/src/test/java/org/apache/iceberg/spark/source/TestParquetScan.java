@@ -31,12 +31,14 @@ import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.hadoop.HadoopTables;
 import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.spark.data.AvroDataTest;
 import org.apache.iceberg.spark.data.RandomData;
 import org.apache.iceberg.spark.data.TestHelpers;
+import org.apache.iceberg.spark.data.vectorized.VectorizedSparkParquetReaders;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
 import org.apache.spark.sql.Dataset;
@@ -71,12 +73,18 @@ public class TestParquetScan extends AvroDataTest {
     currentSpark.stop();
   }
 
+  protected boolean vectorized() {
+    return false;
+  }
+
   @Override
   protected void writeAndValidate(Schema schema) throws IOException {
     Assume.assumeTrue("Cannot handle non-string map keys in parquet-avro",
         null == TypeUtil.find(
             schema,
             type -> type.isMapType() && type.asMapType().keyType() != Types.StringType.get()));
+    Assume.assumeTrue("Vectorized reads only support flat schemas of primitives",
+        !vectorized() || VectorizedSparkParquetReaders.isSupported(schema));
 
     File parent = temp.newFolder("parquet");
     File location = new File(parent, "test");
@@ -88,6 +96,9 @@ public class TestParquetScan extends AvroDataTest {
 
     HadoopTables tables = new HadoopTables(CONF);
     Table table = tables.create(schema, PartitionSpec.unpartitioned(), location.toString());
+    table.updateProperties()
+        .set(TableProperties.PARQUET_VECTORIZATION_ENABLED, String.valueOf(vectorized()))
+        .commit();
 
     // Important: use the table's schema for the rest of the test
     // When tables are created, the column ids are reassigned.
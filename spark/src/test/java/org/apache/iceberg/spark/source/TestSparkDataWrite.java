@@ -22,6 +22,7 @@ package org.apache.iceberg.spark.source;
 import com.google.common.collect.Lists;
 import java.io.File;
 import java.io.IOException;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import org.apache.hadoop.conf.Configuration;
@@ -376,6 +377,72 @@ public class TestSparkDataWrite {
     }
   }
 
+  @Test
+  public void testPartitionedFanoutWrite() throws IOException {
+    File parent = temp.newFolder(format.toString());
+    File location = new File(parent, "test");
+
+    HadoopTables tables = new HadoopTables(CONF);
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).identity("data").build();
+    Table table = tables.create(SCHEMA, spec, location.toString());
+
+    List<SimpleRecord> expected = Lists.newArrayListWithCapacity(40);
+    for (int i = 0; i < 10; i++) {
+      expected.add(new SimpleRecord(i, "a"));
+      expected.add(new SimpleRecord(i, "b"));
+      expected.add(new SimpleRecord(i, "c"));
+      expected.add(new SimpleRecord(i, "d"));
+    }
+
+    // rows are not clustered by partition, so this fails without the fan-out writer
+    Dataset<Row> df = spark.createDataFrame(expected, SimpleRecord.class).coalesce(1);
+
+    df.select("id", "data").write()
+        .format("iceberg")
+        .option("write-format", format.toString())
+        .option("fanout-enabled", "true")
+        .mode("append")
+        .save(location.toString());
+
+    table.refresh();
+    Assert.assertEquals("Should write one file per partition", 4, dataFiles(table).size());
+
+    // with 2 open files, each row for a different partition than the last 2 closes a file and opens a new one
+    df.select("id", "data").write()
+        .format("iceberg")
+        .option("write-format", format.toString())
+        .option("fanout-enabled", "true")
+        .option("fanout-max-open-files", 2)
+        .mode("append")
+        .save(location.toString());
+
+    table.refresh();
+    Assert.assertEquals("Should close the least recently used files", 4 + 40, dataFiles(table).size());
+
+    Dataset<Row> result = spark.read()
+        .format("iceberg")
+        .load(location.toString());
+
+    List<SimpleRecord> actual = result.orderBy("id", "data").as(Encoders.bean(SimpleRecord.class)).collectAsList();
+    List<SimpleRecord> expectedTwice = Lists.newArrayList();
+    for (SimpleRecord record : expected) {
+      expectedTwice.add(record);
+      expectedTwice.add(record);
+    }
+    expectedTwice.sort(Comparator.comparing(SimpleRecord::getId).thenComparing(SimpleRecord::getData));
+    Assert.assertEquals("Result rows should match", expectedTwice, actual);
+  }
+
+  private static List<DataFile> dataFiles(Table table) {
+    List<DataFile> files = Lists.newArrayList();
+    for (ManifestFile manifest : table.currentSnapshot().manifests()) {
+      for (DataFile file : ManifestFiles.read(manifest, table.io())) {
+        files.add(file);
+      }
+    }
+    return files;
+  }
+
   @Test
   public void testWriteProjection() throws IOException {
     File parent = temp.newFolder(format.toString());
@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.spark.source;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataOperations;
+import org.apache.iceberg.DeleteFiles;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.actions.Actions;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.types.Types;
+import org.apache.spark.sql.Encoders;
+import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.streaming.StreamingQuery;
+import org.apache.spark.sql.streaming.StreamingQueryException;
+import org.apache.spark.sql.streaming.StreamingQueryProgress;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+
+public class TestStructuredStreamingRead {
+
+  private static final Configuration CONF = new Configuration();
+  private static final Schema SCHEMA = new Schema(
+      optional(1, "id", Types.IntegerType.get()),
+      optional(2, "data", Types.StringType.get())
+  );
+  private static SparkSession spark = null;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @BeforeClass
+  public static void startSpark() {
+    TestStructuredStreamingRead.spark = SparkSession.builder()
+        .master("local[2]")
+        .config("spark.sql.shuffle.partitions", 4)
+        .getOrCreate();
+  }
+
+  @AfterClass
+  public static void stopSpark() {
+    SparkSession currentSpark = TestStructuredStreamingRead.spark;
+    TestStructuredStreamingRead.spark = null;
+    currentSpark.stop();
+  }
+
+  private String location = null;
+  private Table table = null;
+
+  @Before
+  public void createTable() throws IOException {
+    File parent = temp.newFolder("parquet");
+    this.location = new File(parent, "test-table").toString();
+    this.table = new HadoopTables(CONF).create(SCHEMA, PartitionSpec.unpartitioned(), location);
+  }
+
+  @After
+  public void stopStreams() {
+    for (StreamingQuery query : spark.streams().active()) {
+      query.stop();
+    }
+  }
+
+  @Test
+  public void testReadExistingAndAppendedData() {
+    List<SimpleRecord> batch1 = Lists.newArrayList(new SimpleRecord(1, "1"), new SimpleRecord(2, "2"));
+    appendRecords(batch1);
+    List<SimpleRecord> batch2 = Lists.newArrayList(new SimpleRecord(3, "3"), new SimpleRecord(4, "4"));
+    appendRecords(batch2);
+
+    StreamingQuery query = startStream("existing_and_appended", 100);
+    query.processAllAvailable();
+
+    List<SimpleRecord> expected = Lists.newArrayList();
+    expected.addAll(batch1);
+    expected.addAll(batch2);
+    Assert.assertEquals("Should read all existing rows", expected, readStreamed("existing_and_appended"));
+
+    List<SimpleRecord> batch3 = Lists.newArrayList(new SimpleRecord(5, "5"), new SimpleRecord(6, "6"));
+    appendRecords(batch3);
+    query.processAllAvailable();
+
+    expected.addAll(batch3);
+    Assert.assertEquals("Should read appended rows once", expected, readStreamed("existing_and_appended"));
+  }
+
+  @Test
+  public void testReadStartsFromEmptyTable() {
+    StreamingQuery query = startStream("empty_table", 100);
+    query.processAllAvailable();
+
+    Assert.assertTrue("Should not read rows from an empty table", readStreamed("empty_table").isEmpty());
+
+    List<SimpleRecord> records = Lists.newArrayList(new SimpleRecord(1, "1"), new SimpleRecord(2, "2"));
+    appendRecords(records);
+    query.processAllAvailable();
+
+    Assert.assertEquals("Should read rows of the first snapshot", records, readStreamed("empty_table"));
+  }
+
+  @Test
+  public void testReadStartsFromCurrentSnapshot() {
+    appendRecords(Lists.newArrayList(new SimpleRecord(1, "1"), new SimpleRecord(2, "2")));
+
+    List<SimpleRecord> overwritten = Lists.newArrayList(new SimpleRecord(3, "3"), new SimpleRecord(4, "4"));
+    spark.createDataFrame(overwritten, SimpleRecord.class)
+        .select("id", "data")
+        .write()
+        .format("iceberg")
+        .mode("overwrite")
+        .save(location);
+    table.refresh();
+    Assert.assertEquals("Should have overwritten files",
+        DataOperations.OVERWRITE, table.currentSnapshot().operation());
+
+    appendRecords(Lists.newArrayList(new SimpleRecord(5, "5"), new SimpleRecord(6, "6")));
+    DeleteFiles delete = table.newDelete();
+    for (DataFile file : table.currentSnapshot().addedFiles()) {
+      delete.deleteFile(file);
+    }
+    delete.commit();
+    Assert.assertEquals("Should have deleted files",
+        DataOperations.DELETE, table.currentSnapshot().operation());
+
+    StreamingQuery query = startStream("current_snapshot", 100);
+    query.processAllAvailable();
+
+    List<SimpleRecord> expected = Lists.newArrayList(overwritten);
+    Assert.assertEquals("Should read only the rows in the current snapshot",
+        expected, readStreamed("current_snapshot"));
+
+    List<SimpleRecord> appended = Lists.newArrayList(new SimpleRecord(7, "7"), new SimpleRecord(8, "8"));
+    appendRecords(appended);
+    query.processAllAvailable();
+
+    expected.addAll(appended);
+    Assert.assertEquals("Should read appended rows", expected, readStreamed("current_snapshot"));
+  }
+
+  @Test
+  public void testMaxFilesPerTrigger() {
+    List<SimpleRecord> expected = Lists.newArrayList();
+    for (int i = 0; i < 3; i += 1) {
+      List<SimpleRecord> records = Lists.newArrayList(
+          new SimpleRecord(2 * i, String.valueOf(2 * i)),
+          new SimpleRecord(2 * i + 1, String.valueOf(2 * i + 1)));
+      appendRecords(records);
+      expected.addAll(records);
+    }
+
+    StreamingQuery query = startStream("max_files", 1);
+    query.processAllAvailable();
+
+    Assert.assertEquals("Should read all rows", expected, readStreamed("max_files"));
+
+    long batchesWithData = 0;
+    for (StreamingQueryProgress progress : query.recentProgress()) {
+      if (progress.numInputRows() > 0) {
+        Assert.assertEquals("Each batch should read one file with one row", 1, progress.numInputRows());
+        batchesWithData += 1;
+      }
+    }
+    Assert.assertEquals("Should read one file per batch", 6, batchesWithData);
+  }
+
+  @Test
+  public void testReplaceSnapshotsAreSkipped() {
+    List<SimpleRecord> batch1 = Lists.newArrayList(new SimpleRecord(1, "1"), new SimpleRecord(2, "2"));
+    appendRecords(batch1);
+
+    StreamingQuery query = startStream("skip_replace", 100);
+    query.processAllAvailable();
+
+    Actions.forTable(table).rewriteDataFiles().execute();
+    table.refresh();
+    Assert.assertEquals("Should have rewritten files",
+        DataOperations.REPLACE, table.currentSnapshot().operation());
+
+    List<SimpleRecord> batch2 = Lists.newArrayList(new SimpleRecord(3, "3"), new SimpleRecord(4, "4"));
+    appendRecords(batch2);
+    query.processAllAvailable();
+
+    List<SimpleRecord> expected = Lists.newArrayList();
+    expected.addAll(batch1);
+    expected.addAll(batch2);
+    Assert.assertEquals("Should not read rewritten rows again", expected, readStreamed("skip_replace"));
+  }
+
+  @Test
+  public void testOverwriteSnapshotFailsStream() {
+    appendRecords(Lists.newArrayList(new SimpleRecord(1, "1")));
+
+    StreamingQuery query = startStream("fail_overwrite", 100);
+    query.processAllAvailable();
+
+    spark.createDataFrame(Lists.newArrayList(new SimpleRecord(2, "2")), SimpleRecord.class)
+        .select("id", "data")
+        .write()
+        .format("iceberg")
+        .mode("overwrite")
+        .save(location);
+
+    try {
+      query.processAllAvailable();
+      Assert.fail("Should fail to stream an overwrite snapshot");
+    } catch (Exception e) {
+      Assert.assertTrue("Should fail the streaming query", e instanceof StreamingQueryException);
+      Assert.assertTrue("Should fail because overwrites are not supported",
+          Throwables.getRootCause(e) instanceof UnsupportedOperationException);
+    }
+  }
+
+  @Test
+  public void testOffsetJson() {
+    StreamingOffset offset = new StreamingOffset(1234L, 5, true);
+    StreamingOffset parsed = StreamingOffset.fromJson(offset.json());
+    Assert.assertEquals("Offset should round-trip through json", offset, parsed);
+    Assert.assertEquals("Offset json should match", offset.json(), parsed.json());
+  }
+
+  private StreamingQuery startStream(String queryName, int maxFilesPerTrigger) {
+    return spark.readStream()
+        .format("iceberg")
+        .option("max-files-per-trigger", maxFilesPerTrigger)
+        .load(location)
+        .writeStream()
+        .format("memory")
+        .queryName(queryName)
+        .outputMode("append")
+        .start();
+  }
+
+  private List<SimpleRecord> readStreamed(String queryName) {
+    return spark.table(queryName).orderBy("id").as(Encoders.bean(SimpleRecord.class)).collectAsList();
+  }
+
+  private void appendRecords(List<SimpleRecord> records) {
+    spark.createDataFrame(records, SimpleRecord.class)
+        .select("id", "data")
+        .write()
+        .format("iceberg")
+        .mode("append")
+        .save(location);
+    table.refresh();
+  }
+}